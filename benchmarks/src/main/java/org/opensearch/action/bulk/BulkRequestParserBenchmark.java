@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link BulkRequestParser} on bulk bodies of tens of megabytes. {@code findSeparators} and
+ * {@code indexOfSeparators} only locate the line separators, with the parser's page scanner and with
+ * {@link BytesReference#indexOf(byte, int)} respectively, while {@code parse} builds the index requests.
+ *
+ * <p>{@code pageSize} splits the body into pages like the pooled network buffers a body is received in, {@code 0} keeping
+ * it in a single array. Throughput in bytes per second is the body size divided by the reported time, and allocations per
+ * document are the {@code gc.alloc.rate.norm} reported by the GC profiler divided by {@code numDocs}:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'BulkRequestParserBenchmark -prof gc'
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BulkRequestParserBenchmark {
+
+    @Param({ "50000" })
+    private int numDocs;
+
+    /** Approximate size of each document source in bytes. */
+    @Param({ "256", "1024" })
+    private int docSize;
+
+    @Param({ "0", "16384" })
+    private int pageSize;
+
+    private BytesReference body;
+    private final BulkRequestParser parser = new BulkRequestParser();
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < numDocs; i++) {
+            builder.append("{ \"index\" : { \"_index\" : \"logs\", \"_id\" : \"").append(i).append("\" } }\n");
+            builder.append("{ \"@timestamp\" : ").append(1_700_000_000_000L + i).append(", \"message\" : \"");
+            for (int j = 0; j < docSize; j++) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            }
+            builder.append("\" }\n");
+        }
+        final byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        if (pageSize == 0) {
+            body = new BytesArray(bytes);
+        } else {
+            final List<BytesReference> pages = new ArrayList<>();
+            for (int from = 0; from < bytes.length; from += pageSize) {
+                pages.add(new BytesArray(bytes, from, Math.min(pageSize, bytes.length - from)));
+            }
+            body = CompositeBytesReference.of(pages.toArray(new BytesReference[0]));
+        }
+    }
+
+    @Benchmark
+    public int findSeparators() throws IOException {
+        final BulkRequestParser.MarkerScanner scanner = new BulkRequestParser.MarkerScanner(body, (byte) '\n');
+        int count = 0;
+        while (scanner.next() != -1) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int indexOfSeparators() {
+        int count = 0;
+        int from = 0;
+        int marker;
+        while ((marker = body.indexOf((byte) '\n', from)) != -1) {
+            count++;
+            from = marker + 1;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws IOException {
+        parser.parse(
+            body,
+            null,
+            null,
+            null,
+            null,
+            null,
+            true,
+            MediaTypeRegistry.JSON,
+            blackhole::consume,
+            blackhole::consume,
+            blackhole::consume
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.grok;
+
+import org.opensearch.grok.Grok;
+import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares matching log lines against a list of grok patterns with a single alternation of all patterns, as the grok processor
+ * used to, and with a {@link MultiPatternGrok} that leaves out patterns whose required literals are missing from the line.
+ */
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class MultiPatternGrokBenchmark {
+
+    @Param({ "30" })
+    int patternCount;
+
+    /**
+     * Which pattern matches the line: the first, the last or none of them.
+     */
+    @Param({ "first", "last", "none" })
+    String matchingPattern;
+
+    private Grok alternation;
+    private MultiPatternGrok multiPatternGrok;
+    private String line;
+
+    @Setup
+    public void setup() {
+        List<String> patterns = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            patterns.add("%{TIMESTAMP_ISO8601:timestamp} \\[service-" + i + "\\] %{LOGLEVEL:level} %{IP:client} %{GREEDYDATA:message}");
+        }
+        alternation = new Grok(Grok.BUILTIN_PATTERNS, "(?:" + String.join(")|(?:", patterns) + ")", MatcherWatchdog.noop(), s -> {});
+        multiPatternGrok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, MatcherWatchdog.noop(), s -> {}, false);
+        String service;
+        switch (matchingPattern) {
+            case "first":
+                service = "service-0";
+                break;
+            case "last":
+                service = "service-" + (patternCount - 1);
+                break;
+            case "none":
+                service = "worker-0";
+                break;
+            default:
+                throw new IllegalArgumentException("unknown matching pattern [" + matchingPattern + "]");
+        }
+        line = "2024-03-05T10:15:30.123Z [" + service + "] WARN 10.1.2.3 request to /_bulk took 1204ms and was throttled";
+    }
+
+    @Benchmark
+    public Map<String, Object> alternation() {
+        return alternation.captures(line);
+    }
+
+    @Benchmark
+    public MultiPatternGrok.Match multiPatternGrok() {
+        return multiPatternGrok.captures(line);
+    }
+}
@@ -48,8 +48,15 @@ import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
 public class RerouteBenchmark {
     @Param({
         // indices| nodes
+        "      500|  100|",
+        "     2500|  400|",
+        "     5000|  400|",
         "    10000|  500|", })
     public String indicesNodes = "1|1";
+
+    @Param({ "false", "true" })
+    public boolean incremental = false;
+
     public int numIndices;
     public int numNodes;
     public int numShards = 10;
@@ -57,6 +64,8 @@ public class RerouteBenchmark {
 
     private AllocationService allocationService;
     private ClusterState initialClusterState;
+    private AllocationService startedClusterAllocationService;
+    private ClusterState startedClusterState;
 
     @Setup
     public void setUp() throws Exception {
@@ -87,24 +96,46 @@ public class RerouteBenchmark {
             .routingTable(routingTable)
             .nodes(setUpClusterNodes(numNodes))
             .build();
+
+        startedClusterAllocationService = createAllocationService();
+        ClusterState clusterState = startedClusterAllocationService.reroute(initialClusterState, "reroute");
+        while (clusterState.getRoutingNodes().hasUnassignedShards()
+            || clusterState.getRoutingNodes().shardsWithState(INITIALIZING).isEmpty() == false) {
+            clusterState = startInitializingShardsAndReroute(startedClusterAllocationService, clusterState);
+        }
+        startedClusterState = clusterState;
     }
 
     @Benchmark
     public ClusterState measureShardAllocationEmptyCluster() throws Exception {
         ClusterState clusterState = initialClusterState;
-        allocationService = Allocators.createAllocationService(
+        allocationService = createAllocationService();
+        clusterState = allocationService.reroute(clusterState, "reroute");
+        while (clusterState.getRoutingNodes().hasUnassignedShards()) {
+            clusterState = startInitializingShardsAndReroute(allocationService, clusterState);
+        }
+        return clusterState;
+    }
+
+    /**
+     * Measures the latency of a single reroute of a cluster with all shards started, which is what most reroutes
+     * of a large cluster look like.
+     */
+    @Benchmark
+    public ClusterState measureRerouteStartedCluster() {
+        return startedClusterAllocationService.reroute(startedClusterState, "reroute");
+    }
+
+    private AllocationService createAllocationService() {
+        return Allocators.createAllocationService(
             Settings.builder()
                 .put("cluster.routing.allocation.awareness.attributes", "zone")
                 .put("cluster.routing.allocation.load_awareness.provisioned_capacity", numNodes)
                 .put("cluster.routing.allocation.load_awareness.skew_factor", "50")
                 .put("cluster.routing.allocation.node_concurrent_recoveries", "2")
+                .put("cluster.routing.allocation.balance.incremental.enabled", incremental)
                 .build()
         );
-        clusterState = allocationService.reroute(clusterState, "reroute");
-        while (clusterState.getRoutingNodes().hasUnassignedShards()) {
-            clusterState = startInitializingShardsAndReroute(allocationService, clusterState);
-        }
-        return clusterState;
     }
 
     private int toInt(String v) {
@@ -87,6 +87,14 @@ import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyList;
 
+/**
+ * Measures the coordinating node reduce of shard-level {@code terms} aggregations, comparing the batched partial
+ * reduce with the streaming one that merges every shard result as soon as it arrives. Run with the GC profiler to
+ * compare the memory each mode allocates:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'TermsReduceBenchmark -prof gc'
+ * </pre>
+ */
 @Warmup(iterations = 5)
 @Measurement(iterations = 7)
 @BenchmarkMode(Mode.AverageTime)
@@ -196,6 +204,9 @@ public class TermsReduceBenchmark {
     @Param({ "32", "512" })
     private int bufferSize;
 
+    @Param({ "false", "true" })
+    private boolean streamingReduce;
+
     @Benchmark
     public SearchPhaseController.ReducedQueryPhase reduceAggs(TermsList candidateList) throws Exception {
         List<QuerySearchResult> shards = new ArrayList<>();
@@ -229,7 +240,9 @@ public class TermsReduceBenchmark {
             SearchProgressListener.NOOP,
             namedWriteableRegistry,
             shards.size(),
-            exc -> {}
+            exc -> {},
+            () -> false,
+            streamingReduce
         );
         CountDownLatch latch = new CountDownLatch(shards.size());
         for (int i = 0; i < shards.size(); i++) {
@@ -34,7 +34,8 @@ import java.util.concurrent.TimeUnit;
 /**
  * Simple benchmark test of {@link FileCache}. It uses a uniform random distribution
  * of keys, which is very simple but unlikely to be representative of any real life
- * workload.
+ * workload, except for {@link #getWithScan} which mixes a hot working set with one-off reads.
+ * {@code frequencyAware} toggles frequency aware eviction of the cache segments.
  */
 @Warmup(iterations = 1)
 @Measurement(iterations = 1)
@@ -67,6 +68,29 @@ public class FileCacheBenchmark {
         parameters.fileCache.remove(randomKeyInCache(parameters));
     }
 
+    /**
+     * Mixes reads of a small, frequently accessed working set with one-off reads of files that are not cached, the way a scan
+     * over cold data interleaves with hot queries. Misses load the file into the cache, so the hit count of the cache reflects
+     * how well the eviction policy protects the working set.
+     */
+    @Benchmark
+    public void getWithScan(CacheParameters parameters, Blackhole blackhole) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Path key;
+        if (random.nextInt(100) < parameters.scanPercent) {
+            key = randomKeyNotInCache(parameters);
+        } else {
+            key = Paths.get(Integer.toString(random.nextInt(Math.max(1, parameters.maximumNumberOfEntries / 10))));
+        }
+        final CachedIndexInput cached = parameters.fileCache.get(key);
+        if (cached == null) {
+            blackhole.consume(parameters.fileCache.put(key, INDEX_INPUT));
+        } else {
+            blackhole.consume(cached);
+        }
+        parameters.fileCache.decRef(key);
+    }
+
     private static Path randomKeyInCache(CacheParameters parameters) {
         int i = ThreadLocalRandom.current().nextInt(parameters.maximumNumberOfEntries);
         return Paths.get(Integer.toString(i));
@@ -85,13 +109,21 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "false", "true" })
+        boolean frequencyAware;
+
+        /** Share of {@link #getWithScan} lookups that read a file outside of the working set */
+        @Param({ "20" })
+        int scanPercent;
+
         FileCache fileCache;
 
         @Setup
         public void setup() {
-            fileCache = FileCacheFactory.createConcurrentLRUFileCache(
+            fileCache = FileCacheFactory.createConcurrentFileCache(
                 (long) maximumNumberOfEntries * INDEX_INPUT.length(),
-                concurrencyLevel
+                concurrencyLevel,
+                frequencyAware
             );
             for (long i = 0; i < maximumNumberOfEntries; i++) {
                 final Path key = Paths.get(Long.toString(i));
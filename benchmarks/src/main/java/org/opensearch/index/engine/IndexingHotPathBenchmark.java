@@ -0,0 +1,442 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.Version;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.env.Environment;
+import org.opensearch.env.ShardLock;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.VersionType;
+import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.mapper.DocumentMapperForType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.seqno.RetentionLeases;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogConfig;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the indexing hot path of a primary shard: {@code parse} runs {@link DocumentMapperForType} parsing,
+ * that is the {@code DocumentParser} and the {@link MapperService} lookups for every field, and {@code index}
+ * additionally indexes the parsed document into an {@link InternalEngine}, including the {@link LiveVersionMap}
+ * bookkeeping and the translog write. The engine is built the way an {@link IndexShard} builds it, on top of a
+ * {@link ByteBuffersDirectory} so that disk I/O doesn't dominate, and is recreated for every iteration so that the
+ * size of the index doesn't grow across iterations.
+ *
+ * <p>The {@link Shape} parameter picks the documents and the mapping they are indexed with, see the constants for
+ * details. Dynamic mapping updates are applied while the documents are generated, so the measurement only covers the
+ * steady state in which the mapping is already complete.
+ *
+ * <p>Both the throughput, in documents per microsecond, and the distribution of the per-document latency, including
+ * its p0.99 percentile, are reported. Allocations per document are the {@code gc.alloc.rate.norm} reported by the GC
+ * profiler:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'IndexingHotPathBenchmark -p shape=LOGS_DYNAMIC,LOGS_STRICT -prof gc'
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IndexingHotPathBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(IndexingHotPathBenchmark.class);
+
+    /**
+     * The documents that are indexed and the mapping of the index.
+     */
+    public enum Shape {
+        /** Log lines with a dozen fields, indexed without a mapping so that every field is mapped dynamically. */
+        LOGS_DYNAMIC,
+        /** The same log lines with an explicit, {@code strict} mapping. */
+        LOGS_STRICT,
+        /** Metric samples with numeric fields and a few keyword dimensions. */
+        METRICS,
+        /** Orders with a {@code nested} array of order lines, each indexed as a separate Lucene document. */
+        NESTED,
+        /** Log lines with their labels in a {@code flat_object} field. */
+        FLAT_OBJECT,
+        /** Documents with several hundred explicitly mapped fields. */
+        MANY_FIELDS
+    }
+
+    private static final int MANY_FIELDS_COUNT = 500;
+    private static final String[] LEVELS = { "DEBUG", "INFO", "INFO", "INFO", "WARN", "ERROR" };
+    private static final String[] REGIONS = { "us-east-1", "us-west-2", "eu-west-1", "ap-south-1" };
+
+    @Param({ "LOGS_DYNAMIC", "LOGS_STRICT", "METRICS", "NESTED", "FLAT_OBJECT", "MANY_FIELDS" })
+    private Shape shape;
+
+    /** Number of distinct documents that are generated and indexed round robin. */
+    @Param({ "4096" })
+    private int numDocs;
+
+    private final ShardId shardId = new ShardId("index", "_na_", 0);
+
+    private Path tempDir;
+    private ThreadPool threadPool;
+    private IndexSettings indexSettings;
+    private MapperService mapperService;
+    private BytesReference[] sources;
+    private InternalEngine engine;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        tempDir = Files.createTempDirectory("indexing-hot-path-benchmark");
+        final Settings nodeSettings = Settings.builder()
+            .put(Environment.PATH_HOME_SETTING.getKey(), tempDir.toString())
+            .put("node.name", "benchmark")
+            .build();
+        threadPool = new ThreadPool(nodeSettings);
+
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            // the translog is written, but not fsynced on every request
+            .put(IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING.getKey(), Translog.Durability.ASYNC)
+            .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.MINUS_ONE)
+            .put(MapperService.INDEX_MAPPING_TOTAL_FIELDS_LIMIT_SETTING.getKey(), 2 * MANY_FIELDS_COUNT)
+            .build();
+        indexSettings = new IndexSettings(IndexMetadata.builder(shardId.getIndexName()).settings(settings).build(), nodeSettings);
+        mapperService = new MapperService(
+            indexSettings,
+            new AnalysisModule(new Environment(nodeSettings, null), Collections.emptyList()).getAnalysisRegistry().build(indexSettings),
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> false,
+            null
+        );
+        final XContentBuilder mapping = mapping();
+        if (mapping != null) {
+            mapperService.merge(
+                MapperService.SINGLE_MAPPING_NAME,
+                new CompressedXContent(BytesReference.bytes(mapping)),
+                MapperService.MergeReason.MAPPING_UPDATE
+            );
+        }
+
+        final Random random = new Random(42);
+        sources = new BytesReference[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            sources[i] = BytesReference.bytes(document(i, random));
+            final ParsedDocument doc = parse(sources[i]);
+            if (doc.dynamicMappingsUpdate() != null) {
+                mapperService.merge(
+                    MapperService.SINGLE_MAPPING_NAME,
+                    new CompressedXContent(doc.dynamicMappingsUpdate(), ToXContent.EMPTY_PARAMS),
+                    MapperService.MergeReason.MAPPING_UPDATE
+                );
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setupEngine() throws IOException {
+        final Path translogPath = Files.createTempDirectory(tempDir, "translog");
+        final Store store = new Store(shardId, indexSettings, new ByteBuffersDirectory(), new ShardLock(shardId) {
+            @Override
+            protected void closeInternal() {}
+        });
+        store.createEmpty(indexSettings.getIndexVersionCreated().luceneVersion);
+        final String translogUUID = Translog.createEmptyTranslog(translogPath, SequenceNumbers.NO_OPS_PERFORMED, shardId, 1L);
+        store.associateIndexWithNewTranslog(translogUUID);
+
+        final IndexWriterConfig iwc = new IndexWriterConfig(mapperService.indexAnalyzer());
+        final EngineConfig config = new EngineConfig.Builder().shardId(shardId)
+            .threadPool(threadPool)
+            .indexSettings(indexSettings)
+            .store(store)
+            .mergePolicy(iwc.getMergePolicy())
+            .analyzer(iwc.getAnalyzer())
+            .similarity(iwc.getSimilarity())
+            .codecService(new CodecService(mapperService, indexSettings, logger, List.of()))
+            .eventListener(new Engine.EventListener() {
+            })
+            .queryCache(IndexSearcher.getDefaultQueryCache())
+            .queryCachingPolicy(IndexSearcher.getDefaultQueryCachingPolicy())
+            .translogConfig(new TranslogConfig(shardId, translogPath, indexSettings, BigArrays.NON_RECYCLING_INSTANCE, "", false))
+            .flushMergesAfter(TimeValue.timeValueMinutes(5))
+            .externalRefreshListener(Collections.emptyList())
+            .internalRefreshListener(Collections.emptyList())
+            .circuitBreakerService(new NoneCircuitBreakerService())
+            .globalCheckpointSupplier(() -> SequenceNumbers.NO_OPS_PERFORMED)
+            .retentionLeasesSupplier(() -> RetentionLeases.EMPTY)
+            .primaryTermSupplier(() -> 1L)
+            .tombstoneDocSupplier(tombstoneDocSupplier())
+            .build();
+        engine = new InternalEngine(config);
+        engine.translogManager().skipTranslogRecovery();
+        store.decRef(); // the engine holds its own reference
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownEngine() throws IOException {
+        IOUtils.close(engine);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        IOUtils.close(mapperService);
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        IOUtils.rm(tempDir);
+    }
+
+    @Benchmark
+    public ParsedDocument parse() {
+        return parse(sources[(int) (nextId++ % numDocs)]);
+    }
+
+    @Benchmark
+    public Engine.IndexResult index() throws IOException {
+        final long id = nextId++;
+        final SourceToParse source = new SourceToParse(
+            shardId.getIndexName(),
+            Long.toString(id),
+            sources[(int) (id % numDocs)],
+            MediaTypeRegistry.JSON
+        );
+        final Engine.Index operation = IndexShard.prepareIndex(
+            mapperService.documentMapperWithAutoCreate(),
+            source,
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            1L,
+            Versions.MATCH_ANY,
+            VersionType.INTERNAL,
+            Engine.Operation.Origin.PRIMARY,
+            IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+            false,
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            SequenceNumbers.UNASSIGNED_PRIMARY_TERM
+        );
+        return engine.index(operation);
+    }
+
+    private ParsedDocument parse(BytesReference source) {
+        final SourceToParse sourceToParse = new SourceToParse(shardId.getIndexName(), "id", source, MediaTypeRegistry.JSON);
+        return mapperService.documentMapperWithAutoCreate().getDocumentMapper().parse(sourceToParse);
+    }
+
+    private EngineConfig.TombstoneDocSupplier tombstoneDocSupplier() {
+        return new EngineConfig.TombstoneDocSupplier() {
+            @Override
+            public ParsedDocument newDeleteTombstoneDoc(String id) {
+                return mapperService.documentMapper().createDeleteTombstoneDoc(shardId.getIndexName(), id);
+            }
+
+            @Override
+            public ParsedDocument newNoopTombstoneDoc(String reason) {
+                return mapperService.documentMapper().createNoopTombstoneDoc(shardId.getIndexName(), reason);
+            }
+        };
+    }
+
+    private XContentBuilder mapping() throws IOException {
+        if (shape == Shape.LOGS_DYNAMIC) {
+            return null;
+        }
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject("properties");
+        switch (shape) {
+            case LOGS_STRICT:
+            case FLAT_OBJECT:
+                builder.startObject("@timestamp").field("type", "date").endObject();
+                builder.startObject("message").field("type", "text").endObject();
+                builder.startObject("log").startObject("properties");
+                builder.startObject("level").field("type", "keyword").endObject();
+                builder.startObject("logger").field("type", "keyword").endObject();
+                builder.endObject().endObject();
+                builder.startObject("host").startObject("properties");
+                builder.startObject("name").field("type", "keyword").endObject();
+                builder.startObject("ip").field("type", "ip").endObject();
+                builder.endObject().endObject();
+                builder.startObject("http").startObject("properties");
+                builder.startObject("method").field("type", "keyword").endObject();
+                builder.startObject("status").field("type", "integer").endObject();
+                builder.startObject("bytes").field("type", "long").endObject();
+                builder.startObject("url").field("type", "keyword").endObject();
+                builder.endObject().endObject();
+                builder.startObject("user_agent").field("type", "keyword").endObject();
+                if (shape == Shape.FLAT_OBJECT) {
+                    builder.startObject("labels").field("type", "flat_object").endObject();
+                }
+                builder.endObject().field("dynamic", "strict");
+                break;
+            case METRICS:
+                builder.startObject("@timestamp").field("type", "date").endObject();
+                builder.startObject("host").field("type", "keyword").endObject();
+                builder.startObject("region").field("type", "keyword").endObject();
+                builder.startObject("service").field("type", "keyword").endObject();
+                builder.startObject("cpu").startObject("properties");
+                builder.startObject("user").field("type", "double").endObject();
+                builder.startObject("system").field("type", "double").endObject();
+                builder.startObject("idle").field("type", "double").endObject();
+                builder.endObject().endObject();
+                builder.startObject("memory").startObject("properties");
+                builder.startObject("used").field("type", "long").endObject();
+                builder.startObject("free").field("type", "long").endObject();
+                builder.endObject().endObject();
+                builder.startObject("requests").field("type", "long").endObject();
+                builder.startObject("latency").field("type", "float").endObject();
+                builder.endObject().field("dynamic", "strict");
+                break;
+            case NESTED:
+                builder.startObject("order_id").field("type", "keyword").endObject();
+                builder.startObject("customer").field("type", "keyword").endObject();
+                builder.startObject("created").field("type", "date").endObject();
+                builder.startObject("lines").field("type", "nested").startObject("properties");
+                builder.startObject("sku").field("type", "keyword").endObject();
+                builder.startObject("quantity").field("type", "integer").endObject();
+                builder.startObject("price").field("type", "double").endObject();
+                builder.endObject().endObject();
+                builder.endObject().field("dynamic", "strict");
+                break;
+            case MANY_FIELDS:
+                for (int i = 0; i < MANY_FIELDS_COUNT; i++) {
+                    builder.startObject(manyFieldsName(i)).field("type", i % 2 == 0 ? "keyword" : "long").endObject();
+                }
+                builder.endObject().field("dynamic", "strict");
+                break;
+            default:
+                throw new AssertionError(shape);
+        }
+        return builder.endObject();
+    }
+
+    private XContentBuilder document(int i, Random random) throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        final long timestamp = 1_700_000_000_000L + i * 100L;
+        switch (shape) {
+            case LOGS_DYNAMIC:
+            case LOGS_STRICT:
+            case FLAT_OBJECT:
+                builder.field("@timestamp", timestamp);
+                builder.field("message", "GET /api/v1/items/" + random.nextInt(10_000) + " completed in " + random.nextInt(500) + "ms");
+                builder.startObject("log").field("level", LEVELS[random.nextInt(LEVELS.length)]).field("logger", "http.access").endObject();
+                builder.startObject("host")
+                    .field("name", "host-" + random.nextInt(64))
+                    .field("ip", "10.0." + random.nextInt(256) + "." + random.nextInt(256))
+                    .endObject();
+                builder.startObject("http")
+                    .field("method", random.nextBoolean() ? "GET" : "POST")
+                    .field("status", random.nextInt(10) == 0 ? 500 : 200)
+                    .field("bytes", random.nextInt(1 << 20))
+                    .field("url", "/api/v1/items/" + random.nextInt(10_000))
+                    .endObject();
+                builder.field("user_agent", "Mozilla/5.0 (X11; Linux x86_64) client/" + random.nextInt(20));
+                if (shape == Shape.FLAT_OBJECT) {
+                    builder.startObject("labels");
+                    for (int label = 0; label < 10; label++) {
+                        builder.field("label_" + label, "value_" + random.nextInt(100));
+                    }
+                    builder.endObject();
+                }
+                break;
+            case METRICS:
+                builder.field("@timestamp", timestamp);
+                builder.field("host", "host-" + random.nextInt(64));
+                builder.field("region", REGIONS[random.nextInt(REGIONS.length)]);
+                builder.field("service", "service-" + random.nextInt(8));
+                final double user = random.nextDouble() * 100;
+                final double system = random.nextDouble() * (100 - user);
+                builder.startObject("cpu").field("user", user).field("system", system).field("idle", 100 - user - system).endObject();
+                final long used = random.nextInt(1 << 30);
+                builder.startObject("memory").field("used", used).field("free", (1L << 32) - used).endObject();
+                builder.field("requests", random.nextInt(10_000));
+                builder.field("latency", random.nextFloat() * 100);
+                break;
+            case NESTED:
+                builder.field("order_id", String.format(Locale.ROOT, "order-%08d", i));
+                builder.field("customer", "customer-" + random.nextInt(1000));
+                builder.field("created", timestamp);
+                builder.startArray("lines");
+                final int lines = 1 + random.nextInt(8);
+                for (int line = 0; line < lines; line++) {
+                    builder.startObject()
+                        .field("sku", "sku-" + random.nextInt(5000))
+                        .field("quantity", 1 + random.nextInt(5))
+                        .field("price", random.nextInt(10_000) / 100.0)
+                        .endObject();
+                }
+                builder.endArray();
+                break;
+            case MANY_FIELDS:
+                for (int field = 0; field < MANY_FIELDS_COUNT; field++) {
+                    if (field % 2 == 0) {
+                        builder.field(manyFieldsName(field), "value-" + random.nextInt(100));
+                    } else {
+                        builder.field(manyFieldsName(field), random.nextInt(1_000_000));
+                    }
+                }
+                break;
+            default:
+                throw new AssertionError(shape);
+        }
+        return builder.endObject();
+    }
+
+    private static String manyFieldsName(int i) {
+        return String.format(Locale.ROOT, "field_%03d", i);
+    }
+}
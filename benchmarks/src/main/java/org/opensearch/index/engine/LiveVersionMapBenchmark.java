@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark for the update path through {@link LiveVersionMap}: every operation takes the uid lock, resolves the current
+ * version and puts a new index or delete version, while one of the writers periodically runs the refresh transition.
+ *
+ * <p>Each invocation runs {@code opsPerWriter} operations on each of {@code writerThreads} concurrent writers, so the
+ * reported time covers {@code writerThreads * opsPerWriter} operations. {@code lockStripes} selects the uid lock
+ * implementation, {@code 0} being the per-uid {@link org.opensearch.common.util.concurrent.KeyedLock}.
+ *
+ * Run a single configuration with, for example:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'LiveVersionMapBenchmark -p writerThreads=64 -p lockStripes=1024'
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LiveVersionMapBenchmark {
+
+    @Param({ "1", "4", "16", "64" })
+    private int writerThreads;
+
+    @Param({ "0", "1024" })
+    private int lockStripes;
+
+    /** Number of distinct uids; a small value makes writers collide on the same documents. */
+    @Param({ "100000" })
+    private int numUids;
+
+    @Param({ "10000" })
+    private int opsPerWriter;
+
+    /** How many operations the refreshing writer performs between two refresh transitions. */
+    @Param({ "5000" })
+    private int refreshInterval;
+
+    private BytesRef[] uids;
+    private LiveVersionMap versionMap;
+    private ExecutorService executor;
+    private final AtomicLong seqNo = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        uids = new BytesRef[numUids];
+        for (int i = 0; i < numUids; i++) {
+            uids[i] = new BytesRef(("doc-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        executor = Executors.newFixedThreadPool(writerThreads);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupVersionMap() {
+        versionMap = new LiveVersionMap(lockStripes);
+        versionMap.enforceSafeAccess();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public long updateConcurrently() throws Exception {
+        final List<Future<Long>> futures = new ArrayList<>(writerThreads);
+        for (int writer = 0; writer < writerThreads; writer++) {
+            final boolean refreshes = writer == 0;
+            final Random random = new Random(writer);
+            futures.add(executor.submit(() -> runWriter(random, refreshes)));
+        }
+        long found = 0;
+        for (Future<Long> future : futures) {
+            found += future.get();
+        }
+        return found;
+    }
+
+    private long runWriter(Random random, boolean refreshes) throws IOException {
+        long found = 0;
+        for (int i = 0; i < opsPerWriter; i++) {
+            if (refreshes && i % refreshInterval == 0) {
+                versionMap.beforeRefresh();
+                versionMap.afterRefresh(true);
+            }
+            final BytesRef uid = uids[random.nextInt(uids.length)];
+            try (Releasable ignored = versionMap.acquireLock(uid)) {
+                final VersionValue current = versionMap.getUnderLock(uid);
+                final long version = current == null ? 1 : current.version + 1;
+                if (current != null) {
+                    found++;
+                }
+                final long nextSeqNo = seqNo.incrementAndGet();
+                if (random.nextInt(10) == 0) {
+                    versionMap.putDeleteUnderLock(uid, new DeleteVersionValue(version, nextSeqNo, 1, i));
+                } else {
+                    final Translog.Location location = new Translog.Location(0, nextSeqNo, 64);
+                    versionMap.putIndexUnderLock(uid, new IndexVersionValue(location, version, nextSeqNo, 1));
+                }
+            }
+        }
+        return found;
+    }
+}
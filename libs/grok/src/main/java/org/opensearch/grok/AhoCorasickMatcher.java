@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds which of a fixed set of byte strings occur in a text with a single pass over the text, using the Aho-Corasick algorithm.
+ * Transitions are stored sparsely since the strings are few and short, which keeps the automaton small.
+ */
+final class AhoCorasickMatcher {
+
+    private static final byte[] NO_LABELS = new byte[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    // per state, the bytes of its outgoing trie transitions and the states they lead to
+    private final byte[][] labels;
+    private final int[][] targets;
+    // per state, the state of its longest proper suffix in the trie
+    private final int[] failures;
+    // per state, the strings that end at the state, including those of its suffixes
+    private final int[][] outputs;
+
+    AhoCorasickMatcher(List<byte[]> strings) {
+        List<byte[]> labels = new ArrayList<>();
+        List<int[]> targets = new ArrayList<>();
+        List<int[]> outputs = new ArrayList<>();
+        labels.add(NO_LABELS);
+        targets.add(NO_TARGETS);
+        outputs.add(NO_TARGETS);
+        for (int id = 0; id < strings.size(); id++) {
+            int state = 0;
+            for (byte b : strings.get(id)) {
+                int next = transition(labels.get(state), targets.get(state), b);
+                if (next < 0) {
+                    next = labels.size();
+                    labels.add(NO_LABELS);
+                    targets.add(NO_TARGETS);
+                    outputs.add(NO_TARGETS);
+                    labels.set(state, append(labels.get(state), b));
+                    targets.set(state, append(targets.get(state), next));
+                }
+                state = next;
+            }
+            outputs.set(state, append(outputs.get(state), id));
+        }
+        this.labels = labels.toArray(new byte[0][]);
+        this.targets = targets.toArray(new int[0][]);
+        this.outputs = outputs.toArray(new int[0][]);
+        this.failures = new int[this.labels.length];
+
+        // breadth first, so that the failure of every state is computed before the states below it
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : this.targets[0]) {
+            queue.add(child);
+        }
+        while (queue.isEmpty() == false) {
+            int state = queue.poll();
+            for (int i = 0; i < this.labels[state].length; i++) {
+                int child = this.targets[state][i];
+                int failure = next(failures[state], this.labels[state][i]);
+                failures[child] = failure;
+                for (int output : this.outputs[failure]) {
+                    this.outputs[child] = append(this.outputs[child], output);
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Sets the ids, the positions in the list the matcher was built from, of all strings that occur in the given text.
+     */
+    void find(byte[] text, int offset, int length, BitSet found) {
+        int state = 0;
+        for (int i = offset; i < offset + length; i++) {
+            state = next(state, text[i]);
+            for (int output : outputs[state]) {
+                found.set(output);
+            }
+        }
+    }
+
+    private int next(int state, byte b) {
+        while (true) {
+            int next = transition(labels[state], targets[state], b);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failures[state];
+        }
+    }
+
+    private static int transition(byte[] labels, int[] targets, byte b) {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] == b) {
+                return targets[i];
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] append(byte[] array, byte value) {
+        byte[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+        return result;
+    }
+
+    private static int[] append(int[] array, int value) {
+        int[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+        return result;
+    }
+}
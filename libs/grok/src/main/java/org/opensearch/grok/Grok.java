@@ -138,22 +138,37 @@ public final class Grok {
 
         validatePatternBank();
 
-        String expression = toRegex(grokPattern);
+        this.compiledExpression = compile(toRegex(grokPattern), logCallBack);
+        this.captureConfig = captureConfig(compiledExpression);
+    }
+
+    private Grok(String expression, MatcherWatchdog matcherWatchdog, Consumer<String> logCallBack, boolean captureAllMatches) {
+        this.patternBank = Collections.emptyMap();
+        this.namedCaptures = true;
+        this.matcherWatchdog = matcherWatchdog;
+        this.captureAllMatches = captureAllMatches;
+        this.compiledExpression = compile(expression, logCallBack);
+        this.captureConfig = captureConfig(compiledExpression);
+    }
+
+    /**
+     * Compiles a regex expression that was already converted from a grok expression by {@link #toRegex(String)}.
+     */
+    static Grok fromRegex(String expression, MatcherWatchdog matcherWatchdog, Consumer<String> logCallBack, boolean captureAllMatches) {
+        return new Grok(expression, matcherWatchdog, logCallBack, captureAllMatches);
+    }
+
+    private static Regex compile(String expression, Consumer<String> logCallBack) {
         byte[] expressionBytes = expression.getBytes(StandardCharsets.UTF_8);
-        this.compiledExpression = new Regex(
-            expressionBytes,
-            0,
-            expressionBytes.length,
-            Option.DEFAULT,
-            UTF8Encoding.INSTANCE,
-            logCallBack::accept
-        );
+        return new Regex(expressionBytes, 0, expressionBytes.length, Option.DEFAULT, UTF8Encoding.INSTANCE, logCallBack::accept);
+    }
 
+    private static List<GrokCaptureConfig> captureConfig(Regex compiledExpression) {
         List<GrokCaptureConfig> captureConfig = new ArrayList<>();
         for (Iterator<NameEntry> entry = compiledExpression.namedBackrefIterator(); entry.hasNext();) {
             captureConfig.add(new GrokCaptureConfig(entry.next()));
         }
-        this.captureConfig = unmodifiableList(captureConfig);
+        return unmodifiableList(captureConfig);
     }
 
     /**
@@ -0,0 +1,370 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Matches a text against a list of grok patterns, returning the captures of the pattern that matches first, the same way a single
+ * grok expression that alternates between the patterns does.
+ * <p>
+ * Before running any regex, the literal strings that each pattern requires are searched in the text with a single Aho-Corasick pass.
+ * Patterns that miss one of their literals cannot match and are left out of the alternation, so texts that match none of the patterns
+ * are usually rejected without running a regex at all. The alternations of the remaining patterns are compiled on demand and cached.
+ */
+public final class MultiPatternGrok {
+
+    private static final String PATTERN_INDEX_GROUP = "_grok_pattern_index.";
+    private static final String SHORTHAND_ESCAPES = "dDsSwWhHbBAzZG";
+    /**
+     * The maximum number of alternations of subsets of the patterns that are kept compiled. Once that many are cached, texts whose
+     * candidates are another subset are matched against the alternation of all patterns instead.
+     */
+    static final int MAX_CACHED_SUBSETS = 64;
+
+    private final List<String> expressions;
+    private final MatcherWatchdog matcherWatchdog;
+    private final Consumer<String> logCallBack;
+    private final boolean captureAllMatches;
+    private final BitSet allPatterns;
+    private final Grok grok;
+    private final Map<BitSet, Grok> subsetGroks = new ConcurrentHashMap<>();
+    private final AhoCorasickMatcher literalMatcher;
+    private final int literalCount;
+    // per pattern, the ids of the literals that it requires
+    private final int[][] requiredLiterals;
+    private final LongAdder[] attempts;
+    private final LongAdder[] matches;
+
+    public MultiPatternGrok(
+        Map<String, String> patternBank,
+        List<String> patterns,
+        MatcherWatchdog matcherWatchdog,
+        Consumer<String> logCallBack,
+        boolean captureAllMatches
+    ) {
+        if (patterns.isEmpty()) {
+            throw new IllegalArgumentException("at least one grok pattern is required");
+        }
+        this.matcherWatchdog = matcherWatchdog;
+        this.logCallBack = logCallBack;
+        this.captureAllMatches = captureAllMatches;
+        List<String> groupedPatterns = new ArrayList<>(patterns.size());
+        for (int i = 0; i < patterns.size(); i++) {
+            groupedPatterns.add(group(i, patterns.get(i), patterns.size()));
+        }
+        this.grok = new Grok(patternBank, String.join("|", groupedPatterns), matcherWatchdog, logCallBack, captureAllMatches);
+        this.allPatterns = new BitSet(patterns.size());
+        this.allPatterns.set(0, patterns.size());
+
+        List<String> expressions = new ArrayList<>(patterns.size());
+        Map<String, Integer> literalIds = new LinkedHashMap<>();
+        this.requiredLiterals = new int[patterns.size()][];
+        this.attempts = new LongAdder[patterns.size()];
+        this.matches = new LongAdder[patterns.size()];
+        for (int i = 0; i < patterns.size(); i++) {
+            String expression = grok.toRegex(patterns.get(i));
+            expressions.add(group(i, expression, patterns.size()));
+            List<String> literals = requiredLiterals(expression);
+            requiredLiterals[i] = new int[literals.size()];
+            for (int j = 0; j < literals.size(); j++) {
+                requiredLiterals[i][j] = literalIds.computeIfAbsent(literals.get(j), k -> literalIds.size());
+            }
+            attempts[i] = new LongAdder();
+            matches[i] = new LongAdder();
+        }
+        this.expressions = Collections.unmodifiableList(expressions);
+        List<byte[]> literals = new ArrayList<>(literalIds.size());
+        for (String literal : literalIds.keySet()) {
+            literals.add(literal.getBytes(StandardCharsets.UTF_8));
+        }
+        this.literalMatcher = new AhoCorasickMatcher(literals);
+        this.literalCount = literals.size();
+    }
+
+    private static String group(int index, String pattern, int patternCount) {
+        return patternCount == 1 ? pattern : "(?<" + PATTERN_INDEX_GROUP + index + ">" + pattern + ")";
+    }
+
+    /**
+     * Checks whether any of the patterns matches the text.
+     */
+    public boolean match(String text) {
+        return captures(text) != null;
+    }
+
+    /**
+     * Matches the text against the patterns.
+     *
+     * @param text the text to match and extract values from.
+     * @return the first pattern that matches along with its captures, or null if none of the patterns matches
+     * @throws RuntimeException if there was a timeout
+     */
+    public Match captures(String text) {
+        byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        BitSet candidates = candidates(utf8Bytes);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            attempts[i].increment();
+        }
+        Grok candidatesGrok = grok(candidates);
+        GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(candidatesGrok.captureConfig());
+        if (candidatesGrok.match(utf8Bytes, 0, utf8Bytes.length, extracter) == false) {
+            return null;
+        }
+        Map<String, Object> captures = extracter.result();
+        int patternIndex = candidates.nextSetBit(0);
+        if (allPatterns.cardinality() > 1) {
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                if (captures.remove(PATTERN_INDEX_GROUP + i) != null) {
+                    patternIndex = i;
+                }
+            }
+        }
+        matches[patternIndex].increment();
+        return new Match(patternIndex, captures);
+    }
+
+    /**
+     * Returns the patterns that contain all of their required literals and so may match the text.
+     */
+    BitSet candidates(byte[] utf8Bytes) {
+        BitSet candidates = (BitSet) allPatterns.clone();
+        if (literalCount == 0) {
+            return candidates;
+        }
+        BitSet foundLiterals = new BitSet(literalCount);
+        literalMatcher.find(utf8Bytes, 0, utf8Bytes.length, foundLiterals);
+        for (int i = 0; i < requiredLiterals.length; i++) {
+            for (int literal : requiredLiterals[i]) {
+                if (foundLiterals.get(literal) == false) {
+                    candidates.clear(i);
+                    break;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    // pkg-private for testing
+    Grok grok(BitSet candidates) {
+        if (candidates.equals(allPatterns)) {
+            return grok;
+        }
+        Grok subsetGrok = subsetGroks.get(candidates);
+        if (subsetGrok == null) {
+            if (subsetGroks.size() >= MAX_CACHED_SUBSETS) {
+                // the patterns that aren't candidates can't match, so the alternation of all patterns returns the same match
+                return grok;
+            }
+            List<String> subset = new ArrayList<>(candidates.cardinality());
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                subset.add(expressions.get(i));
+            }
+            subsetGrok = Grok.fromRegex(String.join("|", subset), matcherWatchdog, logCallBack, captureAllMatches);
+            // it's OK if a race compiles the same subset twice or slightly overshoots the limit
+            subsetGroks.put(candidates, subsetGrok);
+        }
+        return subsetGrok;
+    }
+
+    // pkg-private for testing
+    int cachedSubsets() {
+        return subsetGroks.size();
+    }
+
+    /**
+     * The number of patterns.
+     */
+    public int patternCount() {
+        return requiredLiterals.length;
+    }
+
+    /**
+     * The number of texts that the pattern was tried on, which excludes texts that miss one of its required literals.
+     */
+    public long attempts(int patternIndex) {
+        return attempts[patternIndex].sum();
+    }
+
+    /**
+     * The number of texts that the pattern matched first.
+     */
+    public long matches(int patternIndex) {
+        return matches[patternIndex].sum();
+    }
+
+    /**
+     * Returns the strings that every match of the given regex contains. This is conservative: it only considers literal characters
+     * outside of groups and character classes, and returns no strings at all for a regex with alternations or constructs it does not
+     * understand outside of groups.
+     */
+    static List<String> requiredLiterals(String regex) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            int c = regex.codePointAt(i);
+            switch (c) {
+                case '\\':
+                    if (i + 1 >= regex.length()) {
+                        return Collections.emptyList();
+                    }
+                    int escaped = regex.codePointAt(i + 1);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        // backreferences, code points, properties and such are not supported
+                        if (SHORTHAND_ESCAPES.indexOf(escaped) < 0) {
+                            return Collections.emptyList();
+                        }
+                        flush(literal, literals);
+                        i += 2;
+                    } else {
+                        i = appendLiteral(regex, i + 1 + Character.charCount(escaped), escaped, literal, literals);
+                    }
+                    break;
+                case '(':
+                    // inline options such as (?i) change how the rest of the regex matches
+                    if (regex.startsWith("(?", i) && i + 2 < regex.length() && ":<=!>".indexOf(regex.charAt(i + 2)) < 0) {
+                        return Collections.emptyList();
+                    }
+                    i = skipGroup(regex, i);
+                    if (i < 0) {
+                        return Collections.emptyList();
+                    }
+                    flush(literal, literals);
+                    break;
+                case '[':
+                    i = skipCharacterClass(regex, i);
+                    if (i < 0) {
+                        return Collections.emptyList();
+                    }
+                    flush(literal, literals);
+                    break;
+                case '{':
+                    i = regex.indexOf('}', i);
+                    if (i < 0) {
+                        return Collections.emptyList();
+                    }
+                    i++;
+                    flush(literal, literals);
+                    break;
+                case '|':
+                case ')':
+                    return Collections.emptyList();
+                case '.':
+                case '^':
+                case '$':
+                case '?':
+                case '*':
+                case '+':
+                case '}':
+                    flush(literal, literals);
+                    i++;
+                    break;
+                default:
+                    i = appendLiteral(regex, i + Character.charCount(c), c, literal, literals);
+            }
+        }
+        flush(literal, literals);
+        return literals;
+    }
+
+    private static int appendLiteral(String regex, int next, int c, StringBuilder literal, List<String> literals) {
+        char quantifier = next < regex.length() ? regex.charAt(next) : 0;
+        if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+            // the character is optional or repeated a number of times
+            flush(literal, literals);
+        } else if (quantifier == '+') {
+            literal.appendCodePoint(c);
+            flush(literal, literals);
+        } else {
+            literal.appendCodePoint(c);
+        }
+        return next;
+    }
+
+    private static void flush(StringBuilder literal, List<String> literals) {
+        if (literal.length() > 0) {
+            if (literals.contains(literal.toString()) == false) {
+                literals.add(literal.toString());
+            }
+            literal.setLength(0);
+        }
+    }
+
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+            } else {
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0) {
+                    return i + 1;
+                }
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipCharacterClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (c == ']') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The result of matching a text against the patterns.
+     *
+     * @param patternIndex the index of the pattern that matched
+     * @param captures the named captures of the pattern that matched
+     */
+    public record Match(int patternIndex, Map<String, Object> captures) {
+    }
+}
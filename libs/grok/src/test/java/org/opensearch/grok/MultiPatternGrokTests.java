@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class MultiPatternGrokTests extends OpenSearchTestCase {
+
+    public void testRequiredLiterals() {
+        assertThat(MultiPatternGrok.requiredLiterals("foo"), equalTo(List.of("foo")));
+        assertThat(MultiPatternGrok.requiredLiterals("\\[(?<n>\\d+)\\] GET"), equalTo(List.of("[", "] GET")));
+        assertThat(MultiPatternGrok.requiredLiterals("ab?c"), equalTo(List.of("a", "c")));
+        assertThat(MultiPatternGrok.requiredLiterals("ab+c"), equalTo(List.of("ab", "c")));
+        assertThat(MultiPatternGrok.requiredLiterals("x{2}y"), equalTo(List.of("y")));
+        assertThat(MultiPatternGrok.requiredLiterals("[a-z\\]]+ end\\s(a|b)? done"), equalTo(List.of(" end", " done")));
+        assertThat(MultiPatternGrok.requiredLiterals("héllo wörld"), equalTo(List.of("héllo wörld")));
+        // alternations, inline options and unsupported escapes make every literal optional
+        assertThat(MultiPatternGrok.requiredLiterals("foo|bar"), empty());
+        assertThat(MultiPatternGrok.requiredLiterals("(?i)foo"), empty());
+        assertThat(MultiPatternGrok.requiredLiterals("\\x41BC"), empty());
+        assertThat(MultiPatternGrok.requiredLiterals("(foo"), empty());
+    }
+
+    public void testAhoCorasickMatcher() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of(bytes("he"), bytes("she"), bytes("his"), bytes("hers"), bytes("ü")));
+        BitSet found = new BitSet();
+        matcher.find(bytes("ushers"), 0, 6, found);
+        assertThat(found, equalTo(BitSet.valueOf(new long[] { 0b1011 })));
+
+        found.clear();
+        matcher.find(bytes("xhisü"), 1, 3, found);
+        assertThat(found, equalTo(BitSet.valueOf(new long[] { 0b100 })));
+
+        found.clear();
+        matcher.find(bytes("über"), 0, bytes("über").length, found);
+        assertThat(found, equalTo(BitSet.valueOf(new long[] { 0b10000 })));
+    }
+
+    public void testMatchesLikeAlternation() {
+        List<String> patterns = List.of("x%{WORD:a}", "bar", "%{WORD:b} foo", "%{IP:ip} - - \\[%{HTTPDATE:date}\\]");
+        MultiPatternGrok grok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, MatcherWatchdog.noop(), logger::warn, false);
+        Grok alternation = new Grok(Grok.BUILTIN_PATTERNS, "(?:" + String.join(")|(?:", patterns) + ")", logger::warn);
+
+        for (String text : List.of("bar foo", "xbar foo", "qux foo", "nothing", "1.2.3.4 - - [10/Oct/2000:13:55:36 -0700] GET")) {
+            MultiPatternGrok.Match match = grok.captures(text);
+            assertThat(text, match == null ? null : match.captures(), equalTo(alternation.captures(text)));
+        }
+        assertThat(grok.captures("bar foo").patternIndex(), equalTo(1));
+        assertThat(grok.captures("xbar foo").patternIndex(), equalTo(0));
+        assertThat(grok.captures("qux foo").captures(), equalTo(Map.of("b", "qux")));
+        assertThat(grok.captures("1.2.3.4 - - [10/Oct/2000:13:55:36 -0700]").patternIndex(), equalTo(3));
+        assertThat(grok.captures("nothing"), nullValue());
+    }
+
+    public void testSkipsPatternsMissingLiterals() {
+        List<String> patterns = List.of("GET %{URIPATH:path}", "POST %{URIPATH:path}", "%{WORD:verb} %{URIPATH:path}");
+        MultiPatternGrok grok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, MatcherWatchdog.noop(), logger::warn, false);
+
+        assertThat(grok.candidates(bytes("POST /index")), equalTo(BitSet.valueOf(new long[] { 0b110 })));
+        assertThat(grok.captures("POST /index").patternIndex(), equalTo(1));
+        assertThat(grok.captures("PUT /index").patternIndex(), equalTo(2));
+        assertThat(grok.captures("GET /index").captures(), equalTo(Map.of("path", "/index")));
+
+        assertThat(grok.attempts(0), equalTo(1L));
+        assertThat(grok.attempts(1), equalTo(1L));
+        assertThat(grok.attempts(2), equalTo(3L));
+        assertThat(grok.matches(0), equalTo(1L));
+        assertThat(grok.matches(1), equalTo(1L));
+        assertThat(grok.matches(2), equalTo(1L));
+    }
+
+    public void testRejectsWithoutRegex() {
+        MultiPatternGrok grok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            List.of("error: %{GREEDYDATA:message}"),
+            MatcherWatchdog.noop(),
+            logger::warn,
+            false
+        );
+        assertThat(grok.candidates(bytes("warning: disk full")).isEmpty(), equalTo(true));
+        assertThat(grok.captures("warning: disk full"), nullValue());
+        assertThat(grok.captures("error: disk full").captures(), equalTo(Map.of("message", "disk full")));
+        assertThat(grok.attempts(0), equalTo(1L));
+        assertThat(grok.matches(0), equalTo(1L));
+    }
+
+    public void testMatchesAllPatternsOnceSubsetCacheIsFull() {
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            patterns.add("#" + i + "#%{WORD:word" + i + "}");
+        }
+        MultiPatternGrok grok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, MatcherWatchdog.noop(), logger::warn, false);
+        Grok alternation = new Grok(Grok.BUILTIN_PATTERNS, "(?:" + String.join(")|(?:", patterns) + ")", logger::warn);
+
+        // every non-empty subset of the patterns is a candidate set of some text, which is more than the cache holds
+        BitSet allPatterns = new BitSet();
+        allPatterns.set(0, patterns.size());
+        for (int subset = 1; subset < 1 << patterns.size(); subset++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < patterns.size(); i++) {
+                if ((subset & (1 << i)) != 0) {
+                    text.append('#').append(i).append('#');
+                }
+            }
+            text.append("value");
+            BitSet candidates = BitSet.valueOf(new long[] { subset });
+            assertThat(grok.candidates(bytes(text.toString())), equalTo(candidates));
+            MultiPatternGrok.Match match = grok.captures(text.toString());
+            assertThat(text.toString(), match.captures(), equalTo(alternation.captures(text.toString())));
+            assertThat(match.patternIndex(), equalTo(candidates.length() - 1));
+            assertThat(grok.cachedSubsets(), lessThanOrEqualTo(MultiPatternGrok.MAX_CACHED_SUBSETS));
+        }
+        assertThat(grok.cachedSubsets(), equalTo(MultiPatternGrok.MAX_CACHED_SUBSETS));
+        // subsets that didn't make it into the cache are matched against all patterns rather than compiled again
+        assertThat(grok.grok(BitSet.valueOf(new long[] { 0b1111110 })), sameInstance(grok.grok(allPatterns)));
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
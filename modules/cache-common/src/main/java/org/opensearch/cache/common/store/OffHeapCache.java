@@ -0,0 +1,467 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.monitor.jvm.JvmInfo;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+
+import static org.opensearch.cache.common.store.OffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.cache.common.store.OffHeapCacheSettings.PAGE_SIZE_KEY;
+
+/**
+ * A cache that keeps serialized values in off-heap memory, so that cached entries don't add to the work of the garbage
+ * collector. Keys stay on heap, values are serialized with the configured value serializer and copied into fixed size pages
+ * of direct memory, see {@link OffHeapPageStore}. Once the pages are exhausted, the least recently used entries are evicted.
+ * <p>
+ * The cache is guarded by a single lock and is meant to be used as a tier of a TieredSpilloverCache, which already splits
+ * itself into segments, in place of a disk tier. Expire after access is not supported.
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class OffHeapCache<K, V> implements ICache<K, V> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // guarded by the lock, iterates from the least to the most recently accessed entry
+    private final LinkedHashMap<ICacheKey<K>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final OffHeapPageStore pageStore;
+    private final Serializer<V, byte[]> valueSerializer;
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final CacheStatsHolder cacheStatsHolder;
+    private final long maximumWeight;
+
+    /**
+     * Used to handle concurrent requests for the same key in computeIfAbsent() so that the value is loaded only once.
+     */
+    private final Map<ICacheKey<K>, CompletableFuture<V>> completableFutureMap = new ConcurrentHashMap<>();
+
+    OffHeapCache(Builder<K, V> builder) {
+        this.maximumWeight = builder.getMaxWeightInBytes();
+        final long maxDirectMemory = maxDirectMemory();
+        if (maximumWeight > maxDirectMemory) {
+            throw new IllegalArgumentException(
+                "off-heap cache size ["
+                    + new ByteSizeValue(maximumWeight)
+                    + "] exceeds the maximum direct memory of the JVM ["
+                    + new ByteSizeValue(maxDirectMemory)
+                    + "], lower the cache size or raise -XX:MaxDirectMemorySize"
+            );
+        }
+        this.pageStore = new OffHeapPageStore(maximumWeight, builder.pageSizeInBytes);
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer shouldn't be null");
+        this.weigher = Objects.requireNonNull(builder.getWeigher(), "Weigher can't be null");
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, OffHeapCacheFactory.NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+    }
+
+    /**
+     * Location of a serialized value in the page store.
+     */
+    private static final class Entry {
+        final int[] pages;
+        final int length;
+        final long weight;
+
+        Entry(int[] pages, int length, long weight) {
+            this.pages = pages;
+            this.length = length;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * An entry that was removed from the cache, its value already copied back onto the heap.
+     */
+    private static final class Removed<K> {
+        final ICacheKey<K> key;
+        final byte[] bytes;
+        final long weight;
+        final RemovalReason reason;
+
+        Removed(ICacheKey<K> key, byte[] bytes, long weight, RemovalReason reason) {
+            this.key = key;
+            this.bytes = bytes;
+            this.weight = weight;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * The direct memory the JVM may allocate, which defaults to the maximum heap size if -XX:MaxDirectMemorySize is not set.
+     */
+    static long maxDirectMemory() {
+        final long directMemoryMax = JvmInfo.jvmInfo().getMem().getDirectMemoryMax().getBytes();
+        return directMemoryMax > 0 ? directMemoryMax : Runtime.getRuntime().maxMemory();
+    }
+
+    // pkg-private for testing
+    long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    // pkg-private for testing
+    long usedBytes() {
+        lock.lock();
+        try {
+            return (long) pageStore.usedPages() * pageStore.pageSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        V value = getValue(key);
+        if (value != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V getValue(ICacheKey<K> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key passed to off-heap cache was null.");
+        }
+        final byte[] bytes;
+        lock.lock();
+        try {
+            final Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            bytes = pageStore.read(entry.pages, entry.length);
+        } finally {
+            lock.unlock();
+        }
+        return valueSerializer.deserialize(bytes);
+    }
+
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        final byte[] bytes = valueSerializer.serialize(value);
+        final int pages = pageStore.pagesFor(bytes.length);
+        if (pages > pageStore.maxPages()) {
+            // the value alone exceeds the capacity, there is no point in evicting everything else for it, but the previous value of
+            // the key must not be returned anymore
+            final Removed<K> previous;
+            lock.lock();
+            try {
+                final Entry entry = entries.remove(key);
+                previous = entry == null ? null : release(key, entry, RemovalReason.REPLACED);
+            } finally {
+                lock.unlock();
+            }
+            if (previous != null) {
+                notifyRemovals(List.of(previous));
+            }
+            return;
+        }
+        final long weight = weigher.applyAsLong(key, value);
+        final List<Removed<K>> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            final Entry previous = entries.remove(key);
+            if (previous != null) {
+                removed.add(release(key, previous, RemovalReason.REPLACED));
+            }
+            final Iterator<Map.Entry<ICacheKey<K>, Entry>> iterator = entries.entrySet().iterator();
+            while (pageStore.hasRoomFor(pages) == false && iterator.hasNext()) {
+                final Map.Entry<ICacheKey<K>, Entry> eldest = iterator.next();
+                iterator.remove();
+                removed.add(release(eldest.getKey(), eldest.getValue(), RemovalReason.EVICTED));
+            }
+            entries.put(key, new Entry(pageStore.write(bytes), bytes.length, weight));
+        } finally {
+            lock.unlock();
+        }
+        cacheStatsHolder.incrementItems(key.dimensions);
+        cacheStatsHolder.incrementSizeInBytes(key.dimensions, weight);
+        notifyRemovals(removed);
+    }
+
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        V value = getValue(key);
+        if (value == null) {
+            value = compute(key, loader);
+        }
+        if (!loader.isLoaded()) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V compute(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        final CompletableFuture<V> completableFuture = new CompletableFuture<>();
+        // Only one of the threads will succeed putting a future into map for the same key, the rest wait for its value.
+        final CompletableFuture<V> future = completableFutureMap.putIfAbsent(key, completableFuture);
+        if (future != null) {
+            try {
+                return future.get();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        try {
+            // another thread may have loaded the value between our lookup and registering the future
+            final V cached = getValue(key);
+            if (cached != null) {
+                completableFuture.complete(cached);
+                return cached;
+            }
+            final V value = loader.load(key);
+            if (value == null) {
+                throw new NullPointerException("loader returned a null value");
+            }
+            put(key, value);
+            completableFuture.complete(value);
+            return value;
+        } catch (Exception ex) {
+            completableFuture.completeExceptionally(ex);
+            throw new ExecutionException(ex);
+        } finally {
+            completableFutureMap.remove(key, completableFuture);
+        }
+    }
+
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key == null) {
+            return;
+        }
+        final Removed<K> removed;
+        lock.lock();
+        try {
+            final Entry entry = entries.remove(key);
+            if (entry == null) {
+                return;
+            }
+            removed = release(key, entry, RemovalReason.EXPLICIT);
+        } finally {
+            lock.unlock();
+        }
+        notifyRemovals(List.of(removed));
+    }
+
+    @Override
+    public void invalidateAll() {
+        final List<Removed<K>> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Map.Entry<ICacheKey<K>, Entry> entry : entries.entrySet()) {
+                removed.add(release(entry.getKey(), entry.getValue(), RemovalReason.INVALIDATED));
+            }
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+        notifyRemovals(removed);
+        cacheStatsHolder.reset();
+    }
+
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        lock.lock();
+        try {
+            return new ArrayList<>(entries.keySet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void refresh() {}
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            entries.clear();
+            pageStore.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    private Removed<K> release(ICacheKey<K> key, Entry entry, RemovalReason reason) {
+        assert lock.isHeldByCurrentThread();
+        final byte[] bytes = pageStore.read(entry.pages, entry.length);
+        pageStore.release(entry.pages);
+        return new Removed<>(key, bytes, entry.weight, reason);
+    }
+
+    private void notifyRemovals(List<Removed<K>> removed) {
+        // deserializing and notifying happens outside of the lock, the entries are no longer reachable through the cache
+        for (Removed<K> entry : removed) {
+            removalListener.onRemoval(new RemovalNotification<>(entry.key, valueSerializer.deserialize(entry.bytes), entry.reason));
+            cacheStatsHolder.decrementItems(entry.key.dimensions);
+            cacheStatsHolder.decrementSizeInBytes(entry.key.dimensions, entry.weight);
+            if (entry.reason == RemovalReason.EVICTED) {
+                cacheStatsHolder.incrementEvictions(entry.key.dimensions);
+            }
+        }
+    }
+
+    /**
+     * Factory to create an off-heap cache.
+     */
+    public static class OffHeapCacheFactory implements ICache.Factory {
+
+        /**
+         * Off-heap cache name.
+         */
+        public static final String NAME = "opensearch_offheap";
+
+        /**
+         * Default constructor.
+         */
+        public OffHeapCacheFactory() {}
+
+        @Override
+        @SuppressWarnings({ "unchecked" }) // Required to ensure the serializer outputs byte[]
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Map<String, Setting<?>> settingList = OffHeapCacheSettings.getSettingListForCacheType(cacheType);
+            Settings settings = config.getSettings();
+            if (config.getValueSerializer() == null) {
+                throw new IllegalArgumentException("OffHeapCache requires a value serializer of type Serializer<V, byte[]>");
+            }
+            Builder<K, V> builder = new Builder<K, V>().setDimensionNames(config.getDimensionNames())
+                .setValueSerializer((Serializer<V, byte[]>) config.getValueSerializer())
+                .setPageSizeInBytes((int) ((ByteSizeValue) settingList.get(PAGE_SIZE_KEY).get(settings)).getBytes());
+            builder.setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setWeigher(config.getWeigher())
+                .setRemovalListener(config.getRemovalListener())
+                .setSettings(settings);
+            long maxSizeInBytes = ((ByteSizeValue) settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).get(settings)).getBytes();
+            // If config value is set, use this instead. This is passed down from the TieredSpilloverCache.
+            if (config.getMaxSizeInBytes() > 0) {
+                builder.setMaximumWeightInBytes(config.getMaxSizeInBytes());
+            } else {
+                builder.setMaximumWeightInBytes(maxSizeInBytes);
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * Builder object to build the off-heap cache.
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+        private List<String> dimensionNames;
+        private Serializer<V, byte[]> valueSerializer;
+        private int pageSizeInBytes = 4096;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {}
+
+        /**
+         * Sets the dimension names of the stats.
+         * @param dimensionNames dimension names
+         * @return builder
+         */
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        /**
+         * Sets the serializer values are stored with.
+         * @param valueSerializer the value serializer
+         * @return builder
+         */
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        /**
+         * Sets the size of the pages off-heap memory is divided into.
+         * @param pageSizeInBytes page size
+         * @return builder
+         */
+        public Builder<K, V> setPageSizeInBytes(int pageSizeInBytes) {
+            this.pageSizeInBytes = pageSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public OffHeapCache<K, V> build() {
+            return new OffHeapCache<>(this);
+        }
+    }
+}
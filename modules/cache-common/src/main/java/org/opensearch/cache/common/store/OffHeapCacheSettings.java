@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings related to the off-heap cache.
+ */
+public class OffHeapCacheSettings {
+
+    /**
+     * Setting to define the maximum off-heap memory used by the cache. If this cache is used as a tier in a
+     * TieredSpilloverCache, this setting is ignored.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> MAXIMUM_SIZE_IN_BYTES = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".size",
+        (key) -> Setting.byteSizeSetting(key, new ByteSizeValue(1, ByteSizeUnit.GB), NodeScope)
+    );
+
+    /**
+     * Setting to define the size of the pages values are stored in. Smaller pages waste less memory on small values,
+     * larger pages need less bookkeeping for large values.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.page_size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> PAGE_SIZE_SETTING = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".page_size",
+        (key) -> Setting.byteSizeSetting(
+            key,
+            new ByteSizeValue(4, ByteSizeUnit.KB),
+            new ByteSizeValue(256, ByteSizeUnit.BYTES),
+            new ByteSizeValue(1, ByteSizeUnit.MB),
+            NodeScope
+        )
+    );
+
+    /**
+     * Key for maximum size setting.
+     */
+    public static final String MAXIMUM_SIZE_IN_BYTES_KEY = "maximum_size_in_bytes";
+
+    /**
+     * Key for page size setting.
+     */
+    public static final String PAGE_SIZE_KEY = "page_size";
+
+    private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
+        MAXIMUM_SIZE_IN_BYTES_KEY,
+        MAXIMUM_SIZE_IN_BYTES,
+        PAGE_SIZE_KEY,
+        PAGE_SIZE_SETTING
+    );
+
+    /**
+     * Map of cache type to its concrete settings.
+     */
+    public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
+
+    /**
+     * Default constructor. Added to fix javadocs.
+     */
+    public OffHeapCacheSettings() {}
+
+    private static Map<CacheType, Map<String, Setting<?>>> getCacheTypeMap() {
+        Map<CacheType, Map<String, Setting<?>>> cacheTypeMap = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            Map<String, Setting<?>> settingMap = new HashMap<>();
+            for (Map.Entry<String, Setting.AffixSetting<?>> entry : KEY_SETTING_MAP.entrySet()) {
+                settingMap.put(entry.getKey(), entry.getValue().getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
+            }
+            cacheTypeMap.put(cacheType, settingMap);
+        }
+        return cacheTypeMap;
+    }
+
+    /**
+     * Fetches concrete off-heap cache settings for the given cache type.
+     * @param cacheType cache type
+     * @return settings
+     */
+    public static Map<String, Setting<?>> getSettingListForCacheType(CacheType cacheType) {
+        Map<String, Setting<?>> cacheTypeSettings = CACHE_TYPE_MAP.get(cacheType);
+        if (cacheTypeSettings == null) {
+            throw new IllegalArgumentException(
+                "No settings exist for cache store name: "
+                    + OffHeapCache.OffHeapCacheFactory.NAME
+                    + " associated with cache type: "
+                    + cacheType
+            );
+        }
+        return cacheTypeSettings;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed size pages of off-heap memory that values of an {@link OffHeapCache} are copied into. Memory is reserved lazily in
+ * arenas of direct byte buffers, so that a large cache doesn't end up with millions of small direct buffers, and pages of
+ * removed values are recycled through a free list. Arenas are only released once the store is closed.
+ * <p>
+ * This class is not thread safe, callers are expected to guard it with the lock of the cache it belongs to.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapPageStore {
+
+    static final int[] NO_PAGES = new int[0];
+
+    /** Upper bound for the size of a single arena */
+    static final int MAX_ARENA_SIZE_IN_BYTES = 64 * 1024 * 1024;
+
+    private final int pageSize;
+    private final int pagesPerArena;
+    private final int maxPages;
+    private final List<ByteBuffer> arenas = new ArrayList<>();
+    private int[] freePages = new int[16];
+    private int freePagesCount;
+    private int allocatedPages;
+    private int usedPages;
+
+    OffHeapPageStore(long capacityInBytes, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("page size must be greater than 0 but was [" + pageSize + "]");
+        }
+        if (capacityInBytes < pageSize) {
+            throw new IllegalArgumentException("capacity [" + capacityInBytes + "] must be at least the page size [" + pageSize + "]");
+        }
+        this.pageSize = pageSize;
+        this.maxPages = (int) Math.min(capacityInBytes / pageSize, Integer.MAX_VALUE);
+        this.pagesPerArena = Math.max(1, Math.min(maxPages, MAX_ARENA_SIZE_IN_BYTES / pageSize));
+    }
+
+    int pageSize() {
+        return pageSize;
+    }
+
+    int maxPages() {
+        return maxPages;
+    }
+
+    int usedPages() {
+        return usedPages;
+    }
+
+    int pagesFor(int length) {
+        return (length + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Returns whether {@code pages} more pages can be handed out without evicting anything.
+     */
+    boolean hasRoomFor(int pages) {
+        return usedPages + pages <= maxPages;
+    }
+
+    /**
+     * Returns the off-heap memory reserved by this store, used pages and free pages alike.
+     */
+    long reservedBytes() {
+        long reserved = 0;
+        for (ByteBuffer arena : arenas) {
+            reserved += arena.capacity();
+        }
+        return reserved;
+    }
+
+    /**
+     * Copies the bytes into newly allocated pages and returns the pages, the caller must first make sure there is room for them.
+     */
+    int[] write(byte[] bytes) {
+        final int[] pages = bytes.length == 0 ? NO_PAGES : new int[pagesFor(bytes.length)];
+        assert hasRoomFor(pages.length) : "no room for [" + pages.length + "] pages";
+        int offset = 0;
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = allocatePage();
+            final int length = Math.min(pageSize, bytes.length - offset);
+            page(pages[i]).put(bytes, offset, length);
+            offset += length;
+        }
+        return pages;
+    }
+
+    /**
+     * Copies the first {@code length} bytes held by the pages back onto the heap.
+     */
+    byte[] read(int[] pages, int length) {
+        final byte[] bytes = new byte[length];
+        int offset = 0;
+        for (int page : pages) {
+            final int pageLength = Math.min(pageSize, length - offset);
+            page(page).get(bytes, offset, pageLength);
+            offset += pageLength;
+        }
+        return bytes;
+    }
+
+    void release(int[] pages) {
+        for (int page : pages) {
+            if (freePagesCount == freePages.length) {
+                final int[] grown = new int[freePages.length << 1];
+                System.arraycopy(freePages, 0, grown, 0, freePagesCount);
+                freePages = grown;
+            }
+            freePages[freePagesCount++] = page;
+        }
+        usedPages -= pages.length;
+    }
+
+    /**
+     * Drops all arenas, the memory is returned to the operating system once the buffers are garbage collected.
+     */
+    void clear() {
+        arenas.clear();
+        freePagesCount = 0;
+        allocatedPages = 0;
+        usedPages = 0;
+    }
+
+    private int allocatePage() {
+        usedPages++;
+        if (freePagesCount > 0) {
+            return freePages[--freePagesCount];
+        }
+        if (allocatedPages == arenas.size() * pagesPerArena) {
+            final int pages = Math.min(pagesPerArena, maxPages - allocatedPages);
+            arenas.add(ByteBuffer.allocateDirect(pages * pageSize));
+        }
+        return allocatedPages++;
+    }
+
+    private ByteBuffer page(int page) {
+        final ByteBuffer arena = arenas.get(page / pagesPerArena);
+        final int offset = (page % pagesPerArena) * pageSize;
+        return arena.duplicate().position(offset).limit(offset + pageSize);
+    }
+}
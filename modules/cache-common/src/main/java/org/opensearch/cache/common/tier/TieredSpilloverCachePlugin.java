@@ -8,6 +8,8 @@
 
 package org.opensearch.cache.common.tier;
 
+import org.opensearch.cache.common.store.OffHeapCache;
+import org.opensearch.cache.common.store.OffHeapCacheSettings;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.settings.Setting;
@@ -47,7 +49,9 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
     public Map<String, ICache.Factory> getCacheFactoryMap() {
         return Map.of(
             TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME,
-            new TieredSpilloverCache.TieredSpilloverCacheFactory()
+            new TieredSpilloverCache.TieredSpilloverCacheFactory(),
+            OffHeapCache.OffHeapCacheFactory.NAME,
+            new OffHeapCache.OffHeapCacheFactory()
         );
     }
 
@@ -73,6 +77,7 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
             settingList.add(
                 TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
             );
+            settingList.addAll(OffHeapCacheSettings.getSettingListForCacheType(cacheType).values());
         }
         return settingList;
     }
@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OffHeapCacheTests extends OpenSearchTestCase {
+
+    private static final int PAGE_SIZE = 256;
+    private static final List<String> DIMENSION_NAMES = List.of("shard");
+
+    public void testBasicGetAndPut() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(100 * PAGE_SIZE, removalListener)) {
+            int numberOfItems = randomIntBetween(1, 50);
+            for (int i = 0; i < numberOfItems; i++) {
+                cache.put(getICacheKey("key" + i), randomAlphaOfLength(randomIntBetween(0, PAGE_SIZE - 2)) + i);
+            }
+            assertEquals(numberOfItems, cache.count());
+            assertEquals(numberOfItems, cache.stats().getTotalItems());
+            for (int i = 0; i < numberOfItems; i++) {
+                String value = cache.get(getICacheKey("key" + i));
+                assertNotNull(value);
+                assertTrue(value.endsWith(Integer.toString(i)));
+            }
+            assertNull(cache.get(getICacheKey("missing")));
+            assertEquals(numberOfItems, cache.stats().getTotalHits());
+            assertEquals(1, cache.stats().getTotalMisses());
+            assertTrue(removalListener.notifications.isEmpty());
+        }
+    }
+
+    public void testReplace() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(10 * PAGE_SIZE, removalListener)) {
+            ICacheKey<String> key = getICacheKey("key");
+            cache.put(key, randomAlphaOfLength(3 * PAGE_SIZE));
+            cache.put(key, "value");
+            assertEquals("value", cache.get(key));
+            assertEquals(1, cache.count());
+            assertEquals(PAGE_SIZE, cache.usedBytes());
+            assertEquals(1, removalListener.notifications.size());
+            assertEquals(RemovalReason.REPLACED, removalListener.notifications.get(0).getRemovalReason());
+        }
+    }
+
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(4 * PAGE_SIZE, removalListener)) {
+            for (int i = 0; i < 4; i++) {
+                cache.put(getICacheKey("key" + i), "value" + i);
+            }
+            // make "key0" the most recently used entry, "key1" becomes the eldest one
+            assertEquals("value0", cache.get(getICacheKey("key0")));
+            cache.put(getICacheKey("key4"), "value4");
+
+            assertEquals(4, cache.count());
+            assertNull(cache.get(getICacheKey("key1")));
+            assertEquals("value0", cache.get(getICacheKey("key0")));
+            assertEquals(1, cache.stats().getTotalEvictions());
+            assertEquals(1, removalListener.notifications.size());
+            RemovalNotification<ICacheKey<String>, String> notification = removalListener.notifications.get(0);
+            assertEquals(getICacheKey("key1"), notification.getKey());
+            assertEquals("value1", notification.getValue());
+            assertEquals(RemovalReason.EVICTED, notification.getRemovalReason());
+
+            // a value that spans several pages evicts as many entries as needed
+            cache.put(getICacheKey("large"), randomAlphaOfLength(3 * PAGE_SIZE));
+            assertEquals(2, cache.count());
+            assertEquals(4 * PAGE_SIZE, cache.usedBytes());
+        }
+    }
+
+    public void testValueLargerThanCapacityIsNotCached() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(2 * PAGE_SIZE, removalListener)) {
+            cache.put(getICacheKey("key"), "value");
+            cache.put(getICacheKey("large"), randomAlphaOfLength(2 * PAGE_SIZE + 1));
+            assertNull(cache.get(getICacheKey("large")));
+            assertEquals("value", cache.get(getICacheKey("key")));
+            assertTrue(removalListener.notifications.isEmpty());
+        }
+    }
+
+    public void testValueLargerThanCapacityRemovesPreviousValue() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(2 * PAGE_SIZE, removalListener)) {
+            cache.put(getICacheKey("key"), "value");
+            cache.put(getICacheKey("key"), randomAlphaOfLength(2 * PAGE_SIZE + 1));
+            assertNull(cache.get(getICacheKey("key")));
+            assertEquals(0, cache.count());
+            assertEquals(0, cache.usedBytes());
+            assertEquals(1, removalListener.notifications.size());
+            assertEquals("value", removalListener.notifications.get(0).getValue());
+            assertEquals(RemovalReason.REPLACED, removalListener.notifications.get(0).getRemovalReason());
+        }
+    }
+
+    public void testSizeLargerThanDirectMemoryIsRejected() {
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> buildCache(OffHeapCache.maxDirectMemory() + 1, new MockRemovalListener<>())
+        );
+        assertTrue(e.getMessage(), e.getMessage().contains("exceeds the maximum direct memory of the JVM"));
+    }
+
+    public void testInvalidate() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(10 * PAGE_SIZE, removalListener)) {
+            int numberOfItems = randomIntBetween(2, 10);
+            for (int i = 0; i < numberOfItems; i++) {
+                cache.put(getICacheKey("key" + i), "value" + i);
+            }
+            cache.invalidate(getICacheKey("key0"));
+            assertNull(cache.get(getICacheKey("key0")));
+            assertEquals(numberOfItems - 1, cache.count());
+            assertEquals(RemovalReason.EXPLICIT, removalListener.notifications.get(0).getRemovalReason());
+
+            cache.invalidateAll();
+            assertEquals(0, cache.count());
+            assertEquals(0, cache.usedBytes());
+            assertEquals(numberOfItems, removalListener.notifications.size());
+            assertFalse(cache.keys().iterator().hasNext());
+        }
+    }
+
+    public void testComputeIfAbsentLoadsOnce() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(10 * PAGE_SIZE, removalListener)) {
+            ICacheKey<String> key = getICacheKey("key");
+            int numberOfThreads = randomIntBetween(2, 8);
+            AtomicInteger loads = new AtomicInteger();
+            Phaser phaser = new Phaser(numberOfThreads + 1);
+            CountDownLatch countDownLatch = new CountDownLatch(numberOfThreads);
+            List<String> values = new ArrayList<>();
+            Thread[] threads = new Thread[numberOfThreads];
+            for (int i = 0; i < numberOfThreads; i++) {
+                threads[i] = new Thread(() -> {
+                    try {
+                        phaser.arriveAndAwaitAdvance();
+                        String value = cache.computeIfAbsent(key, new LoadAwareCacheLoader<>() {
+                            boolean isLoaded;
+
+                            @Override
+                            public boolean isLoaded() {
+                                return isLoaded;
+                            }
+
+                            @Override
+                            public String load(ICacheKey<String> key) {
+                                isLoaded = true;
+                                loads.incrementAndGet();
+                                return "value";
+                            }
+                        });
+                        synchronized (values) {
+                            values.add(value);
+                        }
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+                threads[i].start();
+            }
+            phaser.arriveAndAwaitAdvance();
+            countDownLatch.await();
+            assertEquals(1, loads.get());
+            assertEquals(numberOfThreads, values.size());
+            assertTrue(values.stream().allMatch("value"::equals));
+            assertEquals(1, cache.count());
+        }
+    }
+
+    public void testPagesAreReused() {
+        OffHeapPageStore pageStore = new OffHeapPageStore(8 * PAGE_SIZE, PAGE_SIZE);
+        byte[] bytes = randomAlphaOfLength(3 * PAGE_SIZE - 1).getBytes(StandardCharsets.UTF_8);
+        int[] pages = pageStore.write(bytes);
+        assertEquals(3, pages.length);
+        assertArrayEquals(bytes, pageStore.read(pages, bytes.length));
+        long reserved = pageStore.reservedBytes();
+
+        pageStore.release(pages);
+        assertEquals(0, pageStore.usedPages());
+        int[] reused = pageStore.write(bytes);
+        assertEquals(reserved, pageStore.reservedBytes());
+        Arrays.sort(pages);
+        Arrays.sort(reused);
+        assertArrayEquals(pages, reused);
+        assertTrue(pageStore.hasRoomFor(5));
+        assertFalse(pageStore.hasRoomFor(6));
+    }
+
+    public void testFactoryUsesConfigSize() {
+        OffHeapCache.OffHeapCacheFactory factory = new OffHeapCache.OffHeapCacheFactory();
+        // larger than the default page size
+        long maxSizeInBytes = randomLongBetween(4096, 1024 * 1024);
+        ICache<String, String> cache = factory.create(
+            new CacheConfig.Builder<String, String>().setValueType(String.class)
+                .setKeyType(String.class)
+                .setWeigher((k, v) -> v.length())
+                .setRemovalListener(new MockRemovalListener<>())
+                .setValueSerializer(new StringSerializer())
+                .setDimensionNames(DIMENSION_NAMES)
+                .setMaxSizeInBytes(maxSizeInBytes)
+                .setSettings(Settings.EMPTY)
+                .build(),
+            CacheType.INDICES_REQUEST_CACHE,
+            null
+        );
+        assertEquals(maxSizeInBytes, ((OffHeapCache<String, String>) cache).getMaximumWeight());
+    }
+
+    private OffHeapCache<String, String> buildCache(long maxSizeInBytes, RemovalListener<ICacheKey<String>, String> removalListener) {
+        OffHeapCache.Builder<String, String> builder = new OffHeapCache.Builder<String, String>().setDimensionNames(DIMENSION_NAMES)
+            .setValueSerializer(new StringSerializer())
+            .setPageSizeInBytes(PAGE_SIZE);
+        builder.setMaximumWeightInBytes(maxSizeInBytes)
+            .setWeigher((k, v) -> v.length())
+            .setRemovalListener(removalListener)
+            .setStatsTrackingEnabled(true)
+            .setSettings(Settings.EMPTY);
+        return builder.build();
+    }
+
+    private ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, List.of("0"));
+    }
+
+    private static class MockRemovalListener<K, V> implements RemovalListener<ICacheKey<K>, V> {
+        final List<RemovalNotification<ICacheKey<K>, V>> notifications = new ArrayList<>();
+
+        @Override
+        public synchronized void onRemoval(RemovalNotification<ICacheKey<K>, V> notification) {
+            notifications.add(notification);
+        }
+    }
+
+    private static class StringSerializer implements Serializer<String, byte[]> {
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            if (bytes == null) {
+                return null;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
@@ -55,7 +56,7 @@ public final class GrokProcessor extends AbstractProcessor {
 
     private final String matchField;
     private final List<String> matchPatterns;
-    private final Grok grok;
+    private final MultiPatternGrok grok;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
     private final boolean captureAllMatches;
@@ -74,7 +75,7 @@ public final class GrokProcessor extends AbstractProcessor {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug, captureAllMatches);
+        this.grok = new MultiPatternGrok(patternBank, matchPatterns, matcherWatchdog, logger::debug, captureAllMatches);
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
         this.captureAllMatches = captureAllMatches;
@@ -93,21 +94,15 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
-        if (matches == null) {
+        MultiPatternGrok.Match match = grok.captures(fieldValue);
+        if (match == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
 
-        matches.forEach(ingestDocument::setFieldValue);
+        match.captures().forEach(ingestDocument::setFieldValue);
 
         if (traceMatch) {
-            if (matchPatterns.size() > 1) {
-                @SuppressWarnings("unchecked")
-                HashMap<String, String> matchMap = (HashMap<String, String>) ingestDocument.getFieldValue(PATTERN_MATCH_KEY, Object.class);
-                matchMap.keySet().stream().findFirst().ifPresent((index) -> { ingestDocument.setFieldValue(PATTERN_MATCH_KEY, index); });
-            } else {
-                ingestDocument.setFieldValue(PATTERN_MATCH_KEY, "0");
-            }
+            ingestDocument.setFieldValue(PATTERN_MATCH_KEY, String.valueOf(match.patternIndex()));
         }
         return ingestDocument;
     }
@@ -117,7 +112,21 @@ public final class GrokProcessor extends AbstractProcessor {
         return TYPE;
     }
 
-    Grok getGrok() {
+    /**
+     * Reports, for each pattern by its index in {@code patterns}, the number of values it was tried on and the number of values it
+     * matched first. Patterns that are tried often but rarely match are worth moving down the list.
+     */
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new HashMap<>();
+        for (int i = 0; i < grok.patternCount(); i++) {
+            counters.put("pattern_" + i + "_attempts", grok.attempts(i));
+            counters.put("pattern_" + i + "_matches", grok.matches(i));
+        }
+        return counters;
+    }
+
+    MultiPatternGrok getGrok() {
         return grok;
     }
 
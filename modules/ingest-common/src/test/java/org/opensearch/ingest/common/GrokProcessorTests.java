@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest.common;
 
+import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.RandomDocumentPicks;
@@ -312,6 +313,36 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("1"));
     }
 
+    public void testCountsPatternAttemptsAndMatches() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "GET /index");
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            Grok.BUILTIN_PATTERNS,
+            Arrays.asList("POST %{URIPATH:path}", "GET %{URIPATH:path}"),
+            fieldName,
+            true,
+            false,
+            false,
+            MatcherWatchdog.noop()
+        );
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("path", String.class), equalTo("/index"));
+        assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("1"));
+        // the first pattern is not tried since the field value does not contain "POST "
+        assertThat(processor.getGrok().attempts(0), equalTo(0L));
+        assertThat(processor.getGrok().attempts(1), equalTo(1L));
+        assertThat(processor.getGrok().matches(1), equalTo(1L));
+        Map<String, Long> counters = processor.getCounters();
+        assertThat(counters.size(), equalTo(4));
+        assertThat(counters.get("pattern_0_attempts"), equalTo(0L));
+        assertThat(counters.get("pattern_0_matches"), equalTo(0L));
+        assertThat(counters.get("pattern_1_attempts"), equalTo(1L));
+        assertThat(counters.get("pattern_1_matches"), equalTo(1L));
+    }
+
     public void testTraceWithOnePattern() throws Exception {
         String fieldName = RandomDocumentPicks.randomFieldName(random());
         IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
@@ -32,43 +32,70 @@
 
 package org.opensearch.ingest.geoip;
 
-import com.maxmind.db.NoCache;
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.Network;
 import com.maxmind.db.NodeCache;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.model.AbstractCountryResponse;
 import com.maxmind.geoip2.model.AbstractResponse;
+import com.maxmind.geoip2.model.AsnResponse;
 
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.SuppressForbidden;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.io.PathUtils;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.env.Environment;
+import org.opensearch.env.NodeEnvironment;
 import org.opensearch.ingest.Processor;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.plugins.TelemetryAwarePlugin;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.script.ScriptService;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
+import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+import org.opensearch.watcher.ResourceWatcherService;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Closeable {
+public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, TelemetryAwarePlugin, Closeable {
     static final Setting<List<String>> PROCESSORS_ALLOWLIST_SETTING = Setting.listSetting(
         "ingest.geoip.processors.allowed",
         List.of(),
@@ -79,7 +106,14 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
 
     static String[] DEFAULT_DATABASE_FILENAMES = new String[] { "GeoLite2-ASN.mmdb", "GeoLite2-City.mmdb", "GeoLite2-Country.mmdb" };
 
+    static final String CACHE_HITS_METRIC = "ingest.geoip.cache.hits";
+    static final String CACHE_MISSES_METRIC = "ingest.geoip.cache.misses";
+    static final String CACHE_EVICTIONS_METRIC = "ingest.geoip.cache.evictions";
+
     private Map<String, DatabaseReaderLazyLoader> databaseReaders;
+    // package private for testing
+    volatile GeoIpCache cache;
+    private final List<Closeable> gaugeHandles = new ArrayList<>();
 
     @Override
     public List<Setting<?>> getSettings() {
@@ -99,12 +133,42 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        cache = new GeoIpCache(cacheSize);
         return filterForAllowlistSetting(
             parameters.env.settings(),
-            Map.of(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(cacheSize)))
+            Map.of(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, cache))
         );
     }
 
+    @Override
+    public Collection<Object> createComponents(
+        Client client,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        ResourceWatcherService resourceWatcherService,
+        ScriptService scriptService,
+        NamedXContentRegistry xContentRegistry,
+        Environment environment,
+        NodeEnvironment nodeEnvironment,
+        NamedWriteableRegistry namedWriteableRegistry,
+        IndexNameExpressionResolver indexNameExpressionResolver,
+        Supplier<RepositoriesService> repositoriesServiceSupplier,
+        Tracer tracer,
+        MetricsRegistry metricsRegistry
+    ) {
+        registerCacheGauge(metricsRegistry, CACHE_HITS_METRIC, "Lookups answered by the geoip cache", GeoIpCache::getHits);
+        registerCacheGauge(metricsRegistry, CACHE_MISSES_METRIC, "Lookups that missed the geoip cache", GeoIpCache::getMisses);
+        registerCacheGauge(metricsRegistry, CACHE_EVICTIONS_METRIC, "Responses evicted from the geoip cache", GeoIpCache::getEvictions);
+        return Collections.emptyList();
+    }
+
+    private void registerCacheGauge(MetricsRegistry metricsRegistry, String name, String description, ToLongFunction<GeoIpCache> value) {
+        gaugeHandles.add(metricsRegistry.createGauge(name, description, "1", () -> {
+            GeoIpCache geoIpCache = cache;
+            return geoIpCache == null ? 0.0 : (double) value.applyAsLong(geoIpCache);
+        }, Tags.EMPTY));
+    }
+
     /*
      * In GeoIpProcessorNonIngestNodeTests, ingest-geoip is loaded on the classpath. This means that the plugin is never unbundled into a
      * directory where the database files would live. Therefore, we have to copy these database files ourselves. To do this, we need the
@@ -156,7 +220,8 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
 
     private static DatabaseReaderLazyLoader createLoader(Path databasePath, boolean loadDatabaseOnHeap) {
         return new DatabaseReaderLazyLoader(databasePath, () -> {
-            DatabaseReader.Builder builder = createDatabaseBuilder(databasePath).withCache(NoCache.getInstance());
+            // the node cache holds decoded database records, which are shared by many networks, for lookups that miss the GeoIpCache
+            DatabaseReader.Builder builder = createDatabaseBuilder(databasePath).withCache(new CHMCache());
             if (loadDatabaseOnHeap) {
                 builder.fileMode(Reader.FileMode.MEMORY);
             } else {
@@ -182,6 +247,7 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
 
     @Override
     public void close() throws IOException {
+        IOUtils.close(gaugeHandles);
         if (databaseReaders != null) {
             IOUtils.close(databaseReaders.values());
         }
@@ -216,9 +282,17 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
      * This cache differs from the maxmind's {@link NodeCache} such that this cache stores the deserialized Json objects to avoid the
      * cost of deserialization for each lookup (cached or not). This comes at slight expense of higher memory usage, but significant
      * reduction of CPU usage.
+     * <p>
+     * Responses are cached per network block of the database rather than per IP, since all addresses of a network share the same
+     * response. A lookup probes the network blocks of the prefix lengths that were cached so far for the response type, so that
+     * any address of a cached network is a hit. Responses without a network are cached per IP.
      */
     static class GeoIpCache {
         private final Cache<CacheKey<?>, AbstractResponse> cache;
+        // the prefix lengths of the cached networks per response type and address length, most specific first
+        private final Map<PrefixScope, Set<Integer>> prefixLengths = new ConcurrentHashMap<>();
+        private final CounterMetric hits = new CounterMetric();
+        private final CounterMetric misses = new CounterMetric();
 
         // package private for testing
         GeoIpCache(long maxSize) {
@@ -235,20 +309,103 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
         ) {
 
             // can't use cache.computeIfAbsent due to the elevated permissions for the jackson (run via the cache loader)
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
             // intentionally non-locking for simplicity...it's OK if we re-put the same key/value in the cache during a race condition.
-            AbstractResponse response = cache.get(cacheKey);
+            AbstractResponse response = lookup(ip, responseType);
             if (response == null) {
+                misses.inc();
                 response = retrieveFunction.apply(ip);
-                cache.put(cacheKey, response);
+                put(ip, responseType, response);
+            } else {
+                hits.inc();
             }
             return responseType.cast(response);
         }
 
         // only useful for testing
         <T extends AbstractResponse> T get(InetAddress ip, Class<T> responseType) {
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            return responseType.cast(cache.get(cacheKey));
+            return responseType.cast(lookup(ip, responseType));
+        }
+
+        private AbstractResponse lookup(InetAddress ip, Class<? extends AbstractResponse> responseType) {
+            byte[] address = ip.getAddress();
+            AbstractResponse response = cache.get(new CacheKey<>(ip, address.length * Byte.SIZE, responseType));
+            if (response != null) {
+                return response;
+            }
+            Set<Integer> knownPrefixLengths = prefixLengths.get(new PrefixScope(responseType, address.length));
+            if (knownPrefixLengths != null) {
+                for (int prefixLength : knownPrefixLengths) {
+                    response = cache.get(new CacheKey<>(networkAddress(address, prefixLength), prefixLength, responseType));
+                    if (response != null) {
+                        return response;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void put(InetAddress ip, Class<? extends AbstractResponse> responseType, AbstractResponse response) {
+            byte[] address = ip.getAddress();
+            Network network = network(response);
+            if (network != null && network.getNetworkAddress().getAddress().length == address.length) {
+                prefixLengths.computeIfAbsent(
+                    new PrefixScope(responseType, address.length),
+                    k -> new ConcurrentSkipListSet<>(Comparator.reverseOrder())
+                ).add(network.getPrefixLength());
+                int prefixLength = network.getPrefixLength();
+                cache.put(new CacheKey<>(networkAddress(address, prefixLength), prefixLength, responseType), response);
+            } else {
+                cache.put(new CacheKey<>(ip, address.length * Byte.SIZE, responseType), response);
+            }
+        }
+
+        private static Network network(AbstractResponse response) {
+            if (response instanceof AsnResponse asnResponse) {
+                return asnResponse.getNetwork();
+            } else if (response instanceof AbstractCountryResponse countryResponse && countryResponse.getTraits() != null) {
+                return countryResponse.getTraits().getNetwork();
+            }
+            return null;
+        }
+
+        private static InetAddress networkAddress(byte[] address, int prefixLength) {
+            byte[] networkAddress = new byte[address.length];
+            for (int i = 0; i < address.length; i++) {
+                int bits = Math.min(Byte.SIZE, Math.max(0, prefixLength - i * Byte.SIZE));
+                networkAddress[i] = (byte) (address[i] & (0xFF << (Byte.SIZE - bits)));
+            }
+            try {
+                return InetAddress.getByAddress(networkAddress);
+            } catch (UnknownHostException e) {
+                throw new AssertionError("address of length [" + address.length + "] must be valid", e);
+            }
+        }
+
+        /**
+         * The number of lookups that were answered from the cache.
+         */
+        long getHits() {
+            return hits.count();
+        }
+
+        /**
+         * The number of lookups that went to the database.
+         */
+        long getMisses() {
+            return misses.count();
+        }
+
+        /**
+         * The number of responses that were evicted from the cache.
+         */
+        long getEvictions() {
+            return cache.stats().getEvictions();
+        }
+
+        /**
+         * The response type and address length that the prefix lengths of the cached networks are tracked for.
+         */
+        private record PrefixScope(Class<?> responseType, int addressLength) {
         }
 
         /**
@@ -261,10 +418,12 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
         private static class CacheKey<T extends AbstractResponse> {
 
             private final InetAddress ip;
+            private final int prefixLength;
             private final Class<T> responseType;
 
-            private CacheKey(InetAddress ip, Class<T> responseType) {
+            private CacheKey(InetAddress ip, int prefixLength, Class<T> responseType) {
                 this.ip = ip;
+                this.prefixLength = prefixLength;
                 this.responseType = responseType;
             }
 
@@ -274,13 +433,15 @@ public class IngestGeoIpModulePlugin extends Plugin implements IngestPlugin, Clo
                 if (this == o) return true;
                 if (o == null || getClass() != o.getClass()) return false;
                 CacheKey<?> cacheKey = (CacheKey<?>) o;
-                return Objects.equals(ip, cacheKey.ip) && Objects.equals(responseType, cacheKey.responseType);
+                return prefixLength == cacheKey.prefixLength
+                    && Objects.equals(ip, cacheKey.ip)
+                    && Objects.equals(responseType, cacheKey.responseType);
             }
 
             // generated
             @Override
             public int hashCode() {
-                return Objects.hash(ip, responseType);
+                return Objects.hash(ip, prefixLength, responseType);
             }
         }
     }
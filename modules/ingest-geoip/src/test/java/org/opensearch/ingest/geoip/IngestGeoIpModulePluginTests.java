@@ -32,7 +32,9 @@
 
 package org.opensearch.ingest.geoip;
 
+import com.maxmind.db.Network;
 import com.maxmind.geoip2.model.AbstractResponse;
+import com.maxmind.geoip2.model.AsnResponse;
 
 import org.opensearch.common.network.InetAddresses;
 import org.opensearch.common.settings.Setting;
@@ -40,18 +42,27 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.env.TestEnvironment;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.geoip.IngestGeoIpModulePlugin.GeoIpCache;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.StreamsUtils;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class IngestGeoIpModulePluginTests extends OpenSearchTestCase {
 
@@ -75,6 +86,75 @@ public class IngestGeoIpModulePluginTests extends OpenSearchTestCase {
         assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
     }
 
+    public void testCachesResultsPerNetwork() {
+        GeoIpCache cache = new GeoIpCache(10);
+        AsnResponse response = new AsnResponse(1L, "org", "10.1.2.3", new Network(InetAddresses.forString("10.1.2.0"), 24));
+
+        assertSame(response, cache.putIfAbsent(InetAddresses.forString("10.1.2.3"), AsnResponse.class, ip -> response));
+        // any other address of the network is answered from the cache
+        assertSame(response, cache.get(InetAddresses.forString("10.1.2.200"), AsnResponse.class));
+        assertSame(response, cache.putIfAbsent(InetAddresses.forString("10.1.2.0"), AsnResponse.class, ip -> {
+            throw new AssertionError("network is cached");
+        }));
+        // but addresses outside of the network, of another address length or for another response type are not
+        assertNull(cache.get(InetAddresses.forString("10.1.3.1"), AsnResponse.class));
+        assertNull(cache.get(InetAddresses.forString("2001:db8::1"), AsnResponse.class));
+        assertNull(cache.get(InetAddresses.forString("10.1.2.3"), AbstractResponse.class));
+
+        // a more specific network inside of a cached network is found first
+        AsnResponse moreSpecific = new AsnResponse(2L, "other", "10.1.2.129", new Network(InetAddresses.forString("10.1.2.128"), 25));
+        cache.putIfAbsent(InetAddresses.forString("10.1.2.129"), AsnResponse.class, ip -> moreSpecific);
+        assertSame(moreSpecific, cache.get(InetAddresses.forString("10.1.2.250"), AsnResponse.class));
+        assertSame(response, cache.get(InetAddresses.forString("10.1.2.100"), AsnResponse.class));
+    }
+
+    public void testCacheStats() {
+        GeoIpCache cache = new GeoIpCache(1);
+        AbstractResponse response = mock(AbstractResponse.class);
+
+        cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response);
+        cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response);
+        cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response);
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+
+        cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response);
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    public void testCacheStatsAreReportedAsMetrics() throws IOException {
+        Settings.Builder settingsBuilder = Settings.builder();
+        createDb(settingsBuilder);
+        MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
+        Map<String, Supplier<Double>> gauges = new HashMap<>();
+        when(metricsRegistry.createGauge(anyString(), anyString(), anyString(), any(), any(Tags.class))).thenAnswer(invocation -> {
+            gauges.put(invocation.getArgument(0), invocation.getArgument(3));
+            return (Closeable) () -> {};
+        });
+        try (IngestGeoIpModulePlugin plugin = new IngestGeoIpModulePlugin()) {
+            plugin.getProcessors(createParameters(settingsBuilder.build()));
+            plugin.createComponents(null, null, null, null, null, null, null, null, null, null, null, null, metricsRegistry);
+            assertEquals(
+                Set.of(
+                    IngestGeoIpModulePlugin.CACHE_HITS_METRIC,
+                    IngestGeoIpModulePlugin.CACHE_MISSES_METRIC,
+                    IngestGeoIpModulePlugin.CACHE_EVICTIONS_METRIC
+                ),
+                gauges.keySet()
+            );
+
+            AbstractResponse response = mock(AbstractResponse.class);
+            plugin.cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response);
+            plugin.cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response);
+            assertEquals(1.0, gauges.get(IngestGeoIpModulePlugin.CACHE_HITS_METRIC).get(), 0.0);
+            assertEquals(1.0, gauges.get(IngestGeoIpModulePlugin.CACHE_MISSES_METRIC).get(), 0.0);
+            assertEquals(0.0, gauges.get(IngestGeoIpModulePlugin.CACHE_EVICTIONS_METRIC).get(), 0.0);
+        }
+    }
+
     public void testThrowsFunctionsException() {
         GeoIpCache cache = new GeoIpCache(1);
         IllegalArgumentException ex = expectThrows(
@@ -152,6 +152,49 @@ public class FileBasedIngestionSingleNodeTests extends OpenSearchSingleNodeTestC
         client().admin().indices().delete(new DeleteIndexRequest(index)).actionGet();
     }
 
+    public void testFileIngestionWithProcessorBatches() throws Exception {
+        String mappings = """
+            {
+              "properties": {
+                "name": { "type": "text" },
+                "age": { "type": "integer" }
+              }
+            }
+            """;
+
+        createIndexWithMappingSource(
+            index,
+            Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                .put("ingestion_source.type", "FILE")
+                .put("ingestion_source.pointer.init.reset", "earliest")
+                .put("ingestion_source.processor_batch_size", 10)
+                .put("ingestion_source.param.stream", stream)
+                .put("ingestion_source.param.base_directory", ingestionDir.toString())
+                .put("index.replication.type", "SEGMENT")
+                .build(),
+            mappings
+        );
+        ensureGreen(index);
+
+        assertBusy(() -> {
+            RangeQueryBuilder query = new RangeQueryBuilder("age").gte(0);
+            SearchResponse response = client().prepareSearch(index).setQuery(query).get();
+            assertEquals(2, response.getHits().getTotalHits().value());
+        });
+
+        PollingIngestStats stats = getPollingIngestStats(index);
+        assertNotNull(stats);
+        assertEquals(2, stats.getMessageProcessorStats().totalProcessedCount());
+        long batchCount = stats.getProcessorBatchStats().totalBatchCount();
+        assertTrue(batchCount >= 1 && batchCount <= 2);
+        assertEquals(batchCount, stats.getProcessorBatchStats().batchSizeHistogram().stream().mapToLong(Long::longValue).sum());
+
+        // cleanup the test index
+        client().admin().indices().delete(new DeleteIndexRequest(index)).actionGet();
+    }
+
     public void testFileIngestionOnMissingFiles() throws Exception {
         String mappings = """
             {
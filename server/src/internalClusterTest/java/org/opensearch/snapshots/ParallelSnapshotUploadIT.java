@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.remotestore.multipart.mocks.MockFsBlobStore;
+import org.opensearch.remotestore.multipart.mocks.MockFsRepositoryPlugin;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.RepositoryStats;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 0)
+public class ParallelSnapshotUploadIT extends AbstractSnapshotIntegTestCase {
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        final Collection<Class<? extends Plugin>> plugins = new ArrayList<>(super.nodePlugins());
+        plugins.add(MockFsRepositoryPlugin.class);
+        return plugins;
+    }
+
+    public void testSnapshotAndRestoreWithParallelUploads() throws Exception {
+        internalCluster().startClusterManagerOnlyNode();
+        final String dataNode = internalCluster().startDataOnlyNode();
+        final String repoName = "test-repo";
+        createRepository(
+            repoName,
+            MockFsRepositoryPlugin.TYPE,
+            Settings.builder()
+                .put("location", randomRepoPath())
+                .put(BlobStoreRepository.PARALLEL_SNAPSHOT_UPLOAD_ENABLED_SETTING.getKey(), true)
+                .put(BlobStoreRepository.PARALLEL_SNAPSHOT_UPLOAD_THRESHOLD_SETTING.getKey(), 1, ByteSizeUnit.KB)
+                .put(
+                    BlobStoreRepository.PARALLEL_SNAPSHOT_UPLOAD_MAX_IN_FLIGHT_BYTES_SETTING.getKey(),
+                    randomIntBetween(1, 64),
+                    ByteSizeUnit.KB
+                )
+        );
+
+        final String indexName = "test-index";
+        createIndex(indexName, indexSettingsNoReplicas(randomIntBetween(1, 3)).build());
+        ensureGreen(indexName);
+        final int docCount = randomIntBetween(100, 500);
+        indexRandomDocs(indexName, docCount);
+
+        createFullSnapshot(repoName, "test-snap");
+        final BlobStoreRepository repository = (BlobStoreRepository) internalCluster().getInstance(RepositoriesService.class, dataNode)
+            .repository(repoName);
+        final RepositoryStats stats = repository.stats();
+        assertThat(stats.snapshotBytesUploaded, greaterThan(0L));
+        assertThat(stats.snapshotUploadTimeInNanos, greaterThan(0L));
+        // files of shard snapshots are stored in blobs prefixed with "__", only the parallel path uploads them asynchronously
+        final Set<String> asyncUploadedBlobs = ((MockFsBlobStore) repository.blobStore()).asyncUploadedBlobs();
+        assertThat(asyncUploadedBlobs.stream().filter(blobName -> blobName.startsWith("__")).count(), greaterThan(0L));
+
+        assertAcked(client().admin().indices().prepareDelete(indexName));
+        final RestoreSnapshotResponse restoreSnapshotResponse = client().admin()
+            .cluster()
+            .prepareRestoreSnapshot(repoName, "test-snap")
+            .setWaitForCompletion(true)
+            .get();
+        assertThat(restoreSnapshotResponse.getRestoreInfo().failedShards(), equalTo(0));
+        ensureGreen(indexName);
+        assertDocCount(indexName, docCount);
+    }
+}
@@ -125,7 +125,7 @@ public class CommonStatsFlags implements Writeable, Cloneable {
         out.writeBoolean(includeAllShardIndexingPressureTrackers);
         out.writeBoolean(includeOnlyTopIndexingPressureMetrics);
         if (out.getVersion().onOrAfter(Version.V_2_14_0)) {
-            out.writeEnumSet(includeCaches);
+            out.writeEnumSet(CacheType.knownTo(includeCaches, out.getVersion()));
             out.writeStringArrayNullable(levels);
         }
         if (out.getVersion().onOrAfter(Version.V_2_17_0)) {
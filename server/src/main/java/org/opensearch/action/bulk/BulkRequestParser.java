@@ -32,6 +32,8 @@
 
 package org.opensearch.action.bulk;
 
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -53,6 +55,9 @@ import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -83,10 +88,10 @@ public final class BulkRequestParser {
 
     private static final Set<String> VALID_ACTIONS = Set.of("create", "delete", "index", "update");
 
-    private static int findNextMarker(byte marker, int from, BytesReference data) {
-        final int res = data.indexOf(marker, from);
+    private static int findNextMarker(MarkerScanner scanner, int from, BytesReference data) throws IOException {
+        final int res = scanner.next();
         if (res != -1) {
-            assert res >= 0;
+            assert res >= from;
             return res;
         }
         if (from != data.length()) {
@@ -136,12 +141,13 @@ public final class BulkRequestParser {
         int line = 0;
         int from = 0;
         byte marker = xContent.streamSeparator();
+        final MarkerScanner scanner = new MarkerScanner(data, marker);
         // Bulk requests can contain a lot of repeated strings for the index, pipeline and routing parameters. This map is used to
         // deduplicate duplicate strings parsed for these parameters. While it does not prevent instantiating the duplicate strings, it
         // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
         final Map<String, String> stringDeduplicator = new HashMap<>();
         while (true) {
-            int nextMarker = findNextMarker(marker, from, data);
+            int nextMarker = findNextMarker(scanner, from, data);
             if (nextMarker == -1) {
                 break;
             }
@@ -296,7 +302,7 @@ public final class BulkRequestParser {
                             .setIfPrimaryTerm(ifPrimaryTerm)
                     );
                 } else {
-                    nextMarker = findNextMarker(marker, from, data);
+                    nextMarker = findNextMarker(scanner, from, data);
                     if (nextMarker == -1) {
                         break;
                     }
@@ -419,4 +425,72 @@ public final class BulkRequestParser {
             nextMarker - from
         );
     }
+
+    /**
+     * Finds the positions of the line separator in the bulk body in a single forward pass over the pages backing it, so that
+     * bodies made of many pooled network buffers aren't searched one virtual {@link BytesReference#get(int)} call at a time.
+     * Each page is tested eight bytes at a time, using the classic "word has a zero byte" bit trick on the page XOR-ed with the
+     * separator repeated in every byte.
+     *
+     * @opensearch.internal
+     */
+    static final class MarkerScanner {
+
+        private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+        private static final long LOW_BITS = 0x0101010101010101L;
+        private static final long HIGH_BITS = 0x8080808080808080L;
+
+        private final BytesRefIterator pages;
+        private final byte marker;
+        private final long pattern;
+        private BytesRef page;
+        // position of the first byte of the current page within the whole reference
+        private int pageStart;
+        // next index to scan within the current page's array
+        private int next;
+
+        MarkerScanner(BytesReference data, byte marker) throws IOException {
+            this.pages = data.iterator();
+            this.marker = marker;
+            this.pattern = LOW_BITS * (marker & 0xFF);
+            this.page = pages.next();
+            this.next = page == null ? 0 : page.offset;
+        }
+
+        /**
+         * Returns the position of the next separator within the whole reference, or {@code -1} if there are no more separators.
+         */
+        int next() throws IOException {
+            while (page != null) {
+                final int end = page.offset + page.length;
+                final int found = indexOf(page.bytes, next, end);
+                if (found != -1) {
+                    next = found + 1;
+                    return pageStart + found - page.offset;
+                }
+                pageStart += page.length;
+                page = pages.next();
+                next = page == null ? 0 : page.offset;
+            }
+            return -1;
+        }
+
+        private int indexOf(byte[] bytes, int from, int to) {
+            int i = from;
+            for (; i + Long.BYTES <= to; i += Long.BYTES) {
+                final long word = (long) LONG_VIEW.get(bytes, i) ^ pattern;
+                final long matches = (word - LOW_BITS) & ~word & HIGH_BITS;
+                if (matches != 0) {
+                    // little endian, the lowest flagged byte is the first match and flags above it may be false positives
+                    return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+                }
+            }
+            for (; i < to; i++) {
+                if (bytes[i] == marker) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
 }
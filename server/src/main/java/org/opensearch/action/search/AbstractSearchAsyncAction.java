@@ -46,6 +46,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.core.action.ActionListener;
@@ -63,6 +64,7 @@ import org.opensearch.telemetry.tracing.Span;
 import org.opensearch.telemetry.tracing.SpanCreationContext;
 import org.opensearch.telemetry.tracing.SpanScope;
 import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
@@ -122,6 +124,9 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final boolean throttleConcurrentRequests;
     private final SearchRequestContext searchRequestContext;
     private final Tracer tracer;
+    @Nullable
+    private final SearchHedgingPolicy hedgingPolicy;
+    private final Set<HedgedShardRequest> scheduledHedges = ConcurrentHashMap.newKeySet();
 
     private SearchPhase currentPhase;
     private boolean currentPhaseHasLifecycle;
@@ -148,6 +153,52 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
         Tracer tracer
+    ) {
+        this(
+            name,
+            logger,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            executor,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            resultConsumer,
+            maxConcurrentRequestsPerNode,
+            clusters,
+            searchRequestContext,
+            tracer,
+            null
+        );
+    }
+
+    AbstractSearchAsyncAction(
+        String name,
+        Logger logger,
+        SearchTransportService searchTransportService,
+        BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        Map<String, AliasFilter> aliasFilter,
+        Map<String, Float> concreteIndexBoosts,
+        Map<String, Set<String>> indexRoutings,
+        Executor executor,
+        SearchRequest request,
+        ActionListener<SearchResponse> listener,
+        GroupShardsIterator<SearchShardIterator> shardsIts,
+        TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        SearchPhaseResults<Result> resultConsumer,
+        int maxConcurrentRequestsPerNode,
+        SearchResponse.Clusters clusters,
+        SearchRequestContext searchRequestContext,
+        Tracer tracer,
+        @Nullable SearchHedgingPolicy hedgingPolicy
     ) {
         super(name);
         final List<SearchShardIterator> toSkipIterators = new ArrayList<>();
@@ -185,6 +236,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         this.clusters = clusters;
         this.searchRequestContext = searchRequestContext;
         this.tracer = tracer;
+        this.hedgingPolicy = hedgingPolicy;
     }
 
     @Override
@@ -304,7 +356,20 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                         pendingExecutions,
                         thread
                     );
-                    executePhaseOnShard(shardIt, shard, listener);
+                    final TimeValue hedgeDelay = shouldHedge(shardIt) ? hedgingPolicy.hedgeDelay(shard) : null;
+                    if (hedgeDelay == null) {
+                        executePhaseOnShard(shardIt, shard, listener);
+                    } else {
+                        final HedgedShardRequest hedgedRequest = new HedgedShardRequest(
+                            shardIndex,
+                            shardIt,
+                            listener,
+                            pendingExecutions,
+                            thread
+                        );
+                        executePhaseOnShard(shardIt, shard, hedgedRequest.attemptListener(shard));
+                        hedgedRequest.scheduleHedge(hedgeDelay);
+                    }
                 } catch (final Exception e) {
                     try {
                         /*
@@ -382,6 +447,200 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         };
     }
 
+    /**
+     * Whether a slow request to the current copy of the given shard may be hedged with a request to the next copy. Scroll and point in
+     * time searches are not hedged since their reader contexts are tied to the copy that was searched first.
+     */
+    private boolean shouldHedge(SearchShardIterator shardIt) {
+        return hedgingPolicy != null
+            && hedgingPolicy.isEnabled()
+            && request.scroll() == null
+            && request.pointInTimeBuilder() == null
+            && shardIt.remaining() > 0;
+    }
+
+    /**
+     * Tracks a shard request that may be hedged with a second request to another copy of the same shard. The first attempt to succeed
+     * provides the result of the shard, the reader context of the other one is released. A failure is only reported once neither
+     * attempt is outstanding anymore, at which point the usual failover to the remaining copies takes place. The hedged request is
+     * subject to the same per node limit of concurrent shard requests as any other shard request.
+     */
+    private final class HedgedShardRequest {
+        private final int shardIndex;
+        private final SearchShardIterator shardIt;
+        private final SearchActionListener<Result> listener;
+        private final PendingExecutions pendingExecutions;
+        private final Thread thread;
+
+        private int outstandingAttempts = 1;
+        private boolean done;
+        private Scheduler.ScheduledCancellable scheduledHedge;
+
+        HedgedShardRequest(
+            int shardIndex,
+            SearchShardIterator shardIt,
+            SearchActionListener<Result> listener,
+            PendingExecutions pendingExecutions,
+            Thread thread
+        ) {
+            this.shardIndex = shardIndex;
+            this.shardIt = shardIt;
+            this.listener = listener;
+            this.pendingExecutions = pendingExecutions;
+            this.thread = thread;
+        }
+
+        synchronized void scheduleHedge(TimeValue delay) {
+            if (done == false) {
+                scheduledHedges.add(this);
+                scheduledHedge = hedgingPolicy.schedule(this::sendHedge, delay);
+            }
+        }
+
+        /**
+         * Gives up on the shard without reporting its outcome, the responses of attempts that are still outstanding are released.
+         */
+        synchronized void cancel() {
+            markDone();
+        }
+
+        private synchronized boolean isDone() {
+            return done;
+        }
+
+        private void sendHedge() {
+            final SearchShardTarget hedgeShard;
+            synchronized (this) {
+                if (done || shardIt.remaining() == 0 || hedgingPolicy.tryAcquireHedge() == false) {
+                    return;
+                }
+                hedgeShard = shardIt.nextOrNull();
+                outstandingAttempts++;
+                // the hedged copy is taken from the iterator, account for it the same way as for a copy that failed
+                totalOps.incrementAndGet();
+            }
+            final PendingExecutions hedgePendingExecutions = throttleConcurrentRequests
+                ? pendingExecutionsPerNode.computeIfAbsent(hedgeShard.getNodeId(), n -> new PendingExecutions(maxConcurrentRequestsPerNode))
+                : null;
+            final Runnable r = () -> {
+                final Thread hedgeThread = Thread.currentThread();
+                if (isDone()) {
+                    // the shard responded while the hedged request was waiting for the node, it is not needed anymore
+                    executeNext(hedgePendingExecutions, hedgeThread);
+                    return;
+                }
+                final SearchActionListener<Result> hedgeListener = attemptListener(hedgeShard, true, hedgePendingExecutions, hedgeThread);
+                searchRequestContext.getSearchRequestOperationsListener().onShardRequestHedged(AbstractSearchAsyncAction.this);
+                try {
+                    executePhaseOnShard(shardIt, hedgeShard, hedgeListener);
+                } catch (Exception e) {
+                    hedgeListener.onFailure(e);
+                }
+            };
+            // the hedge is sent from the scheduler thread, fork so that the shard request isn't executed on it
+            fork(() -> {
+                if (throttleConcurrentRequests) {
+                    hedgePendingExecutions.tryRun(r);
+                } else {
+                    r.run();
+                }
+            });
+        }
+
+        SearchActionListener<Result> attemptListener(SearchShardTarget shard) {
+            return attemptListener(shard, false, pendingExecutions, thread);
+        }
+
+        private SearchActionListener<Result> attemptListener(
+            SearchShardTarget shard,
+            boolean hedge,
+            PendingExecutions attemptPendingExecutions,
+            Thread attemptThread
+        ) {
+            return new SearchActionListener<Result>(shard, shardIndex) {
+                @Override
+                protected void innerOnResponse(Result result) {
+                    if (onAttemptDone(true, hedge) == false) {
+                        releaseLosingAttempt(result);
+                        executeNext(attemptPendingExecutions, attemptThread);
+                    } else if (hedge == false) {
+                        listener.onResponse(result);
+                    } else {
+                        try {
+                            onShardResult(result, shardIt);
+                        } catch (Exception e) {
+                            logger.trace("Failed to consume the shard {} result: {}", shard.getShardId(), e);
+                        } finally {
+                            executeNext(attemptPendingExecutions, attemptThread);
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    if (onAttemptDone(false, hedge) == false) {
+                        logger.trace(() -> new ParameterizedMessage("{}: ignoring failure of a hedged shard request", shard), e);
+                        executeNext(attemptPendingExecutions, attemptThread);
+                    } else if (hedge == false) {
+                        listener.onFailure(e);
+                    } else {
+                        try {
+                            if (totalOps.get() == expectedTotalOps) {
+                                onPhaseFailure(AbstractSearchAsyncAction.this, "The phase has failed", e);
+                            } else {
+                                onShardFailure(shardIndex, shard, shardIt, e);
+                            }
+                        } finally {
+                            executeNext(attemptPendingExecutions, attemptThread);
+                        }
+                    }
+                }
+            };
+        }
+
+        /**
+         * Returns whether the outcome of an attempt should be reported for the shard.
+         */
+        private synchronized boolean onAttemptDone(boolean success, boolean hedge) {
+            if (done) {
+                return false;
+            }
+            outstandingAttempts--;
+            if (success == false && outstandingAttempts > 0) {
+                return false;
+            }
+            markDone();
+            if (success && hedge) {
+                searchRequestContext.getSearchRequestOperationsListener().onHedgedShardRequestWon(AbstractSearchAsyncAction.this);
+            }
+            return true;
+        }
+
+        private void markDone() {
+            assert Thread.holdsLock(this);
+            done = true;
+            if (scheduledHedge != null) {
+                scheduledHedge.cancel();
+            }
+            scheduledHedges.remove(this);
+        }
+
+        private void releaseLosingAttempt(Result result) {
+            if (result.getContextId() != null) {
+                try {
+                    final SearchShardTarget target = result.getSearchShardTarget();
+                    sendReleaseSearchContext(
+                        result.getContextId(),
+                        getConnection(target.getClusterAlias(), target.getNodeId()),
+                        target.getOriginalIndices()
+                    );
+                } catch (Exception e) {
+                    logger.trace("failed to release context of a hedged shard request", e);
+                }
+            }
+        }
+    }
+
     /**
      * Sends the request to the actual shard.
      * @param shardIt the shards iterator
@@ -821,6 +1080,8 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
      * @param exception the exception explaining or causing the phase failure
      */
     private void raisePhaseFailure(SearchPhaseExecutionException exception) {
+        // hedged requests that weren't sent yet are not needed anymore
+        scheduledHedges.forEach(HedgedShardRequest::cancel);
         // we don't release persistent readers (point in time).
         if (request.pointInTimeBuilder() == null) {
             results.getSuccessfulResults().forEach((entry) -> {
@@ -68,6 +68,12 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is handled if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * When streaming reduce is enabled, aggregations are not held back until {@code batched_reduce_size} results
+ * are buffered: every result that arrives while no partial reduce is running is merged right away into the
+ * running partial result and its serialized buffer is released. Results that arrive while a reduce is in
+ * flight are buffered and merged together by the next reduce, so the buffer only grows when shards answer
+ * faster than the coordinator can merge them, and {@code batched_reduce_size} remains the upper bound.
  *
  * @opensearch.internal
  */
@@ -85,6 +91,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final boolean streamingReduce;
 
     final PendingReduces pendingReduces;
     private final Consumer<Exception> cancelTaskOnFailure;
@@ -127,6 +134,37 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int expectedResultSize,
         Consumer<Exception> cancelTaskOnFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            cancelTaskOnFailure,
+            isTaskCancelled,
+            false
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed. If {@code streamingReduce} is set, aggregations are merged into the
+     * partial result as soon as they arrive rather than once {@code batched_reduce_size} results are buffered.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> cancelTaskOnFailure,
+        BooleanSupplier isTaskCancelled,
+        boolean streamingReduce
     ) {
         super(expectedResultSize);
         this.executor = executor;
@@ -145,6 +183,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int batchReduceSize = getBatchReduceSize(request.getBatchedReduceSize(), expectedResultSize);
         this.pendingReduces = new PendingReduces(batchReduceSize, request.resolveTrackTotalHitsUpTo());
         this.isTaskCancelled = isTaskCancelled;
+        this.streamingReduce = streamingReduce;
     }
 
     int getBatchReduceSize(int requestBatchedReduceSize, int minBatchReduceSize) {
@@ -290,6 +329,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         return pendingReduces.numReducePhases;
     }
 
+    /**
+     * Returns the highest number of bytes this consumer accounted for in the circuit breaker so far.
+     */
+    public long getMaxAggsBufferSize() {
+        return pendingReduces.maxAggsCurrentBufferSize;
+    }
+
     /**
      * Manages incremental query result reduction by buffering incoming results and
      * triggering partial reduce operations when the threshold is reached.
@@ -431,17 +477,15 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 }
             }
             // Process non-empty results
+            if (streamingReduce && hasAggs && hasPendingReduceTask() == false) {
+                // the reducer is idle, merge this result into the partial result right away instead of buffering it
+                buffer.add(result);
+                submitReduceTask(callback);
+                return false; // callback will be run by reduce task
+            }
             int size = buffer.size() + (hasPartialReduce ? 1 : 0);
             if (size >= batchReduceSize) {
-                hasPartialReduce = true;
-                // the callback must wait for the new reduce task to complete to maintain proper result processing order
-                QuerySearchResult[] clone = buffer.toArray(QuerySearchResult[]::new);
-                ReduceTask task = new ReduceTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), callback);
-                aggsCurrentBufferSize = 0;
-                buffer.clear();
-                emptyResults.clear();
-                queue.add(task);
-                tryExecuteNext();
+                submitReduceTask(callback);
                 buffer.add(result);
                 return false; // callback will be run by reduce task
             }
@@ -449,6 +493,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return true;
         }
 
+        private synchronized void submitReduceTask(Runnable callback) {
+            hasPartialReduce = true;
+            // the callback must wait for the new reduce task to complete to maintain proper result processing order
+            QuerySearchResult[] clone = buffer.toArray(QuerySearchResult[]::new);
+            ReduceTask task = new ReduceTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), callback);
+            aggsCurrentBufferSize = 0;
+            buffer.clear();
+            emptyResults.clear();
+            queue.add(task);
+            tryExecuteNext();
+        }
+
         private void tryExecuteNext() {
             final ReduceTask task;
             synchronized (this) {
@@ -93,7 +93,12 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
             final long responseDuration = System.nanoTime() - startNanos;
             // EWMA/queue size may be -1 if the query node doesn't support capturing it
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
-                collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
+                if (response.getSearchShardTarget() != null) {
+                    final String indexName = response.getSearchShardTarget().getShardId().getIndexName();
+                    collector.addNodeStatistics(nodeId, indexName, queueSize, responseDuration, serviceTimeEWMA);
+                } else {
+                    collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
+                }
             }
         }
         listener.onResponse(response);
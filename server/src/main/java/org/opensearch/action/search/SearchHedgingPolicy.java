@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Optional;
+
+/**
+ * Decides when the query phase of a search sends a second, hedged, request to another copy of a shard whose first copy is slow to
+ * respond. A copy is considered slow once it has taken {@link #SEARCH_HEDGING_LATENCY_MULTIPLIER} times longer than the average
+ * response time of its node for the index of the shard, as tracked by the {@link ResponseCollectorService}. Copies of nodes that
+ * have no response time yet are never hedged.
+ * <p>
+ * Hedged requests add load to the cluster, so at most {@link #SEARCH_HEDGING_MAX_RATIO} of the shard requests are hedged, with
+ * a small allowance for bursts. The number of hedged requests and how many of them won are reported by {@link SearchRequestStats}.
+ *
+ * @opensearch.internal
+ */
+public final class SearchHedgingPolicy {
+
+    public static final Setting<Boolean> SEARCH_HEDGING_ENABLED_SETTING = Setting.boolSetting(
+        "search.hedging.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Double> SEARCH_HEDGING_LATENCY_MULTIPLIER = Setting.doubleSetting(
+        "search.hedging.latency_multiplier",
+        3.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> SEARCH_HEDGING_MIN_DELAY = Setting.timeSetting(
+        "search.hedging.min_delay",
+        TimeValue.timeValueMillis(50),
+        TimeValue.ZERO,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Double> SEARCH_HEDGING_MAX_RATIO = Setting.doubleSetting(
+        "search.hedging.max_ratio",
+        0.05,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The number of hedged requests that may be sent in a row after a period with few hedges.
+     */
+    static final double MAX_HEDGE_BURST = 10;
+
+    @Nullable
+    private final ResponseCollectorService responseCollectorService;
+    private final ThreadPool threadPool;
+
+    private volatile boolean enabled;
+    private volatile double latencyMultiplier;
+    private volatile TimeValue minDelay;
+    private volatile double maxRatio;
+
+    private double hedgeTokens;
+
+    public SearchHedgingPolicy(
+        ClusterSettings clusterSettings,
+        @Nullable ResponseCollectorService responseCollectorService,
+        ThreadPool threadPool
+    ) {
+        this.responseCollectorService = responseCollectorService;
+        this.threadPool = threadPool;
+        this.enabled = clusterSettings.get(SEARCH_HEDGING_ENABLED_SETTING);
+        this.latencyMultiplier = clusterSettings.get(SEARCH_HEDGING_LATENCY_MULTIPLIER);
+        this.minDelay = clusterSettings.get(SEARCH_HEDGING_MIN_DELAY);
+        this.maxRatio = clusterSettings.get(SEARCH_HEDGING_MAX_RATIO);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_HEDGING_ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_HEDGING_LATENCY_MULTIPLIER, this::setLatencyMultiplier);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_HEDGING_MIN_DELAY, this::setMinDelay);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_HEDGING_MAX_RATIO, this::setMaxRatio);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setLatencyMultiplier(double latencyMultiplier) {
+        this.latencyMultiplier = latencyMultiplier;
+    }
+
+    private void setMinDelay(TimeValue minDelay) {
+        this.minDelay = minDelay;
+    }
+
+    private void setMaxRatio(double maxRatio) {
+        this.maxRatio = maxRatio;
+    }
+
+    boolean isEnabled() {
+        return enabled && responseCollectorService != null;
+    }
+
+    /**
+     * Returns how long to wait for the given copy before sending a hedged request to another copy, or {@code null} if the copy
+     * should not be hedged. Every call accounts for one shard request in the hedge budget.
+     */
+    @Nullable
+    TimeValue hedgeDelay(SearchShardTarget shard) {
+        if (isEnabled() == false) {
+            return null;
+        }
+        synchronized (this) {
+            hedgeTokens = Math.min(MAX_HEDGE_BURST, hedgeTokens + maxRatio);
+        }
+        final Optional<ResponseCollectorService.ComputedNodeStats> stats = responseCollectorService.getNodeStatistics(
+            shard.getNodeId(),
+            shard.getShardId().getIndexName()
+        );
+        if (stats.isPresent() == false) {
+            return null;
+        }
+        final long delayNanos = (long) (stats.get().responseTime * latencyMultiplier);
+        return TimeValue.timeValueNanos(Math.max(delayNanos, minDelay.nanos()));
+    }
+
+    /**
+     * Takes a hedged request out of the hedge budget, returning {@code false} if the budget is exhausted.
+     */
+    synchronized boolean tryAcquireHedge() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens -= 1;
+        return true;
+    }
+
+    Scheduler.ScheduledCancellable schedule(Runnable command, TimeValue delay) {
+        return threadPool.schedule(command, delay, ThreadPool.Names.SAME);
+    }
+}
@@ -794,6 +794,23 @@ public final class SearchPhaseController {
         int numShards,
         Consumer<Exception> onPartialMergeFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        return newSearchPhaseResults(executor, circuitBreaker, listener, request, numShards, onPartialMergeFailure, isTaskCancelled, false);
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally,
+     * merging aggregations as soon as they arrive if {@code streamingReduce} is set.
+     */
+    QueryPhaseResultConsumer newSearchPhaseResults(
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchProgressListener listener,
+        SearchRequest request,
+        int numShards,
+        Consumer<Exception> onPartialMergeFailure,
+        BooleanSupplier isTaskCancelled,
+        boolean streamingReduce
     ) {
         return new QueryPhaseResultConsumer(
             request,
@@ -804,7 +821,8 @@ public final class SearchPhaseController {
             namedWriteableRegistry,
             numShards,
             onPartialMergeFailure,
-            isTaskCancelled
+            isTaskCancelled,
+            streamingReduce
         );
     }
 
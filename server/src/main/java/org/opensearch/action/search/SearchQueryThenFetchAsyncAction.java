@@ -36,7 +36,9 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.TopFieldDocs;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.Nullable;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.indices.CoordinatorRequestCache;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.AliasFilter;
@@ -46,6 +48,7 @@ import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.transport.Transport;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -85,6 +88,50 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
         final Tracer tracer
+    ) {
+        this(
+            logger,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            searchPhaseController,
+            executor,
+            resultConsumer,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            clusters,
+            searchRequestContext,
+            tracer,
+            null
+        );
+    }
+
+    SearchQueryThenFetchAsyncAction(
+        final Logger logger,
+        final SearchTransportService searchTransportService,
+        final BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        final Map<String, AliasFilter> aliasFilter,
+        final Map<String, Float> concreteIndexBoosts,
+        final Map<String, Set<String>> indexRoutings,
+        final SearchPhaseController searchPhaseController,
+        final Executor executor,
+        final QueryPhaseResultConsumer resultConsumer,
+        final SearchRequest request,
+        final ActionListener<SearchResponse> listener,
+        final GroupShardsIterator<SearchShardIterator> shardsIts,
+        final TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        SearchResponse.Clusters clusters,
+        SearchRequestContext searchRequestContext,
+        final Tracer tracer,
+        @Nullable final SearchHedgingPolicy hedgingPolicy
     ) {
         super(
             SearchPhaseName.QUERY.getName(),
@@ -105,7 +152,8 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
             request.getMaxConcurrentShardRequests(),
             clusters,
             searchRequestContext,
-            tracer
+            tracer,
+            hedgingPolicy
         );
         this.topDocsSize = SearchPhaseController.getTopDocsSize(request);
         this.trackTotalHitsUpTo = request.resolveTrackTotalHitsUpTo();
@@ -166,9 +214,38 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
 
     @Override
     protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+        final SearchResponse cached = cachedResponse(results);
+        if (cached != null) {
+            return new SearchPhase(SearchPhaseName.FETCH.getName()) {
+                @Override
+                public void run() {
+                    // cached requests don't return hits, so the shards didn't keep search contexts open
+                    sendSearchResponse(cached.getInternalResponse(), results.getAtomicArray());
+                }
+            };
+        }
         return new FetchSearchPhase(results, searchPhaseController, null, this);
     }
 
+    /**
+     * Returns the response the coordinator request cache holds for the readers the shards reported, if any.
+     */
+    private SearchResponse cachedResponse(SearchPhaseResults<SearchPhaseResult> results) {
+        final CoordinatorRequestCache.CachedRequest cachedRequest = getSearchRequestContext().getCoordinatorCachedRequest();
+        if (cachedRequest == null || getSearchRequestContext().isStreamingRequest()) {
+            return null;
+        }
+        try {
+            return cachedRequest.get(
+                results.getAtomicArray().asList().stream().map(SearchPhaseResult::queryResult).toList(),
+                results.getNumShards()
+            );
+        } catch (IOException e) {
+            getLogger().debug("failed to read cached search response", e);
+            return null;
+        }
+    }
+
     private ShardSearchRequest rewriteShardSearchRequest(ShardSearchRequest request) {
         if (bottomSortCollector == null) {
             return request;
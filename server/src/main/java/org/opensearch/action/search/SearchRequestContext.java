@@ -14,6 +14,7 @@ import org.apache.lucene.search.TotalHits;
 import org.opensearch.common.annotation.InternalApi;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.tasks.resourcetracker.TaskResourceInfo;
+import org.opensearch.indices.CoordinatorRequestCache;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
@@ -44,6 +45,7 @@ public class SearchRequestContext {
     private final LinkedBlockingQueue<TaskResourceInfo> phaseResourceUsage;
     private final Supplier<TaskResourceInfo> taskResourceUsageSupplier;
     private boolean streamingRequest;
+    private CoordinatorRequestCache.CachedRequest coordinatorCachedRequest;
 
     SearchRequestContext(
         final SearchRequestOperationsListener searchRequestOperationsListener,
@@ -165,6 +167,17 @@ public class SearchRequestContext {
     public boolean isStreamingRequest() {
         return streamingRequest;
     }
+
+    void setCoordinatorCachedRequest(CoordinatorRequestCache.CachedRequest coordinatorCachedRequest) {
+        this.coordinatorCachedRequest = coordinatorCachedRequest;
+    }
+
+    /**
+     * @return the handle to the coordinator request cache entry of this request, or null if its response isn't cached
+     */
+    CoordinatorRequestCache.CachedRequest getCoordinatorCachedRequest() {
+        return coordinatorCachedRequest;
+    }
 }
 
 enum ShardStatsFieldNames {
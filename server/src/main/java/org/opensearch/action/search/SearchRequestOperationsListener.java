@@ -53,6 +53,10 @@ public abstract class SearchRequestOperationsListener {
 
     protected void onRequestFailure(SearchPhaseContext context, SearchRequestContext searchRequestContext) {}
 
+    protected void onShardRequestHedged(SearchPhaseContext context) {}
+
+    protected void onHedgedShardRequestWon(SearchPhaseContext context) {}
+
     protected boolean isEnabled(SearchRequest searchRequest) {
         return isEnabled();
     }
@@ -146,6 +150,28 @@ public abstract class SearchRequestOperationsListener {
             }
         }
 
+        @Override
+        protected void onShardRequestHedged(SearchPhaseContext context) {
+            for (SearchRequestOperationsListener listener : listeners) {
+                try {
+                    listener.onShardRequestHedged(context);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onShardRequestHedged listener [{}] failed", listener), e);
+                }
+            }
+        }
+
+        @Override
+        protected void onHedgedShardRequestWon(SearchPhaseContext context) {
+            for (SearchRequestOperationsListener listener : listeners) {
+                try {
+                    listener.onHedgedShardRequestWon(context);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onHedgedShardRequestWon listener [{}] failed", listener), e);
+                }
+            }
+        }
+
         public List<SearchRequestOperationsListener> getListeners() {
             return listeners;
         }
@@ -28,6 +28,8 @@ import java.util.concurrent.TimeUnit;
 public final class SearchRequestStats extends SearchRequestOperationsListener {
     Map<SearchPhaseName, StatsHolder> phaseStatsMap = new EnumMap<>(SearchPhaseName.class);
     StatsHolder tookStatsHolder;
+    private final CounterMetric hedgedShardRequests = new CounterMetric();
+    private final CounterMetric hedgedShardRequestsWon = new CounterMetric();
 
     public static final String SEARCH_REQUEST_STATS_ENABLED_KEY = "search.request_stats_enabled";
     public static final Setting<Boolean> SEARCH_REQUEST_STATS_ENABLED = Setting.boolSetting(
@@ -71,6 +73,20 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         return tookStatsHolder.timing.sum();
     }
 
+    /**
+     * The number of hedged shard requests sent to another copy of a slow shard.
+     */
+    public long getHedgedShardRequestsTotal() {
+        return hedgedShardRequests.count();
+    }
+
+    /**
+     * The number of hedged shard requests that responded before the copy they hedged.
+     */
+    public long getHedgedShardRequestsWon() {
+        return hedgedShardRequestsWon.count();
+    }
+
     @Override
     protected void onPhaseStart(SearchPhaseContext context) {
         context.getCurrentPhase().getSearchPhaseNameOptional().ifPresent(name -> phaseStatsMap.get(name).current.inc());
@@ -108,6 +124,16 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         tookStatsHolder.current.dec();
     }
 
+    @Override
+    protected void onShardRequestHedged(SearchPhaseContext context) {
+        hedgedShardRequests.inc();
+    }
+
+    @Override
+    protected void onHedgedShardRequestWon(SearchPhaseContext context) {
+        hedgedShardRequestsWon.inc();
+    }
+
     /**
      * Holder of statistics values
      *
@@ -64,6 +64,7 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.CountDown;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
@@ -75,6 +76,7 @@ import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.tasks.TaskId;
 import org.opensearch.index.fielddomain.ClusterStateFieldDomainProvider;
 import org.opensearch.index.query.Rewriteable;
+import org.opensearch.indices.CoordinatorRequestCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
@@ -112,6 +114,7 @@ import org.opensearch.transport.client.OriginSettingClient;
 import org.opensearch.transport.client.node.NodeClient;
 import org.opensearch.wlm.WorkloadGroupTask;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -119,6 +122,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
@@ -173,6 +177,20 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether the coordinating node merges shard aggregations into the partial result as soon as they arrive
+     * instead of buffering up to {@code batched_reduce_size} of them.
+     */
+    public static final Setting<Boolean> SEARCH_STREAMING_PARTIAL_REDUCE_ENABLED = Setting.boolSetting(
+        "search.aggs.streaming_partial_reduce.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    // the transient the security plugin stores the authenticated user, its backend roles, roles and tenant in
+    private static final String SECURITY_USER_INFO_TRANSIENT = "_opendistro_security_user_info";
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -194,6 +212,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     private final SearchIndexPruningService searchIndexPruningService;
 
+    private final SearchHedgingPolicy searchHedgingPolicy;
+
     @Inject
     public TransportSearchAction(
         NodeClient client,
@@ -240,6 +260,11 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             clusterService.getClusterSettings(),
             new ClusterStateFieldDomainProvider()
         );
+        this.searchHedgingPolicy = new SearchHedgingPolicy(
+            clusterService.getClusterSettings(),
+            searchService.getResponseCollectorService(),
+            threadPool
+        );
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(
@@ -1172,6 +1197,34 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             concreteLocalIndices,
             localShardIterators.size() + remoteShardIterators.size()
         );
+        ActionListener<SearchResponse> searchListener = listener;
+        final CoordinatorRequestCache coordinatorRequestCache = indicesService.getCoordinatorRequestCache();
+        if (searchContext == null
+            && remoteShardIterators.isEmpty()
+            && coordinatorRequestCache != null
+            && coordinatorRequestCache.canCache(searchRequest)) {
+            final ThreadContext threadContext = threadPool.getThreadContext();
+            final CoordinatorRequestCache.CachedRequest cachedRequest;
+            try {
+                cachedRequest = coordinatorRequestCache.cachedRequest(
+                    searchRequest,
+                    concreteLocalIndices,
+                    indexRoutings,
+                    clusterState,
+                    threadContext.getHeaders(),
+                    Objects.toString(threadContext.getTransient(SECURITY_USER_INFO_TRANSIENT), null)
+                );
+            } catch (IOException e) {
+                listener.onFailure(e);
+                return;
+            }
+            // the query phase looks the response up once the shards reported their readers
+            searchRequestContext.setCoordinatorCachedRequest(cachedRequest);
+            searchListener = ActionListener.map(listener, response -> {
+                cachedRequest.put(response);
+                return response;
+            });
+        }
         searchAsyncActionProvider.asyncSearchAction(
             task,
             searchRequest,
@@ -1183,7 +1236,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             Collections.unmodifiableMap(aliasFilter),
             concreteIndexBoosts,
             indexRoutings,
-            listener,
+            searchListener,
             preFilterSearchShards,
             threadPool,
             clusters,
@@ -1400,7 +1453,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 searchRequest,
                 shardIterators.size(),
                 exc -> cancelTask(task, exc),
-                task::isCancelled
+                task::isCancelled,
+                clusterService.getClusterSettings().get(SEARCH_STREAMING_PARTIAL_REDUCE_ENABLED)
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
@@ -1445,7 +1499,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         task,
                         clusters,
                         searchRequestContext,
-                        tracer
+                        tracer,
+                        searchHedgingPolicy
                     );
                     break;
                 default:
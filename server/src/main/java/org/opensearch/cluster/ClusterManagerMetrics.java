@@ -25,12 +25,14 @@ public final class ClusterManagerMetrics {
 
     public static final String FOLLOWER_NODE_ID_TAG = "follower_node_id";
     public static final String REASON_TAG = "reason";
+    public static final String DECIDER_TAG = "decider";
     private static final String LATENCY_METRIC_UNIT_MS = "ms";
     private static final String COUNTER_METRICS_UNIT = "1";
 
     public final Histogram clusterStateAppliersHistogram;
     public final Histogram clusterStateListenersHistogram;
     public final Histogram rerouteHistogram;
+    public final Histogram allocationDeciderHistogram;
     public final Histogram clusterStateComputeHistogram;
     public final Histogram clusterStatePublishHistogram;
 
@@ -56,6 +58,11 @@ public final class ClusterManagerMetrics {
             "Histogram for recording latency of shard re-routing",
             LATENCY_METRIC_UNIT_MS
         );
+        allocationDeciderHistogram = metricsRegistry.createHistogram(
+            "allocation.decider.latency",
+            "Histogram for recording time spent in each allocation decider per shard re-routing",
+            LATENCY_METRIC_UNIT_MS
+        );
         clusterStateComputeHistogram = metricsRegistry.createHistogram(
             "cluster.state.new.compute.latency",
             "Histogram for recording time taken to compute new cluster state",
@@ -160,6 +160,9 @@ public class ClusterModule extends AbstractModule {
         this.clusterPlugins = clusterPlugins;
         this.deciderList = createAllocationDeciders(settings, clusterService.getClusterSettings(), clusterPlugins);
         this.allocationDeciders = new AllocationDeciders(deciderList);
+        this.allocationDeciders.setTimingEnabled(AllocationDeciders.DECIDER_TIMING_ENABLED_SETTING.get(settings));
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(AllocationDeciders.DECIDER_TIMING_ENABLED_SETTING, allocationDeciders::setTimingEnabled);
         this.shardsAllocator = createShardsAllocator(settings, clusterService.getClusterSettings(), clusterPlugins);
         this.clusterService = clusterService;
         this.indexNameExpressionResolver = new IndexNameExpressionResolver(threadContext, getCustomResolvers(clusterPlugins));
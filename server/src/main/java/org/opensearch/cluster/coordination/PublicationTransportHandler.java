@@ -41,6 +41,7 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.cluster.coordination.PersistedStateRegistry.PersistedStateType;
+import org.opensearch.cluster.metadata.MappingDeduplicator;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.TriConsumer;
@@ -63,6 +64,7 @@ import org.opensearch.transport.TransportService;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -98,6 +100,10 @@ public class PublicationTransportHandler {
     private final AtomicLong fullClusterStateReceivedCount = new AtomicLong();
     private final AtomicLong incompatibleClusterStateDiffReceivedCount = new AtomicLong();
     private final AtomicLong compatibleClusterStateDiffReceivedCount = new AtomicLong();
+    private final AtomicLong fullClusterStateSerializedCount = new AtomicLong();
+    private final AtomicLong clusterStateDiffSerializedCount = new AtomicLong();
+    private final AtomicLong serializedClusterStateSizeInBytes = new AtomicLong();
+    private final AtomicLong clusterStateSerializationTimeInNanos = new AtomicLong();
     private final AtomicBoolean allNodesRemotePublicationEnabled = new AtomicBoolean();
     // -> no need to put a timeout on the options here, because we want the response to eventually be received
     // and not log an error if it arrives after the timeout
@@ -174,7 +180,13 @@ public class PublicationTransportHandler {
         return new PublishClusterStateStats(
             fullClusterStateReceivedCount.get(),
             incompatibleClusterStateDiffReceivedCount.get(),
-            compatibleClusterStateDiffReceivedCount.get()
+            compatibleClusterStateDiffReceivedCount.get(),
+            fullClusterStateSerializedCount.get(),
+            clusterStateDiffSerializedCount.get(),
+            serializedClusterStateSizeInBytes.get(),
+            TimeUnit.NANOSECONDS.toMillis(clusterStateSerializationTimeInNanos.get()),
+            MappingDeduplicator.deduplicatedCount(),
+            MappingDeduplicator.materializedCount()
         );
     }
 
@@ -390,11 +402,13 @@ public class PublicationTransportHandler {
         this.lastSeenClusterState.set(clusterState);
     }
 
-    private static BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
+    private BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
+        final long startTimeNanos = System.nanoTime();
         final BytesReference serializedState = CompressedStreamUtils.createCompressedStream(nodeVersion, stream -> {
             stream.writeBoolean(true);
             clusterState.writeTo(stream);
         });
+        onSerialized(fullClusterStateSerializedCount, serializedState, startTimeNanos);
         logger.trace(
             "serialized full cluster state version [{}] for node version [{}] with size [{}]",
             clusterState.version(),
@@ -404,11 +418,20 @@ public class PublicationTransportHandler {
         return serializedState;
     }
 
-    private static BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion) throws IOException {
-        return CompressedStreamUtils.createCompressedStream(nodeVersion, stream -> {
+    private BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion) throws IOException {
+        final long startTimeNanos = System.nanoTime();
+        final BytesReference serializedDiff = CompressedStreamUtils.createCompressedStream(nodeVersion, stream -> {
             stream.writeBoolean(false);
             diff.writeTo(stream);
         });
+        onSerialized(clusterStateDiffSerializedCount, serializedDiff, startTimeNanos);
+        return serializedDiff;
+    }
+
+    private void onSerialized(AtomicLong serializedCount, BytesReference serialized, long startTimeNanos) {
+        clusterStateSerializationTimeInNanos.addAndGet(Math.max(0L, System.nanoTime() - startTimeNanos));
+        serializedClusterStateSizeInBytes.addAndGet(serialized.length());
+        serializedCount.incrementAndGet();
     }
 
     /**
@@ -32,13 +32,17 @@
 
 package org.opensearch.cluster.coordination;
 
+import org.opensearch.Version;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class encapsulating stats about the PublishClusterStateAction
@@ -50,6 +54,12 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
     private final long fullClusterStateReceivedCount;
     private final long incompatibleClusterStateDiffReceivedCount;
     private final long compatibleClusterStateDiffReceivedCount;
+    private final long fullClusterStateSerializedCount;
+    private final long clusterStateDiffSerializedCount;
+    private final long serializedClusterStateSizeInBytes;
+    private final long clusterStateSerializationTimeInMillis;
+    private final long deduplicatedMappingsCount;
+    private final long materializedMappingsCount;
 
     /**
      * @param fullClusterStateReceivedCount the number of times this node has received a full copy of the cluster state from the cluster-manager.
@@ -60,16 +70,72 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
         long fullClusterStateReceivedCount,
         long incompatibleClusterStateDiffReceivedCount,
         long compatibleClusterStateDiffReceivedCount
+    ) {
+        this(
+            fullClusterStateReceivedCount,
+            incompatibleClusterStateDiffReceivedCount,
+            compatibleClusterStateDiffReceivedCount,
+            0,
+            0,
+            0,
+            0,
+            0,
+            0
+        );
+    }
+
+    /**
+     * @param fullClusterStateReceivedCount see {@link #getFullClusterStateReceivedCount()}
+     * @param incompatibleClusterStateDiffReceivedCount see {@link #getIncompatibleClusterStateDiffReceivedCount()}
+     * @param compatibleClusterStateDiffReceivedCount see {@link #getCompatibleClusterStateDiffReceivedCount()}
+     * @param fullClusterStateSerializedCount the number of times this node has serialized a full cluster state for publishing it.
+     * @param clusterStateDiffSerializedCount the number of times this node has serialized a cluster-state diff for publishing it.
+     * @param serializedClusterStateSizeInBytes the total compressed size of the cluster states and diffs serialized for publishing.
+     * @param clusterStateSerializationTimeInMillis the total time spent serializing and compressing cluster states and diffs.
+     * @param deduplicatedMappingsCount the number of index mappings read by this node that were shared with an equal mapping on heap.
+     * @param materializedMappingsCount the number of distinct index mappings read by this node that were kept on heap.
+     */
+    public PublishClusterStateStats(
+        long fullClusterStateReceivedCount,
+        long incompatibleClusterStateDiffReceivedCount,
+        long compatibleClusterStateDiffReceivedCount,
+        long fullClusterStateSerializedCount,
+        long clusterStateDiffSerializedCount,
+        long serializedClusterStateSizeInBytes,
+        long clusterStateSerializationTimeInMillis,
+        long deduplicatedMappingsCount,
+        long materializedMappingsCount
     ) {
         this.fullClusterStateReceivedCount = fullClusterStateReceivedCount;
         this.incompatibleClusterStateDiffReceivedCount = incompatibleClusterStateDiffReceivedCount;
         this.compatibleClusterStateDiffReceivedCount = compatibleClusterStateDiffReceivedCount;
+        this.fullClusterStateSerializedCount = fullClusterStateSerializedCount;
+        this.clusterStateDiffSerializedCount = clusterStateDiffSerializedCount;
+        this.serializedClusterStateSizeInBytes = serializedClusterStateSizeInBytes;
+        this.clusterStateSerializationTimeInMillis = clusterStateSerializationTimeInMillis;
+        this.deduplicatedMappingsCount = deduplicatedMappingsCount;
+        this.materializedMappingsCount = materializedMappingsCount;
     }
 
     public PublishClusterStateStats(StreamInput in) throws IOException {
         fullClusterStateReceivedCount = in.readVLong();
         incompatibleClusterStateDiffReceivedCount = in.readVLong();
         compatibleClusterStateDiffReceivedCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            fullClusterStateSerializedCount = in.readVLong();
+            clusterStateDiffSerializedCount = in.readVLong();
+            serializedClusterStateSizeInBytes = in.readVLong();
+            clusterStateSerializationTimeInMillis = in.readVLong();
+            deduplicatedMappingsCount = in.readVLong();
+            materializedMappingsCount = in.readVLong();
+        } else {
+            fullClusterStateSerializedCount = 0;
+            clusterStateDiffSerializedCount = 0;
+            serializedClusterStateSizeInBytes = 0;
+            clusterStateSerializationTimeInMillis = 0;
+            deduplicatedMappingsCount = 0;
+            materializedMappingsCount = 0;
+        }
     }
 
     @Override
@@ -77,6 +143,14 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
         out.writeVLong(fullClusterStateReceivedCount);
         out.writeVLong(incompatibleClusterStateDiffReceivedCount);
         out.writeVLong(compatibleClusterStateDiffReceivedCount);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(fullClusterStateSerializedCount);
+            out.writeVLong(clusterStateDiffSerializedCount);
+            out.writeVLong(serializedClusterStateSizeInBytes);
+            out.writeVLong(clusterStateSerializationTimeInMillis);
+            out.writeVLong(deduplicatedMappingsCount);
+            out.writeVLong(materializedMappingsCount);
+        }
     }
 
     @Override
@@ -88,6 +162,24 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
             builder.field("compatible_diffs", compatibleClusterStateDiffReceivedCount);
         }
         builder.endObject();
+        builder.startObject("serialized_cluster_states");
+        {
+            builder.field("full_states", fullClusterStateSerializedCount);
+            builder.field("diffs", clusterStateDiffSerializedCount);
+            builder.humanReadableField("total_size_in_bytes", "total_size", new ByteSizeValue(serializedClusterStateSizeInBytes));
+            builder.humanReadableField(
+                "total_time_in_millis",
+                "total_time",
+                new TimeValue(clusterStateSerializationTimeInMillis, TimeUnit.MILLISECONDS)
+            );
+        }
+        builder.endObject();
+        builder.startObject("cluster_state_mappings");
+        {
+            builder.field("deduplicated", deduplicatedMappingsCount);
+            builder.field("materialized", materializedMappingsCount);
+        }
+        builder.endObject();
         return builder;
     }
 
@@ -103,6 +195,30 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
         return compatibleClusterStateDiffReceivedCount;
     }
 
+    public long getFullClusterStateSerializedCount() {
+        return fullClusterStateSerializedCount;
+    }
+
+    public long getClusterStateDiffSerializedCount() {
+        return clusterStateDiffSerializedCount;
+    }
+
+    public long getSerializedClusterStateSizeInBytes() {
+        return serializedClusterStateSizeInBytes;
+    }
+
+    public long getClusterStateSerializationTimeInMillis() {
+        return clusterStateSerializationTimeInMillis;
+    }
+
+    public long getDeduplicatedMappingsCount() {
+        return deduplicatedMappingsCount;
+    }
+
+    public long getMaterializedMappingsCount() {
+        return materializedMappingsCount;
+    }
+
     @Override
     public String toString() {
         return "PublishClusterStateStats(full="
@@ -111,6 +227,18 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
             + incompatibleClusterStateDiffReceivedCount
             + ", compatible="
             + compatibleClusterStateDiffReceivedCount
+            + ", serializedFull="
+            + fullClusterStateSerializedCount
+            + ", serializedDiffs="
+            + clusterStateDiffSerializedCount
+            + ", serializedBytes="
+            + serializedClusterStateSizeInBytes
+            + ", serializationTimeMillis="
+            + clusterStateSerializationTimeInMillis
+            + ", deduplicatedMappings="
+            + deduplicatedMappingsCount
+            + ", materializedMappings="
+            + materializedMappingsCount
             + ")";
     }
 }
@@ -936,6 +936,21 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         Setting.Property.Final
     );
 
+    /**
+     * Defines the maximum number of messages a processor thread drains from its blocking queue at once in pull-based ingestion.
+     * Processor threads do not wait for a batch to fill up, they only take the messages that are already queued. The default of
+     * 1 processes one message at a time.
+     */
+    public static final String SETTING_INGESTION_SOURCE_PROCESSOR_BATCH_SIZE = "index.ingestion_source.processor_batch_size";
+    public static final Setting<Integer> INGESTION_SOURCE_PROCESSOR_BATCH_SIZE_SETTING = Setting.intSetting(
+        SETTING_INGESTION_SOURCE_PROCESSOR_BATCH_SIZE,
+        1,
+        1,
+        10000,
+        Property.IndexScope,
+        Setting.Property.Final
+    );
+
     /**
      * Defines the pointer-based lag update interval for pull-based ingestion.
      * This controls how frequently the lag between the latest available message and the last consumed message is calculated.
@@ -1362,6 +1377,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             final int pollTimeout = INGESTION_SOURCE_POLL_TIMEOUT.get(settings);
             final int numProcessorThreads = INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING.get(settings);
             final int blockingQueueSize = INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING.get(settings);
+            final int processorBatchSize = INGESTION_SOURCE_PROCESSOR_BATCH_SIZE_SETTING.get(settings);
             final boolean allActiveIngestionEnabled = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.get(settings);
             final TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.get(settings);
             final IngestionMessageMapper.MapperType mapperType = INGESTION_SOURCE_MAPPER_TYPE_SETTING.get(settings);
@@ -1385,6 +1401,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
                 .setPollTimeout(pollTimeout)
                 .setNumProcessorThreads(numProcessorThreads)
                 .setBlockingQueueSize(blockingQueueSize)
+                .setProcessorBatchSize(processorBatchSize)
                 .setAllActiveIngestion(allActiveIngestionEnabled)
                 .setPointerBasedLagUpdateInterval(pointerBasedLagUpdateInterval)
                 .setMapperType(mapperType)
@@ -1847,6 +1864,15 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     }
 
     public static IndexMetadata readFrom(StreamInput in) throws IOException {
+        return readFrom(in, null);
+    }
+
+    /**
+     * Reads an {@link IndexMetadata}, passing every mapping read through the given function so that callers reading many indices
+     * at once can share a single instance of identical mappings between them.
+     */
+    static IndexMetadata readFrom(StreamInput in, @Nullable Function<MappingMetadata, MappingMetadata> mappingDeduplicator)
+        throws IOException {
         Builder builder = new Builder(in.readString());
         builder.version(in.readLong());
         builder.mappingVersion(in.readVLong());
@@ -1862,6 +1888,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         int mappingsSize = in.readVInt();
         for (int i = 0; i < mappingsSize; i++) {
             MappingMetadata mappingMd = new MappingMetadata(in);
+            if (mappingDeduplicator != null) {
+                mappingMd = mappingDeduplicator.apply(mappingMd);
+            }
             builder.putMapping(mappingMd);
         }
         int aliasesSize = in.readVInt();
@@ -29,6 +29,7 @@ import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_NUM
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_PARTITION_STRATEGY_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_POLL_TIMEOUT;
+import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_PROCESSOR_BATCH_SIZE_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_WARMUP_LAG_THRESHOLD_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_WARMUP_TIMEOUT_SETTING;
 
@@ -45,6 +46,7 @@ public class IngestionSource {
     private final int pollTimeout;
     private int numProcessorThreads;
     private int blockingQueueSize;
+    private final int processorBatchSize;
     private final boolean allActiveIngestion;
     private final TimeValue pointerBasedLagUpdateInterval;
     private final IngestionMessageMapper.MapperType mapperType;
@@ -63,6 +65,7 @@ public class IngestionSource {
         int pollTimeout,
         int numProcessorThreads,
         int blockingQueueSize,
+        int processorBatchSize,
         boolean allActiveIngestion,
         TimeValue pointerBasedLagUpdateInterval,
         IngestionMessageMapper.MapperType mapperType,
@@ -80,6 +83,7 @@ public class IngestionSource {
         this.pollTimeout = pollTimeout;
         this.numProcessorThreads = numProcessorThreads;
         this.blockingQueueSize = blockingQueueSize;
+        this.processorBatchSize = processorBatchSize;
         this.allActiveIngestion = allActiveIngestion;
         this.pointerBasedLagUpdateInterval = pointerBasedLagUpdateInterval;
         this.mapperType = mapperType;
@@ -122,6 +126,10 @@ public class IngestionSource {
         return blockingQueueSize;
     }
 
+    public int getProcessorBatchSize() {
+        return processorBatchSize;
+    }
+
     public boolean isAllActiveIngestionEnabled() {
         return allActiveIngestion;
     }
@@ -167,6 +175,7 @@ public class IngestionSource {
             && Objects.equals(pollTimeout, ingestionSource.pollTimeout)
             && Objects.equals(numProcessorThreads, ingestionSource.numProcessorThreads)
             && Objects.equals(blockingQueueSize, ingestionSource.blockingQueueSize)
+            && Objects.equals(processorBatchSize, ingestionSource.processorBatchSize)
             && Objects.equals(allActiveIngestion, ingestionSource.allActiveIngestion)
             && Objects.equals(pointerBasedLagUpdateInterval, ingestionSource.pointerBasedLagUpdateInterval)
             && Objects.equals(mapperType, ingestionSource.mapperType)
@@ -188,6 +197,7 @@ public class IngestionSource {
             pollTimeout,
             numProcessorThreads,
             blockingQueueSize,
+            processorBatchSize,
             allActiveIngestion,
             pointerBasedLagUpdateInterval,
             mapperType,
@@ -221,6 +231,8 @@ public class IngestionSource {
             + numProcessorThreads
             + ", blockingQueueSize="
             + blockingQueueSize
+            + ", processorBatchSize="
+            + processorBatchSize
             + ", allActiveIngestion="
             + allActiveIngestion
             + ", pointerBasedLagUpdateInterval="
@@ -345,6 +357,7 @@ public class IngestionSource {
         private int pollTimeout = INGESTION_SOURCE_POLL_TIMEOUT.getDefault(Settings.EMPTY);
         private int numProcessorThreads = INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING.getDefault(Settings.EMPTY);
         private int blockingQueueSize = INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING.getDefault(Settings.EMPTY);
+        private int processorBatchSize = INGESTION_SOURCE_PROCESSOR_BATCH_SIZE_SETTING.getDefault(Settings.EMPTY);
         private boolean allActiveIngestion = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.getDefault(Settings.EMPTY);
         private TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.getDefault(
             Settings.EMPTY
@@ -369,6 +382,7 @@ public class IngestionSource {
             this.errorStrategy = ingestionSource.errorStrategy;
             this.params = ingestionSource.params;
             this.blockingQueueSize = ingestionSource.blockingQueueSize;
+            this.processorBatchSize = ingestionSource.processorBatchSize;
             this.allActiveIngestion = ingestionSource.allActiveIngestion;
             this.pointerBasedLagUpdateInterval = ingestionSource.pointerBasedLagUpdateInterval;
             this.mapperType = ingestionSource.mapperType;
@@ -422,6 +436,11 @@ public class IngestionSource {
             return this;
         }
 
+        public Builder setProcessorBatchSize(int processorBatchSize) {
+            this.processorBatchSize = processorBatchSize;
+            return this;
+        }
+
         public Builder setAllActiveIngestion(boolean allActiveIngestion) {
             this.allActiveIngestion = allActiveIngestion;
             return this;
@@ -484,6 +503,7 @@ public class IngestionSource {
                 pollTimeout,
                 numProcessorThreads,
                 blockingQueueSize,
+                processorBatchSize,
                 allActiveIngestion,
                 pointerBasedLagUpdateInterval,
                 mapperType,
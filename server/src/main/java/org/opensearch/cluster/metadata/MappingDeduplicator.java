@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Makes indices that have the very same mapping share a single {@link MappingMetadata} instance on heap. Indices created from the
+ * same template usually have identical mappings, so this is used wherever index metadata is materialized from the wire: when reading
+ * full cluster states, when applying cluster state diffs and when reading cluster state from the remote store.
+ * <p>
+ * Not thread safe, an instance is meant to be used while building a single {@link Metadata}. The counts of mappings that were
+ * deduplicated and materialized are kept for the whole node and reported in the cluster state publication stats.
+ *
+ * @opensearch.internal
+ */
+public final class MappingDeduplicator {
+
+    private static final CounterMetric DEDUPLICATED = new CounterMetric();
+    private static final CounterMetric MATERIALIZED = new CounterMetric();
+
+    private final Map<MappingMetadata, MappingMetadata> mappings = new HashMap<>();
+
+    public MappingDeduplicator() {}
+
+    /**
+     * Creates a deduplicator that shares the mappings of the given metadata, e.g. the metadata a diff is applied to. These
+     * mappings are already on heap, so they are not counted as materialized.
+     */
+    public MappingDeduplicator(Metadata metadata) {
+        for (IndexMetadata indexMetadata : metadata) {
+            final MappingMetadata mapping = indexMetadata.mapping();
+            if (mapping != null) {
+                mappings.putIfAbsent(mapping, mapping);
+            }
+        }
+    }
+
+    /**
+     * Returns the instance of the given mapping this deduplicator already knows of, or the given mapping if there is none.
+     */
+    public MappingMetadata deduplicate(MappingMetadata mapping) {
+        final MappingMetadata existing = mappings.putIfAbsent(mapping, mapping);
+        if (existing == null) {
+            MATERIALIZED.inc();
+            return mapping;
+        }
+        if (existing != mapping) {
+            DEDUPLICATED.inc();
+        }
+        return existing;
+    }
+
+    /**
+     * Returns the given index metadata, rebuilt with the known instance of its mapping if it holds a distinct but equal copy.
+     */
+    public IndexMetadata deduplicate(IndexMetadata indexMetadata) {
+        final MappingMetadata mapping = indexMetadata.mapping();
+        if (mapping == null) {
+            return indexMetadata;
+        }
+        final MappingMetadata canonical = deduplicate(mapping);
+        if (canonical == mapping) {
+            return indexMetadata;
+        }
+        return IndexMetadata.builder(indexMetadata).putMapping(canonical).build();
+    }
+
+    /**
+     * The number of distinct mappings this deduplicator has seen, including the ones of the metadata it was created with.
+     */
+    public int size() {
+        return mappings.size();
+    }
+
+    /**
+     * The number of mappings this node read that were replaced by an equal instance already on heap.
+     */
+    public static long deduplicatedCount() {
+        return DEDUPLICATED.count();
+    }
+
+    /**
+     * The number of mappings this node read that had no equal instance on heap and were kept.
+     */
+    public static long materializedCount() {
+        return MATERIALIZED.count();
+    }
+}
@@ -1130,11 +1130,25 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
             builder.transientSettings(transientSettings);
             builder.persistentSettings(persistentSettings);
             builder.hashesOfConsistentSettings(hashesOfConsistentSettings.apply(part.hashesOfConsistentSettings));
-            builder.indices(indices.apply(part.indices));
+            builder.indices(deduplicateMappings(part, indices.apply(part.indices)));
             builder.templates(templates.apply(part.templates.getTemplates()));
             builder.customs(customs.apply(part.customs));
             return builder.build();
         }
+
+        /**
+         * Makes the indices the diff added or changed share the mappings of the unchanged indices, and of each other.
+         */
+        private static Map<String, IndexMetadata> deduplicateMappings(Metadata part, Map<String, IndexMetadata> indices) {
+            final MappingDeduplicator deduplicator = new MappingDeduplicator(part);
+            final Map<String, IndexMetadata> deduplicated = new HashMap<>(indices.size());
+            for (Map.Entry<String, IndexMetadata> entry : indices.entrySet()) {
+                final IndexMetadata indexMetadata = entry.getValue();
+                final boolean unchanged = part.indices.get(entry.getKey()) == indexMetadata;
+                deduplicated.put(entry.getKey(), unchanged ? indexMetadata : deduplicator.deduplicate(indexMetadata));
+            }
+            return deduplicated;
+        }
     }
 
     public static Metadata readFrom(StreamInput in) throws IOException {
@@ -1147,8 +1161,13 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
         builder.persistentSettings(readSettingsFromStream(in));
         builder.hashesOfConsistentSettings(DiffableStringMap.readFrom(in));
         int size = in.readVInt();
+        // indices created from the same template usually have the very same mapping, so only keep one copy of it on heap
+        final MappingDeduplicator deduplicator = new MappingDeduplicator();
         for (int i = 0; i < size; i++) {
-            builder.put(IndexMetadata.readFrom(in), false);
+            builder.put(IndexMetadata.readFrom(in, deduplicator::deduplicate), false);
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("read [{}] indices sharing [{}] distinct mappings", size, deduplicator.size());
         }
         size = in.readVInt();
         for (int i = 0; i < size; i++) {
@@ -333,18 +333,41 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
         @Nullable ResponseCollectorService collector,
         @Nullable Map<String, Long> nodeSearchCounts
     ) {
+        return activeInitializingShardsRankedIt(collector, nodeSearchCounts, false);
+    }
+
+    /**
+     * Same as {@link #activeInitializingShardsRankedIt(ResponseCollectorService, Map)}, but when {@code rankPerIndex} is set the
+     * nodes are ranked using their response time for the index of this shard rather than across all indices, if known.
+     */
+    public ShardIterator activeInitializingShardsRankedIt(
+        @Nullable ResponseCollectorService collector,
+        @Nullable Map<String, Long> nodeSearchCounts,
+        boolean rankPerIndex
+    ) {
+        final String indexName = rankPerIndex ? shardId.getIndexName() : null;
         final int seed = shuffler.nextSeed();
         if (allInitializingShards.isEmpty()) {
             return new PlainShardIterator(
                 shardId,
-                rankShardsAndUpdateStats(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts)
+                rankShardsAndUpdateStats(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts, indexName)
             );
         }
 
         ArrayList<ShardRouting> ordered = new ArrayList<>(activeShards.size() + allInitializingShards.size());
-        List<ShardRouting> rankedActiveShards = rankShardsAndUpdateStats(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts);
+        List<ShardRouting> rankedActiveShards = rankShardsAndUpdateStats(
+            shuffler.shuffle(activeShards, seed),
+            collector,
+            nodeSearchCounts,
+            indexName
+        );
         ordered.addAll(rankedActiveShards);
-        List<ShardRouting> rankedInitializingShards = rankShardsAndUpdateStats(allInitializingShards, collector, nodeSearchCounts);
+        List<ShardRouting> rankedInitializingShards = rankShardsAndUpdateStats(
+            allInitializingShards,
+            collector,
+            nodeSearchCounts,
+            indexName
+        );
         ordered.addAll(rankedInitializingShards);
         return new PlainShardIterator(shardId, ordered);
     }
@@ -467,12 +490,13 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
 
     private static Map<String, Optional<ResponseCollectorService.ComputedNodeStats>> getNodeStats(
         final Set<String> nodeIds,
-        final ResponseCollectorService collector
+        final ResponseCollectorService collector,
+        @Nullable final String indexName
     ) {
 
         final Map<String, Optional<ResponseCollectorService.ComputedNodeStats>> nodeStats = new HashMap<>(nodeIds.size());
         for (String nodeId : nodeIds) {
-            nodeStats.put(nodeId, collector.getNodeStatistics(nodeId));
+            nodeStats.put(nodeId, indexName == null ? collector.getNodeStatistics(nodeId) : collector.getNodeStatistics(nodeId, indexName));
         }
         return nodeStats;
     }
@@ -507,7 +531,8 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
         final ResponseCollectorService collector,
         final Map<String, Optional<ResponseCollectorService.ComputedNodeStats>> nodeStats,
         final String minNodeId,
-        final ResponseCollectorService.ComputedNodeStats minStats
+        final ResponseCollectorService.ComputedNodeStats minStats,
+        @Nullable final String indexName
     ) {
         if (minNodeId != null) {
             for (Map.Entry<String, Optional<ResponseCollectorService.ComputedNodeStats>> entry : nodeStats.entrySet()) {
@@ -518,7 +543,11 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
                     final int updatedQueue = (minStats.queueSize + stats.queueSize) / 2;
                     final long updatedResponse = (long) (minStats.responseTime + stats.responseTime) / 2;
                     final long updatedService = (long) (minStats.serviceTime + stats.serviceTime) / 2;
-                    collector.addNodeStatistics(nodeId, updatedQueue, updatedResponse, updatedService);
+                    if (indexName == null) {
+                        collector.addNodeStatistics(nodeId, updatedQueue, updatedResponse, updatedService);
+                    } else {
+                        collector.addNodeStatistics(nodeId, indexName, updatedQueue, updatedResponse, updatedService);
+                    }
                 }
             }
         }
@@ -531,6 +560,19 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
         List<ShardRouting> shards,
         final ResponseCollectorService collector,
         final Map<String, Long> nodeSearchCounts
+    ) {
+        return rankShardsAndUpdateStats(shards, collector, nodeSearchCounts, null);
+    }
+
+    /**
+     * Same as {@link #rankShardsAndUpdateStats(List, ResponseCollectorService, Map)}, but ranks the nodes using their response
+     * time for the given index, if known, when {@code indexName} is not {@code null}.
+     */
+    public static List<ShardRouting> rankShardsAndUpdateStats(
+        List<ShardRouting> shards,
+        final ResponseCollectorService collector,
+        final Map<String, Long> nodeSearchCounts,
+        @Nullable final String indexName
     ) {
         if (collector == null || nodeSearchCounts == null || shards.size() <= 1) {
             return shards;
@@ -538,7 +580,7 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
 
         // Retrieve which nodes we can potentially send the query to
         final Set<String> nodeIds = getAllNodeIds(shards);
-        final Map<String, Optional<ResponseCollectorService.ComputedNodeStats>> nodeStats = getNodeStats(nodeIds, collector);
+        final Map<String, Optional<ResponseCollectorService.ComputedNodeStats>> nodeStats = getNodeStats(nodeIds, collector, indexName);
 
         // Retrieve all the nodes the shards exist on
         final Map<String, Double> nodeRanks = rankNodes(nodeStats, nodeSearchCounts);
@@ -556,7 +598,7 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
                 String minNodeId = minShard.currentNodeId();
                 Optional<ResponseCollectorService.ComputedNodeStats> maybeMinStats = nodeStats.get(minNodeId);
                 if (maybeMinStats.isPresent()) {
-                    adjustStats(collector, nodeStats, minNodeId, maybeMinStats.get());
+                    adjustStats(collector, nodeStats, minNodeId, maybeMinStats.get(), indexName);
                     // Increase the number of searches for the "winning" node by one.
                     // Note that this doesn't actually affect the "real" counts, instead
                     // it only affects the captured node search counts, which is
@@ -78,6 +78,18 @@ public class OperationRouting {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether adaptive replica selection ranks the copies of a shard using the response time of each node for the index of the
+     * shard rather than across all indices, so that a node that is slow for some expensive indices only doesn't get less traffic
+     * for the other indices.
+     */
+    public static final Setting<Boolean> ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING = Setting.boolSetting(
+        "cluster.routing.adaptive_replica_selection.per_index.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     public static final String IGNORE_AWARENESS_ATTRIBUTES = "cluster.search.ignore_awareness_attributes";
     public static final Setting<Boolean> IGNORE_AWARENESS_ATTRIBUTES_SETTING = Setting.boolSetting(
         IGNORE_AWARENESS_ATTRIBUTES,
@@ -128,6 +140,7 @@ public class OperationRouting {
 
     private volatile List<String> awarenessAttributes;
     private volatile boolean useAdaptiveReplicaSelection;
+    private volatile boolean adaptiveReplicaSelectionPerIndex;
     private volatile boolean ignoreAwarenessAttr;
     private volatile double weightedRoutingDefaultWeight;
     private volatile boolean isFailOpenEnabled;
@@ -144,12 +157,17 @@ public class OperationRouting {
             this::setAwarenessAttributes
         );
         this.useAdaptiveReplicaSelection = USE_ADAPTIVE_REPLICA_SELECTION_SETTING.get(settings);
+        this.adaptiveReplicaSelectionPerIndex = ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING.get(settings);
         this.weightedRoutingDefaultWeight = WEIGHTED_ROUTING_DEFAULT_WEIGHT.get(settings);
         this.isFailOpenEnabled = WEIGHTED_ROUTING_FAILOPEN_ENABLED.get(settings);
         this.isStrictWeightedShardRouting = STRICT_WEIGHTED_SHARD_ROUTING_ENABLED.get(settings);
         this.ignoreWeightedRouting = IGNORE_WEIGHTED_SHARD_ROUTING.get(settings);
         this.isStrictSearchOnlyShardRouting = STRICT_SEARCH_REPLICA_ROUTING_ENABLED.get(settings);
         clusterSettings.addSettingsUpdateConsumer(USE_ADAPTIVE_REPLICA_SELECTION_SETTING, this::setUseAdaptiveReplicaSelection);
+        clusterSettings.addSettingsUpdateConsumer(
+            ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING,
+            this::setAdaptiveReplicaSelectionPerIndex
+        );
         clusterSettings.addSettingsUpdateConsumer(IGNORE_AWARENESS_ATTRIBUTES_SETTING, this::setIgnoreAwarenessAttributes);
         clusterSettings.addSettingsUpdateConsumer(WEIGHTED_ROUTING_DEFAULT_WEIGHT, this::setWeightedRoutingDefaultWeight);
         clusterSettings.addSettingsUpdateConsumer(WEIGHTED_ROUTING_FAILOPEN_ENABLED, this::setFailOpenEnabled);
@@ -162,6 +180,10 @@ public class OperationRouting {
         this.useAdaptiveReplicaSelection = useAdaptiveReplicaSelection;
     }
 
+    void setAdaptiveReplicaSelectionPerIndex(boolean adaptiveReplicaSelectionPerIndex) {
+        this.adaptiveReplicaSelectionPerIndex = adaptiveReplicaSelectionPerIndex;
+    }
+
     void setIgnoreAwarenessAttributes(boolean ignoreAwarenessAttributes) {
         this.ignoreAwarenessAttr = ignoreAwarenessAttributes;
     }
@@ -501,7 +523,7 @@ public class OperationRouting {
             );
         } else if (ignoreAwarenessAttributes()) {
             if (useAdaptiveReplicaSelection) {
-                return indexShard.activeInitializingShardsRankedIt(collectorService, nodeCounts);
+                return indexShard.activeInitializingShardsRankedIt(collectorService, nodeCounts, adaptiveReplicaSelectionPerIndex);
             } else {
                 return indexShard.activeInitializingShardsRandomIt();
             }
@@ -65,6 +65,7 @@ import org.opensearch.gateway.PriorityComparator;
 import org.opensearch.gateway.ShardsBatchGatewayAllocator;
 import org.opensearch.snapshots.SnapshotsInfoService;
 import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -610,6 +611,14 @@ public class AllocationService {
             clusterManagerMetrics.rerouteHistogram,
             (double) Math.max(0, TimeValue.nsecToMSec(System.nanoTime() - rerouteStartTimeNS))
         );
+        allocation.deciders()
+            .drainTimings(
+                (decider, timeInNanos) -> clusterManagerMetrics.recordLatency(
+                    clusterManagerMetrics.allocationDeciderHistogram,
+                    timeInNanos / 1_000_000.0,
+                    Optional.of(Tags.create().addTag(ClusterManagerMetrics.DECIDER_TAG, decider))
+                )
+            );
         assert RoutingNodes.assertShardStats(allocation.routingNodes());
     }
 
@@ -57,7 +57,10 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.node.Node;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -67,6 +70,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.cluster.action.shard.ShardStateAction.FOLLOW_UP_REROUTE_PRIORITY_SETTING;
 import static org.opensearch.cluster.routing.allocation.ConstraintTypes.CLUSTER_PRIMARY_SHARD_BALANCE_CONSTRAINT_ID;
@@ -190,6 +196,37 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         Property.NodeScope
     );
 
+    /**
+     * Rebalances incrementally: the index level allocation decisions are kept across reroutes and only asked again for indices
+     * whose metadata changed, or for all indices once the nodes or the cluster settings changed, and the nodes are only sorted
+     * by weight for indices that are not balanced. Off by default as allocation deciders of plugins might base their index
+     * level decisions on other inputs.
+     */
+    public static final Setting<Boolean> INCREMENTAL_BALANCE_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.balance.incremental.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * Evaluates the allocation deciders for the candidate nodes of an unassigned shard in parallel. Off by default as it
+     * requires all allocation deciders, including the ones of plugins, to be safe to call concurrently.
+     */
+    public static final Setting<Boolean> PARALLEL_DECIDERS_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.deciders.parallel.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<Integer> PARALLEL_DECIDERS_PARALLELISM_SETTING = new Setting<>(
+        "cluster.routing.allocation.deciders.parallel.parallelism",
+        s -> Integer.toString(Math.min(4, OpenSearchExecutors.allocatedProcessors(s))),
+        s -> Setting.parseInt(s, 1, "cluster.routing.allocation.deciders.parallel.parallelism"),
+        Property.NodeScope
+    );
+
     public static final Setting<TimeValue> ALLOCATOR_TIMEOUT_SETTING = Setting.timeSetting(
         "cluster.routing.allocation.balanced_shards_allocator.allocator_timeout",
         TimeValue.MINUS_ONE,
@@ -248,6 +285,10 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     private volatile boolean ignoreThrottleInRestore;
     private volatile TimeValue allocatorTimeout;
     private volatile Priority followUpRerouteTaskPriority;
+    private volatile IndexAllocationFilterCache filterCache;
+    private volatile boolean parallelDeciders;
+    private final String nodeName;
+    private final int deciderParallelism;
     private long startTime;
     private RerouteService rerouteService;
 
@@ -257,6 +298,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
     @Inject
     public BalancedShardsAllocator(Settings settings, ClusterSettings clusterSettings) {
+        nodeName = Node.NODE_NAME_SETTING.get(settings);
+        deciderParallelism = PARALLEL_DECIDERS_PARALLELISM_SETTING.get(settings);
         setShardBalanceFactor(SHARD_BALANCE_FACTOR_SETTING.get(settings));
         setIndexBalanceFactor(INDEX_BALANCE_FACTOR_SETTING.get(settings));
         setPreferPrimaryShardRebalanceBuffer(PRIMARY_SHARD_REBALANCE_BUFFER.get(settings));
@@ -269,6 +312,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         setShardMovementStrategy(SHARD_MOVEMENT_STRATEGY_SETTING.get(settings));
         setAllocatorTimeout(ALLOCATOR_TIMEOUT_SETTING.get(settings));
         setFollowUpRerouteTaskPriority(FOLLOW_UP_REROUTE_PRIORITY_SETTING.get(settings));
+        setIncrementalBalance(INCREMENTAL_BALANCE_SETTING.get(settings));
+        setParallelDeciders(PARALLEL_DECIDERS_ENABLED_SETTING.get(settings));
         clusterSettings.addSettingsUpdateConsumer(PREFER_PRIMARY_SHARD_BALANCE, this::setPreferPrimaryShardBalance);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVE_PRIMARY_FIRST_SETTING, this::setMovePrimaryFirst);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVEMENT_STRATEGY_SETTING, this::setShardMovementStrategy);
@@ -281,6 +326,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         clusterSettings.addSettingsUpdateConsumer(IGNORE_THROTTLE_FOR_REMOTE_RESTORE, this::setIgnoreThrottleInRestore);
         clusterSettings.addSettingsUpdateConsumer(ALLOCATOR_TIMEOUT_SETTING, this::setAllocatorTimeout);
         clusterSettings.addSettingsUpdateConsumer(FOLLOW_UP_REROUTE_PRIORITY_SETTING, this::setFollowUpRerouteTaskPriority);
+        clusterSettings.addSettingsUpdateConsumer(INCREMENTAL_BALANCE_SETTING, this::setIncrementalBalance);
+        clusterSettings.addSettingsUpdateConsumer(PARALLEL_DECIDERS_ENABLED_SETTING, this::setParallelDeciders);
     }
 
     @Override
@@ -385,6 +432,26 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         this.followUpRerouteTaskPriority = followUpRerouteTaskPriority;
     }
 
+    private void setIncrementalBalance(boolean incrementalBalance) {
+        this.filterCache = incrementalBalance ? new IndexAllocationFilterCache() : null;
+    }
+
+    private void setParallelDeciders(boolean parallelDeciders) {
+        this.parallelDeciders = parallelDeciders;
+    }
+
+    /**
+     * Creates the pool the allocation deciders are evaluated on during a single reroute. Its threads only live for the duration
+     * of the reroute, starting them is cheap compared to the reroutes that evaluating the deciders in parallel pays off for.
+     */
+    private ForkJoinPool newDeciderPool() {
+        return new ForkJoinPool(deciderParallelism, pool -> {
+            final ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName(OpenSearchExecutors.threadName(nodeName, "allocation_deciders"));
+            return worker;
+        }, null, false);
+    }
+
     protected boolean allocatorTimedOut() {
         if (allocatorTimeout.equals(TimeValue.MINUS_ONE)) {
             if (logger.isTraceEnabled()) {
@@ -401,21 +468,30 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             failAllocationOfNewPrimaries(allocation);
             return;
         }
-        final ShardsBalancer localShardsBalancer = new LocalShardsBalancer(
-            logger,
-            allocation,
-            shardMovementStrategy,
-            weightFunction,
-            threshold,
-            preferPrimaryShardBalance,
-            preferPrimaryShardRebalance,
-            ignoreThrottleInRestore,
-            this::allocatorTimedOut
-        );
-        this.startTime = System.nanoTime();
-        localShardsBalancer.allocateUnassigned();
-        localShardsBalancer.moveShards();
-        localShardsBalancer.balance();
+        final ForkJoinPool deciderPool = parallelDeciders ? newDeciderPool() : null;
+        try {
+            final ShardsBalancer localShardsBalancer = new LocalShardsBalancer(
+                logger,
+                allocation,
+                shardMovementStrategy,
+                weightFunction,
+                threshold,
+                preferPrimaryShardBalance,
+                preferPrimaryShardRebalance,
+                ignoreThrottleInRestore,
+                this::allocatorTimedOut,
+                filterCache,
+                deciderPool
+            );
+            this.startTime = System.nanoTime();
+            localShardsBalancer.allocateUnassigned();
+            localShardsBalancer.moveShards();
+            localShardsBalancer.balance();
+        } finally {
+            if (deciderPool != null) {
+                ThreadPool.terminate(deciderPool, 10, TimeUnit.SECONDS);
+            }
+        }
         scheduleRerouteIfAllocatorTimedOut();
 
         final ShardsBalancer remoteShardsBalancer = new RemoteShardsBalancer(logger, allocation);
@@ -939,5 +1015,22 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         public float delta() {
             return weights[weights.length - 1] - weights[0];
         }
+
+        /**
+         * Calculates the weights of the nodes for the given index and returns the delta between the heaviest and the lightest
+         * node, like {@link #reset(String, int, int)} followed by {@link #delta()} but in linear time, as the nodes are not
+         * sorted. The weights of the sorter are left untouched.
+         */
+        public float delta(String index, int from, int to) {
+            this.index = index;
+            float min = Float.POSITIVE_INFINITY;
+            float max = Float.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                final float weight = weight(modelNodes[i]);
+                min = Math.min(min, weight);
+                max = Math.max(max, weight);
+            }
+            return max - min;
+        }
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.allocation.RoutingAllocation;
+import org.opensearch.common.settings.Settings;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps, across reroutes, the nodes that the index level allocation deciders
+ * ({@link org.opensearch.cluster.routing.allocation.decider.AllocationDecider#canAllocate(IndexMetadata,
+ * org.opensearch.cluster.routing.RoutingNode, RoutingAllocation)}) rule out for every index, so that rebalancing doesn't ask
+ * the deciders again for indices that didn't change since the previous round.
+ * <p>
+ * An entry is only reused for the very same {@link IndexMetadata} instance, and all entries are dropped as soon as the
+ * nodes of the cluster or the cluster level settings change, which are the only other inputs of the index level
+ * deciders. Only used from the thread running {@link BalancedShardsAllocator#allocate(RoutingAllocation)}.
+ *
+ * @opensearch.internal
+ */
+final class IndexAllocationFilterCache {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private DiscoveryNodes nodes;
+    private Settings persistentSettings;
+    private Settings transientSettings;
+
+    /**
+     * Drops the entries that may no longer hold for the given allocation round and the ones of deleted indices.
+     */
+    void refresh(RoutingAllocation allocation) {
+        final Metadata metadata = allocation.metadata();
+        if (allocation.nodes() != nodes
+            || metadata.persistentSettings().equals(persistentSettings) == false
+            || metadata.transientSettings().equals(transientSettings) == false) {
+            entries.clear();
+            nodes = allocation.nodes();
+            persistentSettings = metadata.persistentSettings();
+            transientSettings = metadata.transientSettings();
+        } else {
+            entries.keySet().removeIf(index -> metadata.hasIndex(index) == false);
+        }
+    }
+
+    /**
+     * Returns the ids of the nodes that shards of the given index can't be allocated to, or {@code null} if they are not known.
+     */
+    Set<String> excludedNodes(IndexMetadata indexMetadata) {
+        final Entry entry = entries.get(indexMetadata.getIndex().getName());
+        return entry != null && entry.indexMetadata == indexMetadata ? entry.excludedNodes : null;
+    }
+
+    void putExcludedNodes(IndexMetadata indexMetadata, Set<String> excludedNodes) {
+        entries.put(indexMetadata.getIndex().getName(), new Entry(indexMetadata, excludedNodes));
+    }
+
+    // pkg-private for testing
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        final IndexMetadata indexMetadata;
+        final Set<String> excludedNodes;
+
+        Entry(IndexMetadata indexMetadata, Set<String> excludedNodes) {
+            this.indexMetadata = indexMetadata;
+            this.excludedNodes = excludedNodes;
+        }
+    }
+}
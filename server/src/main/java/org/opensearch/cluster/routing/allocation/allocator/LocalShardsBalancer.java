@@ -42,6 +42,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -56,6 +57,9 @@ import static org.opensearch.cluster.routing.ShardRoutingState.RELOCATING;
  * @opensearch.internal
  */
 public class LocalShardsBalancer extends ShardsBalancer {
+    // below this number of candidate nodes, handing the decider evaluation over to other threads costs more than it saves
+    private static final int MIN_NODES_FOR_PARALLEL_DECISIONS = 16;
+
     private final Logger logger;
     private final Map<String, BalancedShardsAllocator.ModelNode> nodes;
     private final RoutingAllocation allocation;
@@ -75,6 +79,8 @@ public class LocalShardsBalancer extends ShardsBalancer {
     private final BalancedShardsAllocator.NodeSorter sorter;
     private final Set<RoutingNode> inEligibleTargetNode;
     private final Supplier<Boolean> timedOutFunc;
+    private final IndexAllocationFilterCache filterCache;
+    private final ForkJoinPool deciderPool;
     private int totalShardCount = 0;
 
     public LocalShardsBalancer(
@@ -87,6 +93,40 @@ public class LocalShardsBalancer extends ShardsBalancer {
         boolean preferPrimaryRebalance,
         boolean ignoreThrottleInRestore,
         Supplier<Boolean> timedOutFunc
+    ) {
+        this(
+            logger,
+            allocation,
+            shardMovementStrategy,
+            weight,
+            threshold,
+            preferPrimaryBalance,
+            preferPrimaryRebalance,
+            ignoreThrottleInRestore,
+            timedOutFunc,
+            null,
+            null
+        );
+    }
+
+    /**
+     * @param filterCache if not {@code null}, the balancer runs incrementally: it reuses the index level allocation decisions
+     *                    of previous rounds kept in this cache and doesn't sort the nodes for indices that are balanced
+     * @param deciderPool if not {@code null}, the allocation deciders are evaluated in parallel on this pool for the candidate
+     *                    nodes of unassigned shards
+     */
+    LocalShardsBalancer(
+        Logger logger,
+        RoutingAllocation allocation,
+        ShardMovementStrategy shardMovementStrategy,
+        BalancedShardsAllocator.WeightFunction weight,
+        float threshold,
+        boolean preferPrimaryBalance,
+        boolean preferPrimaryRebalance,
+        boolean ignoreThrottleInRestore,
+        Supplier<Boolean> timedOutFunc,
+        IndexAllocationFilterCache filterCache,
+        ForkJoinPool deciderPool
     ) {
         this.logger = logger;
         this.allocation = allocation;
@@ -105,6 +145,11 @@ public class LocalShardsBalancer extends ShardsBalancer {
         this.shardMovementStrategy = shardMovementStrategy;
         this.ignoreThrottleInRestore = ignoreThrottleInRestore;
         this.timedOutFunc = timedOutFunc;
+        this.filterCache = filterCache;
+        this.deciderPool = deciderPool;
+        if (filterCache != null) {
+            filterCache.refresh(allocation);
+        }
     }
 
     /**
@@ -359,6 +404,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 return;
             }
             IndexMetadata indexMetadata = metadata.index(index);
+            final Set<String> excludedNodes = filterCache == null ? null : excludedNodes(indexMetadata, modelNodes);
 
             // find nodes that have a shard of this index or where shards of this index are allowed to be allocated to,
             // move these nodes to the front of modelNodes so that we can only balance based on these nodes
@@ -366,7 +412,9 @@ public class LocalShardsBalancer extends ShardsBalancer {
             for (int i = 0; i < modelNodes.length; i++) {
                 BalancedShardsAllocator.ModelNode modelNode = modelNodes[i];
                 if (modelNode.getIndex(index) != null
-                    || deciders.canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation).type() != Decision.Type.NO) {
+                    || (excludedNodes != null
+                        ? excludedNodes.contains(modelNode.getNodeId()) == false
+                        : deciders.canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation).type() != Decision.Type.NO)) {
                     // swap nodes at position i and relevantNodes
                     modelNodes[i] = modelNodes[relevantNodes];
                     modelNodes[relevantNodes] = modelNode;
@@ -378,6 +426,11 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 continue;
             }
 
+            // no shard of a balanced index is relocated by the loop below, which incremental rounds skip without sorting the nodes
+            if (filterCache != null && lessThan(sorter.delta(index, 0, relevantNodes), threshold)) {
+                continue;
+            }
+
             sorter.reset(index, 0, relevantNodes);
             int lowIdx = 0;
             int highIdx = relevantNodes - 1;
@@ -482,6 +535,24 @@ public class LocalShardsBalancer extends ShardsBalancer {
         }
     }
 
+    /**
+     * Returns the ids of the nodes that the index level allocation deciders rule out for the given index, asking the
+     * deciders only if the decisions of a previous round can't be reused.
+     */
+    private Set<String> excludedNodes(IndexMetadata indexMetadata, BalancedShardsAllocator.ModelNode[] modelNodes) {
+        Set<String> excludedNodes = filterCache.excludedNodes(indexMetadata);
+        if (excludedNodes == null) {
+            excludedNodes = new HashSet<>();
+            for (BalancedShardsAllocator.ModelNode modelNode : modelNodes) {
+                if (allocation.deciders().canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation).type() == Decision.Type.NO) {
+                    excludedNodes.add(modelNode.getNodeId());
+                }
+            }
+            filterCache.putExcludedNodes(indexMetadata, excludedNodes);
+        }
+        return excludedNodes;
+    }
+
     /**
      * This builds a initial index ordering where the indices are returned
      * in most unbalanced first. We need this in order to prevent over
@@ -507,8 +578,12 @@ public class LocalShardsBalancer extends ShardsBalancer {
 
         final float[] deltas = new float[indices.length];
         for (int i = 0; i < deltas.length; i++) {
-            sorter.reset(indices[i]);
-            deltas[i] = sorter.delta();
+            if (filterCache != null) {
+                deltas[i] = sorter.delta(indices[i], 0, sorter.modelNodes.length);
+            } else {
+                sorter.reset(indices[i]);
+                deltas[i] = sorter.delta();
+            }
         }
         new IntroSorter() {
 
@@ -974,6 +1049,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
          * iteration order is different for each run and makes testing hard */
         Map<String, NodeAllocationResult> nodeExplanationMap = explain ? new HashMap<>() : null;
         List<Tuple<String, Float>> nodeWeights = explain ? new ArrayList<>() : null;
+        final Map<String, Decision> parallelDecisions = explain ? null : decideAllocateUnassignedInParallel(shard);
         for (BalancedShardsAllocator.ModelNode node : nodes.values()) {
             if (node.containsShard(shard) && explain == false) {
                 // decision is NO without needing to check anything further, so short circuit
@@ -987,7 +1063,9 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 continue;
             }
 
-            Decision currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+            Decision currentDecision = parallelDecisions != null
+                ? parallelDecisions.get(node.getNodeId())
+                : allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
             if (explain) {
                 nodeExplanationMap.put(node.getNodeId(), new NodeAllocationResult(node.getRoutingNode().node(), currentDecision, 0));
                 nodeWeights.add(Tuple.tuple(node.getNodeId(), currentWeight));
@@ -1051,6 +1129,33 @@ public class LocalShardsBalancer extends ShardsBalancer {
         return AllocateUnassignedDecision.fromDecision(decision, minNode != null ? minNode.getRoutingNode().node() : null, nodeDecisions);
     }
 
+    /**
+     * Evaluates the allocation deciders for all nodes that the given unassigned shard could be allocated to in parallel, or
+     * returns {@code null} if they are to be evaluated one by one. This evaluates the deciders for nodes that the sequential
+     * evaluation skips because of their weight, in exchange for not evaluating them on the calling thread.
+     */
+    private Map<String, Decision> decideAllocateUnassignedInParallel(ShardRouting shard) {
+        if (deciderPool == null) {
+            return null;
+        }
+        final List<RoutingNode> candidates = new ArrayList<>(nodes.size());
+        for (BalancedShardsAllocator.ModelNode node : nodes.values()) {
+            if (node.containsShard(shard) == false) {
+                candidates.add(node.getRoutingNode());
+            }
+        }
+        if (candidates.size() < MIN_NODES_FOR_PARALLEL_DECISIONS) {
+            return null;
+        }
+        final RoutingNode[] candidateNodes = candidates.toArray(new RoutingNode[0]);
+        final Decision[] decisions = allocation.deciders().canAllocate(shard, candidateNodes, allocation, deciderPool);
+        final Map<String, Decision> nodeDecisions = new HashMap<>(candidateNodes.length);
+        for (int i = 0; i < candidateNodes.length; i++) {
+            nodeDecisions.put(candidateNodes[i].nodeId(), decisions[i]);
+        }
+        return nodeDecisions;
+    }
+
     private static final Comparator<ShardRouting> BY_DESCENDING_SHARD_ID = Comparator.comparing(ShardRouting::shardId).reversed();
     private static final Comparator<ShardRouting> PRIMARY_FIRST = Comparator.comparing(ShardRouting::primary).reversed();
 
@@ -40,9 +40,17 @@ import org.opensearch.cluster.routing.RoutingNode;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.IntStream;
 
 /**
  * A composite {@link AllocationDecider} combining the "decision" of multiple
@@ -55,10 +63,69 @@ public class AllocationDeciders extends AllocationDecider {
 
     private static final Logger logger = LogManager.getLogger(AllocationDeciders.class);
 
+    /**
+     * Measures the time spent in every decider when deciding whether shards can be allocated to or remain on nodes, which is
+     * reported per reroute in the {@code allocation.decider.latency} histogram of the cluster manager.
+     */
+    public static final Setting<Boolean> DECIDER_TIMING_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.deciders.timing.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private final Collection<AllocationDecider> allocations;
+    private final Map<Class<?>, LongAdder> timeInNanosByDecider;
+    private volatile boolean timingEnabled;
 
     public AllocationDeciders(Collection<AllocationDecider> allocations) {
         this.allocations = Collections.unmodifiableCollection(allocations);
+        final Map<Class<?>, LongAdder> timeInNanosByDecider = new HashMap<>();
+        for (AllocationDecider allocationDecider : allocations) {
+            timeInNanosByDecider.putIfAbsent(allocationDecider.getClass(), new LongAdder());
+        }
+        this.timeInNanosByDecider = Collections.unmodifiableMap(timeInNanosByDecider);
+    }
+
+    public void setTimingEnabled(boolean timingEnabled) {
+        this.timingEnabled = timingEnabled;
+    }
+
+    /**
+     * Passes the time spent in every decider since the previous call, keyed by the simple class name of the decider, to the
+     * given consumer and resets it. Deciders that weren't asked anything in the meantime are skipped.
+     */
+    public void drainTimings(ObjLongConsumer<String> consumer) {
+        for (Map.Entry<Class<?>, LongAdder> entry : timeInNanosByDecider.entrySet()) {
+            final long timeInNanos = entry.getValue().sumThenReset();
+            if (timeInNanos > 0) {
+                consumer.accept(entry.getKey().getSimpleName(), timeInNanos);
+            }
+        }
+    }
+
+    private void recordTime(AllocationDecider allocationDecider, long startTimeInNanos) {
+        timeInNanosByDecider.get(allocationDecider.getClass()).add(System.nanoTime() - startTimeInNanos);
+    }
+
+    /**
+     * Returns the decision of {@link #canAllocate(ShardRouting, RoutingNode, RoutingAllocation)} for each of the given nodes.
+     * If a pool is given, the nodes are evaluated in parallel on it, so the allocation must not be modified before this method
+     * returns, and all deciders must be safe to call concurrently for the same allocation.
+     */
+    public Decision[] canAllocate(ShardRouting shardRouting, RoutingNode[] nodes, RoutingAllocation allocation, ForkJoinPool pool) {
+        final Decision[] decisions = new Decision[nodes.length];
+        if (pool == null || nodes.length < 2) {
+            for (int i = 0; i < nodes.length; i++) {
+                decisions[i] = canAllocate(shardRouting, nodes[i], allocation);
+            }
+        } else {
+            // parallel streams run on the pool of the task that starts them, which bounds the number of nodes evaluated at once
+            pool.submit(() -> IntStream.range(0, nodes.length).parallel().forEach(i -> {
+                decisions[i] = canAllocate(shardRouting, nodes[i], allocation);
+            })).join();
+        }
+        return decisions;
     }
 
     @Override
@@ -85,9 +152,14 @@ public class AllocationDeciders extends AllocationDecider {
         if (allocation.shouldIgnoreShardForNode(shardRouting.shardId(), node.nodeId())) {
             return Decision.NO;
         }
+        final boolean timed = timingEnabled;
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
+            final long startTimeInNanos = timed ? System.nanoTime() : 0L;
             Decision decision = allocationDecider.canAllocate(shardRouting, node, allocation);
+            if (timed) {
+                recordTime(allocationDecider, startTimeInNanos);
+            }
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (logger.isTraceEnabled()) {
@@ -119,9 +191,14 @@ public class AllocationDeciders extends AllocationDecider {
             }
             return Decision.NO;
         }
+        final boolean timed = timingEnabled;
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
+            final long startTimeInNanos = timed ? System.nanoTime() : 0L;
             Decision decision = allocationDecider.canRemain(shardRouting, node, allocation);
+            if (timed) {
+                recordTime(allocationDecider, startTimeInNanos);
+            }
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (logger.isTraceEnabled()) {
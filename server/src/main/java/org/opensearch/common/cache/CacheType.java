@@ -8,9 +8,11 @@
 
 package org.opensearch.common.cache;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -20,10 +22,12 @@ import java.util.Set;
  */
 @ExperimentalApi
 public enum CacheType {
-    INDICES_REQUEST_CACHE("indices.requests.cache", "request_cache");
+    INDICES_REQUEST_CACHE("indices.requests.cache", "request_cache", Version.V_2_14_0),
+    COORDINATOR_REQUEST_CACHE("search.coordinator_request_cache", "coordinator_request_cache", Version.V_3_8_0);
 
     private final String settingPrefix;
     private final String value; // The value displayed for this cache type in stats API responses
+    private final Version minimumVersion; // The first version whose nodes can read this cache type off the wire
 
     private static final Map<String, CacheType> valuesMap;
     static {
@@ -34,9 +38,10 @@ public enum CacheType {
         valuesMap = Collections.unmodifiableMap(values);
     }
 
-    CacheType(String settingPrefix, String representation) {
+    CacheType(String settingPrefix, String representation, Version minimumVersion) {
         this.settingPrefix = settingPrefix;
         this.value = representation;
+        this.minimumVersion = minimumVersion;
     }
 
     public String getSettingPrefix() {
@@ -58,4 +63,17 @@ public enum CacheType {
     public static Set<String> allValues() {
         return valuesMap.keySet();
     }
+
+    /**
+     * Returns the cache types out of the given ones that nodes on the given version know about.
+     */
+    public static EnumSet<CacheType> knownTo(Set<CacheType> cacheTypes, Version version) {
+        EnumSet<CacheType> known = EnumSet.noneOf(CacheType.class);
+        for (CacheType cacheType : cacheTypes) {
+            if (version.onOrAfter(cacheType.minimumVersion)) {
+                known.add(cacheType);
+            }
+        }
+        return known;
+    }
 }
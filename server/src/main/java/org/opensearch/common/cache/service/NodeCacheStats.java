@@ -22,6 +22,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * A class creating XContent responses to cache stats API requests.
@@ -47,7 +48,9 @@ public class NodeCacheStats implements ToXContentFragment, Writeable {
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         flags.writeTo(out);
-        out.writeMap(statsByCache, StreamOutput::writeEnum, (o, immutableCacheStatsHolder) -> immutableCacheStatsHolder.writeTo(o));
+        SortedMap<CacheType, ImmutableCacheStatsHolder> knownStatsByCache = new TreeMap<>(statsByCache);
+        knownStatsByCache.keySet().retainAll(CacheType.knownTo(statsByCache.keySet(), out.getVersion()));
+        out.writeMap(knownStatsByCache, StreamOutput::writeEnum, (o, immutableCacheStatsHolder) -> immutableCacheStatsHolder.writeTo(o));
     }
 
     @Override
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.lucene.uid;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+/**
+ * Counts the {@code _id} lookups that {@link VersionsAndSeqNoResolver} performs against the index, along with the segments whose
+ * term dictionary was searched and the segments that were skipped because they cannot contain the id, typically because their
+ * {@code _id} fuzzy filter (see {@code index.optimize_doc_id_lookup.fuzzy_set.enabled}) ruled it out.
+ *
+ * @opensearch.internal
+ */
+public final class IdLookupStats {
+
+    private final CounterMetric lookups = new CounterMetric();
+    private final CounterMetric segmentsSearched = new CounterMetric();
+    private final CounterMetric segmentsSkipped = new CounterMetric();
+
+    void onLookup(int segmentsSearched, int segmentsSkipped) {
+        this.lookups.inc();
+        this.segmentsSearched.inc(segmentsSearched);
+        this.segmentsSkipped.inc(segmentsSkipped);
+    }
+
+    /**
+     * The number of lookups that went to the index.
+     */
+    public long getLookups() {
+        return lookups.count();
+    }
+
+    /**
+     * The number of segments whose term dictionary was searched for an id.
+     */
+    public long getSegmentsSearched() {
+        return segmentsSearched.count();
+    }
+
+    /**
+     * The number of segments that were skipped without searching their term dictionary.
+     */
+    public long getSegmentsSkipped() {
+        return segmentsSkipped.count();
+    }
+}
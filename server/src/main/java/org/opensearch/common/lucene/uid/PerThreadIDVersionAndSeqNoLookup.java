@@ -44,6 +44,8 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
+import org.opensearch.index.codec.fuzzy.FuzzyFilterPostingsFormat;
+import org.opensearch.index.codec.fuzzy.FuzzySet;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.VersionFieldMapper;
 
@@ -71,6 +73,8 @@ final class PerThreadIDVersionAndSeqNoLookup {
     /** terms enum for uid field */
     final String uidField;
     private final TermsEnum termsEnum;
+    /** fuzzy filter of the uid terms, if the segment was written with one */
+    private final FuzzySet idFilter;
 
     /** Reused for iteration (when the term exists) */
     private PostingsEnum docsEnum;
@@ -120,8 +124,11 @@ final class PerThreadIDVersionAndSeqNoLookup {
                 }
             }
             termsEnum = null;
+            idFilter = null;
         } else {
-            termsEnum = terms.iterator();
+            idFilter = FuzzyFilterPostingsFormat.getFuzzySet(terms);
+            // the filter is checked up-front by mayContain, don't check it again on every seek
+            termsEnum = FuzzyFilterPostingsFormat.unwrapFuzzyFilteredTerms(terms).iterator();
         }
         // _version doc values are required for version lookups but not for doc-id-only lookups.
         if (mode == LookupMode.FULL && reader.getNumericDocValues(VersionFieldMapper.NAME) == null) {
@@ -160,6 +167,15 @@ final class PerThreadIDVersionAndSeqNoLookup {
         }
     }
 
+    /**
+     * Returns {@code false} if the segment definitely doesn't contain the given id, either because it has no uid terms or because
+     * its uid fuzzy filter rules the id out, in which case the segment can be skipped without seeking its term dictionary.
+     * Callers should check this before any of the lookup methods.
+     */
+    boolean mayContain(BytesRef id) {
+        return termsEnum != null && (idFilter == null || idFilter.contains(id) != FuzzySet.Result.NO);
+    }
+
     /**
      * returns the internal lucene doc id for the given id bytes.
      * {@link DocIdSetIterator#NO_MORE_DOCS} is returned if not found
@@ -39,7 +39,9 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.CloseableThreadLocal;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.codec.CriteriaBasedCodec;
@@ -173,15 +175,35 @@ public final class VersionsAndSeqNoResolver {
      */
     public static DocIdAndVersion loadDocIdAndVersion(IndexReader reader, Term term, boolean loadSeqNo, String currentCriteria)
         throws IOException {
+        return loadDocIdAndVersion(reader, term, loadSeqNo, currentCriteria, null);
+    }
+
+    /**
+     * Same as {@link #loadDocIdAndVersion(IndexReader, Term, boolean, String)} but also records the lookup in the given stats.
+     */
+    public static DocIdAndVersion loadDocIdAndVersion(
+        IndexReader reader,
+        Term term,
+        boolean loadSeqNo,
+        String currentCriteria,
+        @Nullable IdLookupStats stats
+    ) throws IOException {
         PerThreadIDVersionAndSeqNoLookup[] lookups = getLookupState(reader, term.field());
         List<LeafReaderContext> leaves = reader.leaves();
+        final BytesRef id = term.bytes();
+        int segmentsSkipped = 0;
         // iterate backwards to optimize for the frequently updated documents
         // which are likely to be in the last segments
         for (int i = leaves.size() - 1; i >= 0; i--) {
             final LeafReaderContext leaf = leaves.get(i);
             PerThreadIDVersionAndSeqNoLookup lookup = lookups[leaf.ord];
-            DocIdAndVersion result = lookup.lookupVersion(term.bytes(), loadSeqNo, leaf);
+            if (lookup.mayContain(id) == false) {
+                segmentsSkipped++;
+                continue;
+            }
+            DocIdAndVersion result = lookup.lookupVersion(id, loadSeqNo, leaf);
             if (result != null) {
+                onLookup(stats, leaves.size() - i - segmentsSkipped, segmentsSkipped);
                 if (result.version > 0 && currentCriteria != null) {
                     SegmentReader unwrappedReader = (SegmentReader) (FilterLeafReader.unwrap(leaf.reader()));
                     String prevCriteria = unwrappedReader.getSegmentInfo().info.getAttribute(CriteriaBasedCodec.BUCKET_NAME);
@@ -197,6 +219,7 @@ public final class VersionsAndSeqNoResolver {
                 return result;
             }
         }
+        onLookup(stats, leaves.size() - segmentsSkipped, segmentsSkipped);
         return null;
     }
 
@@ -205,21 +228,42 @@ public final class VersionsAndSeqNoResolver {
      * The result is either null or the live and latest version of the given uid.
      */
     public static DocIdAndSeqNo loadDocIdAndSeqNo(IndexReader reader, Term term) throws IOException {
+        return loadDocIdAndSeqNo(reader, term, null);
+    }
+
+    /**
+     * Same as {@link #loadDocIdAndSeqNo(IndexReader, Term)} but also records the lookup in the given stats.
+     */
+    public static DocIdAndSeqNo loadDocIdAndSeqNo(IndexReader reader, Term term, @Nullable IdLookupStats stats) throws IOException {
         final PerThreadIDVersionAndSeqNoLookup[] lookups = getLookupState(reader, term.field());
         final List<LeafReaderContext> leaves = reader.leaves();
+        final BytesRef id = term.bytes();
+        int segmentsSkipped = 0;
         // iterate backwards to optimize for the frequently updated documents
         // which are likely to be in the last segments
         for (int i = leaves.size() - 1; i >= 0; i--) {
             final LeafReaderContext leaf = leaves.get(i);
             final PerThreadIDVersionAndSeqNoLookup lookup = lookups[leaf.ord];
-            final DocIdAndSeqNo result = lookup.lookupSeqNo(term.bytes(), leaf);
+            if (lookup.mayContain(id) == false) {
+                segmentsSkipped++;
+                continue;
+            }
+            final DocIdAndSeqNo result = lookup.lookupSeqNo(id, leaf);
             if (result != null) {
+                onLookup(stats, leaves.size() - i - segmentsSkipped, segmentsSkipped);
                 return result;
             }
         }
+        onLookup(stats, leaves.size() - segmentsSkipped, segmentsSkipped);
         return null;
     }
 
+    private static void onLookup(@Nullable IdLookupStats stats, int segmentsSearched, int segmentsSkipped) {
+        if (stats != null) {
+            stats.onLookup(segmentsSearched, segmentsSkipped);
+        }
+    }
+
     /**
      * Resolves the live doc id for a uid (no {@code _version}/{@code _seq_no} needed), returning the
      * leaf and doc id, or null if not found. The returned {@link DocIdAndSeqNo} has
@@ -236,6 +280,9 @@ public final class VersionsAndSeqNoResolver {
         // which are likely to be in the last segments
         for (int i = leaves.size() - 1; i >= 0; i--) {
             final LeafReaderContext leaf = leaves.get(i);
+            if (lookups[leaf.ord].mayContain(term.bytes()) == false) {
+                continue;
+            }
             final int docId = lookups[leaf.ord].getDocID(term.bytes(), leaf);
             if (docId != DocIdSetIterator.NO_MORE_DOCS) {
                 return new DocIdAndSeqNo(docId, SequenceNumbers.UNASSIGNED_SEQ_NO, leaf);
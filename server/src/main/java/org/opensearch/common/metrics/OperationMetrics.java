@@ -67,14 +67,20 @@ public class OperationMetrics {
     }
 
     /**
-     * Invoked upon completion (success or failure) of the given operation for multiple items.
+     * Invoked upon completion (success or failure) of the given operation for multiple items. The elapsed time is
+     * shared by the items, so that the total time is only accounted once.
      * @param n number of items completed
-     * @param currentTime elapsed time of the operation
+     * @param currentTime elapsed time of the operation for all items
      */
     public void afterN(int n, long currentTime) {
+        if (n <= 0) {
+            return;
+        }
         current.addAndGet(-n);
-        for (int i = 0; i < n; ++i) {
-            time.inc(currentTime);
+        long timePerItem = currentTime / n;
+        time.inc(timePerItem + currentTime % n);
+        for (int i = 1; i < n; ++i) {
+            time.inc(timePerItem);
         }
     }
 
@@ -95,6 +101,13 @@ public class OperationMetrics {
         }
     }
 
+    /**
+     * @return the total time of the completed operations, in nanoseconds.
+     */
+    public long getTotalTimeInNanos() {
+        return time.sum();
+    }
+
     public void add(OperationMetrics other) {
         // Don't try copying over current, since in-flight requests will be linked to the existing metrics instance.
         failed.inc(other.failed.count());
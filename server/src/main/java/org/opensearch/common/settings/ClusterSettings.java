@@ -35,6 +35,7 @@ import org.apache.logging.log4j.LogManager;
 import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfigExclusionsAction;
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
 import org.opensearch.action.search.CreatePitController;
+import org.opensearch.action.search.SearchHedgingPolicy;
 import org.opensearch.action.search.SearchRequestSlowLog;
 import org.opensearch.action.search.SearchRequestStats;
 import org.opensearch.action.search.StreamSearchTransportService;
@@ -70,6 +71,7 @@ import org.opensearch.cluster.routing.allocation.DiskThresholdSettings;
 import org.opensearch.cluster.routing.allocation.ExistingShardsAllocator;
 import org.opensearch.cluster.routing.allocation.FileCacheThresholdSettings;
 import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.AwarenessAllocationDecider;
 import org.opensearch.cluster.routing.allocation.decider.ClusterRebalanceAllocationDecider;
 import org.opensearch.cluster.routing.allocation.decider.ConcurrentRebalanceAllocationDecider;
@@ -127,6 +129,7 @@ import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
+import org.opensearch.indices.CoordinatorRequestCache;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
@@ -160,6 +163,7 @@ import org.opensearch.ratelimitting.admissioncontrol.AdmissionControlSettings;
 import org.opensearch.ratelimitting.admissioncontrol.settings.CpuBasedAdmissionControllerSettings;
 import org.opensearch.ratelimitting.admissioncontrol.settings.IoBasedAdmissionControllerSettings;
 import org.opensearch.ratelimitting.admissioncontrol.settings.NativeMemoryBasedAdmissionControllerSettings;
+import org.opensearch.ratelimitting.admissioncontrol.settings.ShardLatencyBasedAdmissionControllerSettings;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
 import org.opensearch.repositories.fs.FsRepository;
 import org.opensearch.rest.BaseRestHandler;
@@ -293,6 +297,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 BalancedShardsAllocator.ALLOCATOR_TIMEOUT_SETTING,
                 BalancedShardsAllocator.FOLLOW_UP_REROUTE_PRIORITY_SETTING,
                 BalancedShardsAllocator.PRIMARY_CONSTRAINT_THRESHOLD_SETTING,
+                BalancedShardsAllocator.INCREMENTAL_BALANCE_SETTING,
+                BalancedShardsAllocator.PARALLEL_DECIDERS_ENABLED_SETTING,
+                BalancedShardsAllocator.PARALLEL_DECIDERS_PARALLELISM_SETTING,
+                AllocationDeciders.DECIDER_TIMING_ENABLED_SETTING,
                 BreakerSettings.CIRCUIT_BREAKER_LIMIT_SETTING,
                 BreakerSettings.CIRCUIT_BREAKER_OVERHEAD_SETTING,
                 BreakerSettings.CIRCUIT_BREAKER_TYPE,
@@ -456,6 +464,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 TransportSearchAction.SEARCH_PHASE_TOOK_ENABLED,
+                TransportSearchAction.SEARCH_STREAMING_PARTIAL_REDUCE_ENABLED,
+                SearchHedgingPolicy.SEARCH_HEDGING_ENABLED_SETTING,
+                SearchHedgingPolicy.SEARCH_HEDGING_LATENCY_MULTIPLIER,
+                SearchHedgingPolicy.SEARCH_HEDGING_MIN_DELAY,
+                SearchHedgingPolicy.SEARCH_HEDGING_MAX_RATIO,
                 SearchRequestStats.SEARCH_REQUEST_STATS_ENABLED,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -606,6 +619,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 CardinalityAggregator.CARDINALITY_AGGREGATION_HYBRID_COLLECTOR_ENABLED,
                 CardinalityAggregator.CARDINALITY_AGGREGATION_HYBRID_COLLECTOR_MEMORY_THRESHOLD,
                 SearchService.KEYWORD_INDEX_OR_DOC_VALUES_ENABLED,
+                SearchService.FETCH_BATCHED_STORED_FIELDS_ENABLED,
                 CreatePitController.PIT_INIT_KEEP_ALIVE,
                 Node.WRITE_PORTS_FILE_SETTING,
                 Node.NODE_NAME_SETTING,
@@ -661,9 +675,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
                 ResourceWatcherService.RELOAD_INTERVAL_LOW,
                 ThreadPool.ESTIMATED_TIME_INTERVAL_SETTING,
+                ThreadPool.REMOTE_IO_VIRTUAL_THREADS_SETTING,
                 FastVectorHighlighter.SETTING_TV_HIGHLIGHT_MULTI_VALUE,
                 Node.BREAKER_TYPE_KEY,
                 OperationRouting.USE_ADAPTIVE_REPLICA_SELECTION_SETTING,
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING,
                 OperationRouting.IGNORE_AWARENESS_ATTRIBUTES_SETTING,
                 OperationRouting.WEIGHTED_ROUTING_DEFAULT_WEIGHT,
                 OperationRouting.WEIGHTED_ROUTING_FAILOPEN_ENABLED,
@@ -782,6 +798,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Settings related to Searchable Snapshots
                 Node.NODE_SEARCH_CACHE_SIZE_SETTING,
                 FileCacheSettings.DATA_TO_FILE_CACHE_SIZE_RATIO_SETTING,
+                FileCacheSettings.FILE_CACHE_FREQUENCY_AWARE_EVICTION_SETTING,
 
                 // Settings related to Tiered Storage
                 TieringUtils.H2W_MAX_CONCURRENT_TIERING_REQUESTS,
@@ -849,6 +866,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 NativeMemoryBasedAdmissionControllerSettings.INDEXING_NATIVE_MEMORY_USAGE_LIMIT,
                 NativeMemoryBasedAdmissionControllerSettings.CLUSTER_ADMIN_NATIVE_MEMORY_USAGE_LIMIT,
                 NativeMemoryBasedAdmissionControllerSettings.INDEXING_NATIVE_MEMORY_POOL_USAGE_LIMIT,
+                ShardLatencyBasedAdmissionControllerSettings.SHARD_LATENCY_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE,
+                ShardLatencyBasedAdmissionControllerSettings.INDEXING_LATENCY_TARGET,
+                ShardLatencyBasedAdmissionControllerSettings.INDEXING_MIN_QUEUE_DEPTH,
+                ShardLatencyBasedAdmissionControllerSettings.EWMA_ALPHA,
 
                 // Concurrent segment search settings
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING, // deprecated
@@ -922,6 +943,17 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 OpenSearchOnHeapCacheSettings.EXPIRE_AFTER_ACCESS_SETTING.getConcreteSettingForNamespace(
                     CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
                 ),
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.COORDINATOR_REQUEST_CACHE),
+                OpenSearchOnHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES.getConcreteSettingForNamespace(
+                    CacheType.COORDINATOR_REQUEST_CACHE.getSettingPrefix()
+                ),
+                OpenSearchOnHeapCacheSettings.EXPIRE_AFTER_ACCESS_SETTING.getConcreteSettingForNamespace(
+                    CacheType.COORDINATOR_REQUEST_CACHE.getSettingPrefix()
+                ),
+
+                // Coordinator request cache settings
+                CoordinatorRequestCache.ENABLED_SETTING,
+                CoordinatorRequestCache.SIZE_SETTING,
 
                 // Setting related to refresh optimisations
                 IndicesService.CLUSTER_REFRESH_FIXED_INTERVAL_SCHEDULE_ENABLED_SETTING,
@@ -37,6 +37,7 @@ class ContextPreservingExecutorService extends AbstractExecutorService {
         final Runnable contextPreserving = threadContext.preserveContext(command);
         delegate.execute(() -> {
             try {
+                beforeTask();
                 contextPreserving.run();
                 // Tasks submitted via submit()/invokeAll()/invokeAny() are RunnableFutures that capture any thrown
                 // Error instead of letting it propagate, so unwrap and rethrow it here the way
@@ -48,6 +49,12 @@ class ContextPreservingExecutorService extends AbstractExecutorService {
         });
     }
 
+    /**
+     * Invoked on the executing thread right before a task runs. {@link #onTaskFinished()} is invoked even if this throws.
+     * Does nothing by default.
+     */
+    protected void beforeTask() {}
+
     /**
      * Invoked on the executing thread once a task has finished, whether it completed normally or threw. Rethrowing a
      * fatal {@link Error} happens before this, so it is called from a finally block. Does nothing by default.
@@ -277,11 +277,31 @@ public class OpenSearchExecutors {
         final String nodeName,
         final String namePrefix,
         final ThreadContext threadContext
+    ) {
+        return newVirtualThreadPerTaskExecutor(nodeName, namePrefix, threadContext, -1);
+    }
+
+    /**
+     * Returns a new executor that creates a new virtual thread for each task, running at most {@code maxConcurrency}
+     * tasks at the same time.
+     *
+     * @param nodeName       the name of the node
+     * @param namePrefix     the name prefix for virtual threads
+     * @param threadContext  the thread context to preserve across task execution
+     * @param maxConcurrency the maximum number of tasks running at the same time, or {@code -1} for no limit
+     * @return a new virtual-thread-per-task executor
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(
+        final String nodeName,
+        final String namePrefix,
+        final ThreadContext threadContext,
+        final int maxConcurrency
     ) {
         assert nodeName != null && false == nodeName.isEmpty();
+        assert maxConcurrency == -1 || maxConcurrency > 0 : "invalid max concurrency [" + maxConcurrency + "]";
         final ThreadFactory threadFactory = Thread.ofVirtual().name(threadName(nodeName, namePrefix) + "#", 0).factory();
         final ExecutorService delegate = Executors.newThreadPerTaskExecutor(threadFactory);
-        return new VirtualThreadPerTaskExecutorService(delegate, threadContext);
+        return new VirtualThreadPerTaskExecutorService(delegate, threadContext, maxConcurrency);
     }
 
     /**
@@ -9,11 +9,16 @@
 package org.opensearch.common.util.concurrent;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An {@link ExecutorService} that runs each task on its own virtual thread, preserving the {@link ThreadContext} at
  * submission time.
+ * <p>
+ * The executor may limit how many tasks run at the same time. Virtual threads are cheap to park, so tasks over the limit
+ * are not queued but started right away, their virtual thread then waits for a permit before running the task.
  *
  * @opensearch.internal
  */
@@ -28,8 +33,25 @@ public class VirtualThreadPerTaskExecutorService extends ContextPreservingExecut
     /** Tasks that have finished, whether normally or by throwing. */
     private final LongAdder completed = new LongAdder();
 
+    /** Limits the number of tasks running at the same time, {@code null} if the executor is unbounded. */
+    private final Semaphore permits;
+
+    private final int maxConcurrency;
+
+    /** Tasks whose virtual thread is waiting for a permit. */
+    private final LongAdder waiting = new LongAdder();
+
+    /** The largest number of tasks that ran at the same time. */
+    private final AtomicInteger largest = new AtomicInteger();
+
     VirtualThreadPerTaskExecutorService(ExecutorService delegate, ThreadContext threadContext) {
+        this(delegate, threadContext, -1);
+    }
+
+    VirtualThreadPerTaskExecutorService(ExecutorService delegate, ThreadContext threadContext, int maxConcurrency) {
         super(delegate, threadContext);
+        this.maxConcurrency = maxConcurrency;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
     }
 
     @Override
@@ -47,16 +69,53 @@ public class VirtualThreadPerTaskExecutorService extends ContextPreservingExecut
         }
     }
 
+    @Override
+    protected void beforeTask() {
+        if (permits != null) {
+            if (permits.tryAcquire() == false) {
+                waiting.increment();
+                try {
+                    // a task that was handed to the executor must run, so it can't give up on waiting when interrupted
+                    permits.acquireUninterruptibly();
+                } finally {
+                    waiting.decrement();
+                }
+            }
+            largest.accumulateAndGet(maxConcurrency - permits.availablePermits(), Math::max);
+        }
+    }
+
     @Override
     protected void onTaskFinished() {
+        if (permits != null) {
+            permits.release();
+        }
         active.decrement();
         completed.increment();
     }
 
     /**
-     * Returns the number of tasks that have been submitted but have not yet finished.
+     * Returns whether the number of concurrently running tasks is limited.
+     */
+    public boolean isBounded() {
+        return permits != null;
+    }
+
+    /**
+     * Returns the maximum number of tasks that run at the same time, or {@code -1} if the executor is unbounded.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of tasks that have been submitted but have not yet finished. For a bounded executor, tasks
+     * waiting for a permit are not counted, see {@link #getQueueSize()}.
      */
     public int getActiveCount() {
+        if (permits != null) {
+            return maxConcurrency - permits.availablePermits();
+        }
         // Clamp to zero because LongAdder::sum isn't atomic when concurrent updates
         // happen but is good enough for stats.
         // Do a simple cast to int because if active count exceeds max int we have
@@ -70,4 +129,18 @@ public class VirtualThreadPerTaskExecutorService extends ContextPreservingExecut
     public long getCompletedTaskCount() {
         return completed.sum();
     }
+
+    /**
+     * Returns the number of tasks waiting for a permit to run, always {@code 0} for an unbounded executor.
+     */
+    public int getQueueSize() {
+        return (int) Math.max(0, waiting.sum());
+    }
+
+    /**
+     * Returns the largest number of tasks that ran at the same time, always {@code 0} for an unbounded executor.
+     */
+    public int getLargestActiveCount() {
+        return largest.get();
+    }
 }
@@ -22,6 +22,7 @@ import org.opensearch.cluster.coordination.CoordinationMetadata;
 import org.opensearch.cluster.coordination.PersistedStateStats;
 import org.opensearch.cluster.metadata.DiffableStringMap;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingDeduplicator;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.metadata.Metadata.XContentContext;
 import org.opensearch.cluster.metadata.TemplatesMetadata;
@@ -1485,12 +1486,14 @@ public class RemoteClusterStateService implements Closeable {
         metadataBuilder.clusterUUID(manifest.getClusterUUID());
         metadataBuilder.clusterUUIDCommitted(manifest.isClusterUUIDCommitted());
         Map<String, IndexMetadata> indexMetadataMap = new HashMap<>();
+        // indices read from the remote store share the mappings of the previous state, and of each other
+        MappingDeduplicator mappingDeduplicator = new MappingDeduplicator(previousState.metadata());
         Map<String, IndexRoutingTable> indicesRouting = new HashMap<>(previousState.routingTable().getIndicesRouting());
 
         readResults.forEach(remoteReadResult -> {
             switch (remoteReadResult.getComponent()) {
                 case RemoteIndexMetadata.INDEX:
-                    IndexMetadata indexMetadata = (IndexMetadata) remoteReadResult.getObj();
+                    IndexMetadata indexMetadata = mappingDeduplicator.deduplicate((IndexMetadata) remoteReadResult.getObj());
                     indexMetadataMap.put(indexMetadata.getIndex().getName(), indexMetadata);
                     break;
                 case CUSTOM_METADATA:
@@ -176,6 +176,19 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * With {@code request} durability, how long sync requests for a local translog are buffered so that a single fsync serves all
+     * of them. Rounds run on the translog_sync thread pool. The default of {@code 0} syncs on the calling thread for whatever is
+     * queued at that point, which coalesces only the requests that arrive while another fsync is in flight.
+     */
+    public static final Setting<TimeValue> INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING = Setting.timeSetting(
+        "index.translog.group_commit_interval",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.IndexScope
+    );
+
     public static final Setting<TimeValue> INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING = Setting.timeSetting(
         "index.segment_replication.publish_referenced_segments_interval",
         TimeValue.timeValueMinutes(10),
@@ -485,6 +498,20 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * The number of lock stripes the engine's version map uses to serialize operations on the same document id. The default
+     * of {@code 0} allocates a lock per id on demand; a positive value hashes ids onto a fixed set of locks which avoids that
+     * allocation and the shared lock map for shards with many concurrent writers.
+     */
+    public static final Setting<Integer> INDEX_VERSION_MAP_LOCK_STRIPES_SETTING = Setting.intSetting(
+        "index.version_map.lock_stripes",
+        0,
+        0,
+        1 << 16,
+        Property.IndexScope,
+        Property.Final
+    );
+
     /**
      * Specifies if the index should use soft-delete instead of hard-delete for update/delete operations.
      * Soft-deletes is enabled by default for Legacy 7.x and 1.x indices and mandatory for 2.0+ indices.
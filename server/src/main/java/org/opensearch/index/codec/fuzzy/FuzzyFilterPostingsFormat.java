@@ -101,6 +101,27 @@ public final class FuzzyFilterPostingsFormat extends PostingsFormat {
         return new FuzzyFilteredFieldsProducer(state);
     }
 
+    /**
+     * Returns the fuzzy set fronting the given terms, or {@code null} if the terms were not written with a fuzzy filter.
+     */
+    public static FuzzySet getFuzzySet(Terms terms) {
+        if (terms instanceof FuzzyFilteredFieldsProducer.FuzzyFilteredTerms) {
+            return ((FuzzyFilteredFieldsProducer.FuzzyFilteredTerms) terms).filter;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the terms that the fuzzy filter fronts, so that callers which already checked {@link #getFuzzySet(Terms)} don't check
+     * the filter a second time when seeking, or the given terms if they were not written with a fuzzy filter.
+     */
+    public static Terms unwrapFuzzyFilteredTerms(Terms terms) {
+        if (terms instanceof FuzzyFilteredFieldsProducer.FuzzyFilteredTerms) {
+            return ((FuzzyFilteredFieldsProducer.FuzzyFilteredTerms) terms).delegateTerms;
+        }
+        return terms;
+    }
+
     static class FuzzyFilteredFieldsProducer extends FieldsProducer {
         private FieldsProducer delegateFieldsProducer;
         HashMap<String, FuzzySet> fuzzySetsByFieldName = new HashMap<>();
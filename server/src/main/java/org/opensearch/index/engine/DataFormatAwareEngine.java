@@ -35,6 +35,7 @@ import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.AppendOnlyIndexOperationRetryException;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.dataformat.DataFormat;
 import org.opensearch.index.engine.dataformat.DataFormatRegistry;
@@ -285,7 +286,9 @@ public class DataFormatAwareEngine implements Indexer {
             ? engineConfig.getDocumentMetadataResolver()
             : DocumentMetadataResolver.NOOP;
         this.documentLookup = new DocumentLookupSupport(shardId, this.documentLookupProvider, this.documentMetadataResolver);
-        this.versionMap = new LiveVersionMap();
+        this.versionMap = new LiveVersionMap(
+            engineConfig.getIndexSettings().getValue(IndexSettings.INDEX_VERSION_MAP_LOCK_STRIPES_SETTING)
+        );
 
         List<ReferenceManager.RefreshListener> refreshListeners = new ArrayList<>();
         refreshListeners.add(versionMap);
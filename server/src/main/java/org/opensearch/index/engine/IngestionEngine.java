@@ -169,6 +169,7 @@ public class IngestionEngine extends InternalEngine {
                 .pollTimeout(ingestionSource.getPollTimeout())
                 .numProcessorThreads(ingestionSource.getNumProcessorThreads())
                 .blockingQueueSize(ingestionSource.getBlockingQueueSize())
+                .processorBatchSize(ingestionSource.getProcessorBatchSize())
                 .pointerBasedLagUpdateInterval(ingestionSource.getPointerBasedLagUpdateInterval().millis())
                 .mapperType(ingestionSource.getMapperType())
                 .mapperSettings(ingestionSource.getMapperSettings())
@@ -555,7 +556,8 @@ public class IngestionEngine extends InternalEngine {
         return new PollingIngestStats(
             pollerStats.getMessageProcessorStats(),
             pollerStats.getConsumerStats(),
-            pipelineExecutor.getMetrics()
+            pipelineExecutor.getMetrics(),
+            pollerStats.getProcessorBatchStats()
         );
     }
 
@@ -163,7 +163,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
 
     @Nullable
     protected final String historyUUID;
@@ -230,6 +230,9 @@ public class InternalEngine extends Engine {
         TranslogEventListener translogEventListener
     ) {
         super(engineConfig);
+        this.versionMap = new LiveVersionMap(
+            engineConfig.getIndexSettings().getValue(IndexSettings.INDEX_VERSION_MAP_LOCK_STRIPES_SETTING)
+        );
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -736,7 +739,11 @@ public class InternalEngine extends Engine {
             // load from index
             assert incrementIndexVersionLookup();
             try (Searcher searcher = acquireSearcher("load_seq_no", SearcherScope.INTERNAL)) {
-                final DocIdAndSeqNo docAndSeqNo = VersionsAndSeqNoResolver.loadDocIdAndSeqNo(searcher.getIndexReader(), op.uid());
+                final DocIdAndSeqNo docAndSeqNo = VersionsAndSeqNoResolver.loadDocIdAndSeqNo(
+                    searcher.getIndexReader(),
+                    op.uid(),
+                    idLookupStats
+                );
                 if (docAndSeqNo == null) {
                     status = OpVsEngineDocStatus.DOC_NOT_FOUND;
                 } else if (op.seqNo() > docAndSeqNo.seqNo) {
@@ -777,7 +784,8 @@ public class InternalEngine extends Engine {
                     searcher.getIndexReader(),
                     op.uid(),
                     loadSeqNo,
-                    currentCriteria
+                    currentCriteria,
+                    idLookupStats
                 );
             }
             if (docIdAndVersion != null) {
@@ -1882,6 +1890,7 @@ public class InternalEngine extends Engine {
         stats.addVersionMapMemoryInBytes(versionMap.ramBytesUsed());
         stats.addIndexWriterMemoryInBytes(documentIndexWriter.ramBytesUsed());
         stats.updateMaxUnsafeAutoIdTimestamp(maxUnsafeAutoIdTimestamp.get());
+        stats.addIdLookupStats(idLookupStats.getLookups(), idLookupStats.getSegmentsSearched(), idLookupStats.getSegmentsSkipped());
     }
 
     @Override
@@ -45,6 +45,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Maps _uid value to its version information.
@@ -53,7 +54,118 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    private final UidLocks uidLocks;
+
+    LiveVersionMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a version map that guards its uids with the given number of lock stripes. A value of {@code 0} uses a
+     * {@link KeyedLock} which allocates a dedicated lock per uid, any positive value is rounded up to the next power of two
+     * and uids are hashed onto a fixed array of locks instead.
+     */
+    LiveVersionMap(int lockStripes) {
+        if (lockStripes < 0) {
+            throw new IllegalArgumentException("lock stripes must be >= 0 but was [" + lockStripes + "]");
+        }
+        this.uidLocks = lockStripes == 0 ? new KeyedUidLocks() : new StripedUidLocks(lockStripes);
+    }
+
+    /**
+     * Strategy used to serialize operations on the same uid.
+     *
+     * @opensearch.internal
+     */
+    private interface UidLocks {
+
+        Releasable acquire(BytesRef uid);
+
+        /**
+         * Returns the lock for the given uid or {@code null} if it can't be acquired without blocking.
+         */
+        Releasable tryAcquire(BytesRef uid);
+
+        boolean isHeldByCurrentThread(BytesRef uid);
+    }
+
+    /**
+     * Allocates a lock per uid on demand and removes it once no thread holds it anymore.
+     *
+     * @opensearch.internal
+     */
+    private static final class KeyedUidLocks implements UidLocks {
+
+        private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+
+        @Override
+        public Releasable acquire(BytesRef uid) {
+            return keyedLock.acquire(uid);
+        }
+
+        @Override
+        public Releasable tryAcquire(BytesRef uid) {
+            return keyedLock.tryAcquire(uid);
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread(BytesRef uid) {
+            return keyedLock.isHeldByCurrentThread(uid);
+        }
+    }
+
+    /**
+     * Hashes uids onto a fixed, power of two sized array of reentrant locks. Unlike {@link KeyedUidLocks} this doesn't allocate
+     * or publish anything into a shared map per operation which removes that contention point for write heavy shards, at the cost
+     * of unrelated uids that land on the same stripe serializing against each other. The engine never holds more than one uid lock
+     * with a blocking acquire at a time, so sharing a stripe can't deadlock.
+     *
+     * @opensearch.internal
+     */
+    private static final class StripedUidLocks implements UidLocks {
+
+        private final ReentrantLock[] stripes;
+        private final int mask;
+
+        StripedUidLocks(int numStripes) {
+            int size = 1;
+            while (size < numStripes) {
+                size <<= 1;
+            }
+            this.stripes = new ReentrantLock[size];
+            for (int i = 0; i < size; i++) {
+                stripes[i] = new ReentrantLock();
+            }
+            this.mask = size - 1;
+        }
+
+        private ReentrantLock stripe(BytesRef uid) {
+            final int hash = uid.hashCode();
+            return stripes[(hash ^ (hash >>> 16)) & mask];
+        }
+
+        @Override
+        public Releasable acquire(BytesRef uid) {
+            final ReentrantLock lock = stripe(uid);
+            lock.lock();
+            return lock::unlock;
+        }
+
+        @Override
+        public Releasable tryAcquire(BytesRef uid) {
+            final ReentrantLock lock = stripe(uid);
+            if (lock.tryLock()) {
+                return lock::unlock;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread(BytesRef uid) {
+            // this also returns true if the current thread holds the stripe on behalf of another uid, which is the best we can do
+            return stripe(uid).isHeldByCurrentThread();
+        }
+    }
 
     /**
      * Looks up document version
@@ -421,7 +533,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // we won't collect the tombstone below since it must be newer than this one.
             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
                 final BytesRef uid = entry.getKey();
-                try (Releasable lock = keyedLock.tryAcquire(uid)) {
+                try (Releasable lock = uidLocks.tryAcquire(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
@@ -498,11 +610,11 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * @see KeyedLock
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        return uidLocks.acquire(uid);
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        assert uidLocks.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
     }
 }
@@ -63,6 +63,9 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
     private long versionMapMemoryInBytes;
     private long maxUnsafeAutoIdTimestamp = Long.MIN_VALUE;
     private long bitsetMemoryInBytes;
+    private long idLookupCount;
+    private long idLookupSegmentsSearched;
+    private long idLookupSegmentsSkipped;
     private final Map<String, Long> fileSizes;
     private final RemoteSegmentStats remoteSegmentStats;
     private static final ByteSizeValue ZERO_BYTE_SIZE_VALUE = new ByteSizeValue(0L);
@@ -136,6 +139,11 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             remoteSegmentStats = new RemoteSegmentStats();
             replicationStats = new ReplicationStats();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            idLookupCount = in.readVLong();
+            idLookupSegmentsSearched = in.readVLong();
+            idLookupSegmentsSkipped = in.readVLong();
+        }
     }
 
     public void add(long count) {
@@ -158,6 +166,12 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         this.bitsetMemoryInBytes += bitsetMemoryInBytes;
     }
 
+    public void addIdLookupStats(long idLookupCount, long idLookupSegmentsSearched, long idLookupSegmentsSkipped) {
+        this.idLookupCount += idLookupCount;
+        this.idLookupSegmentsSearched += idLookupSegmentsSearched;
+        this.idLookupSegmentsSkipped += idLookupSegmentsSkipped;
+    }
+
     public void addRemoteSegmentStats(RemoteSegmentStats remoteSegmentStats) {
         this.remoteSegmentStats.add(remoteSegmentStats);
     }
@@ -183,6 +197,7 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         addIndexWriterMemoryInBytes(mergeStats.indexWriterMemoryInBytes);
         addVersionMapMemoryInBytes(mergeStats.versionMapMemoryInBytes);
         addBitsetMemoryInBytes(mergeStats.bitsetMemoryInBytes);
+        addIdLookupStats(mergeStats.idLookupCount, mergeStats.idLookupSegmentsSearched, mergeStats.idLookupSegmentsSkipped);
         addFileSizes(mergeStats.fileSizes);
         addRemoteSegmentStats(mergeStats.remoteSegmentStats);
         addReplicationStats(mergeStats.replicationStats);
@@ -228,6 +243,28 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(bitsetMemoryInBytes);
     }
 
+    /**
+     * The number of {@code _id} lookups that were resolved against the index rather than the live version map.
+     */
+    public long getIdLookupCount() {
+        return idLookupCount;
+    }
+
+    /**
+     * The number of segments whose {@code _id} terms were searched by {@code _id} lookups.
+     */
+    public long getIdLookupSegmentsSearched() {
+        return idLookupSegmentsSearched;
+    }
+
+    /**
+     * The number of segments that {@code _id} lookups skipped without searching their {@code _id} terms, because the segment's
+     * {@code _id} fuzzy filter ruled the id out.
+     */
+    public long getIdLookupSegmentsSkipped() {
+        return idLookupSegmentsSkipped;
+    }
+
     /** Returns mapping of file names to their size (only used in tests) */
     public Map<String, Long> getFileSizes() {
         return Collections.unmodifiableMap(this.fileSizes);
@@ -265,6 +302,9 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.VERSION_MAP_MEMORY_IN_BYTES, Fields.VERSION_MAP_MEMORY, getVersionMapMemory());
         builder.humanReadableField(Fields.FIXED_BIT_SET_MEMORY_IN_BYTES, Fields.FIXED_BIT_SET, getBitsetMemory());
         builder.field(Fields.MAX_UNSAFE_AUTO_ID_TIMESTAMP, maxUnsafeAutoIdTimestamp);
+        builder.field(Fields.ID_LOOKUP_TOTAL, idLookupCount);
+        builder.field(Fields.ID_LOOKUP_SEGMENTS_SEARCHED, idLookupSegmentsSearched);
+        builder.field(Fields.ID_LOOKUP_SEGMENTS_SKIPPED, idLookupSegmentsSkipped);
         remoteSegmentStats.toXContent(builder, params);
         replicationStats.toXContent(builder, params);
         builder.startObject(Fields.FILE_SIZES);
@@ -306,6 +346,9 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         static final String VERSION_MAP_MEMORY = "version_map_memory";
         static final String VERSION_MAP_MEMORY_IN_BYTES = "version_map_memory_in_bytes";
         static final String MAX_UNSAFE_AUTO_ID_TIMESTAMP = "max_unsafe_auto_id_timestamp";
+        static final String ID_LOOKUP_TOTAL = "id_lookup_total";
+        static final String ID_LOOKUP_SEGMENTS_SEARCHED = "id_lookup_segments_searched";
+        static final String ID_LOOKUP_SEGMENTS_SKIPPED = "id_lookup_segments_skipped";
         static final String FIXED_BIT_SET = "fixed_bit_set";
         static final String FIXED_BIT_SET_MEMORY_IN_BYTES = "fixed_bit_set_memory_in_bytes";
         static final String FILE_SIZES = "file_sizes";
@@ -337,6 +380,11 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
             out.writeOptionalWriteable(remoteSegmentStats);
             out.writeOptionalWriteable(replicationStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(idLookupCount);
+            out.writeVLong(idLookupSegmentsSearched);
+            out.writeVLong(idLookupSegmentsSkipped);
+        }
     }
 
     public void clearFileSizes() {
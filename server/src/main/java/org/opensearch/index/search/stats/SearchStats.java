@@ -44,6 +44,7 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentFragment;
@@ -178,6 +179,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long starTreeQueryCurrent;
         private long starTreeQueryFailed;
 
+        private long pinnedSegmentsSizeInBytes;
+
+        private long hedgedShardRequestCount;
+        private long hedgedShardRequestWonCount;
+
         @Nullable
         private RequestStatsLongHolder requestStatsLongHolder;
 
@@ -228,6 +234,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.starTreeQueryTimeInMillis = builder.starTreeQueryTimeInMillis;
             this.starTreeQueryCurrent = builder.starTreeQueryCurrent;
             this.starTreeQueryFailed = builder.starTreeQueryFailed;
+
+            this.pinnedSegmentsSizeInBytes = builder.pinnedSegmentsSizeInBytes;
         }
 
         /**
@@ -334,6 +342,12 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 queryFailedCount = in.readVLong();
                 starTreeQueryFailed = in.readVLong();
             }
+
+            if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+                pinnedSegmentsSizeInBytes = in.readVLong();
+                hedgedShardRequestCount = in.readVLong();
+                hedgedShardRequestWonCount = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -369,6 +383,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
             starTreeQueryTimeInMillis += stats.starTreeQueryTimeInMillis;
             starTreeQueryCurrent += stats.starTreeQueryCurrent;
             starTreeQueryFailed += stats.starTreeQueryFailed;
+
+            pinnedSegmentsSizeInBytes += stats.pinnedSegmentsSizeInBytes;
+
+            hedgedShardRequestCount += stats.hedgedShardRequestCount;
+            hedgedShardRequestWonCount += stats.hedgedShardRequestWonCount;
         }
 
         public void addForClosingShard(Stats stats) {
@@ -534,6 +553,31 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return starTreeQueryFailed;
         }
 
+        /**
+         * The total size of the segments held open by scroll and point in time contexts.
+         */
+        public ByteSizeValue getPinnedSegmentsSize() {
+            return new ByteSizeValue(pinnedSegmentsSizeInBytes);
+        }
+
+        public long getPinnedSegmentsSizeInBytes() {
+            return pinnedSegmentsSizeInBytes;
+        }
+
+        /**
+         * The number of hedged shard requests the node sent as coordinator.
+         */
+        public long getHedgedShardRequestCount() {
+            return hedgedShardRequestCount;
+        }
+
+        /**
+         * The number of hedged shard requests that responded before the copy they hedged.
+         */
+        public long getHedgedShardRequestWonCount() {
+            return hedgedShardRequestWonCount;
+        }
+
         public static Stats readStats(StreamInput in) throws IOException {
             return new Stats(in);
         }
@@ -603,6 +647,12 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 out.writeVLong(queryFailedCount);
                 out.writeVLong(starTreeQueryFailed);
             }
+
+            if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+                out.writeVLong(pinnedSegmentsSizeInBytes);
+                out.writeVLong(hedgedShardRequestCount);
+                out.writeVLong(hedgedShardRequestWonCount);
+            }
         }
 
         @Override
@@ -634,6 +684,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.humanReadableField(Fields.PIT_TIME_IN_MILLIS, Fields.PIT_TIME, getPitTime());
             builder.field(Fields.PIT_CURRENT, pitCurrent);
 
+            builder.humanReadableField(Fields.PINNED_SEGMENTS_SIZE_IN_BYTES, Fields.PINNED_SEGMENTS_SIZE, getPinnedSegmentsSize());
+
             builder.field(Fields.SUGGEST_TOTAL, suggestCount);
             builder.humanReadableField(Fields.SUGGEST_TIME_IN_MILLIS, Fields.SUGGEST_TIME, getSuggestTime());
             builder.field(Fields.SUGGEST_CURRENT, suggestCurrent);
@@ -663,6 +715,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
                     builder.field(Fields.TOTAL, statsLongHolder.total);
                     builder.endObject();
                 }
+
+                builder.startObject(Fields.HEDGED_SHARD_REQUESTS);
+                builder.field(Fields.TOTAL, hedgedShardRequestCount);
+                builder.field(Fields.WON, hedgedShardRequestWonCount);
+                builder.endObject();
                 builder.endObject();
             }
             return builder;
@@ -698,6 +755,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             private long starTreeQueryTimeInMillis = 0;
             private long starTreeQueryCurrent = 0;
             private long starTreeQueryFailed = 0;
+            private long pinnedSegmentsSizeInBytes = 0;
             @Nullable
             private RequestStatsLongHolder requestStatsLongHolder = null;
 
@@ -828,6 +886,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 return this;
             }
 
+            public Builder pinnedSegmentsSizeInBytes(long sizeInBytes) {
+                this.pinnedSegmentsSizeInBytes = sizeInBytes;
+                return this;
+            }
+
             /**
              * Creates a {@link Stats} object from the builder's current state.
              * @return A new Stats instance.
@@ -875,6 +938,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 )
             );
         }
+
+        // Set hedged shard request stats
+        totalStats.hedgedShardRequestCount = searchRequestStats.getHedgedShardRequestsTotal();
+        totalStats.hedgedShardRequestWonCount = searchRequestStats.getHedgedShardRequestsWon();
     }
 
     public SearchStats(Stats totalStats, long openContexts, @Nullable Map<String, Stats> groupStats) {
@@ -994,6 +1061,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String PIT_TIME = "point_in_time_time";
         static final String PIT_TIME_IN_MILLIS = "point_in_time_time_in_millis";
         static final String PIT_CURRENT = "point_in_time_current";
+        static final String PINNED_SEGMENTS_SIZE = "pinned_segments_size";
+        static final String PINNED_SEGMENTS_SIZE_IN_BYTES = "pinned_segments_size_in_bytes";
         static final String SUGGEST_TOTAL = "suggest_total";
         static final String SUGGEST_TIME = "suggest_time";
         static final String SUGGEST_TIME_IN_MILLIS = "suggest_time_in_millis";
@@ -1005,6 +1074,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String TOTAL = "total";
         static final String SEARCH_IDLE_REACTIVATE_COUNT_TOTAL = "search_idle_reactivate_count_total";
         static final String TOOK = "took";
+        static final String HEDGED_SHARD_REQUESTS = "hedged_shard_requests";
+        static final String WON = "won";
 
     }
 
@@ -36,6 +36,7 @@ import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.regex.Regex;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.search.internal.ReaderContext;
@@ -43,6 +44,7 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -58,6 +60,7 @@ public final class ShardSearchStats implements SearchOperationListener {
     private final StatsHolder totalStats = new StatsHolder();
     private final CounterMetric openContexts = new CounterMetric();
     private volatile Map<String, StatsHolder> groupsStats = emptyMap();
+    private final Set<ReaderContext> longLivedContexts = ConcurrentCollections.newConcurrentSet();
 
     /**
      * Returns the stats, including group specific stats. If the groups are null/0 length, then nothing
@@ -65,7 +68,7 @@ public final class ShardSearchStats implements SearchOperationListener {
      * {@code _all} for all groups.
      */
     public SearchStats stats(String... groups) {
-        SearchStats.Stats total = totalStats.stats();
+        SearchStats.Stats total = totalStats.stats(pinnedSegmentsSizeInBytes());
         Map<String, SearchStats.Stats> groupsSt = null;
         if (CollectionUtils.isEmpty(groups) == false) {
             groupsSt = new HashMap<>(groupsStats.size());
@@ -84,6 +87,22 @@ public final class ShardSearchStats implements SearchOperationListener {
         return new SearchStats(total, openContexts.count(), groupsSt);
     }
 
+    /**
+     * Sums up the sizes of the segments held open by scroll and point in time contexts, counting segments shared by
+     * several contexts only once.
+     */
+    private long pinnedSegmentsSizeInBytes() {
+        final Map<String, Long> pinnedSegments = new HashMap<>();
+        for (ReaderContext readerContext : longLivedContexts) {
+            pinnedSegments.putAll(readerContext.getSegmentSizesInBytes());
+        }
+        long sizeInBytes = 0;
+        for (long segmentSizeInBytes : pinnedSegments.values()) {
+            sizeInBytes += segmentSizeInBytes;
+        }
+        return sizeInBytes;
+    }
+
     @Override
     public void onPreQueryPhase(SearchContext searchContext) {
         computeStats(searchContext, statsHolder -> {
@@ -206,10 +225,12 @@ public final class ShardSearchStats implements SearchOperationListener {
     @Override
     public void onNewScrollContext(ReaderContext readerContext) {
         totalStats.scrollCurrent.inc();
+        longLivedContexts.add(readerContext);
     }
 
     @Override
     public void onFreeScrollContext(ReaderContext readerContext) {
+        longLivedContexts.remove(readerContext);
         totalStats.scrollCurrent.dec();
         assert totalStats.scrollCurrent.count() >= 0;
         totalStats.scrollMetric.inc(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readerContext.getStartTimeInNano()));
@@ -218,10 +239,12 @@ public final class ShardSearchStats implements SearchOperationListener {
     @Override
     public void onNewPitContext(ReaderContext readerContext) {
         totalStats.pitCurrent.inc();
+        longLivedContexts.add(readerContext);
     }
 
     @Override
     public void onFreePitContext(ReaderContext readerContext) {
+        longLivedContexts.remove(readerContext);
         totalStats.pitCurrent.dec();
         assert totalStats.pitCurrent.count() >= 0;
         totalStats.pitMetric.inc(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readerContext.getStartTimeInNano()));
@@ -265,6 +288,10 @@ public final class ShardSearchStats implements SearchOperationListener {
         final CounterMetric starTreeQueryFailed = new CounterMetric();
 
         SearchStats.Stats stats() {
+            return stats(0);
+        }
+
+        SearchStats.Stats stats(long pinnedSegmentsSizeInBytes) {
             return new SearchStats.Stats.Builder().queryCount(queryMetric.count())
                 .queryTimeInMillis(TimeUnit.NANOSECONDS.toMillis(queryMetric.sum()))
                 .queryCurrent(queryCurrent.count())
@@ -290,6 +317,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                 .starTreeQueryTimeInMillis(TimeUnit.NANOSECONDS.toMillis(starTreeQueryMetric.sum()))
                 .starTreeQueryCurrent(starTreeCurrent.count())
                 .starTreeQueryFailed(starTreeQueryFailed.count())
+                .pinnedSegmentsSizeInBytes(pinnedSegmentsSizeInBytes)
                 .build();
         }
     }
@@ -479,12 +479,17 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexSortSupplier = indexSortSupplier;
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
+        final TimeValue translogGroupCommitInterval = indexSettings.getValue(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING);
         this.translogSyncProcessor = createTranslogSyncProcessor(
             logger,
             threadPool,
             this::getIndexer,
-            indexSettings.isAssignedOnRemoteNode(),
-            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+            indexSettings.isAssignedOnRemoteNode() || translogGroupCommitInterval.nanos() > 0,
+            indexSettings.isAssignedOnRemoteNode()
+                ? () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+                : () -> translogGroupCommitInterval,
+            translogSyncRounds,
+            translogSyncRequests
         );
         this.mergedSegmentTransferTracker = new MergedSegmentTransferTracker();
         this.mapperService = mapperService;
@@ -1735,6 +1740,11 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     public TranslogStats translogStats() {
         TranslogStats translogStats = getIndexer().translogManager().getTranslogStats();
+        translogStats.addSyncStats(
+            translogSyncRounds.count(),
+            translogSyncRequests.count(),
+            TimeUnit.NANOSECONDS.toMillis(translogSyncRounds.sum())
+        );
         // Populate remote_store stats only if the index is remote store backed
         if (indexSettings.isAssignedOnRemoteNode()) {
             translogStats.addRemoteTranslogStats(
@@ -5204,20 +5214,28 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    // count and time (in nanos) of the rounds run by the translog sync processor, and the sync requests they served
+    private final MeanMetric translogSyncRounds = new MeanMetric();
+    private final CounterMetric translogSyncRequests = new CounterMetric();
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
         Logger logger,
         ThreadPool threadPool,
         Supplier<Indexer> engineSupplier,
         boolean bufferAsyncIoProcessor,
-        Supplier<TimeValue> bufferIntervalSupplier
+        Supplier<TimeValue> bufferIntervalSupplier,
+        MeanMetric syncRounds,
+        CounterMetric syncRequests
     ) {
         assert bufferAsyncIoProcessor == false || Objects.nonNull(bufferIntervalSupplier)
             : "If bufferAsyncIoProcessor is true, then the bufferIntervalSupplier needs to be non null";
         ThreadContext threadContext = threadPool.getThreadContext();
         CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writeConsumer = candidates -> {
+            final long startTimeNanos = System.nanoTime();
             try {
                 engineSupplier.get().translogManager().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
+                syncRounds.inc(System.nanoTime() - startTimeNanos);
+                syncRequests.inc(candidates.size());
             } catch (AlreadyClosedException ex) {
                 // that's fine since we already synced everything on engine close - this also is conform with the methods
                 // documentation
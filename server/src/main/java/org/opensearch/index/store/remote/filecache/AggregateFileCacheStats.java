@@ -8,7 +8,9 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -40,6 +42,8 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
     private final FileCacheStats fullFileCacheStats;
     private final FileCacheStats blockFileCacheStats;
     private final FileCacheStats pinnedFileCacheStats;
+    private final long lockContentionCount;
+    private final long lockWaitTimeInNanos;
 
     public AggregateFileCacheStats(
         final long timestamp,
@@ -47,12 +51,26 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         final FileCacheStats fullFileCacheStats,
         final FileCacheStats blockFileCacheStats,
         FileCacheStats pinnedFileCacheStats
+    ) {
+        this(timestamp, overallFileCacheStats, fullFileCacheStats, blockFileCacheStats, pinnedFileCacheStats, 0L, 0L);
+    }
+
+    public AggregateFileCacheStats(
+        final long timestamp,
+        final FileCacheStats overallFileCacheStats,
+        final FileCacheStats fullFileCacheStats,
+        final FileCacheStats blockFileCacheStats,
+        final FileCacheStats pinnedFileCacheStats,
+        final long lockContentionCount,
+        final long lockWaitTimeInNanos
     ) {
         this.timestamp = timestamp;
         this.overallFileCacheStats = overallFileCacheStats;
         this.fullFileCacheStats = fullFileCacheStats;
         this.blockFileCacheStats = blockFileCacheStats;
         this.pinnedFileCacheStats = pinnedFileCacheStats;
+        this.lockContentionCount = lockContentionCount;
+        this.lockWaitTimeInNanos = lockWaitTimeInNanos;
     }
 
     public AggregateFileCacheStats(final StreamInput in) throws IOException {
@@ -61,6 +79,13 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         this.fullFileCacheStats = new FileCacheStats(in);
         this.blockFileCacheStats = new FileCacheStats(in);
         this.pinnedFileCacheStats = new FileCacheStats(in);
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            this.lockContentionCount = in.readVLong();
+            this.lockWaitTimeInNanos = in.readVLong();
+        } else {
+            this.lockContentionCount = 0L;
+            this.lockWaitTimeInNanos = 0L;
+        }
     }
 
     public static short calculatePercentage(long used, long max) {
@@ -78,6 +103,10 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         fullFileCacheStats.writeTo(out);
         blockFileCacheStats.writeTo(out);
         pinnedFileCacheStats.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(lockContentionCount);
+            out.writeVLong(lockWaitTimeInNanos);
+        }
     }
 
     public long getTimestamp() {
@@ -128,6 +157,28 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         return overallFileCacheStats.getCacheMisses();
     }
 
+    /**
+     * Returns the ratio of lookups that were hits, or {@code 0} if there were no lookups yet.
+     */
+    public double getCacheHitRatio() {
+        final long requests = getCacheHits() + getCacheMisses();
+        return requests == 0 ? 0.0 : (double) getCacheHits() / requests;
+    }
+
+    /**
+     * Returns how many times a thread had to wait for a file cache segment lock held by another thread.
+     */
+    public long getLockContentionCount() {
+        return lockContentionCount;
+    }
+
+    /**
+     * Returns the total time threads spent waiting for file cache segment locks.
+     */
+    public long getLockWaitTimeInNanos() {
+        return lockWaitTimeInNanos;
+    }
+
     // visible for testing.
     public FileCacheStats getBlockFileCacheStats() {
         return blockFileCacheStats;
@@ -159,6 +210,9 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.field(Fields.HIT_RATIO, getCacheHitRatio());
+        builder.field(Fields.LOCK_CONTENTION_COUNT, getLockContentionCount());
+        builder.humanReadableField(Fields.LOCK_WAIT_TIME_IN_MILLIS, Fields.LOCK_WAIT_TIME, TimeValue.timeValueNanos(lockWaitTimeInNanos));
         overallFileCacheStats.toXContent(builder, params);
         fullFileCacheStats.toXContent(builder, params);
         blockFileCacheStats.toXContent(builder, params);
@@ -188,6 +242,10 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String HIT_RATIO = "hit_ratio";
+        static final String LOCK_CONTENTION_COUNT = "lock_contention_count";
+        static final String LOCK_WAIT_TIME = "lock_wait_time";
+        static final String LOCK_WAIT_TIME_IN_MILLIS = "lock_wait_time_in_millis";
     }
 
     /**
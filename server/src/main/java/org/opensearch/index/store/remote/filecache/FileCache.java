@@ -294,7 +294,9 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 pinnedFileCacheStats.hitCount(),
                 pinnedFileCacheStats.missCount(),
                 FileCacheStatsType.PINNED_FILE_STATS
-            )
+            ),
+            theCache.lockContentionCount(),
+            theCache.lockWaitTimeNanos()
         );
     }
 
@@ -44,6 +44,20 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build());
     }
 
+    /**
+     * Creates a file cache whose segments, when {@code frequencyAware} is set, evict the least frequently accessed of their least
+     * recently used files instead of the least recently used one.
+     */
+    public static FileCache createConcurrentFileCache(long capacity, boolean frequencyAware) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).frequencyAware(frequencyAware).build());
+    }
+
+    public static FileCache createConcurrentFileCache(long capacity, int concurrencyLevel, boolean frequencyAware) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).frequencyAware(frequencyAware).build()
+        );
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
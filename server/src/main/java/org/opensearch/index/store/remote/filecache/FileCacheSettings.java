@@ -32,6 +32,16 @@ public class FileCacheSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Whether the file cache picks eviction victims by access frequency among its least recently used files, so that files which
+     * are read over and over survive a burst of one-off reads such as a scan.
+     */
+    public static final Setting<Boolean> FILE_CACHE_FREQUENCY_AWARE_EVICTION_SETTING = Setting.boolSetting(
+        "node.search.cache.frequency_aware_eviction",
+        false,
+        Setting.Property.NodeScope
+    );
+
     private volatile double remoteDataRatio;
 
     public FileCacheSettings(Settings settings, ClusterSettings clusterSettings) {
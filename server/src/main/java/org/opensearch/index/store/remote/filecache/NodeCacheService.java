@@ -123,7 +123,10 @@ public class NodeCacheService implements Closeable, BlockCacheRegistry {
             provider.setReservedCapacityBytes(reserved);
         }
 
-        FileCache fileCache = FileCacheFactory.createConcurrentLRUFileCache(fileCacheBytes);
+        FileCache fileCache = FileCacheFactory.createConcurrentFileCache(
+            fileCacheBytes,
+            FileCacheSettings.FILE_CACHE_FREQUENCY_AWARE_EVICTION_SETTING.get(settings)
+        );
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(fileCacheBytes, ByteSizeUnit.BYTES);
         restoreFileCacheFromDisk(settings, fileCacheNodePath, fileCache);
 
@@ -365,7 +368,9 @@ public class NodeCacheService implements Closeable, BlockCacheRegistry {
             ),
             merged.getFullFileCacheStats(),
             merged.getBlockFileCacheStats(),
-            merged.getPinnedFileCacheStats()
+            merged.getPinnedFileCacheStats(),
+            merged.getLockContentionCount(),
+            merged.getLockWaitTimeInNanos()
         );
     }
 
@@ -434,7 +439,9 @@ public class NodeCacheService implements Closeable, BlockCacheRegistry {
             mergedOverall,
             fc.getFullFileCacheStats(),
             mergedBlock,
-            fc.getPinnedFileCacheStats()
+            fc.getPinnedFileCacheStats(),
+            fc.getLockContentionCount(),
+            fc.getLockWaitTimeInNanos()
         );
     }
 
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+/**
+ * A count-min sketch that estimates how often a key has been accessed recently, in the spirit of the TinyLFU admission policy.
+ * Every key maps onto four 4-bit counters, its frequency being the smallest of them. Once the number of recorded accesses reaches
+ * ten times the table size all counters are halved, so that the estimate favours recent popularity over all-time popularity.
+ * <p>
+ * This class is not thread safe, callers are expected to guard it with the same lock that guards the cache it belongs to.
+ *
+ * @opensearch.internal
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    static final int MAX_FREQUENCY = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedEntries the number of entries the sketch should be able to tell apart, each {@code long} of the table holds
+     *                        sixteen counters
+     */
+    FrequencySketch(int expectedEntries) {
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("expectedEntries must be greater than 0");
+        }
+        int size = 16;
+        while (size < expectedEntries && size < (1 << 30)) {
+            size <<= 1;
+        }
+        this.table = new long[size];
+        this.tableMask = size - 1;
+        this.sampleSize = (int) Math.min(10L * size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of times the key was accessed within the current sample period, at most {@link #MAX_FREQUENCY}.
+     */
+    int frequency(Object key) {
+        final int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < 4; i++) {
+            final int shift = offsetOf(hash, i) << 2;
+            final int count = (int) ((table[indexOf(hash, i)] >>> shift) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key, halving all counters once the sample period is over.
+     */
+    void increment(Object key) {
+        final int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), offsetOf(hash, i));
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int offset) {
+        final int shift = offset << 2;
+        final long mask = 0xfL << shift;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << shift;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        // halving truncates odd counters, account for the lost increments so that the next sample period isn't cut short
+        additions = (additions - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += (h >>> 32);
+        return ((int) h) & tableMask;
+    }
+
+    private static int offsetOf(int hash, int i) {
+        return (hash >>> (i << 3)) & 15;
+    }
+
+    private static int spread(int h) {
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        return (h >>> 16) ^ h;
+    }
+}
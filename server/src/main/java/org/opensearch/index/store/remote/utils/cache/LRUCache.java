@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -42,6 +43,9 @@ import java.util.function.Predicate;
  * <li>Supports RemovalListener</li>
  * <li>Supports Cache Pinning.</li>
  * <li>Cache maintains it's capacity using LRU Eviction while ignoring entries with {@link Node#refCount} greater than 0 from eviction</li>
+ * <li>Optionally, eviction is frequency aware: the victim is the least frequently accessed entry, according to a
+ * {@link FrequencySketch}, among the least recently used ones. This keeps files that are read over and over from being flushed
+ * out by a burst of one-off reads such as a scan.</li>
  * </ul>
  * @see RefCountedCache
  *
@@ -64,6 +68,16 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     private final ReentrantLock lock;
 
+    /** Number of least recently used entries considered when choosing a victim with frequency aware eviction */
+    static final int EVICTION_CANDIDATES = 8;
+
+    /** Estimates access frequencies for frequency aware eviction, {@code null} for plain LRU eviction */
+    private final FrequencySketch frequencySketch;
+
+    // number of lock acquisitions that had to wait for another thread and the total time they waited, readable without the lock
+    private final LongAdder lockContentionCount = new LongAdder();
+    private final LongAdder lockWaitTimeNanos = new LongAdder();
+
     static class Node<K, V> {
         final K key;
 
@@ -89,7 +103,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this(capacity, listener, weigher, null);
+    }
+
+    LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher, FrequencySketch frequencySketch) {
         this.capacity = capacity;
+        this.frequencySketch = frequencySketch;
         this.listener = listener;
         this.weigher = weigher;
         this.data = new HashMap<>();
@@ -102,8 +121,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public V get(K key) {
         Objects.requireNonNull(key);
-        lock.lock();
+        acquireLock();
         try {
+            recordAccess(key);
             Node<K, V> node = data.get(key);
             // miss
             if (node == null) {
@@ -124,8 +144,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         Objects.requireNonNull(key);
         Objects.requireNonNull(value);
 
-        lock.lock();
+        acquireLock();
         try {
+            recordAccess(key);
             Node<K, V> node = data.get(key);
             if (node != null) {
                 final V oldValue = node.value;
@@ -144,8 +165,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
         Objects.requireNonNull(key);
         Objects.requireNonNull(remappingFunction);
-        lock.lock();
+        acquireLock();
         try {
+            recordAccess(key);
             final Node<K, V> node = data.get(key);
             if (node == null) {
                 final V newValue = remappingFunction.apply(key, null);
@@ -176,7 +198,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public void remove(K key) {
         Objects.requireNonNull(key);
-        lock.lock();
+        acquireLock();
         try {
             removeNode(key);
         } finally {
@@ -186,7 +208,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     // To be used only in testing framework.
     public void closeIndexInputReferences() {
-        lock.lock();
+        acquireLock();
         try {
             int closedEntries = 0;
             final Iterator<Node<K, V>> iterator = data.values().iterator();
@@ -204,7 +226,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     @Override
     public void clear() {
-        lock.lock();
+        acquireLock();
         try {
             lru.clear();
             final Iterator<Node<K, V>> iterator = data.values().iterator();
@@ -230,7 +252,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public void incRef(K key) {
         Objects.requireNonNull(key);
-        lock.lock();
+        acquireLock();
         try {
             Node<K, V> node = data.get(key);
             if (node != null) {
@@ -255,7 +277,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public void decRef(K key) {
         Objects.requireNonNull(key);
-        lock.lock();
+        acquireLock();
         try {
             Node<K, V> node = data.get(key);
             if (node != null && node.refCount > 0) {
@@ -285,7 +307,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public void pin(K key) {
         Objects.requireNonNull(key);
-        lock.lock();
+        acquireLock();
         try {
             Node<K, V> node = data.get(key);
             if (node != null) {
@@ -313,7 +335,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public void unpin(K key) {
         Objects.requireNonNull(key);
-        lock.lock();
+        acquireLock();
 
         try {
             Node<K, V> node = data.get(key);
@@ -337,7 +359,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public Integer getRef(K key) {
         Objects.requireNonNull(key);
-        lock.lock();
+        acquireLock();
         try {
             Node<K, V> node = data.get(key);
             if (node != null) {
@@ -352,7 +374,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public long prune(Predicate<K> keyPredicate) {
         long sum = 0L;
-        lock.lock();
+        acquireLock();
         try {
             final Iterator<Node<K, V>> iterator = lru.values().iterator();
             while (iterator.hasNext()) {
@@ -374,7 +396,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     @Override
     public long usage() {
-        lock.lock();
+        acquireLock();
         try {
             return statsCounter.usage();
         } finally {
@@ -384,7 +406,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     @Override
     public long activeUsage() {
-        lock.lock();
+        acquireLock();
         try {
             return statsCounter.activeUsage();
         } finally {
@@ -399,7 +421,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
      */
     @Override
     public long pinnedUsage() {
-        lock.lock();
+        acquireLock();
         try {
             return statsCounter.pinnedUsage();
         } finally {
@@ -409,7 +431,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     @Override
     public IRefCountedCacheStats stats() {
-        lock.lock();
+        acquireLock();
         try {
             return statsCounter.snapshot();
         } finally {
@@ -417,9 +439,23 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         }
     }
 
+    /**
+     * Returns how many times a thread had to wait for the lock of this cache because another thread held it.
+     */
+    public long lockContentionCount() {
+        return lockContentionCount.sum();
+    }
+
+    /**
+     * Returns the total time threads spent waiting for the lock of this cache, in nanoseconds.
+     */
+    public long lockWaitTimeNanos() {
+        return lockWaitTimeNanos.sum();
+    }
+
     // To be used only for debugging purposes
     public void logCurrentState() {
-        lock.lock();
+        acquireLock();
         try {
             final StringBuilder allFiles = new StringBuilder("\n");
             for (Map.Entry<K, Node<K, V>> entry : data.entrySet()) {
@@ -440,6 +476,22 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         }
     }
 
+    private void acquireLock() {
+        // only pay for the clock when the lock is actually contended
+        if (lock.tryLock() == false) {
+            final long startNanos = System.nanoTime();
+            lock.lock();
+            lockContentionCount.increment();
+            lockWaitTimeNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    private void recordAccess(K key) {
+        if (frequencySketch != null) {
+            frequencySketch.increment(key);
+        }
+    }
+
     private void addNode(K key, boolean pinned, V value) {
         final long weight = weigher.weightOf(value);
         Node<K, V> newNode = new Node<>(key, value, weight);
@@ -490,6 +542,10 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     private void evict() {
+        if (frequencySketch != null) {
+            evictByFrequency();
+            return;
+        }
         // Attempts to evict entries from the cache if it exceeds the maximum
         // capacity.
         final Iterator<Node<K, V>> iterator = lru.values().iterator();
@@ -502,4 +558,25 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
         }
     }
+
+    private void evictByFrequency() {
+        while (hasOverflowed() && lru.isEmpty() == false) {
+            // among the least recently used entries, evict the one that has been accessed least often
+            final Iterator<Node<K, V>> iterator = lru.values().iterator();
+            Node<K, V> victim = iterator.next();
+            int victimFrequency = frequencySketch.frequency(victim.key);
+            for (int i = 1; i < EVICTION_CANDIDATES && victimFrequency > 0 && iterator.hasNext(); i++) {
+                final Node<K, V> candidate = iterator.next();
+                final int frequency = frequencySketch.frequency(candidate.key);
+                if (frequency < victimFrequency) {
+                    victim = candidate;
+                    victimFrequency = frequency;
+                }
+            }
+            lru.remove(victim.key);
+            data.remove(victim.key, victim);
+            statsCounter.recordEviction(victim.value, victim.weight);
+            listener.onRemoval(new RemovalNotification<>(victim.key, victim.value, RemovalReason.CAPACITY));
+        }
+    }
 }
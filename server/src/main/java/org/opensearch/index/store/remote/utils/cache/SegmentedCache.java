@@ -38,13 +38,16 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(x - 1));
     }
 
+    /** Number of distinct keys the frequency sketch of a segment tracks when frequency aware eviction is enabled */
+    static final int SKETCH_ENTRIES_PER_SEGMENT = 1024;
+
     private final long capacity;
 
     private final long perSegmentCapacity;
     /**
      * The array of bins. Size is always a power of two.
      */
-    private final RefCountedCache<K, V>[] table;
+    private final LRUCache<K, V>[] table;
 
     /**
      * Mask value for indexing into segments.
@@ -60,14 +63,15 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            final FrequencySketch frequencySketch = builder.frequencyAware ? new FrequencySketch(SKETCH_ENTRIES_PER_SEGMENT) : null;
+            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher, frequencySketch);
         }
         this.capacity = perSegmentCapacity * segments;
     }
 
     @SuppressWarnings("unchecked")
-    final RefCountedCache<K, V>[] newSegmentArray(int size) {
-        return new RefCountedCache[size];
+    final LRUCache<K, V>[] newSegmentArray(int size) {
+        return new LRUCache[size];
     }
 
     RefCountedCache<K, V> segmentFor(K key) {
@@ -109,7 +113,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
     @Override
     public void clear() {
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             cache.clear();
         }
     }
@@ -117,7 +121,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public long size() {
         long size = 0;
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             size += cache.size();
         }
         return size;
@@ -156,7 +160,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public long prune() {
         long sum = 0L;
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             sum += cache.prune();
         }
         return sum;
@@ -165,7 +169,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public long prune(Predicate<K> keyPredicate) {
         long sum = 0L;
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             sum += cache.prune(keyPredicate);
         }
         return sum;
@@ -174,7 +178,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public long usage() {
         long totalUsage = 0L;
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             IRefCountedCacheStats c = cache.stats();
             totalUsage += c.usage();
 
@@ -185,7 +189,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public long activeUsage() {
         long totalActiveUsage = 0L;
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             IRefCountedCacheStats c = cache.stats();
             totalActiveUsage += c.activeUsage();
         }
@@ -200,7 +204,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     @Override
     public long pinnedUsage() {
         long totalPinnedUsage = 0L;
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             IRefCountedCacheStats c = cache.stats();
             totalPinnedUsage += c.pinnedUsage();
         }
@@ -214,7 +218,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         final RefCountedCacheStats totalFullFileCacheStats = new RefCountedCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
         final RefCountedCacheStats totalBlockFileCacheStats = new RefCountedCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
         final RefCountedCacheStats totalPinnedFileCacheStats = new RefCountedCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             AggregateRefCountedCacheStats aggregateStats = (AggregateRefCountedCacheStats) cache.stats();
 
             totalOverallCacheStats.accumulate(aggregateStats.getOverallCacheStats());
@@ -231,14 +235,36 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         );
     }
 
+    /**
+     * Returns how many times a thread had to wait for the lock of a segment because another thread held it.
+     */
+    public long lockContentionCount() {
+        long count = 0L;
+        for (LRUCache<K, V> cache : table) {
+            count += cache.lockContentionCount();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total time threads spent waiting for segment locks, in nanoseconds.
+     */
+    public long lockWaitTimeNanos() {
+        long nanos = 0L;
+        for (LRUCache<K, V> cache : table) {
+            nanos += cache.lockWaitTimeNanos();
+        }
+        return nanos;
+    }
+
     // To be used only for debugging purposes
     public void logCurrentState() {
         int i = 0;
-        for (RefCountedCache<K, V> cache : table) {
+        for (LRUCache<K, V> cache : table) {
             if (cache.size() > 0) {
                 final int segmentIndex = i;
                 logger.trace(() -> "SegmentedCache " + segmentIndex);
-                ((LRUCache<K, V>) cache).logCurrentState();
+                cache.logCurrentState();
             }
             i++;
         }
@@ -246,8 +272,8 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
     // To be used only in testing framework.
     public void closeIndexInputReferences() {
-        for (RefCountedCache<K, V> cache : table) {
-            ((LRUCache<K, V>) cache).closeIndexInputReferences();
+        for (LRUCache<K, V> cache : table) {
+            cache.closeIndexInputReferences();
         }
     }
 
@@ -302,6 +328,8 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        boolean frequencyAware;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
@@ -367,6 +395,17 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies whether segments pick eviction victims by access frequency among their least recently used entries rather
+         * than evicting the least recently used entry outright (default false).
+         *
+         * @param frequencyAware whether eviction is frequency aware
+         */
+        public Builder<K, V> frequencyAware(boolean frequencyAware) {
+            this.frequencyAware = frequencyAware;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
@@ -33,6 +33,7 @@ package org.opensearch.index.translog;
 
 import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -57,6 +58,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int uncommittedOperations;
     private long earliestLastModifiedAge;
+    // number of rounds that synced the translog on behalf of queued sync requests, the requests they served and the time they took
+    private long syncTotal;
+    private long syncRequests;
+    private long syncTimeInMillis;
 
     /**
      * Stats related to the Remote Translog Store operations
@@ -78,6 +83,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.uncommittedSizeInBytes = builder.uncommittedSizeInBytes;
         this.uncommittedOperations = builder.uncommittedOperations;
         this.earliestLastModifiedAge = builder.earliestLastModifiedAge;
+        this.syncTotal = builder.syncTotal;
+        this.syncRequests = builder.syncRequests;
+        this.syncTimeInMillis = builder.syncTimeInMillis;
         this.remoteTranslogStats = builder.remoteTranslogStats;
     }
 
@@ -90,6 +98,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         remoteTranslogStats = in.getVersion().onOrAfter(Version.V_2_10_0)
             ? in.readOptionalWriteable(RemoteTranslogStats::new)
             : new RemoteTranslogStats();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            syncTotal = in.readVLong();
+            syncRequests = in.readVLong();
+            syncTimeInMillis = in.readVLong();
+        }
     }
 
     /**
@@ -134,6 +147,15 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         }
     }
 
+    /**
+     * Adds the stats of translog sync rounds, each of which synced the translog once for all the sync requests queued up until then.
+     */
+    public void addSyncStats(long syncTotal, long syncRequests, long syncTimeInMillis) {
+        this.syncTotal += syncTotal;
+        this.syncRequests += syncRequests;
+        this.syncTimeInMillis += syncTimeInMillis;
+    }
+
     public void add(TranslogStats other) {
         if (other == null) {
             return;
@@ -148,6 +170,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         } else {
             this.earliestLastModifiedAge = Math.min(this.earliestLastModifiedAge, other.earliestLastModifiedAge);
         }
+        addSyncStats(other.syncTotal, other.syncRequests, other.syncTimeInMillis);
 
         addRemoteTranslogStats(other.remoteTranslogStats);
     }
@@ -174,6 +197,21 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return earliestLastModifiedAge;
     }
 
+    /** the number of sync rounds, each syncing the translog once for all sync requests queued at that point */
+    public long getSyncTotal() {
+        return syncTotal;
+    }
+
+    /** the number of sync requests that were served by the sync rounds, divided by {@link #getSyncTotal()} this is the batch size */
+    public long getSyncRequests() {
+        return syncRequests;
+    }
+
+    /** the total time spent in sync rounds */
+    public long getSyncTimeInMillis() {
+        return syncTimeInMillis;
+    }
+
     public RemoteTranslogStats getRemoteTranslogStats() {
         return remoteTranslogStats;
     }
@@ -188,6 +226,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         private int uncommittedOperations = 0;
         private long uncommittedSizeInBytes = 0;
         private long earliestLastModifiedAge = 0;
+        private long syncTotal = 0;
+        private long syncRequests = 0;
+        private long syncTimeInMillis = 0;
         private final RemoteTranslogStats remoteTranslogStats = new RemoteTranslogStats();
 
         public Builder() {}
@@ -232,6 +273,30 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder syncTotal(long syncTotal) {
+            if (syncTotal < 0) {
+                throw new IllegalArgumentException("syncTotal must be >= 0");
+            }
+            this.syncTotal = syncTotal;
+            return this;
+        }
+
+        public Builder syncRequests(long syncRequests) {
+            if (syncRequests < 0) {
+                throw new IllegalArgumentException("syncRequests must be >= 0");
+            }
+            this.syncRequests = syncRequests;
+            return this;
+        }
+
+        public Builder syncTimeInMillis(long syncTimeInMillis) {
+            if (syncTimeInMillis < 0) {
+                throw new IllegalArgumentException("syncTimeInMillis must be >= 0");
+            }
+            this.syncTimeInMillis = syncTimeInMillis;
+            return this;
+        }
+
         /**
          * Creates a {@link TranslogStats} object from the builder's current state.
          * @return A new TranslogStats instance.
@@ -269,6 +334,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_10_0)) {
             out.writeOptionalWriteable(remoteTranslogStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(syncTotal);
+            out.writeVLong(syncRequests);
+            out.writeVLong(syncTimeInMillis);
+        }
     }
 
     private void addLocalTranslogStatsXContent(XContentBuilder builder) throws IOException {
@@ -277,5 +347,12 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", new ByteSizeValue(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        if (syncTotal > 0) {
+            builder.startObject("sync");
+            builder.field("total", syncTotal);
+            builder.field("requests", syncRequests);
+            builder.humanReadableField("total_time_in_millis", "total_time", new TimeValue(syncTimeInMillis));
+            builder.endObject();
+        }
     }
 }
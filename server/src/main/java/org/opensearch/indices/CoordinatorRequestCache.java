@@ -0,0 +1,330 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchType;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardReaderVersion;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.tasks.Task;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A cache of reduced {@link SearchResponse}s held by the coordinating node, so that identical requests, like the ones
+ * a dashboard sends on every refresh tick, are answered without reducing the shard results again.
+ * <p>
+ * The cache key is the serialized form of the parts of the {@link SearchRequest} that determine its response, including
+ * the {@link SearchSourceBuilder}, together with the UUID and metadata version of every concrete index the request
+ * targets, the authenticated user and headers of the request, and the {@link ShardReaderVersion reader} every shard
+ * reported in its {@link QuerySearchResult}. The readers are only known once the query phase completed, so a cached
+ * response saves the reduce of the shard results, while the shards themselves usually answer from the
+ * {@link IndicesRequestCache}. Any mapping, settings or alias change to one of these indices, and any refresh of one of
+ * the shards, results in a new key. Shard requests are routed as usual, so a response is cached once per combination
+ * of shard copies that computed it.
+ * <p>
+ * Only requests that explicitly opt in with {@code request_cache=true}, don't return hits, only target local indices
+ * and don't use pipeline aggregations are cached. Shards only report their reader if the request doesn't depend on the
+ * current time or scripts, and only responses that completed on every shard without failures or timeouts are stored.
+ * The cache is created through the {@link CacheService} so that its store and size can be configured like any other
+ * pluggable cache, and its statistics are reported in the {@code caches} section of the node stats.
+ *
+ * @opensearch.internal
+ */
+public final class CoordinatorRequestCache implements RemovalListener<ICacheKey<BytesReference>, BytesReference>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(CoordinatorRequestCache.class);
+
+    /**
+     * Whether the coordinating node caches reduced search responses.
+     */
+    public static final Setting<Boolean> ENABLED_SETTING = Setting.boolSetting(
+        "search.coordinator_request_cache.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * If a store name isn't specified for this cache type, this setting determines the cache size. Otherwise, the
+     * implementation-specific size setting like search.coordinator_request_cache.opensearch_onheap.size is used instead.
+     */
+    public static final Setting<ByteSizeValue> SIZE_SETTING = Setting.memorySizeSetting(
+        "search.coordinator_request_cache.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(ICacheKey.class);
+
+    private final ICache<BytesReference, BytesReference> cache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private volatile boolean enabled;
+
+    CoordinatorRequestCache(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        CacheService cacheService,
+        NamedWriteableRegistry namedWriteableRegistry,
+        String storagePath
+    ) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.enabled = ENABLED_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, this::setEnabled);
+
+        ToLongBiFunction<ICacheKey<BytesReference>, BytesReference> weigher = (k, v) -> BASE_RAM_BYTES_USED + k.key.ramBytesUsed()
+            + v.ramBytesUsed();
+        CacheConfig.Builder<BytesReference, BytesReference> configBuilder = new CacheConfig.Builder<BytesReference, BytesReference>()
+            .setSettings(settings)
+            .setWeigher(weigher)
+            .setKeyType(BytesReference.class)
+            .setValueType(BytesReference.class)
+            .setRemovalListener(this)
+            .setDimensionNames(List.of())
+            .setCachedResultParser(CoordinatorRequestCache::policyValues)
+            .setKeySerializer(new BytesReferenceSerializer())
+            .setValueSerializer(new BytesReferenceSerializer())
+            .setClusterSettings(clusterSettings)
+            .setStoragePath(storagePath);
+        if (CacheService.storeNamePresent(CacheType.COORDINATOR_REQUEST_CACHE, settings) == false) {
+            configBuilder.setMaxSizeInBytes(SIZE_SETTING.get(settings).getBytes());
+        }
+        this.cache = cacheService.createCache(configBuilder.build(), CacheType.COORDINATOR_REQUEST_CACHE);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled == false) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns whether the response to the given request may be served from, and stored in, this cache.
+     */
+    public boolean canCache(SearchRequest request) {
+        if (enabled == false || Boolean.TRUE.equals(request.requestCache()) == false) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        return source != null
+            && source.size() == 0
+            && source.profile() == false
+            && source.pointInTimeBuilder() == null
+            && request.scroll() == null
+            && request.searchType() == SearchType.QUERY_THEN_FETCH
+            && (source.aggregations() == null
+                || (source.aggregations().getPipelineAggregatorFactories().isEmpty()
+                    && hasPipelineAggregations(source.aggregations().getAggregatorFactories()) == false));
+    }
+
+    /**
+     * Returns whether the given aggregations or their sub-aggregations contain pipeline aggregations, which are computed
+     * while reducing the shard results and may run scripts the shards don't know about.
+     */
+    private static boolean hasPipelineAggregations(Collection<AggregationBuilder> aggregations) {
+        for (AggregationBuilder aggregation : aggregations) {
+            if (aggregation.getPipelineAggregations().isEmpty() == false || hasPipelineAggregations(aggregation.getSubAggregations())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the part of the cache key of a request that targets the given concrete indices which is known before the
+     * request is sent to the shards.
+     *
+     * @param headers the headers of the request
+     * @param user    the user that sent the request, as set in the thread context by the security plugin, or null
+     */
+    public CachedRequest cachedRequest(
+        SearchRequest request,
+        String[] concreteIndices,
+        Map<String, Set<String>> routings,
+        ClusterState state,
+        Map<String, String> headers,
+        String user
+    ) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.source().writeTo(out);
+            out.writeStringArray(request.indices());
+            request.indicesOptions().writeIndicesOptions(out);
+            out.writeOptionalString(request.preference());
+            out.writeVInt(routings.size());
+            for (Map.Entry<String, Set<String>> routing : new TreeMap<>(routings).entrySet()) {
+                out.writeString(routing.getKey());
+                out.writeStringCollection(new TreeSet<>(routing.getValue()));
+            }
+            out.writeOptionalBoolean(request.allowPartialSearchResults());
+            out.writeBoolean(request.isFinalReduce());
+            String[] sortedIndices = concreteIndices.clone();
+            Arrays.sort(sortedIndices);
+            for (String index : sortedIndices) {
+                IndexMetadata indexMetadata = state.metadata().index(index);
+                out.writeString(indexMetadata.getIndexUUID());
+                out.writeVLong(indexMetadata.getVersion());
+            }
+            // responses must not be shared between users, who may be allowed to see different documents
+            out.writeOptionalString(user);
+            final Map<String, String> requestHeaders = new TreeMap<>(headers);
+            requestHeaders.keySet().removeAll(Task.REQUEST_HEADERS);
+            out.writeMap(requestHeaders, StreamOutput::writeString, StreamOutput::writeString);
+            return new CachedRequest(out.bytes());
+        }
+    }
+
+    /**
+     * A request whose response may be served from this cache. Its key is completed by the readers the shards reported
+     * once the query phase completed.
+     *
+     * @opensearch.internal
+     */
+    public final class CachedRequest {
+
+        private final BytesReference requestKey;
+        private volatile BytesReference key;
+        private volatile boolean hit;
+
+        private CachedRequest(BytesReference requestKey) {
+            this.requestKey = requestKey;
+        }
+
+        /**
+         * Returns the cached response to this request if it was computed by the same shard readers as the given query
+         * results, or {@code null} if there is none or if one of the shards didn't report its reader. Must be called once
+         * all shards completed the query phase.
+         *
+         * @param numShards the number of shards the request targets
+         */
+        public SearchResponse get(Collection<QuerySearchResult> queryResults, int numShards) throws IOException {
+            if (queryResults.size() != numShards) {
+                // a shard failed or was skipped, so we don't know whether its reader changed
+                return null;
+            }
+            final Map<ShardId, ShardReaderVersion> readerVersions = new TreeMap<>();
+            for (QuerySearchResult queryResult : queryResults) {
+                if (queryResult.isNull() || queryResult.readerVersion() == null) {
+                    return null;
+                }
+                readerVersions.put(queryResult.getSearchShardTarget().getShardId(), queryResult.readerVersion());
+            }
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.writeBytesReference(requestKey);
+                out.writeMap(readerVersions, (o, shardId) -> shardId.writeTo(o), (o, readerVersion) -> readerVersion.writeTo(o));
+                key = out.bytes();
+            }
+            final SearchResponse cached = CoordinatorRequestCache.this.get(key);
+            hit = cached != null;
+            return cached;
+        }
+
+        /**
+         * Caches the response to this request, unless it was served from the cache or its shard readers are unknown.
+         */
+        public void put(SearchResponse response) {
+            if (key != null && hit == false) {
+                CoordinatorRequestCache.this.put(key, response);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached response for the given key, or {@code null} if there is none.
+     */
+    SearchResponse get(BytesReference key) throws IOException {
+        final BytesReference value = cache.get(new ICacheKey<>(key, List.of()));
+        if (value == null) {
+            return null;
+        }
+        try (StreamInput in = new NamedWriteableAwareStreamInput(value.streamInput(), namedWriteableRegistry)) {
+            in.readVLong(); // took time, only read by cache policies
+            return new SearchResponse(in);
+        }
+    }
+
+    /**
+     * Caches the response of the request with the given key, unless it is partial.
+     */
+    void put(BytesReference key, SearchResponse response) {
+        if (enabled == false || response.getFailedShards() > 0 || response.isTimedOut()) {
+            return;
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeVLong(TimeUnit.MILLISECONDS.toNanos(response.getTook().millis()));
+            response.writeTo(out);
+            cache.put(new ICacheKey<>(key, List.of()), out.bytes());
+        } catch (IOException e) {
+            logger.debug(new ParameterizedMessage("failed to cache search response"), e);
+        }
+    }
+
+    private static CachedQueryResult.PolicyValues policyValues(BytesReference value) {
+        try (StreamInput in = value.streamInput()) {
+            return new CachedQueryResult.PolicyValues(in.readVLong());
+        } catch (IOException e) {
+            // Set took time to -1, which will always be rejected by the policy.
+            return new CachedQueryResult.PolicyValues(-1);
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<ICacheKey<BytesReference>, BytesReference> notification) {}
+
+    // pkg-private for testing
+    long count() {
+        return cache.count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cache.invalidateAll();
+        cache.close();
+    }
+}
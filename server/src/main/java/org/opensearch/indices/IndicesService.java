@@ -451,6 +451,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    private final CoordinatorRequestCache coordinatorRequestCache;
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -553,6 +554,13 @@ public class IndicesService extends AbstractLifecycleComponent
             }
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
+        this.coordinatorRequestCache = new CoordinatorRequestCache(
+            settings,
+            clusterService.getClusterSettings(),
+            cacheService,
+            namedWriteableRegistry,
+            nodeEnv.nodePaths()[0].path.toString() + "/coordinator_request_cache"
+        );
         this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
@@ -615,6 +623,7 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
+                        coordinatorRequestCache,
                         indicesQueryCache,
                         ingestionPayloadDecoderRegistry
                     );
@@ -1507,6 +1516,10 @@ public class IndicesService extends AbstractLifecycleComponent
         return indicesQueryCache;
     }
 
+    public CoordinatorRequestCache getCoordinatorRequestCache() {
+        return coordinatorRequestCache;
+    }
+
     /**
      * Accumulate stats from the passed Object. Use this instead of
      * {@link #addDocStatusStats(org.opensearch.index.shard.IndexingStats.Stats.DocStatusStats)} after
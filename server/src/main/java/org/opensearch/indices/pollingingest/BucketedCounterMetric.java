@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.pollingingest;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts values into fixed buckets. A value falls into the first bucket whose upper bound is greater than or equal to it,
+ * or into an additional last bucket if it is greater than all upper bounds.
+ */
+public final class BucketedCounterMetric {
+    private final long[] upperBounds;
+    private final CounterMetric[] buckets;
+
+    /**
+     * @param upperBounds the inclusive upper bounds of the buckets, in increasing order
+     */
+    public BucketedCounterMetric(long[] upperBounds) {
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i] <= upperBounds[i - 1]) {
+                throw new IllegalArgumentException("bucket upper bounds must be in increasing order");
+            }
+        }
+        this.upperBounds = upperBounds;
+        this.buckets = new CounterMetric[upperBounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new CounterMetric();
+        }
+    }
+
+    /**
+     * Counts the given value in its bucket.
+     */
+    public void inc(long value) {
+        int bucket = 0;
+        while (bucket < upperBounds.length && value > upperBounds[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].inc();
+    }
+
+    /**
+     * Adds the counts of the given metric, which must use the same buckets, to this metric.
+     */
+    public void add(BucketedCounterMetric other) {
+        assert buckets.length == other.buckets.length : "bucket counts must match";
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i].inc(other.buckets[i].count());
+        }
+    }
+
+    /**
+     * Returns the count of every bucket, including the last unbounded bucket.
+     */
+    public List<Long> counts() {
+        List<Long> counts = new ArrayList<>(buckets.length);
+        for (CounterMetric bucket : buckets) {
+            counts.add(bucket.count());
+        }
+        return counts;
+    }
+}
@@ -44,6 +44,7 @@ import java.util.concurrent.TimeUnit;
 public class DefaultStreamPoller implements StreamPoller {
     private static final Logger logger = LogManager.getLogger(DefaultStreamPoller.class);
     private static final int DEFAULT_POLLER_SLEEP_PERIOD_MS = 100;
+    private static final int MIN_EMPTY_POLL_SLEEP_PERIOD_MS = 10;
     private static final int CONSUMER_INIT_RETRY_INTERVAL_MS = 10000;
 
     private volatile State state = State.NONE;
@@ -106,6 +107,9 @@ public class DefaultStreamPoller implements StreamPoller {
     // Force the consumer to start reading from this pointer. This is used in case of failures, or during initialization/reinitialization.
     private IngestionShardPointer forcedShardPointer = null;
 
+    // back-off after polls without new messages, doubled on every empty poll up to DEFAULT_POLLER_SLEEP_PERIOD_MS
+    private int emptyPollSleepPeriodMs = MIN_EMPTY_POLL_SLEEP_PERIOD_MS;
+
     private DefaultStreamPoller(
         IngestionShardPointer startPointer,
         IngestionConsumerFactory consumerFactory,
@@ -120,6 +124,7 @@ public class DefaultStreamPoller implements StreamPoller {
         int pollTimeout,
         int numProcessorThreads,
         int blockingQueueSize,
+        int processorBatchSize,
         long pointerBasedLagUpdateIntervalMs,
         IngestionMessageMapper.MapperType mapperType,
         Map<String, Object> mapperSettings,
@@ -139,6 +144,7 @@ public class DefaultStreamPoller implements StreamPoller {
                 ingestionEngine,
                 errorStrategy,
                 blockingQueueSize,
+                processorBatchSize,
                 pipelineExecutor
             ),
             resetState,
@@ -285,11 +291,13 @@ public class DefaultStreamPoller implements StreamPoller {
                 }
 
                 if (results.isEmpty()) {
-                    // no new records
+                    // no new records, back off a little longer on every empty poll
                     setLastPolledMessageTimestamp(0);
-                    Thread.sleep(DEFAULT_POLLER_SLEEP_PERIOD_MS);
+                    Thread.sleep(emptyPollSleepPeriodMs);
+                    emptyPollSleepPeriodMs = Math.min(emptyPollSleepPeriodMs * 2, DEFAULT_POLLER_SLEEP_PERIOD_MS);
                     continue;
                 }
+                emptyPollSleepPeriodMs = MIN_EMPTY_POLL_SLEEP_PERIOD_MS;
 
                 setStateWithWarmupAwareness(State.PROCESSING);
                 // processRecords returns failed shard pointers. Update forcedShardPointer to the failed pointer to retry on next iteration
@@ -572,6 +580,13 @@ public class DefaultStreamPoller implements StreamPoller {
         builder.setTotalProcessorFailedCount(processorMetrics.failedMessageCounter().count());
         builder.setTotalProcessorFailuresDroppedCount(processorMetrics.failedMessageDroppedCounter().count());
         builder.setTotalProcessorThreadInterruptCount(processorMetrics.processorThreadInterruptCounter().count());
+        builder.setProcessorBatchStats(
+            new PollingIngestStats.ProcessorBatchStats(
+                processorMetrics.batchCounter().count(),
+                processorMetrics.batchSizeHistogram().counts(),
+                processorMetrics.processingLagHistogram().counts()
+            )
+        );
         // set consumer stats
         builder.setTotalPolledCount(totalPolledCount.count());
         builder.setTotalConsumerErrorCount(totalConsumerErrorCount.count());
@@ -800,6 +815,7 @@ public class DefaultStreamPoller implements StreamPoller {
         private int pollTimeout = 1000;
         private int numProcessorThreads = 1;
         private int blockingQueueSize = 100;
+        private int processorBatchSize = 1;
         private long pointerBasedLagUpdateIntervalMs = 10000;
         private IngestionMessageMapper.MapperType mapperType = IngestionMessageMapper.MapperType.DEFAULT;
         private Map<String, Object> mapperSettings = Collections.emptyMap();
@@ -891,6 +907,14 @@ public class DefaultStreamPoller implements StreamPoller {
             return this;
         }
 
+        /**
+         * Set the maximum number of messages a processor thread drains from its blocking queue at once
+         */
+        public Builder processorBatchSize(int processorBatchSize) {
+            this.processorBatchSize = processorBatchSize;
+            return this;
+        }
+
         /**
          * Set pointer-based lag update interval in milliseconds
          */
@@ -965,6 +989,7 @@ public class DefaultStreamPoller implements StreamPoller {
                 pollTimeout,
                 numProcessorThreads,
                 blockingQueueSize,
+                processorBatchSize,
                 pointerBasedLagUpdateIntervalMs,
                 mapperType,
                 mapperSettings,
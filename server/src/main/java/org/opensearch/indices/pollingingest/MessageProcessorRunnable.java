@@ -35,6 +35,8 @@ import org.opensearch.index.mapper.VersionFieldMapper;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -46,7 +48,8 @@ import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
 
 /**
  * A class to process messages from the ingestion stream. It extracts the payload from the message and creates an
- * engine operation.
+ * engine operation. Messages are taken from the blocking queue in batches of up to the configured batch size, without
+ * waiting for a batch to fill up, and are then processed one after the other in queue order.
  */
 public class MessageProcessorRunnable implements Runnable, Closeable {
     public static final String ID = "_id";
@@ -60,6 +63,11 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     private final BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue;
     private final MessageProcessor messageProcessor;
     private final MessageProcessorMetrics messageProcessorMetrics = MessageProcessorMetrics.create();
+    private final int batchSize;
+    // messages drained from the blocking queue that are yet to be processed, guarded by drainLock so that clearing the
+    // blocking queue also discards them, but never discards messages that are queued after the clear
+    private final Deque<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> drainedMessages = new ArrayDeque<>();
+    private final Object drainLock = new Object();
 
     // currentShardPointer tracks the most recent pointer that is being processed
     @Nullable
@@ -76,12 +84,14 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
      * @param blockingQueue    the blocking queue to poll messages from
      * @param engine           the ingestion engine
      * @param errorStrategy    the error strategy/policy to use
+     * @param batchSize        the maximum number of messages to take from the blocking queue at once
      * @param pipelineExecutor the pipeline executor for ingest pipeline execution
      */
     public MessageProcessorRunnable(
         BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
         IngestionEngine engine,
         IngestionErrorStrategy errorStrategy,
+        int batchSize,
         IngestPipelineExecutor pipelineExecutor
     ) {
         this(
@@ -89,7 +99,8 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
             new MessageProcessor(engine, pipelineExecutor),
             errorStrategy,
             engine.config().getShardId().getIndexName(),
-            engine.config().getShardId().getId()
+            engine.config().getShardId().getId(),
+            batchSize
         );
     }
 
@@ -109,11 +120,34 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         String indexName,
         int shardId
     ) {
+        this(blockingQueue, messageProcessor, errorStrategy, indexName, shardId, 1);
+    }
+
+    /**
+     * Constructor visible for testing.
+     *
+     * @param blockingQueue    the blocking queue to poll messages from
+     * @param messageProcessor the message processor
+     * @param errorStrategy    the error strategy/policy to use
+     * @param indexName        the index name
+     * @param shardId          the shard ID
+     * @param batchSize        the maximum number of messages to take from the blocking queue at once
+     */
+    MessageProcessorRunnable(
+        BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
+        MessageProcessor messageProcessor,
+        IngestionErrorStrategy errorStrategy,
+        String indexName,
+        int shardId,
+        int batchSize
+    ) {
+        assert batchSize > 0 : "batch size must be greater than 0";
         this.blockingQueue = Objects.requireNonNull(blockingQueue);
         this.messageProcessor = messageProcessor;
         this.errorStrategy = errorStrategy;
         this.indexName = indexName;
         this.shardId = shardId;
+        this.batchSize = batchSize;
     }
 
     static class MessageProcessor {
@@ -332,6 +366,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     /**
      * Polls messages from the blocking queue and processes messages. If message processing fails, the failed message
      * is retried indefinitely after a retry wait time, unless a DROP error policy is used to skip the failed message.
+     * The messages drained along with a failed message wait until it succeeds or is dropped to preserve ordering.
      */
     @Override
     public void run() {
@@ -341,7 +376,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         while (Thread.currentThread().isInterrupted() == false && closed == false) {
             try {
                 if (shardUpdateMessage == null) {
-                    shardUpdateMessage = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
+                    shardUpdateMessage = nextMessage();
                 }
             } catch (InterruptedException e) {
                 messageProcessorMetrics.processorThreadInterruptCounter.inc();
@@ -353,6 +388,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                     messageProcessorMetrics.processedCounter.inc();
                     currentShardPointer = shardUpdateMessage.pointer();
                     messageProcessor.process(shardUpdateMessage, messageProcessorMetrics);
+                    recordProcessingLag(shardUpdateMessage);
                     shardUpdateMessage = null;
                     retryCount = 0;
                 } catch (VersionConflictEngineException e) {
@@ -381,6 +417,50 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         }
     }
 
+    /**
+     * Returns the next drained message, or takes the next batch of messages from the blocking queue if all drained messages
+     * were processed. Waits for up to a second for a message to arrive but never for a batch to fill up.
+     */
+    @Nullable
+    private ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> nextMessage() throws InterruptedException {
+        ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> next;
+        synchronized (drainLock) {
+            next = drainedMessages.poll();
+        }
+        if (next == null) {
+            next = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
+            if (next != null) {
+                int drained = 0;
+                if (batchSize > 1) {
+                    synchronized (drainLock) {
+                        drained = blockingQueue.drainTo(drainedMessages, batchSize - 1);
+                    }
+                }
+                messageProcessorMetrics.batchCounter.inc();
+                messageProcessorMetrics.batchSizeHistogram.inc(1 + drained);
+            }
+        }
+        return next;
+    }
+
+    private void recordProcessingLag(ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage) {
+        Long timestamp = shardUpdateMessage.originalMessage() == null ? null : shardUpdateMessage.originalMessage().getTimestamp();
+        if (timestamp != null && timestamp > 0) {
+            messageProcessorMetrics.processingLagHistogram.inc(Math.max(0, System.currentTimeMillis() - timestamp));
+        }
+    }
+
+    /**
+     * Clears the blocking queue along with the messages that were drained from it but not processed yet, since they will be
+     * polled again from the streaming source. Messages that are added to the blocking queue afterwards are kept.
+     */
+    void clearQueue() {
+        synchronized (drainLock) {
+            blockingQueue.clear();
+            drainedMessages.clear();
+        }
+    }
+
     private void waitBeforeRetry() {
         try {
             Thread.sleep(WAIT_BEFORE_RETRY_DURATION_MS);
@@ -445,7 +525,8 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
      */
     public record MessageProcessorMetrics(CounterMetric processedCounter, CounterMetric invalidMessageCounter,
         CounterMetric versionConflictCounter, CounterMetric failedMessageCounter, CounterMetric failedMessageDroppedCounter,
-        CounterMetric processorThreadInterruptCounter) {
+        CounterMetric processorThreadInterruptCounter, CounterMetric batchCounter, BucketedCounterMetric batchSizeHistogram,
+        BucketedCounterMetric processingLagHistogram) {
         public static MessageProcessorMetrics create() {
             return new MessageProcessorMetrics(
                 new CounterMetric(),
@@ -453,7 +534,10 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                 new CounterMetric(),
                 new CounterMetric(),
                 new CounterMetric(),
-                new CounterMetric()
+                new CounterMetric(),
+                new CounterMetric(),
+                new BucketedCounterMetric(PollingIngestStats.BATCH_SIZE_BUCKETS),
+                new BucketedCounterMetric(PollingIngestStats.PROCESSING_LAG_BUCKETS_MILLIS)
             );
         }
 
@@ -469,6 +553,11 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
             combinedMetrics.processorThreadInterruptCounter.inc(
                 this.processorThreadInterruptCounter.count() + other.processorThreadInterruptCounter.count()
             );
+            combinedMetrics.batchCounter.inc(this.batchCounter.count() + other.batchCounter.count());
+            combinedMetrics.batchSizeHistogram.add(this.batchSizeHistogram);
+            combinedMetrics.batchSizeHistogram.add(other.batchSizeHistogram);
+            combinedMetrics.processingLagHistogram.add(this.processingLagHistogram);
+            combinedMetrics.processingLagHistogram.add(other.processingLagHistogram);
 
             return combinedMetrics;
         }
@@ -51,6 +51,7 @@ public class PartitionedBlockingQueueContainer {
         IngestionEngine ingestionEngine,
         IngestionErrorStrategy errorStrategy,
         int blockingQueueSize,
+        int processorBatchSize,
         IngestPipelineExecutor pipelineExecutor
     ) {
         assert numPartitions > 0 : "Number of processor threads / partitions must be greater than 0";
@@ -80,6 +81,7 @@ public class PartitionedBlockingQueueContainer {
                 partitionToQueueMap.get(partition),
                 ingestionEngine,
                 errorStrategy,
+                processorBatchSize,
                 pipelineExecutor
             );
             partitionToMessageProcessorMap.put(partition, messageProcessorRunnable);
@@ -159,9 +161,7 @@ public class PartitionedBlockingQueueContainer {
      * Clear data in all blocking queues across all partitions.
      */
     public void clearAllQueues() {
-        for (BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> queue : partitionToQueueMap.values()) {
-            queue.clear();
-        }
+        partitionToMessageProcessorMap.values().forEach(MessageProcessorRunnable::clearQueue);
         partitionToFirstQueuedPointerMap.clear();
         logger.debug("Cleared all blocking queues across {} partitions", numPartitions);
     }
@@ -10,6 +10,7 @@ package org.opensearch.indices.pollingingest;
 
 import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -17,6 +18,8 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -24,18 +27,38 @@ import java.util.Objects;
  */
 @PublicApi(since = "3.6.0")
 public class PollingIngestStats implements Writeable, ToXContentFragment {
+    /**
+     * Inclusive upper bounds of the buckets of {@link ProcessorBatchStats#batchSizeHistogram()}.
+     */
+    public static final long[] BATCH_SIZE_BUCKETS = new long[] { 1, 10, 100, 1000 };
+    /**
+     * Inclusive upper bounds, in milliseconds, of the buckets of {@link ProcessorBatchStats#processingLagHistogram()}.
+     */
+    public static final long[] PROCESSING_LAG_BUCKETS_MILLIS = new long[] { 100, 1000, 10_000, 60_000, 600_000 };
+
     private final MessageProcessorStats messageProcessorStats;
     private final ConsumerStats consumerStats;
     private final PipelineStats pipelineStats;
+    private final ProcessorBatchStats processorBatchStats;
 
     public PollingIngestStats(MessageProcessorStats messageProcessorStats, ConsumerStats consumerStats) {
         this(messageProcessorStats, consumerStats, new PipelineStats(0, 0, 0, 0));
     }
 
     public PollingIngestStats(MessageProcessorStats messageProcessorStats, ConsumerStats consumerStats, PipelineStats pipelineStats) {
+        this(messageProcessorStats, consumerStats, pipelineStats, ProcessorBatchStats.EMPTY);
+    }
+
+    public PollingIngestStats(
+        MessageProcessorStats messageProcessorStats,
+        ConsumerStats consumerStats,
+        PipelineStats pipelineStats,
+        ProcessorBatchStats processorBatchStats
+    ) {
         this.messageProcessorStats = messageProcessorStats;
         this.consumerStats = consumerStats;
         this.pipelineStats = pipelineStats;
+        this.processorBatchStats = Objects.requireNonNull(processorBatchStats);
     }
 
     public PollingIngestStats(StreamInput in) throws IOException {
@@ -80,6 +103,16 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         } else {
             this.pipelineStats = new PipelineStats(0, 0, 0, 0);
         }
+
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            this.processorBatchStats = new ProcessorBatchStats(
+                in.readVLong(),
+                in.readList(StreamInput::readVLong),
+                in.readList(StreamInput::readVLong)
+            );
+        } else {
+            this.processorBatchStats = ProcessorBatchStats.EMPTY;
+        }
     }
 
     @Override
@@ -107,6 +140,12 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             out.writeLong(pipelineStats.totalFailedCount);
             out.writeLong(pipelineStats.totalDroppedCount);
         }
+
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(processorBatchStats.totalBatchCount);
+            out.writeCollection(processorBatchStats.batchSizeHistogram, StreamOutput::writeVLong);
+            out.writeCollection(processorBatchStats.processingLagHistogram, StreamOutput::writeVLong);
+        }
     }
 
     @Override
@@ -135,6 +174,25 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         builder.field("total_failed_count", pipelineStats.totalFailedCount);
         builder.field("total_dropped_count", pipelineStats.totalDroppedCount);
         builder.endObject();
+        builder.startObject("processor_batch_stats");
+        builder.field("total_batch_count", processorBatchStats.totalBatchCount);
+        builder.startObject("batch_size_histogram");
+        for (int i = 0; i < processorBatchStats.batchSizeHistogram.size(); i++) {
+            String bucket = i < BATCH_SIZE_BUCKETS.length
+                ? "le_" + BATCH_SIZE_BUCKETS[i]
+                : "gt_" + BATCH_SIZE_BUCKETS[BATCH_SIZE_BUCKETS.length - 1];
+            builder.field(bucket, processorBatchStats.batchSizeHistogram.get(i));
+        }
+        builder.endObject();
+        builder.startObject("processing_lag_histogram");
+        for (int i = 0; i < processorBatchStats.processingLagHistogram.size(); i++) {
+            String bucket = i < PROCESSING_LAG_BUCKETS_MILLIS.length
+                ? "le_" + TimeValue.timeValueMillis(PROCESSING_LAG_BUCKETS_MILLIS[i])
+                : "gt_" + TimeValue.timeValueMillis(PROCESSING_LAG_BUCKETS_MILLIS[PROCESSING_LAG_BUCKETS_MILLIS.length - 1]);
+            builder.field(bucket, processorBatchStats.processingLagHistogram.get(i));
+        }
+        builder.endObject();
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -151,6 +209,10 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         return pipelineStats;
     }
 
+    public ProcessorBatchStats getProcessorBatchStats() {
+        return processorBatchStats;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -158,12 +220,13 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         PollingIngestStats that = (PollingIngestStats) o;
         return Objects.equals(messageProcessorStats, that.messageProcessorStats)
             && Objects.equals(consumerStats, that.consumerStats)
-            && Objects.equals(pipelineStats, that.pipelineStats);
+            && Objects.equals(pipelineStats, that.pipelineStats)
+            && Objects.equals(processorBatchStats, that.processorBatchStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(messageProcessorStats, consumerStats, pipelineStats);
+        return Objects.hash(messageProcessorStats, consumerStats, pipelineStats, processorBatchStats);
     }
 
     /**
@@ -191,6 +254,25 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
     public record PipelineStats(long totalExecutionCount, long totalExecutionTimeInMillis, long totalFailedCount, long totalDroppedCount) {
     }
 
+    /**
+     * Stats for the batches of messages drained by the message processors. The histograms hold one count per bucket of
+     * {@link #BATCH_SIZE_BUCKETS} and {@link #PROCESSING_LAG_BUCKETS_MILLIS} respectively, followed by the count of values
+     * above the last bucket. The processing lag of a message is the time from the message timestamp until it was applied.
+     */
+    @PublicApi(since = "3.8.0")
+    public record ProcessorBatchStats(long totalBatchCount, List<Long> batchSizeHistogram, List<Long> processingLagHistogram) {
+        static final ProcessorBatchStats EMPTY = new ProcessorBatchStats(
+            0,
+            Collections.nCopies(BATCH_SIZE_BUCKETS.length + 1, 0L),
+            Collections.nCopies(PROCESSING_LAG_BUCKETS_MILLIS.length + 1, 0L)
+        );
+
+        public ProcessorBatchStats {
+            batchSizeHistogram = List.copyOf(batchSizeHistogram);
+            processingLagHistogram = List.copyOf(processingLagHistogram);
+        }
+    }
+
     /**
      * Builder for {@link PollingIngestStats}
      */
@@ -213,6 +295,7 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         private long pipelineExecutionTimeInMillis;
         private long pipelineFailedCount;
         private long pipelineDroppedCount;
+        private ProcessorBatchStats processorBatchStats = ProcessorBatchStats.EMPTY;
 
         public Builder() {}
 
@@ -293,6 +376,11 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder setProcessorBatchStats(ProcessorBatchStats processorBatchStats) {
+            this.processorBatchStats = Objects.requireNonNull(processorBatchStats);
+            return this;
+        }
+
         public PollingIngestStats build() {
             MessageProcessorStats messageProcessorStats = new MessageProcessorStats(
                 totalProcessedCount,
@@ -317,7 +405,7 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
                 pipelineFailedCount,
                 pipelineDroppedCount
             );
-            return new PollingIngestStats(messageProcessorStats, consumerStats, pipelineStats);
+            return new PollingIngestStats(messageProcessorStats, consumerStats, pipelineStats, processorBatchStats);
         }
     }
 
@@ -666,6 +666,18 @@ public class PeerRecoveryTargetService implements IndexEventListener {
         @Override
         public void handleResponse(RecoveryResponse recoveryResponse) {
             final TimeValue recoveryTime = new TimeValue(timer.time());
+            try (ReplicationRef<RecoveryTarget> recoveryRef = onGoingRecoveries.get(recoveryId)) {
+                if (recoveryRef != null) {
+                    recoveryRef.get()
+                        .state()
+                        .getIndex()
+                        .setSourceTransferStats(
+                            recoveryResponse.phase1ChunkSize,
+                            recoveryResponse.phase1BuffersAllocated,
+                            recoveryResponse.phase1BuffersReused
+                        );
+                }
+            }
             // do this through ongoing recoveries to remove it from the collection
             onGoingRecoveries.markAsDone(recoveryId);
             if (logger.isTraceEnabled()) {
@@ -687,6 +699,12 @@ public class PeerRecoveryTargetService implements IndexEventListener {
                     .append(timeValueMillis(recoveryResponse.phase1Time))
                     .append("], throttling_wait [")
                     .append(timeValueMillis(recoveryResponse.phase1ThrottlingWaitTime))
+                    .append("], chunk_size [")
+                    .append(new ByteSizeValue(recoveryResponse.phase1ChunkSize))
+                    .append("], buffers allocated [")
+                    .append(recoveryResponse.phase1BuffersAllocated)
+                    .append("] reused [")
+                    .append(recoveryResponse.phase1BuffersReused)
                     .append(']')
                     .append("\n");
                 sb.append("         : reusing_files   [")
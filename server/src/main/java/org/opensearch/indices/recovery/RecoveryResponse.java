@@ -32,6 +32,7 @@
 
 package org.opensearch.indices.recovery;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.transport.TransportResponse;
@@ -54,6 +55,9 @@ public final class RecoveryResponse extends TransportResponse {
     final long phase1ExistingTotalSize;
     final long phase1Time;
     final long phase1ThrottlingWaitTime;
+    final int phase1ChunkSize;
+    final long phase1BuffersAllocated;
+    final long phase1BuffersReused;
 
     final long startTime;
 
@@ -69,6 +73,9 @@ public final class RecoveryResponse extends TransportResponse {
         long phase1ExistingTotalSize,
         long phase1Time,
         long phase1ThrottlingWaitTime,
+        int phase1ChunkSize,
+        long phase1BuffersAllocated,
+        long phase1BuffersReused,
         long startTime,
         int phase2Operations,
         long phase2Time
@@ -81,6 +88,9 @@ public final class RecoveryResponse extends TransportResponse {
         this.phase1ExistingTotalSize = phase1ExistingTotalSize;
         this.phase1Time = phase1Time;
         this.phase1ThrottlingWaitTime = phase1ThrottlingWaitTime;
+        this.phase1ChunkSize = phase1ChunkSize;
+        this.phase1BuffersAllocated = phase1BuffersAllocated;
+        this.phase1BuffersReused = phase1BuffersReused;
         this.startTime = startTime;
         this.phase2Operations = phase2Operations;
         this.phase2Time = phase2Time;
@@ -99,6 +109,15 @@ public final class RecoveryResponse extends TransportResponse {
         startTime = in.readVLong();
         phase2Operations = in.readVInt();
         phase2Time = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            phase1ChunkSize = in.readVInt();
+            phase1BuffersAllocated = in.readVLong();
+            phase1BuffersReused = in.readVLong();
+        } else {
+            phase1ChunkSize = 0;
+            phase1BuffersAllocated = 0;
+            phase1BuffersReused = 0;
+        }
     }
 
     @Override
@@ -114,5 +133,10 @@ public final class RecoveryResponse extends TransportResponse {
         out.writeVLong(startTime);
         out.writeVInt(phase2Operations);
         out.writeVLong(phase2Time);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVInt(phase1ChunkSize);
+            out.writeVLong(phase1BuffersAllocated);
+            out.writeVLong(phase1BuffersReused);
+        }
     }
 }
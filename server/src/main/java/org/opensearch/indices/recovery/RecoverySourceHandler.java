@@ -272,6 +272,9 @@ public abstract class RecoverySourceHandler {
                 sendFileResult.existingTotalSize,
                 sendFileResult.took.millis(),
                 phase1ThrottlingWaitTime,
+                transferHandler.chunkSizeInBytes(),
+                transferHandler.buffersAllocated(),
+                transferHandler.buffersReused(),
                 prepareEngineStep.result().millis(),
                 sendSnapshotResult.sentOperations,
                 sendSnapshotResult.tookTime.millis()
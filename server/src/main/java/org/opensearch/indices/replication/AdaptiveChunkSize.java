@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+/**
+ * Adapts the size of the file chunks a {@link SegmentFileTransferHandler} sends to the throughput observed for the chunks sent so
+ * far. Transfers start with small chunks, and the chunk size doubles as long as larger chunks complete with at least the throughput of
+ * the previous ones. The configured chunk size is the upper bound, as the target buffers up to {@code max_concurrent_file_chunks}
+ * chunks that arrive out of order. If the throughput drops to less than half of what was observed before, the chunk size is halved.
+ *
+ * @opensearch.internal
+ */
+final class AdaptiveChunkSize {
+
+    static final int MIN_CHUNK_SIZE_IN_BYTES = 64 * 1024;
+
+    private final int minChunkSizeInBytes;
+    private final int maxChunkSizeInBytes;
+    private int chunkSizeInBytes;
+    private double lastBytesPerNano = 0;
+
+    AdaptiveChunkSize(int maxChunkSizeInBytes) {
+        this.maxChunkSizeInBytes = maxChunkSizeInBytes;
+        this.minChunkSizeInBytes = Math.min(MIN_CHUNK_SIZE_IN_BYTES, maxChunkSizeInBytes);
+        this.chunkSizeInBytes = minChunkSizeInBytes;
+    }
+
+    /**
+     * The size of the next chunk to send.
+     */
+    synchronized int chunkSizeInBytes() {
+        return chunkSizeInBytes;
+    }
+
+    /**
+     * Records that a chunk of the given size was acknowledged by the target the given time after it was sent. Only chunks of the
+     * current size are taken into account: the last chunk of a file is usually shorter, and chunks of a previous size were already
+     * taken into account when the size changed.
+     */
+    synchronized void onChunkSent(long bytes, long tookInNanos) {
+        if (bytes != chunkSizeInBytes || tookInNanos <= 0) {
+            return;
+        }
+        final double bytesPerNano = (double) bytes / tookInNanos;
+        if (bytesPerNano >= lastBytesPerNano) {
+            chunkSizeInBytes = (int) Math.min((long) chunkSizeInBytes * 2, maxChunkSizeInBytes);
+        } else if (bytesPerNano < lastBytesPerNano / 2) {
+            chunkSizeInBytes = Math.max(chunkSizeInBytes / 2, minChunkSizeInBytes);
+        }
+        lastBytesPerNano = bytesPerNano;
+    }
+}
@@ -19,6 +19,7 @@ import org.opensearch.ExceptionsHelper;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
@@ -54,6 +55,9 @@ public final class SegmentFileTransferHandler {
     private final FileChunkWriter chunkWriter;
     private final ThreadPool threadPool;
     private final int chunkSizeInBytes;
+    private final AdaptiveChunkSize adaptiveChunkSize;
+    private final CounterMetric buffersAllocated = new CounterMetric();
+    private final CounterMetric buffersReused = new CounterMetric();
     private final int maxConcurrentFileChunks;
     private final DiscoveryNode targetNode;
     private final CancellableThreads cancellableThreads;
@@ -75,10 +79,32 @@ public final class SegmentFileTransferHandler {
         this.threadPool = threadPool;
         this.cancellableThreads = cancellableThreads;
         this.chunkSizeInBytes = fileChunkSizeInBytes;
+        this.adaptiveChunkSize = new AdaptiveChunkSize(fileChunkSizeInBytes);
         // if the target is on an old version, it won't be able to handle out-of-order file chunks.
         this.maxConcurrentFileChunks = maxConcurrentFileChunks;
     }
 
+    /**
+     * The size of the next file chunk to send, which adapts to the observed throughput up to the configured chunk size.
+     */
+    public int chunkSizeInBytes() {
+        return adaptiveChunkSize.chunkSizeInBytes();
+    }
+
+    /**
+     * The number of chunk buffers the transfers of this handler allocated.
+     */
+    public long buffersAllocated() {
+        return buffersAllocated.count();
+    }
+
+    /**
+     * The number of times the transfers of this handler reused a chunk buffer of a chunk the target already acknowledged.
+     */
+    public long buffersReused() {
+        return buffersReused.count();
+    }
+
     /**
      * Returns a closeable {@link MultiChunkTransfer} to initiate sending a list of files.
      * Callers are responsible for starting the transfer and closing the resource.
@@ -123,8 +149,11 @@ public final class SegmentFileTransferHandler {
             private byte[] acquireBuffer() {
                 final byte[] buffer = buffers.pollFirst();
                 if (buffer != null) {
+                    buffersReused.inc();
                     return buffer;
                 }
+                buffersAllocated.inc();
+                // buffers have the maximum chunk size so they can be reused whatever size the chunks adapt to
                 return new byte[chunkSizeInBytes];
             }
 
@@ -133,7 +162,7 @@ public final class SegmentFileTransferHandler {
                 assert Transports.assertNotTransportThread("read file chunk");
                 cancellableThreads.checkForCancel();
                 final byte[] buffer = acquireBuffer();
-                final int bytesRead = readBytes(md, buffer);
+                final int bytesRead = readBytes(md, buffer, adaptiveChunkSize.chunkSizeInBytes());
                 if (bytesRead == -1) {
                     throw new CorruptIndexException("file truncated; length=" + md.length() + " offset=" + offset, md.name());
                 }
@@ -149,30 +178,34 @@ public final class SegmentFileTransferHandler {
                 return chunk;
             }
 
-            private int readBytes(StoreFileMetadata md, byte[] buffer) throws IOException {
+            private int readBytes(StoreFileMetadata md, byte[] buffer, int length) throws IOException {
                 // if we don't have a currentInput by now open once to create the chunk.
                 if (currentInput == null) {
                     try (IndexInput indexInput = store.directory().openInput(md.name(), IOContext.READONCE)) {
                         try (InputStreamIndexInput in = new InputStreamIndexInput(indexInput, md.length())) {
                             in.skip(offset);
-                            return in.read(buffer);
+                            return in.read(buffer, 0, length);
                         }
                     }
                 } else {
-                    return currentInput.read(buffer);
+                    return currentInput.read(buffer, 0, length);
                 }
             }
 
             @Override
             protected void executeChunkRequest(FileChunk request, ActionListener<Void> listener1) {
                 cancellableThreads.checkForCancel();
+                final long startTimeInNanos = System.nanoTime();
                 chunkWriter.writeFileChunk(
                     request.md,
                     request.position,
                     request.content,
                     request.lastChunk,
                     translogOps.getAsInt(),
-                    ActionListener.runBefore(listener1, request::close)
+                    ActionListener.runBefore(ActionListener.delegateFailure(listener1, (l, r) -> {
+                        adaptiveChunkSize.onChunkSent(request.content.length(), System.nanoTime() - startTimeInNanos);
+                        l.onResponse(r);
+                    }), request::close)
                 );
             }
 
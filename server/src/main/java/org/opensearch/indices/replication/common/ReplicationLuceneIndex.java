@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.replication.common;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -43,6 +44,9 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
 
     private long sourceThrottlingInNanos = UNKNOWN;
     private long targetThrottleTimeInNanos = UNKNOWN;
+    private long sourceChunkSizeInBytes = 0;
+    private long sourceBuffersAllocated = 0;
+    private long sourceBuffersReused = 0;
 
     public ReplicationLuceneIndex() {
         this(new FilesDetails());
@@ -57,6 +61,11 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         filesDetails = new FilesDetails(in);
         sourceThrottlingInNanos = in.readLong();
         targetThrottleTimeInNanos = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            sourceChunkSizeInBytes = in.readVLong();
+            sourceBuffersAllocated = in.readVLong();
+            sourceBuffersReused = in.readVLong();
+        }
     }
 
     @Override
@@ -65,6 +74,11 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         filesDetails.writeTo(out);
         out.writeLong(sourceThrottlingInNanos);
         out.writeLong(targetThrottleTimeInNanos);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(sourceChunkSizeInBytes);
+            out.writeVLong(sourceBuffersAllocated);
+            out.writeVLong(sourceBuffersReused);
+        }
     }
 
     public synchronized List<FileMetadata> fileDetails() {
@@ -76,6 +90,9 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         filesDetails.clear();
         sourceThrottlingInNanos = UNKNOWN;
         targetThrottleTimeInNanos = UNKNOWN;
+        sourceChunkSizeInBytes = 0;
+        sourceBuffersAllocated = 0;
+        sourceBuffersReused = 0;
     }
 
     public synchronized void addFileDetail(String name, long length, boolean reused) {
@@ -106,6 +123,36 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         }
     }
 
+    /**
+     * Records how the source sent the files: the size its file chunks adapted to, and how many chunk buffers it allocated and reused.
+     */
+    public synchronized void setSourceTransferStats(long chunkSizeInBytes, long buffersAllocated, long buffersReused) {
+        this.sourceChunkSizeInBytes = chunkSizeInBytes;
+        this.sourceBuffersAllocated = buffersAllocated;
+        this.sourceBuffersReused = buffersReused;
+    }
+
+    /**
+     * the size of the file chunks the source sent last, or {@code 0} if the source didn't report it
+     */
+    public synchronized long sourceChunkSizeInBytes() {
+        return sourceChunkSizeInBytes;
+    }
+
+    /**
+     * number of file chunk buffers the source allocated
+     */
+    public synchronized long sourceBuffersAllocated() {
+        return sourceBuffersAllocated;
+    }
+
+    /**
+     * number of times the source reused a file chunk buffer instead of allocating one
+     */
+    public synchronized long sourceBuffersReused() {
+        return sourceBuffersReused;
+    }
+
     public synchronized TimeValue sourceThrottling() {
         return TimeValue.timeValueNanos(sourceThrottlingInNanos);
     }
@@ -194,6 +241,17 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         return recovered;
     }
 
+    /**
+     * average number of bytes recovered per second since the start of this stage, or {@code 0} if no time has elapsed yet
+     */
+    public synchronized long recoveredBytesPerSecond() {
+        final long timeInMillis = time();
+        if (timeInMillis <= 0) {
+            return 0;
+        }
+        return recoveredBytes() * 1000 / timeInMillis;
+    }
+
     /**
      * total bytes of files to be recovered (potentially not yet done)
      */
@@ -274,6 +332,11 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         builder.humanReadableField(Fields.TOTAL_IN_BYTES, Fields.TOTAL, new ByteSizeValue(totalBytes()));
         builder.humanReadableField(Fields.REUSED_IN_BYTES, Fields.REUSED, new ByteSizeValue(reusedBytes()));
         builder.humanReadableField(Fields.RECOVERED_IN_BYTES, Fields.RECOVERED, new ByteSizeValue(recoveredBytes()));
+        builder.humanReadableField(
+            Fields.RECOVERED_IN_BYTES_PER_SEC,
+            Fields.RECOVERED_PER_SEC,
+            new ByteSizeValue(recoveredBytesPerSecond())
+        );
         builder.field(Fields.PERCENT, String.format(Locale.ROOT, "%1.1f%%", recoveredBytesPercent()));
         builder.endObject();
 
@@ -287,6 +350,13 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, new TimeValue(time()));
         builder.humanReadableField(Fields.SOURCE_THROTTLE_TIME_IN_MILLIS, Fields.SOURCE_THROTTLE_TIME, sourceThrottling());
         builder.humanReadableField(Fields.TARGET_THROTTLE_TIME_IN_MILLIS, Fields.TARGET_THROTTLE_TIME, targetThrottling());
+        if (sourceChunkSizeInBytes > 0) {
+            builder.startObject(Fields.SOURCE_TRANSFER);
+            builder.humanReadableField(Fields.CHUNK_SIZE_IN_BYTES, Fields.CHUNK_SIZE, new ByteSizeValue(sourceChunkSizeInBytes));
+            builder.field(Fields.BUFFERS_ALLOCATED, sourceBuffersAllocated);
+            builder.field(Fields.BUFFERS_REUSED, sourceBuffersReused);
+            builder.endObject();
+        }
         return builder;
     }
 
@@ -510,6 +580,8 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         static final String NAME = "name";
         static final String RECOVERED = "recovered";
         static final String RECOVERED_IN_BYTES = "recovered_in_bytes";
+        static final String RECOVERED_PER_SEC = "recovered_per_sec";
+        static final String RECOVERED_IN_BYTES_PER_SEC = "recovered_in_bytes_per_sec";
         static final String LENGTH = "length";
         static final String LENGTH_IN_BYTES = "length_in_bytes";
         static final String FILES = "files";
@@ -524,5 +596,10 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         static final String SOURCE_THROTTLE_TIME_IN_MILLIS = "source_throttle_time_in_millis";
         static final String TARGET_THROTTLE_TIME = "target_throttle_time";
         static final String TARGET_THROTTLE_TIME_IN_MILLIS = "target_throttle_time_in_millis";
+        static final String SOURCE_TRANSFER = "source_transfer";
+        static final String CHUNK_SIZE = "chunk_size";
+        static final String CHUNK_SIZE_IN_BYTES = "chunk_size_in_bytes";
+        static final String BUFFERS_ALLOCATED = "buffers_allocated";
+        static final String BUFFERS_REUSED = "buffers_reused";
     }
 }
@@ -157,6 +157,11 @@ public class ConditionalProcessor extends AbstractProcessor implements WrappingP
         return TYPE;
     }
 
+    @Override
+    public Map<String, Long> getCounters() {
+        return processor.getCounters();
+    }
+
     public String getCondition() {
         return condition.getIdOrCode();
     }
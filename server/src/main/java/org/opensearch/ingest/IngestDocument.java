@@ -56,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 /**
@@ -72,6 +73,12 @@ public final class IngestDocument {
 
     static final String TIMESTAMP = "timestamp";
 
+    // Parsed field paths are shared by all documents, as processors access the same few paths for every document they process.
+    // Lookups don't take a lock, so ingest threads don't contend on the cache. Paths rendered from templates may differ for
+    // every document, so the cache is cleared once it is full, and the paths still in use are parsed again.
+    static final int MAX_CACHED_FIELD_PATHS = 1024;
+    private static final Map<String, ParsedFieldPath> FIELD_PATH_CACHE = new ConcurrentHashMap<>();
+
     private final Map<String, Object> sourceAndMetadata;
     private final Map<String, Object> ingestMetadata;
 
@@ -877,23 +884,52 @@ public final class IngestDocument {
             if (Strings.isEmpty(path)) {
                 throw new IllegalArgumentException("path cannot be null nor empty");
             }
+            ParsedFieldPath parsedPath = FIELD_PATH_CACHE.get(path);
+            if (parsedPath == null) {
+                parsedPath = ParsedFieldPath.parse(path);
+                if (FIELD_PATH_CACHE.size() >= MAX_CACHED_FIELD_PATHS) {
+                    FIELD_PATH_CACHE.clear();
+                }
+                FIELD_PATH_CACHE.put(path, parsedPath);
+            }
+            this.initialContext = parsedPath.ingestMetadata ? ingestMetadata : sourceAndMetadata;
+            this.pathElements = parsedPath.pathElements;
+        }
+
+    }
+
+    /**
+     * A field path split into its elements. The elements must not be modified since parsed paths are shared.
+     */
+    private record ParsedFieldPath(boolean ingestMetadata, String[] pathElements) {
+
+        static ParsedFieldPath parse(String path) {
+            boolean ingestMetadata = path.startsWith(INGEST_KEY_PREFIX);
             String newPath;
-            if (path.startsWith(INGEST_KEY_PREFIX)) {
-                initialContext = ingestMetadata;
-                newPath = path.substring(INGEST_KEY_PREFIX.length(), path.length());
+            if (ingestMetadata) {
+                newPath = path.substring(INGEST_KEY_PREFIX.length());
+            } else if (path.startsWith(SOURCE_PREFIX)) {
+                newPath = path.substring(SOURCE_PREFIX.length());
             } else {
-                initialContext = sourceAndMetadata;
-                if (path.startsWith(SOURCE_PREFIX)) {
-                    newPath = path.substring(SOURCE_PREFIX.length(), path.length());
-                } else {
-                    newPath = path;
-                }
+                newPath = path;
             }
-            this.pathElements = newPath.split("\\.");
+            String[] pathElements = newPath.split("\\.");
             if (pathElements.length == 1 && pathElements[0].isEmpty()) {
                 throw new IllegalArgumentException("path [" + path + "] is not valid");
             }
+            return new ParsedFieldPath(ingestMetadata, pathElements);
         }
+    }
+
+    static int cachedFieldPaths() {
+        return FIELD_PATH_CACHE.size();
+    }
+
+    static boolean isFieldPathCached(String path) {
+        return FIELD_PATH_CACHE.containsKey(path);
+    }
 
+    static Object cachedFieldPath(String path) {
+        return FIELD_PATH_CACHE.get(path);
     }
 }
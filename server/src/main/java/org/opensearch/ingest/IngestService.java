@@ -1331,7 +1331,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             processorMetrics.forEach(t -> {
                 Processor processor = t.v1();
                 OperationMetrics processorMetric = t.v2();
-                statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric);
+                statsBuilder.addProcessorMetrics(
+                    id,
+                    getProcessorName(processor),
+                    processor.getType(),
+                    processorMetric,
+                    processor.getCounters()
+                );
             });
         });
         return statsBuilder.build();
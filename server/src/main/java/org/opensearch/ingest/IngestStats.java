@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.metrics.OperationMetrics;
 import org.opensearch.common.metrics.OperationStats;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -47,6 +48,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 /**
  * OperationStats for an ingest processor pipeline
@@ -89,7 +91,15 @@ public class IngestStats implements Writeable, ToXContentFragment {
                 String processorType = "_NOT_AVAILABLE";
                 processorType = in.readString();
                 OperationStats processorStat = new OperationStats(in);
-                processorStatsPerPipeline.add(new ProcessorStat(processorName, processorType, processorStat));
+                if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+                    long timePerDocInNanos = in.readVLong();
+                    Map<String, Long> counters = in.readOrderedMap(StreamInput::readString, StreamInput::readVLong);
+                    processorStatsPerPipeline.add(
+                        new ProcessorStat(processorName, processorType, processorStat, timePerDocInNanos, counters)
+                    );
+                } else {
+                    processorStatsPerPipeline.add(new ProcessorStat(processorName, processorType, processorStat));
+                }
             }
             this.processorStats.put(pipelineId, processorStatsPerPipeline);
         }
@@ -111,6 +121,10 @@ public class IngestStats implements Writeable, ToXContentFragment {
                     out.writeString(processorStat.getName());
                     out.writeString(processorStat.getType());
                     processorStat.getStats().writeTo(out);
+                    if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+                        out.writeVLong(processorStat.getTimePerDocInNanos());
+                        out.writeMap(processorStat.getCounters(), StreamOutput::writeString, StreamOutput::writeVLong);
+                    }
                 }
             }
         }
@@ -135,6 +149,10 @@ public class IngestStats implements Writeable, ToXContentFragment {
                     builder.field("type", processorStat.getType());
                     builder.startObject("stats");
                     processorStat.getStats().toXContent(builder, params);
+                    builder.field("time_per_doc_in_nanos", processorStat.getTimePerDocInNanos());
+                    if (processorStat.getCounters().isEmpty() == false) {
+                        builder.field("counters", processorStat.getCounters());
+                    }
                     builder.endObject();
                     builder.endObject();
                     builder.endObject();
@@ -194,11 +212,26 @@ public class IngestStats implements Writeable, ToXContentFragment {
         }
 
         Builder addProcessorMetrics(String pipelineId, String processorName, String processorType, OperationMetrics metric) {
+            return addProcessorMetrics(pipelineId, processorName, processorType, metric, Collections.emptyMap());
+        }
+
+        Builder addProcessorMetrics(
+            String pipelineId,
+            String processorName,
+            String processorType,
+            OperationMetrics metric,
+            Map<String, Long> counters
+        ) {
             this.processorStats.computeIfAbsent(pipelineId, k -> new ArrayList<>())
-                .add(new ProcessorStat(processorName, processorType, metric.createStats()));
+                .add(new ProcessorStat(processorName, processorType, metric.createStats(), timePerDocInNanos(metric), counters));
             return this;
         }
 
+        private static long timePerDocInNanos(OperationMetrics metric) {
+            long count = metric.createStats().getCount();
+            return count == 0 ? 0 : metric.getTotalTimeInNanos() / count;
+        }
+
         IngestStats build() {
             return new IngestStats(totalStats, Collections.unmodifiableList(pipelineStats), Collections.unmodifiableMap(processorStats));
         }
@@ -245,11 +278,31 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private final String name;
         private final String type;
         private final OperationStats stats;
+        private final long timePerDocInNanos;
+        private final Map<String, Long> counters;
 
+        /**
+         * Creates processor stats whose time per document is derived from the total time of the given stats.
+         */
         public ProcessorStat(String name, String type, OperationStats stats) {
+            this(
+                name,
+                type,
+                stats,
+                stats.getCount() == 0 ? 0 : stats.getTimeUnit().toNanos(stats.getTotalTime()) / stats.getCount()
+            );
+        }
+
+        public ProcessorStat(String name, String type, OperationStats stats, long timePerDocInNanos) {
+            this(name, type, stats, timePerDocInNanos, Collections.emptyMap());
+        }
+
+        public ProcessorStat(String name, String type, OperationStats stats, long timePerDocInNanos, Map<String, Long> counters) {
             this.name = name;
             this.type = type;
             this.stats = stats;
+            this.timePerDocInNanos = timePerDocInNanos;
+            this.counters = Collections.unmodifiableSortedMap(new TreeMap<>(counters));
         }
 
         public String getName() {
@@ -264,17 +317,35 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return stats;
         }
 
+        /**
+         * @return the average time the processor spent on a document, in nanoseconds.
+         */
+        public long getTimePerDocInNanos() {
+            return timePerDocInNanos;
+        }
+
+        /**
+         * @return the counters specific to the processor, sorted by name.
+         */
+        public Map<String, Long> getCounters() {
+            return counters;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             IngestStats.ProcessorStat that = (IngestStats.ProcessorStat) o;
-            return Objects.equals(name, that.name) && Objects.equals(type, that.type) && Objects.equals(stats, that.stats);
+            return Objects.equals(name, that.name)
+                && Objects.equals(type, that.type)
+                && Objects.equals(stats, that.stats)
+                && timePerDocInNanos == that.timePerDocInNanos
+                && Objects.equals(counters, that.counters);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, type, stats);
+            return Objects.hash(name, type, stats, timePerDocInNanos, counters);
         }
     }
 }
@@ -143,6 +143,13 @@ public interface Processor {
         return false;
     }
 
+    /**
+     * Gets counters specific to this processor, keyed by name, which are reported along with its stats in the node ingest stats.
+     */
+    default Map<String, Long> getCounters() {
+        return Collections.emptyMap();
+    }
+
     /**
      * A factory that knows how to construct a processor based on a map of maps.
      */
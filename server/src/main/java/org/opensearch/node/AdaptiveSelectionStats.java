@@ -32,6 +32,7 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.set.Sets;
@@ -42,6 +43,7 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -60,6 +62,7 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
 
     private final Map<String, Long> clientOutgoingConnections;
     private final Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats;
+    private final Map<String, Map<String, Double>> indexResponseTimes;
 
     /**
      * Private constructor that takes a builder.
@@ -69,6 +72,7 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
     private AdaptiveSelectionStats(Builder builder) {
         this.clientOutgoingConnections = builder.clientOutgoingConnections;
         this.nodeComputedStats = builder.nodeComputedStats;
+        this.indexResponseTimes = builder.indexResponseTimes;
     }
 
     /**
@@ -82,17 +86,30 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
     ) {
         this.clientOutgoingConnections = clientConnections;
         this.nodeComputedStats = nodeComputedStats;
+        this.indexResponseTimes = Collections.emptyMap();
     }
 
     public AdaptiveSelectionStats(StreamInput in) throws IOException {
         this.clientOutgoingConnections = in.readMap(StreamInput::readString, StreamInput::readLong);
         this.nodeComputedStats = in.readMap(StreamInput::readString, ResponseCollectorService.ComputedNodeStats::new);
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            this.indexResponseTimes = in.readMap(StreamInput::readString, i -> i.readMap(StreamInput::readString, StreamInput::readDouble));
+        } else {
+            this.indexResponseTimes = Collections.emptyMap();
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeMap(this.clientOutgoingConnections, StreamOutput::writeString, StreamOutput::writeLong);
         out.writeMap(this.nodeComputedStats, StreamOutput::writeString, (stream, stats) -> stats.writeTo(stream));
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeMap(
+                this.indexResponseTimes,
+                StreamOutput::writeString,
+                (stream, responseTimes) -> stream.writeMap(responseTimes, StreamOutput::writeString, StreamOutput::writeDouble)
+            );
+        }
     }
 
     @Override
@@ -116,6 +133,19 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
                 builder.field("avg_response_time_ns", (long) stats.responseTime);
                 builder.field("rank", String.format(Locale.ROOT, "%.1f", stats.rank(outgoingSearches)));
             }
+            Map<String, Double> responseTimes = indexResponseTimes.get(nodeId);
+            if (responseTimes != null && responseTimes.isEmpty() == false) {
+                builder.startObject("indices");
+                for (Map.Entry<String, Double> entry : responseTimes.entrySet()) {
+                    builder.startObject(entry.getKey());
+                    if (builder.humanReadable()) {
+                        builder.field("avg_response_time", new TimeValue(entry.getValue().longValue(), TimeUnit.NANOSECONDS).toString());
+                    }
+                    builder.field("avg_response_time_ns", entry.getValue().longValue());
+                    builder.endObject();
+                }
+                builder.endObject();
+            }
             builder.endObject();
         }
         builder.endObject();
@@ -136,6 +166,13 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
         return nodeComputedStats;
     }
 
+    /**
+     * Returns a map of node id to the response time EWMA of the indices that are tracked separately for that node
+     */
+    public Map<String, Map<String, Double>> getIndexResponseTimes() {
+        return indexResponseTimes;
+    }
+
     /**
      * Returns a map of node id to the ranking of the nodes based on the adaptive replica formula
      */
@@ -152,6 +189,7 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
     public static class Builder {
         private Map<String, Long> clientOutgoingConnections;
         private Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats;
+        private Map<String, Map<String, Double>> indexResponseTimes = Collections.emptyMap();
 
         public Builder() {}
 
@@ -165,6 +203,11 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder indexResponseTimes(Map<String, Map<String, Double>> indexResponseTimes) {
+            this.indexResponseTimes = indexResponseTimes;
+            return this;
+        }
+
         /**
          * Creates a {@link AdaptiveSelectionStats} object from the builder's current state.
          * @return A new AdaptiveSelectionStats instance.
@@ -35,13 +35,16 @@ package org.opensearch.node;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.OperationRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.Index;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -49,6 +52,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Collects statistics about queue size, response time, and service time of
@@ -62,10 +66,35 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    /**
+     * The maximum number of indices whose response time is tracked separately for each node, so that the memory used by the
+     * per-index statistics stays bounded regardless of the number of indices searched. Once the limit is reached, the index
+     * whose response time was updated least recently makes room for a new one.
+     */
+    static final int MAX_TRACKED_INDICES_PER_NODE = 1024;
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
 
+    // the response time per index is only tracked while adaptive replica selection ranks copies per index
+    private volatile boolean trackIndexResponseTimes;
+
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        this.trackIndexResponseTimes = clusterSettings.get(OperationRouting.ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(
+            OperationRouting.ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING,
+            this::setTrackIndexResponseTimes
+        );
+    }
+
+    private void setTrackIndexResponseTimes(boolean trackIndexResponseTimes) {
+        this.trackIndexResponseTimes = trackIndexResponseTimes;
+        if (trackIndexResponseTimes == false) {
+            for (NodeStatistics nodeStatistics : nodeIdToStats.values()) {
+                nodeStatistics.indexResponseTime.clear();
+            }
+        }
     }
 
     @Override
@@ -75,6 +104,15 @@ public final class ResponseCollectorService implements ClusterStateListener {
                 removeNode(removedNode.getId());
             }
         }
+        for (Index deletedIndex : event.indicesDeleted()) {
+            removeIndex(deletedIndex.getName());
+        }
+    }
+
+    void removeIndex(String indexName) {
+        for (NodeStatistics nodeStatistics : nodeIdToStats.values()) {
+            nodeStatistics.indexResponseTime.remove(indexName);
+        }
     }
 
     void removeNode(String nodeId) {
@@ -96,6 +134,50 @@ public final class ResponseCollectorService implements ClusterStateListener {
         });
     }
 
+    /**
+     * Same as {@link #addNodeStatistics(String, int, long, long)}, but additionally tracks the response time of the node for
+     * the given index, so that copies of the index can be ranked by how fast the node is for this index specifically. The
+     * response time per index is only tracked while {@link OperationRouting#ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING} is
+     * enabled.
+     */
+    public void addNodeStatistics(String nodeId, String indexName, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
+        addNodeStatistics(nodeId, queueSize, responseTimeNanos, avgServiceTimeNanos);
+        if (trackIndexResponseTimes == false) {
+            return;
+        }
+        final NodeStatistics nodeStatistics = nodeIdToStats.get(nodeId);
+        if (nodeStatistics != null) {
+            final long updateTime = nodeStatistics.indexUpdateClock.incrementAndGet();
+            final IndexResponseTime indexResponseTime = nodeStatistics.indexResponseTime.get(indexName);
+            if (indexResponseTime != null) {
+                indexResponseTime.responseTime.addValue((double) responseTimeNanos);
+                indexResponseTime.lastUpdated = updateTime;
+            } else {
+                if (nodeStatistics.indexResponseTime.size() >= MAX_TRACKED_INDICES_PER_NODE) {
+                    evictLeastRecentlyUpdatedIndex(nodeStatistics);
+                }
+                nodeStatistics.indexResponseTime.computeIfAbsent(
+                    indexName,
+                    k -> new IndexResponseTime(new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos), updateTime)
+                );
+            }
+        }
+    }
+
+    private static void evictLeastRecentlyUpdatedIndex(NodeStatistics nodeStatistics) {
+        String leastRecentlyUpdated = null;
+        long leastRecentUpdateTime = Long.MAX_VALUE;
+        for (Map.Entry<String, IndexResponseTime> entry : nodeStatistics.indexResponseTime.entrySet()) {
+            if (entry.getValue().lastUpdated < leastRecentUpdateTime) {
+                leastRecentlyUpdated = entry.getKey();
+                leastRecentUpdateTime = entry.getValue().lastUpdated;
+            }
+        }
+        if (leastRecentlyUpdated != null) {
+            nodeStatistics.indexResponseTime.remove(leastRecentlyUpdated);
+        }
+    }
+
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
         // Transform the mutable object internally used for accounting into the computed version
@@ -104,9 +186,28 @@ public final class ResponseCollectorService implements ClusterStateListener {
         return nodeStats;
     }
 
+    /**
+     * Returns, for each node, the response time EWMA of the indices that are tracked separately for that node.
+     */
+    public Map<String, Map<String, Double>> getAllIndexResponseTimes() {
+        if (trackIndexResponseTimes == false) {
+            return Map.of();
+        }
+        final Map<String, Map<String, Double>> indexResponseTimes = new HashMap<>(nodeIdToStats.size());
+        nodeIdToStats.forEach((nodeId, ns) -> {
+            if (ns.indexResponseTime.isEmpty() == false) {
+                final Map<String, Double> responseTimes = new HashMap<>(ns.indexResponseTime.size());
+                ns.indexResponseTime.forEach((indexName, irt) -> responseTimes.put(indexName, irt.responseTime.getAverage()));
+                indexResponseTimes.put(nodeId, responseTimes);
+            }
+        });
+        return indexResponseTimes;
+    }
+
     public AdaptiveSelectionStats getAdaptiveStats(Map<String, Long> clientSearchConnections) {
         return new AdaptiveSelectionStats.Builder().clientOutgoingConnections(clientSearchConnections)
             .nodeComputedStats(getAllNodeStatistics())
+            .indexResponseTimes(getAllIndexResponseTimes())
             .build();
     }
 
@@ -120,6 +221,28 @@ public final class ResponseCollectorService implements ClusterStateListener {
         return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns));
     }
 
+    /**
+     * Same as {@link #getNodeStatistics(String)}, but uses the response time of the node for the given index in place of the
+     * response time of the node across all indices when it is known, so that a node that is slow for this index only ranks
+     * worse for this index only.
+     */
+    public Optional<ComputedNodeStats> getNodeStatistics(final String nodeId, final String indexName) {
+        final int clientNum = nodeIdToStats.size();
+        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> {
+            final IndexResponseTime indexResponseTime = trackIndexResponseTimes ? ns.indexResponseTime.get(indexName) : null;
+            if (indexResponseTime == null) {
+                return new ComputedNodeStats(clientNum, ns);
+            }
+            return new ComputedNodeStats(
+                ns.nodeId,
+                clientNum,
+                (int) ns.queueSize.getAverage(),
+                indexResponseTime.responseTime.getAverage(),
+                ns.serviceTime
+            );
+        });
+    }
+
     /**
      * Struct-like class encapsulating a point-in-time snapshot of a particular
      * node's statistics. This includes the EWMA of queue size, response time,
@@ -235,6 +358,8 @@ public final class ResponseCollectorService implements ClusterStateListener {
         final String nodeId;
         final ExponentiallyWeightedMovingAverage queueSize;
         final ExponentiallyWeightedMovingAverage responseTime;
+        final ConcurrentMap<String, IndexResponseTime> indexResponseTime = ConcurrentCollections.newConcurrentMap();
+        final AtomicLong indexUpdateClock = new AtomicLong();
         double serviceTime;
 
         NodeStatistics(
@@ -249,4 +374,17 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.serviceTime = serviceTimeEWMA;
         }
     }
+
+    /**
+     * Response time of a node for a single index, along with the logical time it was last updated at.
+     */
+    private static class IndexResponseTime {
+        final ExponentiallyWeightedMovingAverage responseTime;
+        volatile long lastUpdated;
+
+        IndexResponseTime(ExponentiallyWeightedMovingAverage responseTime, long lastUpdated) {
+            this.responseTime = responseTime;
+            this.lastUpdated = lastUpdated;
+        }
+    }
 }
@@ -12,6 +12,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.Constants;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.node.ResourceUsageCollectorService;
 import org.opensearch.plugin.stats.NativeAllocatorPoolStats;
@@ -19,10 +21,12 @@ import org.opensearch.ratelimitting.admissioncontrol.controllers.AdmissionContro
 import org.opensearch.ratelimitting.admissioncontrol.controllers.CpuBasedAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.IoBasedAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.NativeMemoryBasedAdmissionController;
+import org.opensearch.ratelimitting.admissioncontrol.controllers.ShardLatencyBasedAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.ratelimitting.admissioncontrol.stats.AdmissionControlStats;
 import org.opensearch.ratelimitting.admissioncontrol.stats.AdmissionControllerStats;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +37,7 @@ import java.util.function.Supplier;
 import static org.opensearch.ratelimitting.admissioncontrol.controllers.CpuBasedAdmissionController.CPU_BASED_ADMISSION_CONTROLLER;
 import static org.opensearch.ratelimitting.admissioncontrol.controllers.IoBasedAdmissionController.IO_BASED_ADMISSION_CONTROLLER;
 import static org.opensearch.ratelimitting.admissioncontrol.controllers.NativeMemoryBasedAdmissionController.NATIVE_MEMORY_BASED_ADMISSION_CONTROLLER;
+import static org.opensearch.ratelimitting.admissioncontrol.controllers.ShardLatencyBasedAdmissionController.SHARD_LATENCY_BASED_ADMISSION_CONTROLLER;
 
 /**
  * Admission control Service that bootstraps and manages all the Admission Controllers in OpenSearch.
@@ -79,6 +84,7 @@ public class AdmissionControlService {
     private void initialize() {
         // Initialise different type of admission controllers
         registerAdmissionController(CPU_BASED_ADMISSION_CONTROLLER);
+        registerAdmissionController(SHARD_LATENCY_BASED_ADMISSION_CONTROLLER);
         if (Constants.LINUX) {
             registerAdmissionController(IO_BASED_ADMISSION_CONTROLLER);
             registerAdmissionController(NATIVE_MEMORY_BASED_ADMISSION_CONTROLLER);
@@ -91,9 +97,39 @@ public class AdmissionControlService {
      * @param admissionControlActionType admissionControllerActionType value
      */
     public void applyTransportAdmissionControl(String action, AdmissionControlActionType admissionControlActionType) {
-        this.admissionControllers.forEach(
-            (name, admissionController) -> { admissionController.apply(action, admissionControlActionType); }
-        );
+        Releasables.close(applyTransportAdmissionControl(action, admissionControlActionType, null));
+    }
+
+    /**
+     *
+     * @param action Transport action name
+     * @param admissionControlActionType admissionControllerActionType value
+     * @param request Transport request that landed on the node
+     * @return releasable to release once the request has been responded to, or null if no admission controller tracks it
+     */
+    public Releasable applyTransportAdmissionControl(
+        String action,
+        AdmissionControlActionType admissionControlActionType,
+        TransportRequest request
+    ) {
+        List<Releasable> releasables = null;
+        try {
+            for (AdmissionController admissionController : this.admissionControllers.values()) {
+                Releasable releasable = admissionController.apply(action, admissionControlActionType, request);
+                if (releasable != null) {
+                    if (releasables == null) {
+                        releasables = new ArrayList<>();
+                    }
+                    releasables.add(releasable);
+                }
+            }
+        } catch (RuntimeException e) {
+            if (releasables != null) {
+                Releasables.close(releasables);
+            }
+            throw e;
+        }
+        return releasables == null ? null : Releasables.wrap(releasables);
     }
 
     /**
@@ -124,6 +160,13 @@ public class AdmissionControlService {
                     this.clusterService,
                     this.settings
                 );
+            case SHARD_LATENCY_BASED_ADMISSION_CONTROLLER:
+                return new ShardLatencyBasedAdmissionController(
+                    admissionControllerName,
+                    this.resourceUsageCollectorService,
+                    this.clusterService,
+                    this.settings
+                );
             case NATIVE_MEMORY_BASED_ADMISSION_CONTROLLER:
                 return new NativeMemoryBasedAdmissionController(
                     admissionControllerName,
@@ -9,10 +9,12 @@
 package org.opensearch.ratelimitting.admissioncontrol.controllers;
 
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.node.ResourceUsageCollectorService;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+import org.opensearch.transport.TransportRequest;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -66,6 +68,16 @@ public abstract class AdmissionController {
      */
     public abstract void apply(String action, AdmissionControlActionType admissionControlActionType);
 
+    /**
+     * Apply admission control for a transport request that landed on the node. Controllers that track requests until
+     * they are responded to return a {@link Releasable} that must be released once the response was sent, the default
+     * implementation applies {@link #apply(String, AdmissionControlActionType)} and returns {@code null}.
+     */
+    public Releasable apply(String action, AdmissionControlActionType admissionControlActionType, TransportRequest request) {
+        apply(action, admissionControlActionType);
+        return null;
+    }
+
     /**
      * @return name of the admission-controller
      */
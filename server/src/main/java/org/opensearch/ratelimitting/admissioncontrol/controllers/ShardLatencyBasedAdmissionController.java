@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.controllers;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.replication.ReplicationRequest;
+import org.opensearch.action.support.replication.TransportReplicationAction.ConcreteShardRequest;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.node.ResourceUsageCollectorService;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
+import org.opensearch.ratelimitting.admissioncontrol.settings.ShardLatencyBasedAdmissionControllerSettings;
+import org.opensearch.transport.TransportRequest;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ *  Class for shard indexing latency based Admission Controller in OpenSearch. Node level controllers can't tell that
+ *  the write queue of a single hot shard is backing up, so this controller tracks, for every primary shard on the node,
+ *  the number of shard-level write requests in flight and an exponentially weighted moving average of the time they
+ *  took from admission until they were responded to. A new request for a shard is rejected while this average exceeds
+ *  the configured target and at least the configured minimum number of requests are in flight on that shard, so that
+ *  one overloaded shard stops occupying the whole {@code write} thread pool of the node. The moving average of a shard
+ *  outlives idle periods and is only dropped once the shard is no longer allocated to the node.
+ */
+public class ShardLatencyBasedAdmissionController extends AdmissionController implements ClusterStateListener {
+    public static final String SHARD_LATENCY_BASED_ADMISSION_CONTROLLER = "shard_indexing_latency";
+    private static final Logger LOGGER = LogManager.getLogger(ShardLatencyBasedAdmissionController.class);
+    public ShardLatencyBasedAdmissionControllerSettings settings;
+    private final ConcurrentMap<ShardId, ShardLatencyTracker> shardLatencyTrackers = ConcurrentCollections.newConcurrentMap();
+    private final LongSupplier relativeTimeInNanos;
+
+    /**
+     * @param admissionControllerName       name of the admissionController
+     * @param resourceUsageCollectorService instance used to get resource usage stats of the node
+     * @param clusterService                instance of the clusterService
+     */
+    public ShardLatencyBasedAdmissionController(
+        String admissionControllerName,
+        ResourceUsageCollectorService resourceUsageCollectorService,
+        ClusterService clusterService,
+        Settings settings
+    ) {
+        this(admissionControllerName, resourceUsageCollectorService, clusterService, settings, System::nanoTime);
+    }
+
+    ShardLatencyBasedAdmissionController(
+        String admissionControllerName,
+        ResourceUsageCollectorService resourceUsageCollectorService,
+        ClusterService clusterService,
+        Settings settings,
+        LongSupplier relativeTimeInNanos
+    ) {
+        super(admissionControllerName, resourceUsageCollectorService, clusterService);
+        this.settings = new ShardLatencyBasedAdmissionControllerSettings(clusterService.getClusterSettings(), settings);
+        this.relativeTimeInNanos = relativeTimeInNanos;
+        clusterService.addListener(this);
+    }
+
+    /**
+     * Stop tracking shards that were closed, deleted or relocated away from the node
+     */
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.routingTableChanged() == false || shardLatencyTrackers.isEmpty()) {
+            return;
+        }
+        final RoutingTable routingTable = event.state().routingTable();
+        final String localNodeId = event.state().nodes().getLocalNodeId();
+        shardLatencyTrackers.keySet().removeIf(shardId -> isAllocatedToNode(routingTable, shardId, localNodeId) == false);
+    }
+
+    private static boolean isAllocatedToNode(RoutingTable routingTable, ShardId shardId, String nodeId) {
+        final IndexRoutingTable indexRoutingTable = routingTable.index(shardId.getIndex());
+        final IndexShardRoutingTable shardRoutingTable = indexRoutingTable == null ? null : indexRoutingTable.shard(shardId.id());
+        if (shardRoutingTable == null) {
+            return false;
+        }
+        for (ShardRouting shardRouting : shardRoutingTable.shards()) {
+            if (nodeId.equals(shardRouting.currentNodeId()) || nodeId.equals(shardRouting.relocatingNodeId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Node level resource usage isn't tracked by this controller, admission control is only applied to requests that
+     * target a shard.
+     *
+     * @param action is the transport action
+     * @param admissionControlActionType type of admissionControlActionType
+     */
+    @Override
+    public void apply(String action, AdmissionControlActionType admissionControlActionType) {}
+
+    /**
+     * Apply admission control to a shard-level write request and start tracking it until it has been responded to
+     *
+     * @param action is the transport action
+     * @param admissionControlActionType type of admissionControlActionType
+     * @param request the transport request
+     */
+    @Override
+    public Releasable apply(String action, AdmissionControlActionType admissionControlActionType, TransportRequest request) {
+        if (admissionControlActionType != AdmissionControlActionType.INDEXING
+            || this.isEnabledForTransportLayer(this.settings.getTransportLayerAdmissionControllerMode()) == false) {
+            return null;
+        }
+        final ShardId shardId = shardId(request);
+        if (shardId == null) {
+            return null;
+        }
+        this.applyForTransportLayer(action, shardId, admissionControlActionType);
+        final ShardLatencyTracker tracker = shardLatencyTrackers.computeIfAbsent(
+            shardId,
+            k -> new ShardLatencyTracker(settings.getEwmaAlpha())
+        );
+        tracker.inFlight.incrementAndGet();
+        final long startTimeInNanos = relativeTimeInNanos.getAsLong();
+        return Releasables.releaseOnce(() -> onRequestCompleted(tracker, relativeTimeInNanos.getAsLong() - startTimeInNanos));
+    }
+
+    private static void onRequestCompleted(ShardLatencyTracker tracker, long tookInNanos) {
+        tracker.serviceTimeInNanos.addValue(tookInNanos);
+        tracker.inFlight.decrementAndGet();
+    }
+
+    private static ShardId shardId(TransportRequest request) {
+        if (request instanceof ConcreteShardRequest) {
+            request = ((ConcreteShardRequest<?>) request).getRequest();
+        }
+        if (request instanceof ReplicationRequest) {
+            return ((ReplicationRequest<?>) request).shardId();
+        }
+        return null;
+    }
+
+    /**
+     * Apply transport layer admission control if the service time of the shard exceeds the configured target
+     */
+    private void applyForTransportLayer(String actionName, ShardId shardId, AdmissionControlActionType admissionControlActionType) {
+        if (isLimitsBreached(actionName, shardId)) {
+            this.addRejectionCount(admissionControlActionType.getType(), 1);
+            if (this.isAdmissionControllerEnforced(this.settings.getTransportLayerAdmissionControllerMode())) {
+                throw new OpenSearchRejectedExecutionException(
+                    String.format(
+                        Locale.ROOT,
+                        "Shard indexing latency admission controller rejected the request for action [%s] as the service time of "
+                            + "shard %s exceeds the target",
+                        actionName,
+                        shardId
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Check if the moving average of the service time of the shard exceeds the target while its queue is backed up
+     */
+    private boolean isLimitsBreached(String actionName, ShardId shardId) {
+        final ShardLatencyTracker tracker = shardLatencyTrackers.get(shardId);
+        if (tracker == null) {
+            return false;
+        }
+        final int inFlight = tracker.inFlight.get();
+        final double serviceTimeInNanos = tracker.serviceTimeInNanos.getAverage();
+        final TimeValue target = this.settings.getIndexingLatencyTarget();
+        if (inFlight >= this.settings.getIndexingMinQueueDepth() && serviceTimeInNanos > target.nanos()) {
+            LOGGER.warn(
+                "ShardLatencyBasedAdmissionController limit reached as the service time [{}ms] of shard {} with [{}] requests in "
+                    + "flight exceeds the target [{}] for transport action [{}] in admissionControlMode [{}]",
+                TimeUnit.NANOSECONDS.toMillis((long) serviceTimeInNanos),
+                shardId,
+                inFlight,
+                target,
+                actionName,
+                this.settings.getTransportLayerAdmissionControllerMode()
+            );
+            return true;
+        }
+        return false;
+    }
+
+    // pkg-private for testing
+    int getInFlightRequests(ShardId shardId) {
+        final ShardLatencyTracker tracker = shardLatencyTrackers.get(shardId);
+        return tracker == null ? 0 : tracker.inFlight.get();
+    }
+
+    // pkg-private for testing
+    boolean isTracked(ShardId shardId) {
+        return shardLatencyTrackers.containsKey(shardId);
+    }
+
+    /**
+     * Number of requests in flight and moving average of the service time of a shard
+     */
+    private static final class ShardLatencyTracker {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final ExponentiallyWeightedMovingAverage serviceTimeInNanos;
+
+        ShardLatencyTracker(double alpha) {
+            this.serviceTimeInNanos = new ExponentiallyWeightedMovingAverage(alpha, 0);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.settings;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+
+/**
+ * Settings related to shard indexing latency based admission controller.
+ * @opensearch.internal
+ */
+public class ShardLatencyBasedAdmissionControllerSettings {
+
+    /**
+     * Default parameters for the ShardLatencyBasedAdmissionControllerSettings
+     */
+    public static class Defaults {
+        public static final TimeValue INDEXING_LATENCY_TARGET = TimeValue.timeValueSeconds(5);
+        public static final int INDEXING_MIN_QUEUE_DEPTH = 16;
+        public static final double EWMA_ALPHA = 0.3;
+    }
+
+    private AdmissionControlMode transportLayerMode;
+    private TimeValue indexingLatencyTarget;
+    private int indexingMinQueueDepth;
+    private final double ewmaAlpha;
+
+    /**
+     * Feature level setting to operate in shadow-mode or in enforced-mode. If enforced field is set
+     * rejection will be performed, otherwise only rejection metrics will be populated. Defaults to
+     * shadow-mode, so that the rejections a latency target would cause can be observed before enforcing it.
+     */
+    public static final Setting<AdmissionControlMode> SHARD_LATENCY_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE = new Setting<>(
+        "admission_control.transport.shard_indexing_latency.mode_override",
+        AdmissionControlMode.MONITOR.getMode(),
+        AdmissionControlMode::fromName,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * This setting is used to set the moving average of the shard-level bulk service time above which new
+     * shard-level bulk requests are rejected.
+     */
+    public static final Setting<TimeValue> INDEXING_LATENCY_TARGET = Setting.positiveTimeSetting(
+        "admission_control.indexing.shard_latency.target",
+        Defaults.INDEXING_LATENCY_TARGET,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * This setting is used to set the number of shard-level bulk requests that must be in flight on a shard
+     * before any of them is rejected, so that a shard which drained its queue always accepts new requests.
+     */
+    public static final Setting<Integer> INDEXING_MIN_QUEUE_DEPTH = Setting.intSetting(
+        "admission_control.indexing.shard_latency.min_queue_depth",
+        Defaults.INDEXING_MIN_QUEUE_DEPTH,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * This setting is used to set the weight of the most recent service time in the moving average of a shard.
+     */
+    public static final Setting<Double> EWMA_ALPHA = Setting.doubleSetting(
+        "admission_control.indexing.shard_latency.ewma_alpha",
+        Defaults.EWMA_ALPHA,
+        0.0,
+        1.0,
+        Setting.Property.NodeScope
+    );
+
+    public ShardLatencyBasedAdmissionControllerSettings(ClusterSettings clusterSettings, Settings settings) {
+        this.transportLayerMode = SHARD_LATENCY_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(
+            SHARD_LATENCY_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE,
+            this::setTransportLayerMode
+        );
+        this.indexingLatencyTarget = INDEXING_LATENCY_TARGET.get(settings);
+        this.indexingMinQueueDepth = INDEXING_MIN_QUEUE_DEPTH.get(settings);
+        this.ewmaAlpha = EWMA_ALPHA.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(INDEXING_LATENCY_TARGET, this::setIndexingLatencyTarget);
+        clusterSettings.addSettingsUpdateConsumer(INDEXING_MIN_QUEUE_DEPTH, this::setIndexingMinQueueDepth);
+    }
+
+    public void setTransportLayerMode(AdmissionControlMode transportLayerMode) {
+        this.transportLayerMode = transportLayerMode;
+    }
+
+    public void setIndexingLatencyTarget(TimeValue indexingLatencyTarget) {
+        this.indexingLatencyTarget = indexingLatencyTarget;
+    }
+
+    public void setIndexingMinQueueDepth(int indexingMinQueueDepth) {
+        this.indexingMinQueueDepth = indexingMinQueueDepth;
+    }
+
+    public AdmissionControlMode getTransportLayerAdmissionControllerMode() {
+        return transportLayerMode;
+    }
+
+    public TimeValue getIndexingLatencyTarget() {
+        return indexingLatencyTarget;
+    }
+
+    public int getIndexingMinQueueDepth() {
+        return indexingMinQueueDepth;
+    }
+
+    public double getEwmaAlpha() {
+        return ewmaAlpha;
+    }
+}
@@ -10,7 +10,11 @@ package org.opensearch.ratelimitting.admissioncontrol.transport;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.Version;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.ratelimitting.admissioncontrol.AdmissionControlService;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.tasks.Task;
@@ -18,6 +22,9 @@ import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.TransportRequest;
 import org.opensearch.transport.TransportRequestHandler;
 
+import java.io.IOException;
+import java.util.Optional;
+
 /**
  * AdmissionControl Handler to intercept Transport Requests.
  * @param <T> Transport Request
@@ -54,17 +61,107 @@ public class AdmissionControlTransportHandler<T extends TransportRequest> implem
      */
     @Override
     public void messageReceived(T request, TransportChannel channel, Task task) throws Exception {
+        Releasable releasable = null;
         // skip admission control if force execution is true
         if (!this.forceExecution) {
             // intercept the transport requests here and apply admission control
             try {
-                this.admissionControlService.applyTransportAdmissionControl(this.action, this.admissionControlActionType);
+                releasable = this.admissionControlService.applyTransportAdmissionControl(
+                    this.action,
+                    this.admissionControlActionType,
+                    request
+                );
             } catch (final OpenSearchRejectedExecutionException openSearchRejectedExecutionException) {
                 log.warn(openSearchRejectedExecutionException.getMessage());
                 channel.sendResponse(openSearchRejectedExecutionException);
                 return;
             }
         }
-        actualHandler.messageReceived(request, channel, task);
+        if (releasable == null) {
+            actualHandler.messageReceived(request, channel, task);
+            return;
+        }
+        final Releasable releaseOnce = Releasables.releaseOnce(releasable);
+        try {
+            actualHandler.messageReceived(request, new ReleasingTransportChannel(channel, releaseOnce), task);
+        } catch (Exception e) {
+            releaseOnce.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Transport channel that releases the admission controllers' tracking of a request once it has been responded to.
+     */
+    private static final class ReleasingTransportChannel implements TransportChannel {
+        private final TransportChannel channel;
+        private final Releasable releasable;
+
+        ReleasingTransportChannel(TransportChannel channel, Releasable releasable) {
+            this.channel = channel;
+            this.releasable = releasable;
+        }
+
+        @Override
+        public String getProfileName() {
+            return channel.getProfileName();
+        }
+
+        @Override
+        public String getChannelType() {
+            return channel.getChannelType();
+        }
+
+        @Override
+        public void sendResponse(TransportResponse response) throws IOException {
+            try {
+                channel.sendResponse(response);
+            } finally {
+                releasable.close();
+            }
+        }
+
+        @Override
+        public void sendResponse(Exception exception) throws IOException {
+            try {
+                channel.sendResponse(exception);
+            } finally {
+                releasable.close();
+            }
+        }
+
+        @Override
+        public void sendResponseBatch(TransportResponse response) {
+            channel.sendResponseBatch(response);
+        }
+
+        @Override
+        public void sendResponseBatch(TransportResponse response, boolean sync) {
+            channel.sendResponseBatch(response, sync);
+        }
+
+        @Override
+        public void completeStream() {
+            try {
+                channel.completeStream();
+            } finally {
+                releasable.close();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return channel.isCancelled();
+        }
+
+        @Override
+        public Version getVersion() {
+            return channel.getVersion();
+        }
+
+        @Override
+        public <T> Optional<T> get(String name, Class<T> clazz) {
+            return channel.get(name, clazz);
+        }
     }
 }
@@ -32,6 +32,7 @@
 
 package org.opensearch.repositories;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.blobstore.BlobStore;
@@ -62,17 +63,35 @@ public class RepositoryStats implements Writeable, ToXContentFragment {
     @Nullable
     public final Map<BlobStore.Metric, Map<String, Long>> extendedStats;
     public final boolean detailed;
+    /**
+     * The number of bytes of files of shard snapshots that were uploaded to the repository.
+     */
+    public final long snapshotBytesUploaded;
+    /**
+     * The time spent uploading files of shard snapshots to the repository, summed over all files.
+     */
+    public final long snapshotUploadTimeInNanos;
 
     public RepositoryStats(Map<String, Long> requestCounts) {
-        this.requestCounts = Collections.unmodifiableMap(requestCounts);
-        this.extendedStats = Collections.emptyMap();
-        this.detailed = false;
+        this(Collections.unmodifiableMap(requestCounts), Collections.emptyMap(), false, 0L, 0L);
     }
 
     public RepositoryStats(Map<BlobStore.Metric, Map<String, Long>> extendedStats, boolean detailed) {
-        this.requestCounts = Collections.emptyMap();
-        this.extendedStats = Collections.unmodifiableMap(extendedStats);
+        this(Collections.emptyMap(), Collections.unmodifiableMap(extendedStats), detailed, 0L, 0L);
+    }
+
+    private RepositoryStats(
+        Map<String, Long> requestCounts,
+        Map<BlobStore.Metric, Map<String, Long>> extendedStats,
+        boolean detailed,
+        long snapshotBytesUploaded,
+        long snapshotUploadTimeInNanos
+    ) {
+        this.requestCounts = requestCounts;
+        this.extendedStats = extendedStats;
         this.detailed = detailed;
+        this.snapshotBytesUploaded = snapshotBytesUploaded;
+        this.snapshotUploadTimeInNanos = snapshotUploadTimeInNanos;
     }
 
     public RepositoryStats(StreamInput in) throws IOException {
@@ -82,6 +101,20 @@ public class RepositoryStats implements Writeable, ToXContentFragment {
             i -> i.readMap(StreamInput::readString, StreamInput::readLong)
         );
         this.detailed = in.readBoolean();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            this.snapshotBytesUploaded = in.readVLong();
+            this.snapshotUploadTimeInNanos = in.readVLong();
+        } else {
+            this.snapshotBytesUploaded = 0L;
+            this.snapshotUploadTimeInNanos = 0L;
+        }
+    }
+
+    /**
+     * Returns a copy of these stats with the given snapshot upload stats.
+     */
+    public RepositoryStats withSnapshotUploads(long snapshotBytesUploaded, long snapshotUploadTimeInNanos) {
+        return new RepositoryStats(requestCounts, extendedStats, detailed, snapshotBytesUploaded, snapshotUploadTimeInNanos);
     }
 
     public RepositoryStats merge(RepositoryStats otherStats) {
@@ -94,14 +127,20 @@ public class RepositoryStats implements Writeable, ToXContentFragment {
                     result.get(entry.getKey()).merge(nested.getKey(), nested.getValue(), Math::addExact);
                 }
             }
-            return new RepositoryStats(result, true);
+            return new RepositoryStats(result, true).withSnapshotUploads(
+                Math.addExact(snapshotBytesUploaded, otherStats.snapshotBytesUploaded),
+                Math.addExact(snapshotUploadTimeInNanos, otherStats.snapshotUploadTimeInNanos)
+            );
         } else {
             final Map<String, Long> result = new HashMap<>();
             result.putAll(requestCounts);
             for (Map.Entry<String, Long> entry : otherStats.requestCounts.entrySet()) {
                 result.merge(entry.getKey(), entry.getValue(), Math::addExact);
             }
-            return new RepositoryStats(result);
+            return new RepositoryStats(result).withSnapshotUploads(
+                Math.addExact(snapshotBytesUploaded, otherStats.snapshotBytesUploaded),
+                Math.addExact(snapshotUploadTimeInNanos, otherStats.snapshotUploadTimeInNanos)
+            );
         }
     }
 
@@ -110,6 +149,10 @@ public class RepositoryStats implements Writeable, ToXContentFragment {
         out.writeMap(requestCounts, StreamOutput::writeString, StreamOutput::writeLong);
         out.writeMap(extendedStats, StreamOutput::writeEnum, (o, v) -> o.writeMap(v, StreamOutput::writeString, StreamOutput::writeLong));
         out.writeBoolean(detailed);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(snapshotBytesUploaded);
+            out.writeVLong(snapshotUploadTimeInNanos);
+        }
     }
 
     @Override
@@ -117,17 +160,32 @@ public class RepositoryStats implements Writeable, ToXContentFragment {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         RepositoryStats that = (RepositoryStats) o;
-        return requestCounts.equals(that.requestCounts) && extendedStats.equals(that.extendedStats) && detailed == that.detailed;
+        return requestCounts.equals(that.requestCounts)
+            && extendedStats.equals(that.extendedStats)
+            && detailed == that.detailed
+            && snapshotBytesUploaded == that.snapshotBytesUploaded
+            && snapshotUploadTimeInNanos == that.snapshotUploadTimeInNanos;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(requestCounts, detailed, extendedStats);
+        return Objects.hash(requestCounts, detailed, extendedStats, snapshotBytesUploaded, snapshotUploadTimeInNanos);
     }
 
     @Override
     public String toString() {
-        return "RepositoryStats{" + "requestCounts=" + requestCounts + "extendedStats=" + extendedStats + "detailed =" + detailed + "}";
+        return "RepositoryStats{"
+            + "requestCounts="
+            + requestCounts
+            + "extendedStats="
+            + extendedStats
+            + "detailed ="
+            + detailed
+            + "snapshotBytesUploaded="
+            + snapshotBytesUploaded
+            + "snapshotUploadTimeInNanos="
+            + snapshotUploadTimeInNanos
+            + "}";
     }
 
     @Override
@@ -143,6 +201,12 @@ public class RepositoryStats implements Writeable, ToXContentFragment {
                 }
             });
         }
+        if (snapshotBytesUploaded > 0) {
+            builder.startObject("snapshot_uploads");
+            builder.field("uploaded_in_bytes", snapshotBytesUploaded);
+            builder.field("upload_time_in_nanos", snapshotUploadTimeInNanos);
+            builder.endObject();
+        }
         return builder;
     }
 }
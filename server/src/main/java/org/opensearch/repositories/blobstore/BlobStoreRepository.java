@@ -35,6 +35,7 @@ package org.opensearch.repositories.blobstore;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexFormatTooNewException;
@@ -70,18 +71,23 @@ import org.opensearch.common.Priority;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.blobstore.AsyncMultiStreamBlobContainer;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.blobstore.DeleteResult;
 import org.opensearch.common.blobstore.fs.FsBlobContainer;
+import org.opensearch.common.blobstore.stream.write.WritePriority;
+import org.opensearch.common.blobstore.transfer.RemoteTransferContainer;
+import org.opensearch.common.blobstore.transfer.stream.OffsetRangeIndexInputStream;
 import org.opensearch.common.blobstore.transfer.stream.OffsetRangeInputStream;
 import org.opensearch.common.blobstore.transfer.stream.RateLimitingOffsetRangeInputStream;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.DeflateCompressor;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
@@ -91,6 +97,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
@@ -186,6 +193,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -272,6 +280,34 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         Setting.Property.NodeScope
     );
 
+    /**
+     * Setting to upload large files of shard snapshots as parts in parallel if the blob container of the repository supports it, see
+     * {@link AsyncMultiStreamBlobContainer}.
+     */
+    public static final Setting<Boolean> PARALLEL_SNAPSHOT_UPLOAD_ENABLED_SETTING = Setting.boolSetting(
+        "parallel_snapshot_upload.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Files of shard snapshots that are smaller than this are uploaded with a single stream even if parallel uploads are enabled.
+     */
+    public static final Setting<ByteSizeValue> PARALLEL_SNAPSHOT_UPLOAD_THRESHOLD_SETTING = Setting.byteSizeSetting(
+        "parallel_snapshot_upload.threshold",
+        new ByteSizeValue(16, ByteSizeUnit.MB),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The maximum number of bytes of files of shard snapshots that are uploaded in parallel at once.
+     */
+    public static final Setting<ByteSizeValue> PARALLEL_SNAPSHOT_UPLOAD_MAX_IN_FLIGHT_BYTES_SETTING = Setting.byteSizeSetting(
+        "parallel_snapshot_upload.max_in_flight_bytes",
+        new ByteSizeValue(1, ByteSizeUnit.GB),
+        Setting.Property.NodeScope
+    );
+
     public static final String MAX_RESTORE_BYTES_PER_SEC = "max_restore_bytes_per_sec";
 
     public static final Setting<ByteSizeValue> RESTORE_BYTES_PER_SEC_SETTING = Setting.byteSizeSetting(
@@ -381,7 +417,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         MAX_SNAPSHOT_BYTES_PER_SEC,
         MAX_REMOTE_UPLOAD_BYTES_PER_SEC,
         MAX_REMOTE_LOW_PRIORITY_UPLOAD_BYTES_PER_SEC,
-        MAX_REMOTE_DOWNLOAD_BYTES_PER_SEC
+        MAX_REMOTE_DOWNLOAD_BYTES_PER_SEC,
+        PARALLEL_SNAPSHOT_UPLOAD_ENABLED_SETTING.getKey(),
+        PARALLEL_SNAPSHOT_UPLOAD_THRESHOLD_SETTING.getKey(),
+        PARALLEL_SNAPSHOT_UPLOAD_MAX_IN_FLIGHT_BYTES_SETTING.getKey()
     );
 
     public static long calculateDefaultSnapshotRepositoryDataCacheThreshold() {
@@ -504,6 +543,18 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private final CounterMetric snapshotRateLimitingTimeInNanos = new CounterMetric();
 
+    private final CounterMetric snapshotBytesUploaded = new CounterMetric();
+
+    private final CounterMetric snapshotUploadTimeInNanos = new CounterMetric();
+
+    private volatile boolean parallelSnapshotUploadEnabled;
+
+    private volatile long parallelSnapshotUploadThreshold;
+
+    private volatile long parallelSnapshotUploadMaxInFlightBytes;
+
+    private final SnapshotUploadScheduler snapshotUploadScheduler;
+
     private final CounterMetric restoreRateLimitingTimeInNanos = new CounterMetric();
 
     private final CounterMetric remoteDownloadRateLimitingTimeInNanos = new CounterMetric();
@@ -636,6 +687,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         this.remoteStoreSettings = new RemoteStoreSettings(clusterService.getSettings(), clusterService.getClusterSettings());
         this.snapshotShardPathPrefix = SNAPSHOT_SHARD_PATH_PREFIX_SETTING.get(clusterService.getSettings());
         this.repositoryDataCacheThreshold = SNAPSHOT_REPOSITORY_DATA_CACHE_THRESHOLD.get(clusterService.getSettings()).getBytes();
+        this.snapshotUploadScheduler = new SnapshotUploadScheduler(
+            () -> parallelSnapshotUploadMaxInFlightBytes,
+            threadPool.executor(ThreadPool.Names.SNAPSHOT)
+        );
     }
 
     @Override
@@ -663,6 +718,9 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         cacheRepositoryData = CACHE_REPOSITORY_DATA.get(metadata.settings());
         bufferSize = Math.toIntExact(BUFFER_SIZE_SETTING.get(metadata.settings()).getBytes());
         maxShardBlobDeleteBatch = MAX_SNAPSHOT_SHARD_BLOB_DELETE_BATCH_SIZE.get(metadata.settings());
+        parallelSnapshotUploadEnabled = PARALLEL_SNAPSHOT_UPLOAD_ENABLED_SETTING.get(metadata.settings());
+        parallelSnapshotUploadThreshold = PARALLEL_SNAPSHOT_UPLOAD_THRESHOLD_SETTING.get(metadata.settings()).getBytes();
+        parallelSnapshotUploadMaxInFlightBytes = PARALLEL_SNAPSHOT_UPLOAD_MAX_IN_FLIGHT_BYTES_SETTING.get(metadata.settings()).getBytes();
         compressor = COMPRESS_SETTING.get(metadata.settings())
             ? COMPRESSION_TYPE_SETTING.get(metadata.settings())
             : CompressorRegistry.none();
@@ -1147,23 +1205,26 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         RepositoryStats extendedStoreStats = getExtendedStats(store);
         RepositoryStats extendedSseStoreStats = getExtendedStats(serverSideEncryptedStore);
 
+        final RepositoryStats stats;
         if (extendedStoreStats != null && extendedSseStoreStats != null) {
-            return extendedStoreStats.merge(extendedSseStoreStats);
+            stats = extendedStoreStats.merge(extendedSseStoreStats);
         } else if (extendedStoreStats != null) {
-            return extendedStoreStats;
+            stats = extendedStoreStats;
         } else if (extendedSseStoreStats != null) {
-            return extendedSseStoreStats;
-        }
-
-        RepositoryStats storeStats = store != null ? new RepositoryStats(store.stats()) : null;
-        RepositoryStats sseStoreStats = serverSideEncryptedStore != null ? new RepositoryStats(serverSideEncryptedStore.stats()) : null;
+            stats = extendedSseStoreStats;
+        } else {
+            RepositoryStats storeStats = store != null ? new RepositoryStats(store.stats()) : null;
+            RepositoryStats sseStoreStats = serverSideEncryptedStore != null ? new RepositoryStats(serverSideEncryptedStore.stats()) : null;
 
-        if (storeStats != null && sseStoreStats != null) {
-            return storeStats.merge(sseStoreStats);
-        } else if (storeStats == null) {
-            return sseStoreStats;
+            if (storeStats != null && sseStoreStats != null) {
+                stats = storeStats.merge(sseStoreStats);
+            } else if (storeStats == null) {
+                stats = sseStoreStats;
+            } else {
+                stats = storeStats;
+            }
         }
-        return storeStats;
+        return stats.withSnapshotUploads(snapshotBytesUploaded.count(), snapshotUploadTimeInNanos.count());
     }
 
     private RepositoryStats getExtendedStats(BlobStore store) {
@@ -4156,6 +4217,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             // Start as many workers as fit into the snapshot pool at once at the most
             final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), indexIncrementalFileCount);
             final ActionListener<Void> filesListener = fileQueueListener(filesToSnapshot, workers, allFilesUploadedListener);
+            final long shardIncrementalSize = indexIncrementalSize;
             for (int i = 0; i < workers; ++i) {
                 executeOneFileSnapshot(
                     store,
@@ -4165,7 +4227,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     filesToSnapshot,
                     executor,
                     filesListener,
-                    cryptoMetadata
+                    cryptoMetadata,
+                    shardIncrementalSize
                 );
             }
         } catch (Exception e) {
@@ -4181,22 +4244,78 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot,
         Executor executor,
         ActionListener<Void> listener,
-        CryptoMetadata cryptoMetadata
+        CryptoMetadata cryptoMetadata,
+        long shardSizeInBytes
     ) throws InterruptedException {
         final ShardId shardId = store.shardId();
         final BlobStoreIndexShardSnapshot.FileInfo snapshotFileInfo = filesToSnapshot.poll(0L, TimeUnit.MILLISECONDS);
         if (snapshotFileInfo == null) {
             listener.onResponse(null);
+        } else if (shouldUploadInParallel(snapshotFileInfo, shardContainer(indexId, shardId))) {
+            // the worker moves on to the next file once the parts of this file are uploaded, without blocking a snapshot thread
+            snapshotUploadScheduler.schedule(shardSizeInBytes, snapshotFileInfo.length(), ActionListener.wrap(uploadPermit -> {
+                final Releasable storeRef;
+                try {
+                    storeRef = incrementStoreRef(store, snapshotStatus, shardId);
+                } catch (Exception e) {
+                    uploadPermit.close();
+                    throw e;
+                }
+                snapshotFileInParallel(
+                    snapshotFileInfo,
+                    indexId,
+                    shardId,
+                    snapshotId,
+                    snapshotStatus,
+                    store,
+                    cryptoMetadata,
+                    ActionListener.runBefore(
+                        ActionListener.wrap(
+                            r -> executeOneFileSnapshot(
+                                store,
+                                snapshotId,
+                                indexId,
+                                snapshotStatus,
+                                filesToSnapshot,
+                                executor,
+                                listener,
+                                cryptoMetadata,
+                                shardSizeInBytes
+                            ),
+                            listener::onFailure
+                        ),
+                        () -> Releasables.close(storeRef, uploadPermit)
+                    )
+                );
+            }, listener::onFailure));
         } else {
             executor.execute(ActionRunnable.wrap(listener, l -> {
                 try (Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId)) {
                     snapshotFile(snapshotFileInfo, indexId, shardId, snapshotId, snapshotStatus, store, cryptoMetadata);
-                    executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, l, cryptoMetadata);
+                    executeOneFileSnapshot(
+                        store,
+                        snapshotId,
+                        indexId,
+                        snapshotStatus,
+                        filesToSnapshot,
+                        executor,
+                        l,
+                        cryptoMetadata,
+                        shardSizeInBytes
+                    );
                 }
             }));
         }
     }
 
+    private boolean shouldUploadInParallel(BlobStoreIndexShardSnapshot.FileInfo fileInfo, BlobContainer shardContainer) {
+        // files that are split into several blobs by the chunk size of the repository are uploaded blob by blob
+        return parallelSnapshotUploadEnabled
+            && shardContainer instanceof AsyncMultiStreamBlobContainer
+            && fileInfo.numberOfParts() == 1
+            && fileInfo.length() >= parallelSnapshotUploadThreshold;
+    }
+
     private static Releasable incrementStoreRef(Store store, IndexShardSnapshotStatus snapshotStatus, ShardId shardId) {
         if (store.tryIncRef() == false) {
             if (snapshotStatus.isAborted()) {
@@ -4833,6 +4952,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         final BlobContainer shardContainer = shardContainer(indexId, shardId);
 
         final String file = fileInfo.physicalName();
+        final long startTimeNanos = System.nanoTime();
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.DEFAULT, fileInfo.metadata())) {
             for (int i = 0; i < fileInfo.numberOfParts(); i++) {
                 final long partBytes = fileInfo.partBytes(i);
@@ -4866,6 +4986,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 shardContainer.writeBlobWithMetadata(partName, inputStream, partBytes, false, null, cryptoMetadata);
             }
             Store.verify(indexInput);
+            onFileUploaded(fileInfo, startTimeNanos);
             snapshotStatus.addProcessedFile(fileInfo.length());
         } catch (Exception t) {
             failStoreIfCorrupted(store, t);
@@ -4874,6 +4995,164 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Snapshot an individual file that consists of a single blob by uploading its parts in parallel
+     *
+     * @param fileInfo      file to be snapshotted
+     * @param listener      listener that is completed once the file is uploaded
+     */
+    private void snapshotFileInParallel(
+        BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+        IndexId indexId,
+        ShardId shardId,
+        SnapshotId snapshotId,
+        IndexShardSnapshotStatus snapshotStatus,
+        Store store,
+        CryptoMetadata cryptoMetadata,
+        ActionListener<Void> listener
+    ) {
+        assert fileInfo.numberOfParts() == 1 : "expected a single part but got [" + fileInfo.numberOfParts() + "]";
+        final String file = fileInfo.physicalName();
+        final long startTimeNanos = System.nanoTime();
+        final ActionListener<Void> fileListener = ActionListener.wrap(r -> {
+            onFileUploaded(fileInfo, startTimeNanos);
+            snapshotStatus.addProcessedFile(fileInfo.length());
+            listener.onResponse(null);
+        }, e -> {
+            final IOException corruption = ExceptionsHelper.unwrapCorruption(e);
+            failStoreIfCorrupted(store, corruption != null ? corruption : e);
+            snapshotStatus.addProcessedFile(0);
+            listener.onFailure(e);
+        });
+        IndexInput indexInput = null;
+        try {
+            final AsyncMultiStreamBlobContainer shardContainer = (AsyncMultiStreamBlobContainer) shardContainer(indexId, shardId);
+            // the parts are read concurrently so the file cannot be verified while reading it like the sequential upload does, instead
+            // the checksum of the uploaded data is verified against the checksum in the footer of the file, which must match the
+            // checksum of the file metadata
+            final long expectedChecksum;
+            try (IndexInput footerInput = store.directory().openInput(file, IOContext.READONCE)) {
+                final String checksum = Store.digestToString(CodecUtil.retrieveChecksum(footerInput));
+                if (checksum.equals(fileInfo.metadata().checksum()) == false) {
+                    throw new CorruptIndexException(
+                        "checksum failed (hardware problem?) : expected=" + fileInfo.metadata().checksum() + " actual=" + checksum,
+                        footerInput
+                    );
+                }
+                expectedChecksum = RemoteTransferContainer.checksumOfChecksum(footerInput, Long.BYTES);
+            }
+            final IndexInput input = store.directory().openInput(file, IOContext.DEFAULT);
+            indexInput = input;
+            final RemoteTransferContainer transferContainer = new RemoteTransferContainer(
+                file,
+                fileInfo.partName(0),
+                fileInfo.length(),
+                false,
+                WritePriority.NORMAL,
+                (size, position) -> new AbortableOffsetRangeInputStream(
+                    maybeRateLimitRemoteTransfers(
+                        new OffsetRangeIndexInputStream(input.clone(), size, position),
+                        () -> snapshotRateLimiter,
+                        snapshotRateLimitingTimeInNanos,
+                        BlobStoreTransferContext.SNAPSHOT
+                    ),
+                    () -> {
+                        if (snapshotStatus.isAborted()) {
+                            logger.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId, snapshotId, file);
+                            throw new AbortedSnapshotException();
+                        }
+                    }
+                ),
+                expectedChecksum,
+                shardContainer.remoteIntegrityCheckSupported(),
+                null,
+                cryptoMetadata
+            );
+            logger.trace(
+                () -> new ParameterizedMessage(
+                    "[{}] Writing [{}] to [{}] in parallel",
+                    metadata.name(),
+                    fileInfo.partName(0),
+                    shardContainer.path()
+                )
+            );
+            final Releasable closeStreams = Releasables.releaseOnce(() -> IOUtils.closeWhileHandlingException(transferContainer, input));
+            try {
+                shardContainer.asyncBlobUpload(
+                    transferContainer.createWriteContext(),
+                    ActionListener.runBefore(fileListener, closeStreams)
+                );
+            } catch (Exception e) {
+                closeStreams.close();
+                throw e;
+            }
+        } catch (Exception e) {
+            IOUtils.closeWhileHandlingException(indexInput);
+            fileListener.onFailure(e);
+        }
+    }
+
+    private void onFileUploaded(BlobStoreIndexShardSnapshot.FileInfo fileInfo, long startTimeNanos) {
+        snapshotBytesUploaded.inc(fileInfo.length());
+        snapshotUploadTimeInNanos.inc(System.nanoTime() - startTimeNanos);
+    }
+
+    /**
+     * An {@link OffsetRangeInputStream} that checks whether the snapshot was aborted before every read.
+     */
+    private static final class AbortableOffsetRangeInputStream extends OffsetRangeInputStream {
+
+        private final OffsetRangeInputStream delegate;
+        private final Runnable checkAborted;
+
+        AbortableOffsetRangeInputStream(OffsetRangeInputStream delegate, Runnable checkAborted) {
+            this.delegate = delegate;
+            this.checkAborted = checkAborted;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkAborted.run();
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkAborted.run();
+            return delegate.read(b, off, len);
+        }
+
+        @Override
+        public void setReadBlock(AtomicBoolean readBlock) {
+            delegate.setReadBlock(readBlock);
+        }
+
+        @Override
+        public long getFilePointer() throws IOException {
+            return delegate.getFilePointer();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return delegate.markSupported();
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            delegate.mark(readlimit);
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            delegate.reset();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
     private static void failStoreIfCorrupted(Store store, Exception e) {
         if (Lucene.isCorruptionException(e)) {
             try {
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.blobstore;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.core.action.ActionListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * Schedules the parallel uploads of snapshot files of a repository. Uploads start as long as the bytes of the uploads in flight stay
+ * within a budget, and an upload always starts if none is in flight so that files larger than the budget make progress. Pending
+ * uploads of larger shards start first, since the largest shards determine how long a snapshot takes.
+ *
+ * @opensearch.internal
+ */
+final class SnapshotUploadScheduler {
+
+    private static final Comparator<PendingUpload> PRIORITY = Comparator.comparingLong(PendingUpload::shardSizeInBytes)
+        .reversed()
+        .thenComparingLong(PendingUpload::seqNo);
+
+    private final LongSupplier maxInFlightBytes;
+    private final Executor executor;
+    private final PriorityQueue<PendingUpload> pendingUploads = new PriorityQueue<>(PRIORITY);
+    private long inFlightBytes;
+    private long seqNo;
+
+    /**
+     * @param maxInFlightBytes the budget of bytes that may be uploaded at once
+     * @param executor         the executor that uploads are started on
+     */
+    SnapshotUploadScheduler(LongSupplier maxInFlightBytes, Executor executor) {
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules the upload of the given number of bytes of a shard. The listener is called on the executor once the upload may
+     * start, with a {@link Releasable} that must be released once the upload completed.
+     */
+    void schedule(long shardSizeInBytes, long bytes, ActionListener<Releasable> listener) {
+        final List<PendingUpload> startedUploads;
+        synchronized (this) {
+            pendingUploads.add(new PendingUpload(shardSizeInBytes, bytes, seqNo++, listener));
+            startedUploads = pollStartableUploads();
+        }
+        start(startedUploads);
+    }
+
+    private List<PendingUpload> pollStartableUploads() {
+        assert Thread.holdsLock(this);
+        final List<PendingUpload> startedUploads = new ArrayList<>();
+        while (pendingUploads.isEmpty() == false
+            && (inFlightBytes == 0 || inFlightBytes + pendingUploads.peek().bytes() <= maxInFlightBytes.getAsLong())) {
+            final PendingUpload upload = pendingUploads.poll();
+            inFlightBytes += upload.bytes();
+            startedUploads.add(upload);
+        }
+        return startedUploads;
+    }
+
+    private void start(List<PendingUpload> uploads) {
+        for (PendingUpload upload : uploads) {
+            final Releasable releasable = Releasables.releaseOnce(() -> release(upload.bytes()));
+            executor.execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    upload.listener().onResponse(releasable);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    releasable.close();
+                    upload.listener().onFailure(e);
+                }
+            });
+        }
+    }
+
+    private void release(long bytes) {
+        final List<PendingUpload> startedUploads;
+        synchronized (this) {
+            inFlightBytes -= bytes;
+            assert inFlightBytes >= 0 : "in flight bytes must not be negative but was [" + inFlightBytes + "]";
+            startedUploads = pollStartableUploads();
+        }
+        start(startedUploads);
+    }
+
+    synchronized long inFlightBytes() {
+        return inFlightBytes;
+    }
+
+    synchronized int pendingUploads() {
+        return pendingUploads.size();
+    }
+
+    private record PendingUpload(long shardSizeInBytes, long bytes, long seqNo, ActionListener<Releasable> listener) {
+    }
+}
@@ -237,8 +237,11 @@ public class RestThreadPoolAction extends AbstractCatAction {
                     assert poolInfo.getMax() > 0;
                     max = poolInfo.getMax();
                 } else if (poolInfo.getThreadPoolType() == ThreadPool.ThreadPoolType.VIRTUAL) {
-                    // a virtual thread-per-task pool is unbounded, so core, max, and size are all left unset
-                    assert poolInfo.getMin() == -1 && poolInfo.getMax() == -1;
+                    // a virtual thread-per-task pool has no threads to size, only a bounded one reports its concurrency limit as max
+                    assert poolInfo.getMin() == poolInfo.getMax();
+                    if (poolInfo.getMax() > 0) {
+                        max = poolInfo.getMax();
+                    }
                 } else {
                     assert poolInfo.getMin() == poolInfo.getMax() && poolInfo.getMax() > 0;
                     size = poolInfo.getMax();
@@ -138,6 +138,7 @@ import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_MIN_SEGMENT_SIZE;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_SEGMENT;
+import static org.opensearch.search.SearchService.FETCH_BATCHED_STORED_FIELDS_ENABLED;
 import static org.opensearch.search.SearchService.KEYWORD_INDEX_OR_DOC_VALUES_ENABLED;
 import static org.opensearch.search.SearchService.MAX_AGGREGATION_REWRITE_FILTERS;
 import static org.opensearch.search.streaming.FlushModeResolver.STREAMING_MAX_ESTIMATED_BUCKET_COUNT;
@@ -1314,6 +1315,14 @@ final class DefaultSearchContext extends SearchContext {
         return SearchService.DEFAULT_BUCKET_SELECTION_STRATEGY_FACTOR;
     }
 
+    @Override
+    public boolean fetchBatchedStoredFieldsEnabled() {
+        if (clusterService != null) {
+            return clusterService.getClusterSettings().get(FETCH_BATCHED_STORED_FIELDS_ENABLED);
+        }
+        return false;
+    }
+
     public boolean evaluateKeywordIndexOrDocValuesEnabled() {
         if (clusterService != null) {
             return clusterService.getClusterSettings().get(KEYWORD_INDEX_OR_DOC_VALUES_ENABLED);
@@ -32,6 +32,7 @@
 
 package org.opensearch.search;
 
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -53,6 +54,10 @@ import java.util.Set;
 public final class RescoreDocIds implements Writeable {
     public static final RescoreDocIds EMPTY = new RescoreDocIds(Collections.emptyMap());
 
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(RescoreDocIds.class);
+    // a hash table entry holding a boxed integer
+    private static final long ENTRY_BYTES = 48;
+
     private final Map<Integer, Set<Integer>> docIds;
 
     public RescoreDocIds(Map<Integer, Set<Integer>> docIds) {
@@ -71,4 +76,15 @@ public final class RescoreDocIds implements Writeable {
     public Set<Integer> getId(int index) {
         return docIds.get(index);
     }
+
+    /**
+     * Returns an estimate of the heap used by the doc ids.
+     */
+    public long ramBytesUsed() {
+        long bytes = SHALLOW_SIZE;
+        for (Set<Integer> ids : docIds.values()) {
+            bytes += ENTRY_BYTES * (1 + ids.size());
+        }
+        return bytes;
+    }
 }
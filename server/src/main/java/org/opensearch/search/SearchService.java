@@ -130,6 +130,7 @@ import org.opensearch.search.internal.LegacyReaderContext;
 import org.opensearch.search.internal.PitReaderContext;
 import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardReaderVersion;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.lookup.SearchLookup;
@@ -436,6 +437,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    // reads the stored fields of segments with many hits to fetch block by block instead of doc by doc
+    public static final Setting<Boolean> FETCH_BATCHED_STORED_FIELDS_ENABLED = Setting.boolSetting(
+        "search.fetch.batched_stored_fields.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final Setting<Boolean> KEYWORD_INDEX_OR_DOC_VALUES_ENABLED = Setting.boolSetting(
         "search.keyword_index_or_doc_values_enabled",
         false,
@@ -511,6 +520,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private final AtomicInteger openScrollContexts = new AtomicInteger();
     private final AtomicInteger openPitContexts = new AtomicInteger();
+
+    private final CircuitBreaker requestCircuitBreaker;
+
     private final String sessionId = UUIDs.randomBase64UUID();
     private final Executor indexSearcherExecutor;
     private final TaskResourceTrackingService taskResourceTrackingService;
@@ -542,10 +554,11 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.bigArrays = bigArrays;
         this.queryPhase = queryPhase;
         this.fetchPhase = fetchPhase;
+        this.requestCircuitBreaker = circuitBreakerService.getBreaker(CircuitBreaker.REQUEST);
         this.multiBucketConsumerService = new MultiBucketConsumerService(
             clusterService,
             settings,
-            circuitBreakerService.getBreaker(CircuitBreaker.REQUEST),
+            requestCircuitBreaker,
             workloadGroupService
         );
         this.indexSearcherExecutor = indexSearcherExecutor;
@@ -886,6 +899,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             final long afterQueryTime;
             try (SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(context)) {
                 loadOrExecuteQueryPhase(request, context);
+                if (Boolean.TRUE.equals(request.requestCache()) && context.getQueryShardContext().isCacheable()) {
+                    // lets the coordinating node cache the reduced response, see CoordinatorRequestCache
+                    context.queryResult().readerVersion(readerVersion(context));
+                }
                 if (context.queryResult().hasSearchContext() == false && readerContext.singleSession()) {
                     freeReaderContext(readerContext.id());
                 }
@@ -917,6 +934,15 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
+    private static ShardReaderVersion readerVersion(SearchContext context) {
+        final IndexShard shard = context.indexShard();
+        return new ShardReaderVersion(
+            shard.routingEntry().allocationId().getId(),
+            shard.getOperationPrimaryTerm(),
+            context.searcher().getDirectoryReader().getVersion()
+        );
+    }
+
     private QueryFetchSearchResult executeFetchPhase(ReaderContext reader, SearchContext context, long afterQueryTime) {
         try (SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(context, true, afterQueryTime)) {
             shortcutDocIdsToLoad(context);
@@ -1169,6 +1195,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 readerContext = new ReaderContext(id, indexService, shard, reader, keepAlive, request.keepAlive() == null);
             }
             reader = null;
+            if (request.scroll() != null) {
+                trackLongLivedReaderContext(readerContext);
+            }
             final ReaderContext finalReaderContext = readerContext;
             final SearchOperationListener searchOperationListener = shard.getSearchOperationListener();
             searchOperationListener.onNewReaderContext(finalReaderContext);
@@ -1192,6 +1221,19 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
+    /**
+     * Records the segments that a scroll or point in time reader context keeps on disk and accounts the heap it retains in between
+     * requests on the request circuit breaker, which bounds the memory used by these contexts.
+     */
+    private void trackLongLivedReaderContext(ReaderContext readerContext) {
+        try {
+            readerContext.recordSegmentSizes();
+        } catch (IOException e) {
+            logger.debug("failed to record the segment sizes of reader context [" + readerContext.id() + "]", e);
+        }
+        readerContext.accountRetainedBytes(requestCircuitBreaker);
+    }
+
     /**
      * Opens the reader context for given shardId. The newly opened reader context will be keep
      * until the {@code keepAlive} elapsed unless it is manually released.
@@ -1221,6 +1263,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 readerContext = new PitReaderContext(id, indexService, shard, searcherSupplier, keepAlive.millis(), false);
                 final ReaderContext finalReaderContext = readerContext;
                 searcherSupplier = null; // transfer ownership to reader context
+                trackLongLivedReaderContext(readerContext);
 
                 searchOperationListener.onNewReaderContext(readerContext);
                 searchOperationListener.onNewPitContext(finalReaderContext);
@@ -35,6 +35,8 @@ package org.opensearch.search.dfs;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.CollectionStatistics;
 import org.apache.lucene.search.TermStatistics;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -53,6 +55,13 @@ import java.util.Map;
 @PublicApi(since = "1.0.0")
 public class AggregatedDfs implements Writeable {
 
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(AggregatedDfs.class);
+    // a hash table entry plus the term and its statistics, which hold a copy of the term bytes
+    private static final long TERM_STATISTICS_ENTRY_BYTES = 32 + RamUsageEstimator.shallowSizeOfInstance(Term.class)
+        + RamUsageEstimator.shallowSizeOfInstance(TermStatistics.class) + 2 * RamUsageEstimator.shallowSizeOfInstance(BytesRef.class)
+        + 2 * RamUsageEstimator.NUM_BYTES_ARRAY_HEADER;
+    private static final long FIELD_STATISTICS_ENTRY_BYTES = 32 + RamUsageEstimator.shallowSizeOfInstance(CollectionStatistics.class);
+
     private Map<Term, TermStatistics> termStatistics;
     private Map<String, CollectionStatistics> fieldStatistics;
     private long maxDoc;
@@ -92,6 +101,17 @@ public class AggregatedDfs implements Writeable {
         return maxDoc;
     }
 
+    /**
+     * Returns an estimate of the heap used by these statistics.
+     */
+    public long ramBytesUsed() {
+        long bytes = SHALLOW_SIZE + fieldStatistics.size() * FIELD_STATISTICS_ENTRY_BYTES;
+        for (Term term : termStatistics.keySet()) {
+            bytes += TERM_STATISTICS_ENTRY_BYTES + 2L * term.bytes().length;
+        }
+        return bytes;
+    }
+
     @Override
     public void writeTo(final StreamOutput out) throws IOException {
         out.writeVInt(termStatistics.size());
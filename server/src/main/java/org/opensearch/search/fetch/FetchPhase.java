@@ -105,6 +105,17 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    /**
+     * The minimum number of docs to load from a segment to read its stored fields block by block.
+     */
+    static final int DENSE_DOCS_MIN_COUNT = 10;
+
+    /**
+     * The maximum average gap between the docs to load from a segment to read its stored fields block by block. Compressed
+     * stored fields blocks hold up to a few hundred small docs, so docs this close to each other mostly share their blocks.
+     */
+    static final int DENSE_DOCS_MAX_AVERAGE_GAP = 32;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -181,6 +192,7 @@ public class FetchPhase {
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
         boolean hasSequentialDocs = hasSequentialDocs(docs);
+        boolean batchedStoredFields = context.fetchBatchedStoredFieldsEnabled();
         for (int index = 0; index < context.docIdsToLoadSize(); index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
@@ -195,29 +207,38 @@ public class FetchPhase {
                         () -> context.searcher().getIndexReader().leaves().get(readerIndex)
                     );
                     currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
-                        && hasSequentialDocs
-                        && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                        // for random access and don't optimize for sequential access - except for merging.
-                        // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
-                        StoredFieldsReader sequentialReader;
-                        // For scroll queries, try to get cached reader
-                        if (context.scrollContext() != null) {
-                            // To get a unique identifier for this segment to use as a cache key
-                            Object segmentKey = lf.getCoreCacheHelper() != null ? lf.getCoreCacheHelper().getKey() : currentReaderContext;
-                            sequentialReader = context.scrollContext().getCachedSequentialReader(segmentKey);
-                            if (sequentialReader == null) {
+                    final LeafReaderContext readerContext = currentReaderContext;
+                    if (readerContext.reader() instanceof SequentialStoredFieldsLeafReader lf
+                        && (hasSequentialDocs && docs.length >= 10
+                            || batchedStoredFields
+                                && hasDenseDocs(docs, index, readerContext.docBase + readerContext.reader().maxDoc()))) {
+                        // All the docs to fetch are adjacent, or close enough to each other that most of them share
+                        // a compressed block with another one, but Lucene stored fields are optimized for random
+                        // access and don't optimize for sequential access - except for merging. So we do a little
+                        // hack here and pretend we're going to do merges in order to get better sequential access:
+                        // the merge instance decompresses each block once and serves all the docs in it.
+                        fieldReader = profile(breakdown, FetchTimingType.CREATE_STORED_FIELDS_READER, () -> {
+                            StoredFieldsReader sequentialReader;
+                            // For scroll queries, try to get cached reader
+                            if (context.scrollContext() != null) {
+                                // To get a unique identifier for this segment to use as a cache key
+                                Object segmentKey = lf.getCoreCacheHelper() != null ? lf.getCoreCacheHelper().getKey() : readerContext;
+                                sequentialReader = context.scrollContext().getCachedSequentialReader(segmentKey);
+                                if (sequentialReader == null) {
+                                    sequentialReader = lf.getSequentialStoredFieldsReader();
+                                    context.scrollContext().cacheSequentialReader(segmentKey, sequentialReader);
+                                }
+                            } else {
                                 sequentialReader = lf.getSequentialStoredFieldsReader();
-                                context.scrollContext().cacheSequentialReader(segmentKey, sequentialReader);
                             }
-                        } else {
-                            sequentialReader = lf.getSequentialStoredFieldsReader();
-                        }
-                        fieldReader = sequentialReader::document;
+                            return sequentialReader::document;
+                        });
                     } else {
-                        fieldReader = currentReaderContext.reader().storedFields()::document;
+                        fieldReader = profile(
+                            breakdown,
+                            FetchTimingType.CREATE_STORED_FIELDS_READER,
+                            () -> readerContext.reader().storedFields()::document
+                        );
                     }
                     for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                         FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
@@ -810,4 +831,18 @@ public class FetchPhase {
     static boolean hasSequentialDocs(DocIdToIndex[] docs) {
         return docs.length > 0 && docs[docs.length - 1].docId - docs[0].docId == docs.length - 1;
     }
+
+    /**
+     * Returns <code>true</code> if at least {@link #DENSE_DOCS_MIN_COUNT} of the sorted <code>docs</code> starting at
+     * <code>from</code> are lower than <code>maxDocId</code>, with an average gap between them of at most
+     * {@link #DENSE_DOCS_MAX_AVERAGE_GAP}.
+     */
+    static boolean hasDenseDocs(DocIdToIndex[] docs, int from, int maxDocId) {
+        int to = from;
+        while (to < docs.length && docs[to].docId < maxDocId) {
+            to++;
+        }
+        int count = to - from;
+        return count >= DENSE_DOCS_MIN_COUNT && docs[to - 1].docId - docs[from].docId < (long) count * DENSE_DOCS_MAX_AVERAGE_GAP;
+    }
 }
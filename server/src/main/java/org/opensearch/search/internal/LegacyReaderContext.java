@@ -32,6 +32,7 @@
 
 package org.opensearch.search.internal;
 
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
@@ -46,6 +47,8 @@ import java.util.Objects;
  * @opensearch.internal
  */
 public class LegacyReaderContext extends ReaderContext {
+    private static final long SCROLL_CONTEXT_SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(ScrollContext.class);
+
     private final ShardSearchRequest shardSearchRequest;
     private final ScrollContext scrollContext;
     private final Engine.Searcher searcher;
@@ -116,6 +119,7 @@ public class LegacyReaderContext extends ReaderContext {
     @Override
     public void setAggregatedDfs(AggregatedDfs aggregatedDfs) {
         this.aggregatedDfs = aggregatedDfs;
+        updateRetainedBytes();
     }
 
     @Override
@@ -126,6 +130,22 @@ public class LegacyReaderContext extends ReaderContext {
     @Override
     public void setRescoreDocIds(RescoreDocIds rescoreDocIds) {
         this.rescoreDocIds = rescoreDocIds;
+        updateRetainedBytes();
+    }
+
+    @Override
+    protected long retainedBytes() {
+        long bytes = super.retainedBytes();
+        if (scrollContext != null) {
+            bytes += SCROLL_CONTEXT_SHALLOW_SIZE;
+        }
+        if (aggregatedDfs != null) {
+            bytes += aggregatedDfs.ramBytesUsed();
+        }
+        if (rescoreDocIds != null) {
+            bytes += rescoreDocIds.ramBytesUsed();
+        }
+        return bytes;
     }
 
     @Override
@@ -32,10 +32,16 @@
 
 package org.opensearch.search.internal;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
@@ -43,6 +49,8 @@ import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.dfs.AggregatedDfs;
 import org.opensearch.transport.TransportRequest;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +70,10 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 @PublicApi(since = "1.0.0")
 public class ReaderContext implements Releasable {
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(ReaderContext.class);
+    // a hash table entry holding a segment name and its size
+    private static final long SEGMENT_SIZE_ENTRY_BYTES = 96;
+
     private final ShardSearchContextId id;
     private final IndexService indexService;
     private final IndexShard indexShard;
@@ -80,6 +92,11 @@ public class ReaderContext implements Releasable {
 
     private Map<String, Object> context;
 
+    private volatile Map<String, Long> segmentSizesInBytes = Collections.emptyMap();
+    private CircuitBreaker circuitBreaker;
+    private long accountedBytes;
+    private boolean accountingReleased;
+
     public ReaderContext(
         ShardSearchContextId id,
         IndexService indexService,
@@ -239,4 +256,83 @@ public class ReaderContext implements Releasable {
     public long getStartTimeInNano() {
         return startTimeInNano;
     }
+
+    /**
+     * Records the size of each segment of the point in time reader of this context, which the context keeps on disk until it is closed
+     * even once the segment has been merged away.
+     */
+    public void recordSegmentSizes() throws IOException {
+        final Map<String, Long> segmentSizes = new HashMap<>();
+        try (Engine.Searcher searcher = acquireSearcher(Engine.SEARCH_SOURCE)) {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                final SegmentReader segmentReader;
+                try {
+                    segmentReader = Lucene.segmentReader(leaf.reader());
+                } catch (IllegalStateException e) {
+                    // not backed by a segment, nothing to keep on disk
+                    continue;
+                }
+                final SegmentCommitInfo info = segmentReader.getSegmentInfo();
+                segmentSizes.put(info.info.name, info.sizeInBytes());
+            }
+        }
+        this.segmentSizesInBytes = Collections.unmodifiableMap(segmentSizes);
+        updateRetainedBytes();
+    }
+
+    /**
+     * Returns the size of each segment of the point in time reader of this context, by segment name, as recorded by
+     * {@link #recordSegmentSizes()}.
+     */
+    public Map<String, Long> getSegmentSizesInBytes() {
+        return segmentSizesInBytes;
+    }
+
+    /**
+     * Accounts the heap retained by this context in between requests on the given circuit breaker, until the context is closed.
+     *
+     * @throws org.opensearch.core.common.breaker.CircuitBreakingException if the breaker's limit would be exceeded
+     */
+    public void accountRetainedBytes(CircuitBreaker breaker) {
+        synchronized (this) {
+            assert circuitBreaker == null : "reader context is already accounted";
+            circuitBreaker = breaker;
+        }
+        addOnClose(this::releaseRetainedBytes);
+        updateRetainedBytes();
+    }
+
+    /**
+     * Returns an estimate of the heap retained by this context in between requests.
+     */
+    protected long retainedBytes() {
+        return SHALLOW_SIZE + segmentSizesInBytes.size() * SEGMENT_SIZE_ENTRY_BYTES;
+    }
+
+    /**
+     * Updates the bytes accounted on the circuit breaker after the state retained by this context changed.
+     */
+    protected final synchronized void updateRetainedBytes() {
+        if (circuitBreaker == null || accountingReleased) {
+            return;
+        }
+        final long bytes = retainedBytes();
+        final long delta = bytes - accountedBytes;
+        if (delta > 0) {
+            circuitBreaker.addEstimateBytesAndMaybeBreak(delta, "<reader_context>");
+        } else {
+            circuitBreaker.addWithoutBreaking(delta);
+        }
+        accountedBytes = bytes;
+    }
+
+    public synchronized long getAccountedBytes() {
+        return accountedBytes;
+    }
+
+    private synchronized void releaseRetainedBytes() {
+        accountingReleased = true;
+        circuitBreaker.addWithoutBreaking(-accountedBytes);
+        accountedBytes = 0;
+    }
 }
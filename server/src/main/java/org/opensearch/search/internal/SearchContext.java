@@ -577,6 +577,13 @@ public abstract class SearchContext implements Releasable {
         return false;
     }
 
+    /**
+     * Whether the fetch phase reads the stored fields of segments with many hits block by block.
+     */
+    public boolean fetchBatchedStoredFieldsEnabled() {
+        return false;
+    }
+
     @ExperimentalApi
     public void setStreamChannelListener(StreamSearchChannelListener<SearchPhaseResult, ShardSearchRequest> listener) {
         throw new IllegalStateException("Set search channel listener should be implemented for stream search");
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+
+/**
+ * Identifies the reader a copy of a shard executed a query phase with. The version of the reader alone doesn't identify it,
+ * since different copies of a shard and the engines a copy goes through when it is reset may reuse versions.
+ *
+ * @param allocationId the allocation id of the copy of the shard
+ * @param primaryTerm  the operation primary term of the copy
+ * @param version      the version of the reader of the copy, which changes with every refresh that changes the reader
+ *
+ * @opensearch.internal
+ */
+public record ShardReaderVersion(String allocationId, long primaryTerm, long version) implements Writeable {
+
+    public ShardReaderVersion(StreamInput in) throws IOException {
+        this(in.readString(), in.readVLong(), in.readVLong());
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(allocationId);
+        out.writeVLong(primaryTerm);
+        out.writeVLong(version);
+    }
+}
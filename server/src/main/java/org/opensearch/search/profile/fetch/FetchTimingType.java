@@ -22,6 +22,8 @@ public enum FetchTimingType {
     GET_NEXT_READER,
     /** Time spent setting next reader for each subphase processor **/
     SET_NEXT_READER,
+    /** Time spent creating the stored fields reader for a segment */
+    CREATE_STORED_FIELDS_READER,
     /** Time spent loading stored fields for a hit */
     LOAD_STORED_FIELDS,
     /** Time spent loading the document _source */
@@ -36,7 +36,9 @@ class FlatFetchProfileTree {
         FetchTimingType.LOAD_SOURCE.toString(),
         FetchTimingType.LOAD_SOURCE.toString() + Timer.TIMING_TYPE_COUNT_SUFFIX,
         FetchTimingType.GET_NEXT_READER.toString(),
-        FetchTimingType.GET_NEXT_READER.toString() + Timer.TIMING_TYPE_COUNT_SUFFIX
+        FetchTimingType.GET_NEXT_READER.toString() + Timer.TIMING_TYPE_COUNT_SUFFIX,
+        FetchTimingType.CREATE_STORED_FIELDS_READER.toString(),
+        FetchTimingType.CREATE_STORED_FIELDS_READER.toString() + Timer.TIMING_TYPE_COUNT_SUFFIX
     );
 
     private static final Set<String> SUB_PHASE_KEYS = Set.of(
@@ -34,6 +34,7 @@ package org.opensearch.search.query;
 
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
@@ -45,6 +46,7 @@ import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.internal.ShardReaderVersion;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.profile.NetworkTime;
@@ -87,6 +89,7 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
     private int nodeQueueSize = -1;
+    private ShardReaderVersion readerVersion;
 
     private final boolean isNull;
 
@@ -327,6 +330,19 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this;
     }
 
+    /**
+     * Returns the reader this result was computed with, or {@code null} if the result may change without the reader
+     * changing, e.g. because the request uses the current time or scripts, or if the shard didn't report it.
+     */
+    public ShardReaderVersion readerVersion() {
+        return readerVersion;
+    }
+
+    public QuerySearchResult readerVersion(ShardReaderVersion readerVersion) {
+        this.readerVersion = readerVersion;
+        return this;
+    }
+
     /**
      * Returns <code>true</code> if this result has any suggest score docs
      */
@@ -366,6 +382,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
         nodeQueueSize = in.readInt();
         setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
         setRescoreDocIds(new RescoreDocIds(in));
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            readerVersion = in.readOptionalWriteable(ShardReaderVersion::new);
+        }
     }
 
     @Override
@@ -408,6 +427,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
         out.writeInt(nodeQueueSize);
         out.writeOptionalWriteable(getShardSearchRequest());
         getRescoreDocIds().writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(readerVersion);
+        }
     }
 
     public TotalHits getTotalHits() {
@@ -241,6 +241,26 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Runs the thread pools that mostly block on remote store I/O on virtual threads, each with a concurrency limit, rather than
+     * on a bounded set of platform threads.
+     */
+    public static final Setting<Boolean> REMOTE_IO_VIRTUAL_THREADS_SETTING = Setting.boolSetting(
+        "thread_pool.remote_io.virtual_threads.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The thread pools that run on virtual threads when {@link #REMOTE_IO_VIRTUAL_THREADS_SETTING} is enabled.
+     */
+    static final List<String> REMOTE_IO_THREAD_POOLS = List.of(
+        Names.TRANSLOG_TRANSFER,
+        Names.REMOTE_PURGE,
+        Names.REMOTE_DOWNLOAD,
+        Names.REMOTE_STATE_READ
+    );
+
     public static final Setting<Settings> CLUSTER_THREAD_POOL_SIZE_SETTING = Setting.groupSetting(
         "cluster.thread_pool.",
         Setting.Property.Dynamic,
@@ -360,6 +380,14 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             new FixedExecutorBuilder(settings, Names.REMOTE_STATE_CHECKSUM, ClusterStateChecksum.COMPONENT_SIZE, 1000)
         );
 
+        if (REMOTE_IO_VIRTUAL_THREADS_SETTING.get(settings)) {
+            // a task blocked on remote I/O parks its virtual thread, so these pools can keep many more requests in flight
+            final int maxConcurrency = boundedBy(32 * allocatedProcessors, 256, 4096);
+            for (String name : REMOTE_IO_THREAD_POOLS) {
+                builders.put(name, new VirtualExecutorBuilder(name, maxConcurrency, builders.get(name)));
+            }
+        }
+
         for (final ExecutorBuilder<?> builder : customBuilders) {
             if (builders.containsKey(builder.name())) {
                 throw new IllegalArgumentException("builder with name [" + builder.name() + "] already exists");
@@ -591,6 +619,12 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             if (holder.executor() instanceof VirtualThreadPerTaskExecutorService virtualExecutor) {
                 active = virtualExecutor.getActiveCount();
                 completed = virtualExecutor.getCompletedTaskCount();
+                if (virtualExecutor.isBounded()) {
+                    // tasks over the concurrency limit park their virtual thread until a permit frees up, which is
+                    // what a queue is for platform thread pools
+                    queue = virtualExecutor.getQueueSize();
+                    largest = virtualExecutor.getLargestActiveCount();
+                }
             } else if (holder.executor() instanceof OpenSearchThreadPoolExecutor threadPoolExecutor) {
                 threads = threadPoolExecutor.getPoolSize();
                 queue = threadPoolExecutor.getQueue().size();
@@ -1087,6 +1121,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 builder.field("parallelism", max);
             } else if (type == ThreadPoolType.VIRTUAL) {
                 // an unbounded virtual thread-per-task pool has no size, keep alive, or queue to report
+                if (max != -1) {
+                    builder.field("max_concurrency", max);
+                }
             } else {
                 assert max != -1;
                 builder.field("size", max);
@@ -8,23 +8,34 @@
 
 package org.opensearch.threadpool;
 
+import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.node.Node;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
 
 /**
- * A builder for executors backed by a virtual thread per task.
+ * A builder for executors backed by a virtual thread per task. The executor is unbounded unless it is given a maximum
+ * concurrency, which can then be configured with the "max_concurrency" setting under the key prefix "thread_pool."
+ * followed by the executor name.
  *
  * @opensearch.internal
  */
 public final class VirtualExecutorBuilder extends ExecutorBuilder<VirtualExecutorBuilder.VirtualExecutorSettings> {
 
+    private static final DeprecationLogger deprecationLogger = DeprecationLogger.getLogger(VirtualExecutorBuilder.class);
+
+    // null if the executor is unbounded
+    private final Setting<Integer> maxConcurrencySetting;
+    // the settings of the platform thread pool this executor replaces, accepted but without effect
+    private final List<Setting<?>> replacedSettings;
+
     /**
      * Construct a virtual thread-per-task executor builder.
      *
@@ -32,34 +43,94 @@ public final class VirtualExecutorBuilder extends ExecutorBuilder<VirtualExecuto
      */
     public VirtualExecutorBuilder(final String name) {
         super(name);
+        this.maxConcurrencySetting = null;
+        this.replacedSettings = List.of();
+    }
+
+    /**
+     * Construct a virtual thread-per-task executor builder that runs at most {@code maxConcurrency} tasks at the same time.
+     *
+     * @param name           the name of the executor
+     * @param maxConcurrency the default maximum number of tasks running at the same time
+     */
+    public VirtualExecutorBuilder(final String name, final int maxConcurrency) {
+        this(name, maxConcurrency, null);
+    }
+
+    /**
+     * Construct a virtual thread-per-task executor builder that runs at most {@code maxConcurrency} tasks at the same time in place
+     * of the thread pool of the given builder. The settings of the replaced thread pool stay registered so that nodes which
+     * configure them still start, but they have no effect and using them logs a deprecation warning.
+     *
+     * @param name            the name of the executor
+     * @param maxConcurrency  the default maximum number of tasks running at the same time
+     * @param replacedBuilder the builder of the thread pool this executor replaces, or null
+     */
+    VirtualExecutorBuilder(final String name, final int maxConcurrency, final ExecutorBuilder<?> replacedBuilder) {
+        super(name);
+        this.maxConcurrencySetting = Setting.intSetting(
+            settingsKey("thread_pool." + name, "max_concurrency"),
+            maxConcurrency,
+            1,
+            Setting.Property.NodeScope
+        );
+        this.replacedSettings = replacedBuilder == null ? List.of() : List.copyOf(replacedBuilder.getRegisteredSettings());
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
-        return List.of();
+        final List<Setting<?>> settings = new ArrayList<>(replacedSettings);
+        if (maxConcurrencySetting != null) {
+            settings.add(maxConcurrencySetting);
+        }
+        return settings;
     }
 
     @Override
     VirtualExecutorSettings getSettings(Settings settings) {
+        for (Setting<?> replacedSetting : replacedSettings) {
+            if (replacedSetting.exists(settings)) {
+                deprecationLogger.deprecate(
+                    replacedSetting.getKey(),
+                    "[{}] has no effect while [{}] is enabled, use [{}] to limit the thread pool instead",
+                    replacedSetting.getKey(),
+                    ThreadPool.REMOTE_IO_VIRTUAL_THREADS_SETTING.getKey(),
+                    maxConcurrencySetting.getKey()
+                );
+            }
+        }
         final String nodeName = Node.NODE_NAME_SETTING.get(settings);
-        return new VirtualExecutorSettings(nodeName);
+        final int maxConcurrency = maxConcurrencySetting == null ? -1 : maxConcurrencySetting.get(settings);
+        return new VirtualExecutorSettings(nodeName, maxConcurrency);
     }
 
     @Override
     ThreadPool.ExecutorHolder build(final VirtualExecutorSettings settings, final ThreadContext threadContext) {
-        final ExecutorService executor = OpenSearchExecutors.newVirtualThreadPerTaskExecutor(settings.nodeName, name(), threadContext);
-        final ThreadPool.Info info = new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.VIRTUAL);
+        final ExecutorService executor = OpenSearchExecutors.newVirtualThreadPerTaskExecutor(
+            settings.nodeName,
+            name(),
+            threadContext,
+            settings.maxConcurrency
+        );
+        final ThreadPool.Info info = new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.VIRTUAL, settings.maxConcurrency);
         return new ThreadPool.ExecutorHolder(executor, info);
     }
 
     @Override
     String formatInfo(ThreadPool.Info info) {
-        return String.format(Locale.ROOT, "name [%s], virtual thread per task", info.getName());
+        if (info.getMax() == -1) {
+            return String.format(Locale.ROOT, "name [%s], virtual thread per task", info.getName());
+        }
+        return String.format(Locale.ROOT, "name [%s], virtual thread per task, max concurrency [%d]", info.getName(), info.getMax());
     }
 
     static class VirtualExecutorSettings extends ExecutorBuilder.ExecutorSettings {
-        VirtualExecutorSettings(final String nodeName) {
+
+        private final int maxConcurrency;
+
+        VirtualExecutorSettings(final String nodeName, final int maxConcurrency) {
             super(nodeName);
+            this.maxConcurrency = maxConcurrency;
         }
     }
 
@@ -453,6 +453,7 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 } else {
                     assertEquals(adaptiveStats.getOutgoingConnections(), deserializedAdaptiveStats.getOutgoingConnections());
                     assertEquals(adaptiveStats.getRanks(), deserializedAdaptiveStats.getRanks());
+                    assertEquals(adaptiveStats.getIndexResponseTimes(), deserializedAdaptiveStats.getIndexResponseTimes());
                     adaptiveStats.getComputedStats().forEach((k, v) -> {
                         ResponseCollectorService.ComputedNodeStats aStats = adaptiveStats.getComputedStats().get(k);
                         ResponseCollectorService.ComputedNodeStats bStats = deserializedAdaptiveStats.getComputedStats().get(k);
@@ -839,7 +840,17 @@ public class NodeStatsTests extends OpenSearchTestCase {
             ? new DiscoveryStats(
                 randomBoolean() ? new PendingClusterStateStats(randomInt(), randomInt(), randomInt()) : null,
                 randomBoolean()
-                    ? new PublishClusterStateStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
+                    ? new PublishClusterStateStats(
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong()
+                    )
                     : null,
                 randomBoolean() ? stateStats : null
             )
@@ -891,6 +902,7 @@ public class NodeStatsTests extends OpenSearchTestCase {
             int numNodes = randomIntBetween(0, 10);
             Map<String, Long> nodeConnections = new HashMap<>();
             Map<String, ResponseCollectorService.ComputedNodeStats> nodeStats = new HashMap<>();
+            Map<String, Map<String, Double>> indexResponseTimes = new HashMap<>();
             for (int i = 0; i < numNodes; i++) {
                 String nodeId = randomAlphaOfLengthBetween(3, 10);
                 // add outgoing connection info
@@ -907,10 +919,19 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         randomDoubleBetween(1.0, 10000000.0, true)
                     );
                     nodeStats.put(nodeId, stats);
+                    // add per index response times
+                    if (randomBoolean()) {
+                        Map<String, Double> responseTimes = new HashMap<>();
+                        for (int j = randomIntBetween(1, 5); j > 0; j--) {
+                            responseTimes.put(randomAlphaOfLengthBetween(3, 10), randomDoubleBetween(1.0, 10000000.0, true));
+                        }
+                        indexResponseTimes.put(nodeId, responseTimes);
+                    }
                 }
             }
             adaptiveSelectionStats = new AdaptiveSelectionStats.Builder().clientOutgoingConnections(nodeConnections)
                 .nodeComputedStats(nodeStats)
+                .indexResponseTimes(indexResponseTimes)
                 .build();
         }
         NodesResourceUsageStats nodesResourceUsageStats = null;
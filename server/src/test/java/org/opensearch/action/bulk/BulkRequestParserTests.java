@@ -34,11 +34,14 @@ package org.opensearch.action.bulk;
 
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -219,4 +222,68 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
             ex.getMessage()
         );
     }
+
+    public void testMarkerScannerFindsAllSeparators() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(0, 4096));
+        for (int i = 0; i < bytes.length; i++) {
+            if (rarely()) {
+                bytes[i] = '\n';
+            }
+        }
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                expected.add(i);
+            }
+        }
+        // split the bytes into pages of random sizes, like a body received in several network buffers
+        final List<BytesReference> pages = new ArrayList<>();
+        int from = 0;
+        while (from < bytes.length) {
+            final int length = Math.min(randomIntBetween(1, 64), bytes.length - from);
+            pages.add(new BytesArray(bytes, from, length));
+            from += length;
+        }
+        for (BytesReference data : List.of(new BytesArray(bytes), CompositeBytesReference.of(pages.toArray(new BytesReference[0])))) {
+            final BulkRequestParser.MarkerScanner scanner = new BulkRequestParser.MarkerScanner(data, (byte) '\n');
+            final List<Integer> actual = new ArrayList<>();
+            int marker;
+            while ((marker = scanner.next()) != -1) {
+                actual.add(marker);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    public void testParsePagedRequest() throws IOException {
+        final int numDocs = randomIntBetween(1, 50);
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < numDocs; i++) {
+            body.append("{ \"index\":{ \"_id\": \"").append(i).append("\" } }\r\n{ \"field\": \"value").append(i).append("\" }\n");
+        }
+        final byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        final List<BytesReference> pages = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += 16) {
+            pages.add(new BytesArray(bytes, from, Math.min(16, bytes.length - from)));
+        }
+        final List<IndexRequest> requests = new ArrayList<>();
+        new BulkRequestParser().parse(
+            CompositeBytesReference.of(pages.toArray(new BytesReference[0])),
+            "foo",
+            null,
+            null,
+            null,
+            null,
+            false,
+            MediaTypeRegistry.JSON,
+            requests::add,
+            req -> fail(),
+            req -> fail()
+        );
+        assertEquals(numDocs, requests.size());
+        for (int i = 0; i < numDocs; i++) {
+            assertEquals(Integer.toString(i), requests.get(i).id());
+            assertEquals("{ \"field\": \"value" + i + "\" }", requests.get(i).source().utf8ToString());
+        }
+    }
 }
@@ -245,6 +245,7 @@ public class TransportBulkActionIngestTests extends OpenSearchSingleNodeTestCase
         // setup services that will be called by action
         transportService = mock(TransportService.class, RETURNS_MOCKS);
         clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(SETTINGS, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
         localIngest = true;
         // setup nodes for local and remote
         DiscoveryNode localNode = mock(DiscoveryNode.class);
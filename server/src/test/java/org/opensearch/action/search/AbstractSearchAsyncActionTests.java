@@ -36,11 +36,14 @@ import org.apache.logging.log4j.LogManager;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.coordination.DeterministicTaskQueue;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.set.Sets;
@@ -53,6 +56,7 @@ import org.opensearch.core.tasks.resourcetracker.TaskResourceInfo;
 import org.opensearch.core.tasks.resourcetracker.TaskResourceUsage;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.shard.ShardNotFoundException;
+import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.AliasFilter;
@@ -74,7 +78,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -86,13 +92,17 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.stream.IntStream;
 
+import static org.opensearch.node.Node.NODE_NAME_SETTING;
 import static org.opensearch.tasks.TaskResourceTrackingService.TASK_RESOURCE_USAGE;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class AbstractSearchAsyncActionTests extends OpenSearchTestCase {
 
@@ -948,6 +958,230 @@ public class AbstractSearchAsyncActionTests extends OpenSearchTestCase {
         return new ExpandSearchPhase(mockSearchPhaseContext, internalSearchResponse, null);
     }
 
+    public void testHedgedShardRequest() throws InterruptedException {
+        final ClusterSettings clusterSettings = hedgingClusterSettings();
+        final SearchHedgingPolicy hedgingPolicy = hedgingPolicy(clusterSettings, threadPool);
+        final SearchRequestStats searchRequestStats = new SearchRequestStats(clusterSettings);
+
+        final Index index = new Index("test", UUID.randomUUID().toString());
+        final SearchShardIterator shardIt = new SearchShardIterator(null, new ShardId(index, 0), List.of("n1", "n2"), null, null, null);
+        final ArraySearchPhaseResults<SearchPhaseResult> queryResult = new ArraySearchPhaseResults<>(1);
+        final AtomicReference<SearchActionListener<SearchPhaseResult>> slowListener = new AtomicReference<>();
+        final ShardSearchContextId slowContextId = new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong());
+        final ShardSearchContextId hedgeContextId = new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong());
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            List.of(shardIt),
+            new SearchRequest().getMaxConcurrentShardRequests(),
+            executor,
+            hedgingPolicy,
+            searchRequestStats,
+            queryResult,
+            ActionListener.wrap(() -> {}),
+            latch::countDown,
+            (shard, listener) -> {
+                // the first copy never answers in time, the hedged copy answers right away
+                if (slowListener.compareAndSet(null, listener) == false) {
+                    listener.onResponse(new PhaseResult(hedgeContextId));
+                }
+            }
+        );
+        action.run();
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(hedgeContextId, queryResult.getAtomicArray().get(0).getContextId());
+        assertEquals(1, searchRequestStats.getHedgedShardRequestsTotal());
+        assertEquals(1, searchRequestStats.getHedgedShardRequestsWon());
+
+        // the late response of the slow copy is dropped and its reader context released
+        slowListener.get().onResponse(new PhaseResult(slowContextId));
+        assertEquals(Collections.singleton(slowContextId), releasedContexts);
+        assertEquals(hedgeContextId, queryResult.getAtomicArray().get(0).getContextId());
+    }
+
+    public void testHedgedShardRequestWaitsForNodePermit() {
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(
+            Settings.builder().put(NODE_NAME_SETTING.getKey(), "node").build(),
+            random()
+        );
+        final ClusterSettings clusterSettings = hedgingClusterSettings();
+        final SearchRequestStats searchRequestStats = new SearchRequestStats(clusterSettings);
+
+        final Index index = new Index("test", UUID.randomUUID().toString());
+        final List<SearchShardIterator> shardIts = List.of(
+            new SearchShardIterator(null, new ShardId(index, 0), List.of("n1", "n2"), null, null, null),
+            new SearchShardIterator(null, new ShardId(index, 1), List.of("n2", "n1"), null, null, null)
+        );
+        final Map<Tuple<Integer, String>, SearchActionListener<SearchPhaseResult>> requests = new LinkedHashMap<>();
+        final AtomicBoolean phaseDone = new AtomicBoolean();
+
+        // a single shard request per node at a time
+        AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            shardIts,
+            1,
+            OpenSearchExecutors.newDirectExecutorService(),
+            hedgingPolicy(clusterSettings, taskQueue.getThreadPool()),
+            searchRequestStats,
+            new ArraySearchPhaseResults<>(2),
+            ActionListener.wrap(() -> {}),
+            () -> phaseDone.set(true),
+            (shard, listener) -> assertNull(requests.put(Tuple.tuple(shard.getShardId().id(), shard.getNodeId()), listener))
+        );
+        action.run();
+        assertEquals(Set.of(Tuple.tuple(0, "n1"), Tuple.tuple(1, "n2")), requests.keySet());
+
+        // both shards are hedged, but the other node is busy with the first request of the other shard
+        taskQueue.runAllTasks();
+        assertEquals(2, requests.size());
+        assertEquals(0, searchRequestStats.getHedgedShardRequestsTotal());
+
+        // once the node is free again, the hedged request of the first shard is sent
+        requests.get(Tuple.tuple(1, "n2")).onResponse(new PhaseResult(null));
+        assertEquals(3, requests.size());
+        assertTrue(requests.containsKey(Tuple.tuple(0, "n2")));
+        assertEquals(1, searchRequestStats.getHedgedShardRequestsTotal());
+
+        // the second shard already responded, its hedged request is dropped without being sent
+        final ShardSearchContextId hedgeContextId = new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong());
+        requests.get(Tuple.tuple(0, "n1")).onResponse(new PhaseResult(null));
+        assertTrue(phaseDone.get());
+        assertEquals(3, requests.size());
+        assertEquals(1, searchRequestStats.getHedgedShardRequestsTotal());
+
+        requests.get(Tuple.tuple(0, "n2")).onResponse(new PhaseResult(hedgeContextId));
+        assertEquals(Collections.singleton(hedgeContextId), releasedContexts);
+        assertEquals(0, searchRequestStats.getHedgedShardRequestsWon());
+    }
+
+    public void testScheduledHedgeIsCancelledWhenPhaseFails() {
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(
+            Settings.builder().put(NODE_NAME_SETTING.getKey(), "node").build(),
+            random()
+        );
+        final ClusterSettings clusterSettings = hedgingClusterSettings();
+        final SearchRequestStats searchRequestStats = new SearchRequestStats(clusterSettings);
+
+        final Index index = new Index("test", UUID.randomUUID().toString());
+        final SearchShardIterator shardIt = new SearchShardIterator(null, new ShardId(index, 0), List.of("n1", "n2"), null, null, null);
+        final List<SearchActionListener<SearchPhaseResult>> requests = new ArrayList<>();
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            List.of(shardIt),
+            new SearchRequest().getMaxConcurrentShardRequests(),
+            OpenSearchExecutors.newDirectExecutorService(),
+            hedgingPolicy(clusterSettings, taskQueue.getThreadPool()),
+            searchRequestStats,
+            new ArraySearchPhaseResults<>(1),
+            ActionListener.wrap(r -> fail("search should have failed"), failure::set),
+            () -> fail("phase should have failed"),
+            (shard, listener) -> requests.add(listener)
+        );
+        action.run();
+        assertEquals(1, requests.size());
+        assertTrue(taskQueue.hasDeferredTasks());
+
+        action.onPhaseFailure(action, "test", null);
+        assertNotNull(failure.get());
+        taskQueue.runAllTasks();
+        assertEquals(1, requests.size());
+        assertEquals(0, searchRequestStats.getHedgedShardRequestsTotal());
+
+        // the late response of the shard is released as its result isn't needed anymore
+        final ShardSearchContextId contextId = new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong());
+        requests.get(0).onResponse(new PhaseResult(contextId));
+        assertEquals(Collections.singleton(contextId), releasedContexts);
+    }
+
+    private static ClusterSettings hedgingClusterSettings() {
+        return new ClusterSettings(
+            Settings.builder()
+                .put(SearchHedgingPolicy.SEARCH_HEDGING_ENABLED_SETTING.getKey(), true)
+                .put(SearchHedgingPolicy.SEARCH_HEDGING_MIN_DELAY.getKey(), TimeValue.ZERO)
+                .put(SearchHedgingPolicy.SEARCH_HEDGING_MAX_RATIO.getKey(), 1.0)
+                .build(),
+            ClusterSettings.BUILT_IN_CLUSTER_SETTINGS
+        );
+    }
+
+    private static SearchHedgingPolicy hedgingPolicy(ClusterSettings clusterSettings, ThreadPool threadPool) {
+        final ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        final ResponseCollectorService collector = new ResponseCollectorService(clusterService);
+        for (String nodeId : List.of("n1", "n2")) {
+            collector.addNodeStatistics(nodeId, "test", 1, TimeValue.timeValueMillis(1).nanos(), 1);
+        }
+        return new SearchHedgingPolicy(clusterSettings, collector, threadPool);
+    }
+
+    private AbstractSearchAsyncAction<SearchPhaseResult> createHedgingAction(
+        List<SearchShardIterator> shardIts,
+        int maxConcurrentRequestsPerNode,
+        Executor executor,
+        SearchHedgingPolicy hedgingPolicy,
+        SearchRequestStats searchRequestStats,
+        ArraySearchPhaseResults<SearchPhaseResult> queryResult,
+        ActionListener<SearchResponse> listener,
+        Runnable onPhaseDone,
+        BiConsumer<SearchShardTarget, SearchActionListener<SearchPhaseResult>> shardRequestHandler
+    ) {
+        final SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true);
+        return new AbstractSearchAsyncAction<SearchPhaseResult>(
+            "test",
+            logger,
+            null,
+            (cluster, node) -> null,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            executor,
+            searchRequest,
+            listener,
+            new GroupShardsIterator<>(shardIts),
+            new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(), System::nanoTime),
+            ClusterState.EMPTY_STATE,
+            null,
+            queryResult,
+            maxConcurrentRequestsPerNode,
+            SearchResponse.Clusters.EMPTY,
+            new SearchRequestContext(
+                new SearchRequestOperationsListener.CompositeListener(List.of(searchRequestStats), LogManager.getLogger()),
+                searchRequest,
+                () -> null
+            ),
+            NoopTracer.INSTANCE,
+            hedgingPolicy
+        ) {
+            @Override
+            protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+                return new SearchPhase("next") {
+                    @Override
+                    public void run() {
+                        onPhaseDone.run();
+                    }
+                };
+            }
+
+            @Override
+            protected void executePhaseOnShard(
+                final SearchShardIterator shardIt,
+                final SearchShardTarget shard,
+                final SearchActionListener<SearchPhaseResult> listener
+            ) {
+                shardRequestHandler.accept(shard, listener);
+            }
+
+            @Override
+            public void sendReleaseSearchContext(
+                ShardSearchContextId contextId,
+                Transport.Connection connection,
+                OriginalIndices originalIndices
+            ) {
+                releasedContexts.add(contextId);
+            }
+        };
+    }
+
     private static final class PhaseResult extends SearchPhaseResult {
         PhaseResult(ShardSearchContextId contextId) {
             this.contextId = contextId;
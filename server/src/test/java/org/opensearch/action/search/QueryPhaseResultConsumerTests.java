@@ -187,6 +187,45 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
     }
 
+    public void testStreamingReduceMergesResultsAsTheyArrive() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("value")).size(0));
+        // large enough that the batched mode would not reduce before the final reduce
+        searchRequest.setBatchedReduceSize(512);
+        final int numShards = randomIntBetween(2, 20);
+        QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            writableRegistry(),
+            numShards,
+            e -> {
+                throw new AssertionError("unexpected partial merge failure", e);
+            },
+            () -> false,
+            true
+        );
+
+        for (int i = 0; i < numShards; i++) {
+            QuerySearchResult querySearchResult = getQuerySearchResult(i);
+            querySearchResult.aggregations(InternalAggregations.from(List.of(new InternalMax("test", i, DocValueFormat.RAW, null))));
+            CountDownLatch latch = new CountDownLatch(1);
+            consumer.consumeResult(querySearchResult, latch::countDown);
+            // the reducer is idle whenever the previous callback ran, so every result is reduced on arrival
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(i + 1, consumer.getNumReducePhases());
+        }
+
+        SearchPhaseController.ReducedQueryPhase phase = consumer.reduce();
+        assertEquals(numShards + 1, phase.numReducePhases);
+        InternalMax max = phase.aggregations.get("test");
+        assertEquals(numShards - 1, max.getValue(), 0d);
+        assertTrue(consumer.getMaxAggsBufferSize() > 0);
+        consumer.close();
+    }
+
     private static QuerySearchResult getQuerySearchResult(int i) {
         SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("index", "uuid", i), null, OriginalIndices.NONE);
 
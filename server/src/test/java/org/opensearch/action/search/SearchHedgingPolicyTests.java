@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SearchHedgingPolicyTests extends OpenSearchTestCase {
+
+    private final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+    private final ResponseCollectorService collector = perIndexCollector();
+    private final SearchShardTarget shard = new SearchShardTarget("node_1", new ShardId(new Index("test", "_na_"), 0), null, null);
+
+    public void testDisabledByDefault() {
+        final SearchHedgingPolicy policy = new SearchHedgingPolicy(clusterSettings, collector, null);
+        collector.addNodeStatistics("node_1", "test", 1, TimeValue.timeValueMillis(100).nanos(), 1);
+        assertFalse(policy.isEnabled());
+        assertNull(policy.hedgeDelay(shard));
+    }
+
+    public void testHedgeDelay() {
+        final SearchHedgingPolicy policy = new SearchHedgingPolicy(clusterSettings, collector, null);
+        clusterSettings.applySettings(Settings.builder().put(SearchHedgingPolicy.SEARCH_HEDGING_ENABLED_SETTING.getKey(), true).build());
+        assertTrue(policy.isEnabled());
+        // no response time known yet for the node
+        assertNull(policy.hedgeDelay(shard));
+
+        collector.addNodeStatistics("node_1", "test", 1, TimeValue.timeValueMillis(100).nanos(), 1);
+        assertEquals(TimeValue.timeValueMillis(300), policy.hedgeDelay(shard));
+
+        // fast copies are not hedged before the minimum delay
+        collector.addNodeStatistics("node_1", "other", 1, TimeValue.timeValueMillis(1).nanos(), 1);
+        final SearchShardTarget other = new SearchShardTarget("node_1", new ShardId(new Index("other", "_na_"), 0), null, null);
+        assertEquals(TimeValue.timeValueMillis(50), policy.hedgeDelay(other));
+
+        clusterSettings.applySettings(
+            Settings.builder()
+                .put(SearchHedgingPolicy.SEARCH_HEDGING_ENABLED_SETTING.getKey(), true)
+                .put(SearchHedgingPolicy.SEARCH_HEDGING_LATENCY_MULTIPLIER.getKey(), 2.0)
+                .put(SearchHedgingPolicy.SEARCH_HEDGING_MIN_DELAY.getKey(), TimeValue.ZERO)
+                .build()
+        );
+        assertEquals(TimeValue.timeValueMillis(200), policy.hedgeDelay(shard));
+        assertEquals(TimeValue.timeValueMillis(2), policy.hedgeDelay(other));
+    }
+
+    public void testHedgeBudget() {
+        final SearchHedgingPolicy policy = new SearchHedgingPolicy(clusterSettings, collector, null);
+        clusterSettings.applySettings(
+            Settings.builder()
+                .put(SearchHedgingPolicy.SEARCH_HEDGING_ENABLED_SETTING.getKey(), true)
+                .put(SearchHedgingPolicy.SEARCH_HEDGING_MAX_RATIO.getKey(), 0.25)
+                .build()
+        );
+        collector.addNodeStatistics("node_1", "test", 1, TimeValue.timeValueMillis(100).nanos(), 1);
+        assertFalse(policy.tryAcquireHedge());
+        for (int i = 0; i < 4; i++) {
+            policy.hedgeDelay(shard);
+        }
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+
+        // the budget saves up for bursts of hedged requests but only up to a limit
+        for (int i = 0; i < 1000; i++) {
+            policy.hedgeDelay(shard);
+        }
+        for (int i = 0; i < SearchHedgingPolicy.MAX_HEDGE_BURST; i++) {
+            assertTrue(policy.tryAcquireHedge());
+        }
+        assertFalse(policy.tryAcquireHedge());
+    }
+
+    private static ResponseCollectorService perIndexCollector() {
+        final Settings settings = Settings.builder()
+            .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING.getKey(), true)
+            .build();
+        final ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        return new ResponseCollectorService(clusterService);
+    }
+}
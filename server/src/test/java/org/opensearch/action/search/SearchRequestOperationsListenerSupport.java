@@ -30,4 +30,12 @@ public interface SearchRequestOperationsListenerSupport {
             )
         );
     }
+
+    default void onShardRequestHedged(SearchRequestOperationsListener listener, SearchPhaseContext context) {
+        listener.onShardRequestHedged(context);
+    }
+
+    default void onHedgedShardRequestWon(SearchRequestOperationsListener listener, SearchPhaseContext context) {
+        listener.onHedgedShardRequestWon(context);
+    }
 }
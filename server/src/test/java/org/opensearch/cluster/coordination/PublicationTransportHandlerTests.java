@@ -75,6 +75,8 @@ import static org.opensearch.node.remotestore.RemoteStoreNodeAttribute.REMOTE_ST
 import static org.opensearch.node.remotestore.RemoteStoreNodeAttribute.REMOTE_STORE_ROUTING_TABLE_REPOSITORY_NAME_ATTRIBUTE_KEY;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -430,6 +432,25 @@ public class PublicationTransportHandlerTests extends OpenSearchTestCase {
         assertThat(publicationContext3, instanceOf(RemotePublicationContext.class));
     }
 
+    public void testSerializationStats() {
+        final PublicationTransportHandler handler = getPublicationTransportHandler(p -> null, null);
+        final DiscoveryNode thirdNode = new DiscoveryNode("thirdNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final ClusterState previousState = buildClusterState(TERM, VERSION);
+        final ClusterState newState = ClusterState.builder(previousState)
+            .version(VERSION + 1)
+            .nodes(DiscoveryNodes.builder(previousState.nodes()).add(thirdNode))
+            .build();
+
+        handler.newPublicationContext(new ClusterChangedEvent("test", newState, previousState), false, new PersistedStateRegistry());
+
+        // the diff and the full state for the new node are serialized once, however many nodes they are sent to
+        final PublishClusterStateStats stats = handler.stats();
+        assertThat(stats.getClusterStateDiffSerializedCount(), equalTo(1L));
+        assertThat(stats.getFullClusterStateSerializedCount(), equalTo(1L));
+        assertThat(stats.getSerializedClusterStateSizeInBytes(), greaterThan(0L));
+        assertThat(stats.getClusterStateSerializationTimeInMillis(), greaterThanOrEqualTo(0L));
+    }
+
     public void testRemotePublicationContext() throws Exception {
         ClusterChangedEvent event = new ClusterChangedEvent(
             "source3",
@@ -75,6 +75,7 @@ import static org.opensearch.cluster.DataStreamTestHelper.createTimestampField;
 import static org.opensearch.cluster.metadata.Metadata.Builder.validateDataStreams;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.startsWith;
@@ -1258,6 +1259,80 @@ public class MetadataTests extends OpenSearchTestCase {
         assertTrue(Metadata.isGlobalStateEquals(orig, fromStreamMeta));
     }
 
+    public void testSerializationSharesIdenticalMappings() throws IOException {
+        final String mapping = "{\"_doc\":{\"properties\":{\"field\":{\"type\":\"keyword\"}}}}";
+        final Metadata orig = Metadata.builder()
+            .put(
+                IndexMetadata.builder("index-1")
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0)
+                    .putMapping(mapping)
+            )
+            .put(
+                IndexMetadata.builder("index-2")
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0)
+                    .putMapping(mapping)
+            )
+            .put(
+                IndexMetadata.builder("index-3")
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0)
+                    .putMapping("{\"_doc\":{\"properties\":{\"field\":{\"type\":\"long\"}}}}")
+            )
+            .build();
+        final BytesStreamOutput out = new BytesStreamOutput();
+        orig.writeTo(out);
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(ClusterModule.getNamedWriteables());
+        final long deduplicated = MappingDeduplicator.deduplicatedCount();
+        final long materialized = MappingDeduplicator.materializedCount();
+        final Metadata fromStreamMeta = Metadata.readFrom(
+            new NamedWriteableAwareStreamInput(out.bytes().streamInput(), namedWriteableRegistry)
+        );
+        assertEquals(orig.index("index-1").mapping(), fromStreamMeta.index("index-1").mapping());
+        assertSame(fromStreamMeta.index("index-1").mapping(), fromStreamMeta.index("index-2").mapping());
+        assertEquals(orig.index("index-3").mapping(), fromStreamMeta.index("index-3").mapping());
+        assertNotSame(fromStreamMeta.index("index-1").mapping(), fromStreamMeta.index("index-3").mapping());
+        assertThat(MappingDeduplicator.deduplicatedCount() - deduplicated, greaterThanOrEqualTo(1L));
+        assertThat(MappingDeduplicator.materializedCount() - materialized, greaterThanOrEqualTo(2L));
+    }
+
+    public void testDiffSharesMappingsWithPreviousState() throws IOException {
+        final String mapping = "{\"_doc\":{\"properties\":{\"field\":{\"type\":\"keyword\"}}}}";
+        final Metadata previous = Metadata.builder()
+            .put(
+                IndexMetadata.builder("index-1")
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0)
+                    .putMapping(mapping)
+            )
+            .build();
+        final Metadata current = Metadata.builder(previous)
+            .put(
+                IndexMetadata.builder("index-2")
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0)
+                    .putMapping(mapping)
+            )
+            .build();
+        final BytesStreamOutput out = new BytesStreamOutput();
+        current.diff(previous).writeTo(out);
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(ClusterModule.getNamedWriteables());
+        final long deduplicated = MappingDeduplicator.deduplicatedCount();
+        final Metadata applied = Metadata.readDiffFrom(
+            new NamedWriteableAwareStreamInput(out.bytes().streamInput(), namedWriteableRegistry)
+        ).apply(previous);
+        assertSame(previous.index("index-1"), applied.index("index-1"));
+        assertEquals(current.index("index-2"), applied.index("index-2"));
+        assertSame(previous.index("index-1").mapping(), applied.index("index-2").mapping());
+        assertThat(MappingDeduplicator.deduplicatedCount() - deduplicated, greaterThanOrEqualTo(1L));
+    }
+
     public void testValidateDataStreamsNoConflicts() {
         Metadata metadata = createIndices(5, 10, "foo-datastream").metadata;
         // don't expect any exception when validating a system without indices that would conflict with future backing indices
@@ -76,6 +76,7 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.object.HasToString.hasToString;
 
 public class OperationRoutingTests extends OpenSearchTestCase {
@@ -672,6 +673,74 @@ public class OperationRoutingTests extends OpenSearchTestCase {
         terminate(threadPool);
     }
 
+    public void testAdaptiveReplicaSelectionPerIndex() throws Exception {
+        final String[] indexNames = new String[] { "test0", "test1" };
+        final ClusterState state = ClusterStateCreationUtils.stateWithAssignedPrimariesAndReplicas(indexNames, 1, 2);
+        final OperationRouting opRouting = new OperationRouting(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        opRouting.setUseAdaptiveReplicaSelection(true);
+        final TestThreadPool threadPool = new TestThreadPool("testAdaptiveReplicaSelectionPerIndex");
+        // the collector only tracks response times per index while per-index selection is enabled on the node
+        final Settings perIndexSettings = Settings.builder()
+            .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING.getKey(), true)
+            .build();
+        final ClusterService clusterService = ClusterServiceUtils.createClusterService(
+            perIndexSettings,
+            new ClusterSettings(perIndexSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+        try {
+            final ResponseCollectorService collector = new ResponseCollectorService(clusterService);
+            // node_1 is slow for test0 but the fastest node for test1
+            collector.addNodeStatistics("node_0", 1, TimeValue.timeValueMillis(200).nanos(), TimeValue.timeValueMillis(50).nanos());
+            collector.addNodeStatistics(
+                "node_1",
+                "test0",
+                1,
+                TimeValue.timeValueMillis(2000).nanos(),
+                TimeValue.timeValueMillis(50).nanos()
+            );
+            collector.addNodeStatistics(
+                "node_1",
+                "test1",
+                1,
+                TimeValue.timeValueMillis(100).nanos(),
+                TimeValue.timeValueMillis(50).nanos()
+            );
+            collector.addNodeStatistics("node_2", 1, TimeValue.timeValueMillis(200).nanos(), TimeValue.timeValueMillis(50).nanos());
+
+            // ranked across all indices node_1 is slow, so it serves neither index
+            assertThat(selectNode(opRouting, state, "test0", collector), not(equalTo("node_1")));
+            assertThat(selectNode(opRouting, state, "test1", collector), not(equalTo("node_1")));
+
+            opRouting.setAdaptiveReplicaSelectionPerIndex(true);
+            assertThat(selectNode(opRouting, state, "test0", collector), not(equalTo("node_1")));
+            assertThat(selectNode(opRouting, state, "test1", collector), equalTo("node_1"));
+        } finally {
+            IOUtils.close(clusterService);
+            terminate(threadPool);
+        }
+    }
+
+    private static String selectNode(OperationRouting opRouting, ClusterState state, String index, ResponseCollectorService collector) {
+        final Map<String, Long> outstandingRequests = new HashMap<>();
+        outstandingRequests.put("node_0", 1L);
+        outstandingRequests.put("node_1", 1L);
+        outstandingRequests.put("node_2", 1L);
+        final GroupShardsIterator<ShardIterator> groupIterator = opRouting.searchShards(
+            state,
+            new String[] { index },
+            null,
+            null,
+            collector,
+            outstandingRequests,
+            null
+        );
+        return groupIterator.get(0).nextOrNull().currentNodeId();
+    }
+
     // Regression test to ignore awareness attributes. This test creates shards in different zones and simulates stress
     // on nodes in one zone to test if Adapative Replica Selection smartly routes the request to a node in different zone
     // by ignoring the zone awareness attributes.
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.OpenSearchAllocationTestCase;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingNode;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.common.settings.Settings;
+
+import java.util.Collections;
+
+import static org.opensearch.cluster.routing.ShardRoutingState.STARTED;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class IncrementalBalanceTests extends OpenSearchAllocationTestCase {
+
+    private static final Settings INCREMENTAL = Settings.builder()
+        .put(BalancedShardsAllocator.INCREMENTAL_BALANCE_SETTING.getKey(), true)
+        .put("cluster.routing.allocation.node_concurrent_recoveries", 10)
+        .put("cluster.routing.allocation.cluster_concurrent_rebalance", -1)
+        .build();
+
+    public void testRebalancesOntoNewNodes() {
+        final AllocationService strategy = createAllocationService(INCREMENTAL);
+        final int numIndices = randomIntBetween(3, 8);
+        final Metadata.Builder metadata = Metadata.builder();
+        for (int i = 0; i < numIndices; i++) {
+            metadata.put(
+                IndexMetadata.builder("test_" + i)
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(randomIntBetween(2, 6))
+                    .numberOfReplicas(1)
+            );
+        }
+        ClusterState clusterState = newClusterState(metadata.build(), DiscoveryNodes.builder().add(newNode("node1")).add(newNode("node2")));
+        clusterState = applyStartedShardsUntilNoChange(strategy.reroute(clusterState, "reroute"), strategy);
+
+        clusterState = ClusterState.builder(clusterState)
+            .nodes(DiscoveryNodes.builder(clusterState.nodes()).add(newNode("node3")).add(newNode("node4")))
+            .build();
+        clusterState = applyStartedShardsUntilNoChange(strategy.reroute(clusterState, "reroute"), strategy);
+        assertThat(clusterState.getRoutingNodes().node("node3").numberOfShardsWithState(STARTED), greaterThan(0));
+        assertThat(clusterState.getRoutingNodes().node("node4").numberOfShardsWithState(STARTED), greaterThan(0));
+
+        // nothing changed since the previous round, so the cached decisions are reused and no shard is moved
+        assertSame(clusterState, strategy.reroute(clusterState, "reroute"));
+    }
+
+    public void testIndexMetadataChangeIsNotServedFromCache() {
+        final AllocationService strategy = createAllocationService(INCREMENTAL);
+        final Metadata metadata = Metadata.builder()
+            .put(
+                IndexMetadata.builder("test")
+                    .settings(settings(Version.CURRENT).put("index.routing.allocation.include._name", "node1,node2"))
+                    .numberOfShards(6)
+                    .numberOfReplicas(0)
+            )
+            .build();
+        ClusterState clusterState = newClusterState(
+            metadata,
+            DiscoveryNodes.builder().add(newNode("node1")).add(newNode("node2")).add(newNode("node3"))
+        );
+        clusterState = applyStartedShardsUntilNoChange(strategy.reroute(clusterState, "reroute"), strategy);
+        assertThat(clusterState.getRoutingNodes().node("node3").size(), equalTo(0));
+
+        final IndexMetadata indexMetadata = clusterState.metadata().index("test");
+        final Settings.Builder indexSettings = Settings.builder().put(indexMetadata.getSettings());
+        indexSettings.remove("index.routing.allocation.include._name");
+        clusterState = ClusterState.builder(clusterState)
+            .metadata(
+                Metadata.builder(clusterState.metadata())
+                    .put(
+                        IndexMetadata.builder(indexMetadata)
+                            .settings(indexSettings)
+                            .settingsVersion(indexMetadata.getSettingsVersion() + 1)
+                    )
+            )
+            .build();
+        clusterState = applyStartedShardsUntilNoChange(strategy.reroute(clusterState, "reroute"), strategy);
+        for (RoutingNode node : clusterState.getRoutingNodes()) {
+            assertThat(node.numberOfShardsWithState(STARTED), equalTo(2));
+        }
+    }
+
+    public void testFilterCacheDropsDeletedIndices() {
+        final IndexAllocationFilterCache cache = new IndexAllocationFilterCache();
+        final Metadata metadata = Metadata.builder()
+            .put(IndexMetadata.builder("test_1").settings(settings(Version.CURRENT)).numberOfShards(1).numberOfReplicas(0))
+            .put(IndexMetadata.builder("test_2").settings(settings(Version.CURRENT)).numberOfShards(1).numberOfReplicas(0))
+            .build();
+        ClusterState clusterState = newClusterState(metadata, DiscoveryNodes.builder().add(newNode("node1")));
+        cache.refresh(newRoutingAllocation(yesAllocationDeciders(), clusterState));
+        final IndexMetadata test1 = clusterState.metadata().index("test_1");
+        cache.putExcludedNodes(test1, Collections.emptySet());
+        cache.putExcludedNodes(clusterState.metadata().index("test_2"), Collections.emptySet());
+        assertNotNull(cache.excludedNodes(test1));
+        assertNull(cache.excludedNodes(IndexMetadata.builder(test1).settingsVersion(test1.getSettingsVersion() + 1).build()));
+
+        clusterState = ClusterState.builder(clusterState).metadata(Metadata.builder(clusterState.metadata()).remove("test_2")).build();
+        cache.refresh(newRoutingAllocation(yesAllocationDeciders(), clusterState));
+        assertEquals(1, cache.size());
+        assertNotNull(cache.excludedNodes(test1));
+
+        clusterState = ClusterState.builder(clusterState)
+            .nodes(DiscoveryNodes.builder(clusterState.nodes()).add(newNode("node2")))
+            .build();
+        cache.refresh(newRoutingAllocation(yesAllocationDeciders(), clusterState));
+        assertEquals(0, cache.size());
+    }
+
+    private static ClusterState newClusterState(Metadata metadata, DiscoveryNodes.Builder nodes) {
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (IndexMetadata indexMetadata : metadata) {
+            routingTable.addAsNew(indexMetadata);
+        }
+        return ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(routingTable.build())
+            .nodes(nodes)
+            .build();
+    }
+}
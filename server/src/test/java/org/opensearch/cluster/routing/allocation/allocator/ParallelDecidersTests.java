@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.OpenSearchAllocationTestCase;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.common.settings.Settings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
+
+public class ParallelDecidersTests extends OpenSearchAllocationTestCase {
+
+    public void testAllocatesLikeSequentialDeciders() {
+        final int numNodes = randomIntBetween(16, 40);
+        final Metadata.Builder metadataBuilder = Metadata.builder();
+        for (int i = 0; i < randomIntBetween(1, 10); i++) {
+            metadataBuilder.put(
+                IndexMetadata.builder("test_" + i)
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(randomIntBetween(1, 10))
+                    .numberOfReplicas(randomIntBetween(0, 2))
+            );
+        }
+        final Metadata metadata = metadataBuilder.build();
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (IndexMetadata indexMetadata : metadata) {
+            routingTable.addAsNew(indexMetadata);
+        }
+        final DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (int i = 0; i < numNodes; i++) {
+            nodes.add(newNode("node_" + i));
+        }
+        final ClusterState clusterState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(routingTable.build())
+            .nodes(nodes)
+            .build();
+
+        final long seed = randomLong();
+        final Map<String, List<String>> sequential = allocate(clusterState, Settings.EMPTY, seed);
+        final Map<String, List<String>> parallel = allocate(
+            clusterState,
+            Settings.builder()
+                .put(BalancedShardsAllocator.PARALLEL_DECIDERS_ENABLED_SETTING.getKey(), true)
+                .put(BalancedShardsAllocator.PARALLEL_DECIDERS_PARALLELISM_SETTING.getKey(), randomIntBetween(1, 4))
+                .build(),
+            seed
+        );
+        assertEquals(sequential, parallel);
+    }
+
+    /**
+     * Allocates all shards and returns the nodes holding the copies of each shard
+     */
+    private static Map<String, List<String>> allocate(ClusterState clusterState, Settings settings, long seed) {
+        final AllocationService strategy = createAllocationService(settings, new Random(seed));
+        clusterState = strategy.reroute(clusterState, "reroute");
+        while (clusterState.getRoutingNodes().shardsWithState(INITIALIZING).isEmpty() == false) {
+            clusterState = startInitializingShardsAndReroute(strategy, clusterState);
+        }
+        final Map<String, List<String>> nodesByShard = new TreeMap<>();
+        for (ShardRouting shardRouting : clusterState.routingTable().allShards()) {
+            nodesByShard.computeIfAbsent(shardRouting.shardId().toString(), k -> new ArrayList<>())
+                .add(shardRouting.currentNodeId() + (shardRouting.primary() ? "[P]" : "[R]"));
+        }
+        nodesByShard.values().forEach(Collections::sort);
+        return nodesByShard;
+    }
+}
@@ -47,8 +47,13 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 public class AllocationDecidersTests extends OpenSearchTestCase {
 
@@ -141,6 +146,98 @@ public class AllocationDecidersTests extends OpenSearchTestCase {
         verify(deciders.canAllocateAnyShardToNode(routingNode, allocation), matcher);
     }
 
+    public void testCanAllocateToNodesInParallel() throws InterruptedException {
+        final AllocationDeciders deciders = new AllocationDeciders(Collections.singleton(new AllocationDecider() {
+            @Override
+            public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+                return Integer.parseInt(node.nodeId().substring("node_".length())) % 2 == 0 ? Decision.YES : Decision.NO;
+            }
+        }));
+        final ClusterState clusterState = ClusterState.builder(new ClusterName("test")).build();
+        final RoutingAllocation allocation = new RoutingAllocation(deciders, clusterState.getRoutingNodes(), clusterState, null, null, 0L);
+        final ShardRouting shardRouting = ShardRouting.newUnassigned(
+            new ShardId("test", "testUUID", 0),
+            true,
+            RecoverySource.EmptyStoreRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "_message")
+        );
+        final RoutingNode[] nodes = new RoutingNode[randomIntBetween(1, 100)];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new RoutingNode("node_" + i, null);
+        }
+
+        final Decision[] sequential = deciders.canAllocate(shardRouting, nodes, allocation, null);
+        final ForkJoinPool pool = new ForkJoinPool(randomIntBetween(1, 4));
+        try {
+            final Decision[] parallel = deciders.canAllocate(shardRouting, nodes, allocation, pool);
+            assertEquals(nodes.length, parallel.length);
+            for (int i = 0; i < nodes.length; i++) {
+                assertEquals(i % 2 == 0 ? Decision.Type.YES : Decision.Type.NO, parallel[i].type());
+                assertEquals(sequential[i].type(), parallel[i].type());
+            }
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testTimings() {
+        final AllocationDeciders deciders = new AllocationDeciders(Arrays.asList(new SlowYesDecider(), new SlowNoDecider()));
+        final ClusterState clusterState = ClusterState.builder(new ClusterName("test")).build();
+        final RoutingAllocation allocation = new RoutingAllocation(deciders, clusterState.getRoutingNodes(), clusterState, null, null, 0L);
+        final ShardRouting shardRouting = ShardRouting.newUnassigned(
+            new ShardId("test", "testUUID", 0),
+            true,
+            RecoverySource.EmptyStoreRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "_message")
+        );
+        final RoutingNode routingNode = new RoutingNode("testNode", null);
+        final Map<String, Long> timings = new HashMap<>();
+
+        deciders.canAllocate(shardRouting, routingNode, allocation);
+        deciders.drainTimings(timings::put);
+        assertTrue(timings.isEmpty());
+
+        deciders.setTimingEnabled(true);
+        assertEquals(Decision.NO, deciders.canAllocate(shardRouting, routingNode, allocation));
+        deciders.canRemain(shardRouting, routingNode, allocation);
+        deciders.drainTimings(timings::put);
+        assertEquals(2, timings.size());
+        assertThat(timings.get(SlowYesDecider.class.getSimpleName()), Matchers.greaterThan(0L));
+        assertThat(timings.get(SlowNoDecider.class.getSimpleName()), Matchers.greaterThan(0L));
+
+        timings.clear();
+        deciders.drainTimings(timings::put);
+        assertTrue(timings.isEmpty());
+    }
+
+    private static Decision slowDecision(Decision decision) {
+        final long startTimeInNanos = System.nanoTime();
+        while (System.nanoTime() == startTimeInNanos) {
+            // spin until the clock advances so that some time is measured
+        }
+        return decision;
+    }
+
+    private static class SlowYesDecider extends AllocationDecider {
+        @Override
+        public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return slowDecision(Decision.YES);
+        }
+    }
+
+    private static class SlowNoDecider extends AllocationDecider {
+        @Override
+        public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return slowDecision(Decision.NO);
+        }
+
+        @Override
+        public Decision canRemain(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return slowDecision(Decision.YES);
+        }
+    }
+
     private void verify(Decision decision, Matcher<Collection<? extends Decision>> matcher) {
         assertThat(decision.type(), Matchers.equalTo(Decision.Type.YES));
         assertThat(decision, Matchers.instanceOf(Decision.Multi.class));
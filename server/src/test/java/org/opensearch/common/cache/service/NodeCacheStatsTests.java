@@ -8,11 +8,16 @@
 
 package org.opensearch.common.cache.service;
 
+import org.opensearch.Version;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
 import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 import java.util.TreeMap;
 
 public class NodeCacheStatsTests extends OpenSearchTestCase {
@@ -27,4 +32,23 @@ public class NodeCacheStatsTests extends OpenSearchTestCase {
             deserialized.getStatsByCache(CacheType.INDICES_REQUEST_CACHE)
         );
     }
+
+    public void testCacheTypesUnknownToOlderNodesAreNotSerialized() throws IOException {
+        CommonStatsFlags flags = new CommonStatsFlags().clear().includeAllCacheTypes();
+        TreeMap<CacheType, ImmutableCacheStatsHolder> statsByCache = new TreeMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            DefaultCacheStatsHolder statsHolder = new DefaultCacheStatsHolder(List.of(), "store");
+            statsHolder.incrementHits(List.of());
+            statsByCache.put(cacheType, statsHolder.getImmutableCacheStatsHolder(null));
+        }
+        NodeCacheStats original = new NodeCacheStats(statsByCache, flags);
+
+        NodeCacheStats current = copyWriteable(original, writableRegistry(), NodeCacheStats::new);
+        assertEquals(original, current);
+
+        NodeCacheStats bwc = copyWriteable(original, writableRegistry(), NodeCacheStats::new, Version.V_3_7_0);
+        assertEquals(original.getStatsByCache(CacheType.INDICES_REQUEST_CACHE), bwc.getStatsByCache(CacheType.INDICES_REQUEST_CACHE));
+        assertNull(bwc.getStatsByCache(CacheType.COORDINATOR_REQUEST_CACHE));
+        assertEquals(Set.of(CacheType.INDICES_REQUEST_CACHE), CacheType.knownTo(flags.getIncludeCaches(), Version.V_3_7_0));
+    }
 }
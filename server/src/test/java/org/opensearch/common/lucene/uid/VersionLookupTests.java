@@ -42,14 +42,20 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.util.TestUtil;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
+import org.opensearch.index.codec.fuzzy.FuzzyFilterPostingsFormat;
+import org.opensearch.index.codec.fuzzy.FuzzySetFactory;
+import org.opensearch.index.codec.fuzzy.FuzzySetParameters;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.VersionFieldMapper;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Map;
+
 /**
  * test per-segment lookup of version-related data structures
  */
@@ -138,4 +144,62 @@ public class VersionLookupTests extends OpenSearchTestCase {
         writer.close();
         dir.close();
     }
+
+    /**
+     * test that segments whose id fuzzy filter rules out the id are skipped
+     */
+    public void testFuzzyFilterSkipsSegments() throws Exception {
+        Directory dir = newDirectory();
+        FuzzySetFactory fuzzySetFactory = new FuzzySetFactory(
+            Map.of(IdFieldMapper.NAME, new FuzzySetParameters(() -> FuzzySetParameters.DEFAULT_FALSE_POSITIVE_PROBABILITY))
+        );
+        FuzzyFilterPostingsFormat postingsFormat = new FuzzyFilterPostingsFormat(TestUtil.getDefaultPostingsFormat(), fuzzySetFactory);
+        IndexWriter writer = new IndexWriter(
+            dir,
+            new IndexWriterConfig(Lucene.STANDARD_ANALYZER).setMergePolicy(NoMergePolicy.INSTANCE)
+                .setCodec(TestUtil.alwaysPostingsFormat(postingsFormat))
+        );
+        final int numSegments = 3;
+        for (int i = 0; i < numSegments; i++) {
+            Document doc = new Document();
+            doc.add(new Field(IdFieldMapper.NAME, Integer.toString(i), IdFieldMapper.Defaults.FIELD_TYPE));
+            doc.add(new NumericDocValuesField(VersionFieldMapper.NAME, i + 1));
+            doc.add(new NumericDocValuesField(SeqNoFieldMapper.NAME, randomNonNegativeLong()));
+            doc.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, randomLongBetween(1, Long.MAX_VALUE)));
+            writer.addDocument(doc);
+            writer.flush();
+        }
+        DirectoryReader reader = DirectoryReader.open(writer);
+        assertEquals(numSegments, reader.leaves().size());
+        IdLookupStats stats = new IdLookupStats();
+        for (int i = 0; i < numSegments; i++) {
+            DocIdAndVersion result = VersionsAndSeqNoResolver.loadDocIdAndVersion(
+                reader,
+                new Term(IdFieldMapper.NAME, Integer.toString(i)),
+                randomBoolean(),
+                null,
+                stats
+            );
+            assertNotNull(result);
+            assertEquals(i + 1, result.version);
+        }
+        assertEquals(numSegments, stats.getLookups());
+        assertTrue(stats.getSegmentsSearched() >= numSegments);
+
+        // the filters rule out most of the ids that are not in the index, so most segments are skipped
+        final int numMissingIds = 100;
+        for (int i = 0; i < numMissingIds; i++) {
+            assertNull(VersionsAndSeqNoResolver.loadDocIdAndSeqNo(reader, new Term(IdFieldMapper.NAME, "missing_" + i), stats));
+        }
+        assertEquals(numSegments + numMissingIds, stats.getLookups());
+        assertTrue(stats.getSegmentsSkipped() > 0);
+        // a lookup of a missing id visits every segment, a lookup of an existing id stops at the segment that holds it
+        assertEquals(
+            (long) numSegments * numMissingIds + numSegments * (numSegments + 1) / 2,
+            stats.getSegmentsSearched() + stats.getSegmentsSkipped()
+        );
+        reader.close();
+        writer.close();
+        dir.close();
+    }
 }
@@ -117,7 +117,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testBasics() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newVersionMap();
         try (Releasable r = map.acquireLock(uid("test"))) {
             Translog.Location tlogLoc = randomTranslogLocation();
             map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1));
@@ -149,7 +149,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         List<BytesRef> keyList = new ArrayList<>(keySet);
         ConcurrentHashMap<BytesRef, VersionValue> values = new ConcurrentHashMap<>();
         ConcurrentHashMap<BytesRef, DeleteVersionValue> deletes = new ConcurrentHashMap<>();
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newVersionMap();
         int numThreads = randomIntBetween(2, 5);
 
         Thread[] threads = new Thread[numThreads];
@@ -347,7 +347,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testAddAndDeleteRefreshConcurrently() throws IOException, InterruptedException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newVersionMap();
         int numIters = randomIntBetween(1000, 5000);
         AtomicBoolean done = new AtomicBoolean(false);
         AtomicLong version = new AtomicLong();
@@ -423,7 +423,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRandomlyIndexDeleteAndRefresh() throws Exception {
-        final LiveVersionMap versionMap = new LiveVersionMap();
+        final LiveVersionMap versionMap = newVersionMap();
         final BytesRef uid = uid("1");
         final long versions = between(10, 1000);
         VersionValue latestVersion = null;
@@ -456,6 +456,38 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    public void testStripedLocksSerializeSameUid() throws Exception {
+        final LiveVersionMap map = new LiveVersionMap(randomIntBetween(1, 64));
+        final BytesRef uid = uid("1");
+        try (Releasable ignore = map.acquireLock(uid)) {
+            assertTrue(map.assertKeyedLockHeldByCurrentThread(uid));
+            // reentrant for the owning thread
+            try (Releasable reentrant = map.acquireLock(uid)) {
+                map.putDeleteUnderLock(uid, new DeleteVersionValue(0, 0, 0, 0));
+            }
+            map.beforeRefresh();
+            map.afterRefresh(false);
+            // another thread can't take the stripe so it won't prune the tombstone
+            Thread thread = new Thread(() -> map.pruneTombstones(Long.MAX_VALUE, 0));
+            thread.start();
+            thread.join();
+            assertEquals(1, map.getAllTombstones().size());
+        }
+        Thread thread = new Thread(() -> map.pruneTombstones(Long.MAX_VALUE, 0));
+        thread.start();
+        thread.join();
+        assertEquals(0, map.getAllTombstones().size());
+    }
+
+    public void testNegativeLockStripes() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> new LiveVersionMap(-1));
+        assertEquals("lock stripes must be >= 0 but was [-1]", e.getMessage());
+    }
+
+    private LiveVersionMap newVersionMap() {
+        return randomBoolean() ? new LiveVersionMap() : new LiveVersionMap(randomIntBetween(1, 64));
+    }
+
     IndexVersionValue randomIndexVersionValue() {
         return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
     }
@@ -36,10 +36,12 @@ import org.opensearch.action.search.SearchPhase;
 import org.opensearch.action.search.SearchPhaseContext;
 import org.opensearch.action.search.SearchPhaseName;
 import org.opensearch.action.search.SearchRequestOperationsListenerSupport;
+import org.opensearch.Version;
 import org.opensearch.action.search.SearchRequestStats;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.index.search.stats.SearchStats.Stats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Assert;
@@ -205,4 +207,44 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
         // Ensure writeTo() does not throw error with negative 'current'
         searchStats.writeTo(new BytesStreamOutput(10));
     }
+
+    public void testHedgedShardRequestStats() throws Exception {
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        SearchRequestStats testRequestStats = new SearchRequestStats(clusterSettings);
+        SearchPhaseContext ctx = mock(SearchPhaseContext.class);
+        int hedged = randomIntBetween(1, 10);
+        int won = randomIntBetween(0, hedged);
+        for (int i = 0; i < hedged; i++) {
+            onShardRequestHedged(testRequestStats, ctx);
+        }
+        for (int i = 0; i < won; i++) {
+            onHedgedShardRequestWon(testRequestStats, ctx);
+        }
+        SearchStats searchStats = new SearchStats(new Stats(), 0, new HashMap<>());
+        searchStats.setSearchRequestStats(testRequestStats);
+        assertEquals(hedged, searchStats.getTotal().getHedgedShardRequestCount());
+        assertEquals(won, searchStats.getTotal().getHedgedShardRequestWonCount());
+
+        searchStats.add(searchStats);
+        assertEquals(2 * hedged, searchStats.getTotal().getHedgedShardRequestCount());
+        assertEquals(2 * won, searchStats.getTotal().getHedgedShardRequestWonCount());
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            searchStats.writeTo(out);
+            SearchStats deserialized = new SearchStats(out.bytes().streamInput());
+            assertEquals(2 * hedged, deserialized.getTotal().getHedgedShardRequestCount());
+            assertEquals(2 * won, deserialized.getTotal().getHedgedShardRequestWonCount());
+        }
+
+        // nodes before 3.8.0 don't know about hedged shard requests
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_7_0);
+            searchStats.writeTo(out);
+            StreamInput in = out.bytes().streamInput();
+            in.setVersion(Version.V_3_7_0);
+            SearchStats deserialized = new SearchStats(in);
+            assertEquals(0, deserialized.getTotal().getHedgedShardRequestCount());
+            assertEquals(0, deserialized.getTotal().getHedgedShardRequestWonCount());
+        }
+    }
 }
@@ -1678,6 +1678,33 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testGroupCommitFsync() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(randomIntBetween(1, 50)))
+            .build();
+        final IndexShard shard = newStartedShard(true, settings);
+        final int numDocs = randomIntBetween(1, 20);
+        final CountDownLatch latch = new CountDownLatch(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            final Engine.IndexResult result = indexDoc(shard, "_doc", Integer.toString(i));
+            shard.sync(result.getTranslogLocation(), e -> {
+                if (e != null) {
+                    throw new AssertionError(e);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertFalse(shard.isSyncNeeded());
+
+        final TranslogStats translogStats = shard.translogStats();
+        assertThat(translogStats.getSyncTotal(), greaterThanOrEqualTo(1L));
+        assertThat(translogStats.getSyncTotal(), lessThanOrEqualTo((long) numDocs));
+        assertThat(translogStats.getSyncRequests(), equalTo((long) numDocs));
+
+        closeShards(shard);
+    }
+
     public void testMinimumCompatVersion() throws IOException {
         Version versionCreated = VersionUtils.randomVersion(random());
         Settings settings = Settings.builder()
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -199,4 +200,39 @@ public class AggregateFileCacheStatsTests extends OpenSearchTestCase {
             }
         }
     }
+
+    public void testLockContentionSerialization() throws IOException {
+        final AggregateFileCacheStats stats = getMockFileCacheStats();
+        final long contentionCount = randomLongBetween(0, 1000);
+        final long waitTimeInNanos = randomLongBetween(0, 1_000_000_000L);
+        final AggregateFileCacheStats fileCacheStats = new AggregateFileCacheStats(
+            stats.getTimestamp(),
+            stats.getOverallFileCacheStats(),
+            stats.getFullFileCacheStats(),
+            stats.getBlockFileCacheStats(),
+            stats.getPinnedFileCacheStats(),
+            contentionCount,
+            waitTimeInNanos
+        );
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            fileCacheStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final AggregateFileCacheStats deserialized = new AggregateFileCacheStats(in);
+                validateFileCacheStats(fileCacheStats, deserialized);
+                assertEquals(contentionCount, deserialized.getLockContentionCount());
+                assertEquals(waitTimeInNanos, deserialized.getLockWaitTimeInNanos());
+                assertEquals(fileCacheStats.getCacheHitRatio(), deserialized.getCacheHitRatio(), 0.0);
+            }
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_7_0);
+            fileCacheStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_7_0);
+                final AggregateFileCacheStats deserialized = new AggregateFileCacheStats(in);
+                assertEquals(0L, deserialized.getLockContentionCount());
+                assertEquals(0L, deserialized.getLockWaitTimeInNanos());
+            }
+        }
+    }
 }
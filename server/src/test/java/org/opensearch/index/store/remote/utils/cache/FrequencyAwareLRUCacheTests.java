@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.concurrent.CountDownLatch;
+
+public class FrequencyAwareLRUCacheTests extends RefCountedCacheTestCase {
+    public FrequencyAwareLRUCacheTests() {
+        super(new LRUCache<>(CAPACITY, n -> {}, value -> value, new FrequencySketch(64)));
+    }
+
+    public void testFrequentlyAccessedEntrySurvivesEviction() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, new FrequencySketch(64));
+        cache.put("hot", 25L);
+        cache.decRef("hot");
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(cache.get("hot"));
+            cache.decRef("hot");
+        }
+        // "hot" is now the least recently used entry, a plain LRU cache would evict it first
+        for (int i = 1; i <= 4; i++) {
+            final String key = "cold-" + i;
+            cache.put(key, 25L);
+            cache.decRef(key);
+        }
+        assertNotNull(cache.get("hot"));
+        assertNull(cache.get("cold-1"));
+        assertNull(cache.get("cold-2"));
+        assertEquals(2L, cache.stats().evictionCount());
+    }
+
+    public void testLockContentionStartsAtZero() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("1", 10L);
+        cache.decRef("1");
+        assertEquals(0L, cache.lockContentionCount());
+        assertEquals(0L, cache.lockWaitTimeNanos());
+    }
+
+    public void testLockStatsAreReadWithoutTakingTheLock() throws Exception {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value);
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread holder = new Thread(() -> cache.compute("1", (k, v) -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return 10L;
+        }));
+        holder.start();
+        locked.await();
+        try {
+            // reading the stats while another thread holds the lock must neither block nor count as contention
+            assertEquals(0L, cache.lockContentionCount());
+            assertEquals(0L, cache.lockWaitTimeNanos());
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+}
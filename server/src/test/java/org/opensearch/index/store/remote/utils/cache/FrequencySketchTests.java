@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testIncrementAndFrequency() {
+        final FrequencySketch sketch = new FrequencySketch(64);
+        assertEquals(0, sketch.frequency("key"));
+        final int increments = randomIntBetween(1, FrequencySketch.MAX_FREQUENCY);
+        for (int i = 0; i < increments; i++) {
+            sketch.increment("key");
+        }
+        // a count-min sketch may overestimate but never underestimates
+        assertTrue(sketch.frequency("key") >= increments);
+    }
+
+    public void testFrequencyIsCapped() {
+        final FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("key");
+        }
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency("key"));
+    }
+
+    public void testCountersAreHalvedAfterSamplePeriod() {
+        final FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < FrequencySketch.MAX_FREQUENCY; i++) {
+            sketch.increment("hot");
+        }
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency("hot"));
+        // the table holds 16 longs, so the sample period is 160 additions
+        for (int i = 0; i < 160; i++) {
+            sketch.increment("key-" + i);
+        }
+        assertTrue(sketch.frequency("hot") < FrequencySketch.MAX_FREQUENCY);
+    }
+
+    public void testInvalidExpectedEntries() {
+        final IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> new FrequencySketch(randomIntBetween(-10, 0))
+        );
+        assertEquals("expectedEntries must be greater than 0", e.getMessage());
+    }
+}
@@ -617,6 +617,35 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         assertThat(total.getEarliestLastModifiedAge(), equalTo(earliestLastModifiedAge));
     }
 
+    public void testSyncStats() throws IOException {
+        final TranslogStats total = new TranslogStats();
+        assertThat(total.getSyncTotal(), equalTo(0L));
+
+        final TranslogStats stats = new TranslogStats.Builder().syncTotal(3).syncRequests(12).syncTimeInMillis(7).build();
+        total.add(stats);
+        total.addSyncStats(1, 4, 2);
+        assertThat(total.getSyncTotal(), equalTo(4L));
+        assertThat(total.getSyncRequests(), equalTo(16L));
+        assertThat(total.getSyncTimeInMillis(), equalTo(9L));
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        total.writeTo(out);
+        final TranslogStats copy = new TranslogStats(out.bytes().streamInput());
+        assertThat(copy.getSyncTotal(), equalTo(4L));
+        assertThat(copy.getSyncRequests(), equalTo(16L));
+        assertThat(copy.getSyncTimeInMillis(), equalTo(9L));
+
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            builder.startObject();
+            copy.toXContent(builder, ToXContent.EMPTY_PARAMS);
+            builder.endObject();
+            assertThat(builder.toString(), containsString("\"sync\":{\"total\":4,\"requests\":16,\"total_time_in_millis\":9}"));
+        }
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> new TranslogStats.Builder().syncRequests(-1));
+        assertThat(e, hasToString(containsString("syncRequests must be >= 0")));
+    }
+
     public void testNegativeNumberOfOperations() {
         IllegalArgumentException e = expectThrows(
             IllegalArgumentException.class,
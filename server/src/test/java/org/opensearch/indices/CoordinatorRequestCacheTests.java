@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.Version;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.cache.module.CacheModule;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.PipelineAggregatorBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.search.internal.ShardReaderVersion;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class CoordinatorRequestCacheTests extends OpenSearchTestCase {
+
+    private static final ShardId SHARD_ID = new ShardId(new Index("index", "uuid"), 0);
+
+    private ClusterSettings clusterSettings;
+
+    private CoordinatorRequestCache newCache(Settings settings) {
+        clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        return new CoordinatorRequestCache(
+            settings,
+            clusterSettings,
+            new CacheModule(new ArrayList<>(), settings).getCacheService(),
+            writableRegistry(),
+            createTempDir().toString()
+        );
+    }
+
+    private static Settings enabled() {
+        return Settings.builder().put(CoordinatorRequestCache.ENABLED_SETTING.getKey(), true).build();
+    }
+
+    public void testCanCache() throws Exception {
+        try (CoordinatorRequestCache cache = newCache(Settings.EMPTY)) {
+            assertFalse(cache.canCache(cacheableRequest()));
+        }
+        try (CoordinatorRequestCache cache = newCache(enabled())) {
+            assertTrue(cache.canCache(cacheableRequest()));
+
+            SearchRequest request = cacheableRequest();
+            request.requestCache(null);
+            assertFalse(cache.canCache(request));
+
+            request = cacheableRequest();
+            request.source().size(10);
+            assertFalse(cache.canCache(request));
+
+            request = cacheableRequest();
+            request.scroll(TimeValue.timeValueMinutes(1));
+            assertFalse(cache.canCache(request));
+
+            request = cacheableRequest();
+            request.source().profile(true);
+            assertFalse(cache.canCache(request));
+
+            // pipeline aggregations are computed on the coordinating node and may run scripts
+            request = cacheableRequest();
+            request.source().aggregation(PipelineAggregatorBuilders.maxBucket("max_bucket", "terms>_count"));
+            assertFalse(cache.canCache(request));
+
+            request = cacheableRequest();
+            request.source()
+                .aggregation(
+                    AggregationBuilders.terms("outer")
+                        .field("field")
+                        .subAggregation(
+                            AggregationBuilders.terms("inner")
+                                .field("other")
+                                .subAggregation(PipelineAggregatorBuilders.cumulativeSum("sum", "_count"))
+                        )
+                );
+            assertFalse(cache.canCache(request));
+        }
+    }
+
+    public void testGetReturnsCachedResponseUntilRefresh() throws Exception {
+        try (CoordinatorRequestCache cache = newCache(enabled())) {
+            CoordinatorRequestCache.CachedRequest request = cachedRequest(cache, cacheableRequest(), clusterState(1), Map.of(), "user");
+            assertNull(request.get(List.of(queryResult(new ShardReaderVersion("allocation", 1, 1))), 1));
+            request.put(response(0));
+            assertEquals(1, cache.count());
+
+            request = cachedRequest(cache, cacheableRequest(), clusterState(1), Map.of(), "user");
+            SearchResponse cached = request.get(List.of(queryResult(new ShardReaderVersion("allocation", 1, 1))), 1);
+            assertNotNull(cached);
+            assertEquals(5, cached.getTotalShards());
+            assertEquals(5, cached.getSuccessfulShards());
+            // a response served from the cache isn't stored again
+            request.put(response(0));
+            assertEquals(1, cache.count());
+
+            // a refresh that changes the reader of the shard, a new primary term or a different copy of the shard miss
+            for (ShardReaderVersion readerVersion : List.of(
+                new ShardReaderVersion("allocation", 1, 2),
+                new ShardReaderVersion("allocation", 2, 1),
+                new ShardReaderVersion("other", 1, 1)
+            )) {
+                request = cachedRequest(cache, cacheableRequest(), clusterState(1), Map.of(), "user");
+                assertNull(request.get(List.of(queryResult(readerVersion)), 1));
+            }
+        }
+    }
+
+    public void testNotCachedWithoutReadersOfAllShards() throws Exception {
+        try (CoordinatorRequestCache cache = newCache(enabled())) {
+            // the shard uses the current time or scripts
+            CoordinatorRequestCache.CachedRequest request = cachedRequest(cache, cacheableRequest(), clusterState(1), Map.of(), "user");
+            assertNull(request.get(List.of(queryResult(null)), 1));
+            request.put(response(0));
+            assertEquals(0, cache.count());
+
+            // a shard failed or was skipped
+            request = cachedRequest(cache, cacheableRequest(), clusterState(1), Map.of(), "user");
+            assertNull(request.get(List.of(queryResult(new ShardReaderVersion("allocation", 1, 1))), 2));
+            request.put(response(0));
+            assertEquals(0, cache.count());
+        }
+    }
+
+    public void testCacheKey() throws Exception {
+        try (CoordinatorRequestCache cache = newCache(enabled())) {
+            cachedRequest(cache, cacheableRequest(), clusterState(1), Map.of(), "user").put(response(0));
+            assertTrue(isCached(cache, cacheableRequest(), clusterState(1), Map.of(), "user"));
+            // a mapping, settings or alias change bumps the index metadata version
+            assertFalse(isCached(cache, cacheableRequest(), clusterState(2), Map.of(), "user"));
+
+            SearchRequest request = cacheableRequest();
+            request.source().aggregation(AggregationBuilders.max("max").field("field"));
+            assertFalse(isCached(cache, request, clusterState(1), Map.of(), "user"));
+
+            request = cacheableRequest();
+            request.preference("_local");
+            assertFalse(isCached(cache, request, clusterState(1), Map.of(), "user"));
+
+            // responses are not shared between users or requests with different headers
+            assertFalse(isCached(cache, cacheableRequest(), clusterState(1), Map.of(), "other_user"));
+            assertFalse(isCached(cache, cacheableRequest(), clusterState(1), Map.of(), null));
+            assertFalse(isCached(cache, cacheableRequest(), clusterState(1), Map.of("Authorization", "Basic dXNlcg=="), "user"));
+            // except for headers that only identify the request
+            assertTrue(isCached(cache, cacheableRequest(), clusterState(1), Map.of(Task.X_OPAQUE_ID, "opaque-id"), "user"));
+        }
+    }
+
+    public void testPartialResponsesAreNotCached() throws Exception {
+        try (CoordinatorRequestCache cache = newCache(enabled())) {
+            CoordinatorRequestCache.CachedRequest request = cachedRequest(cache, cacheableRequest(), clusterState(1), Map.of(), "user");
+            assertNull(request.get(List.of(queryResult(new ShardReaderVersion("allocation", 1, 1))), 1));
+            request.put(response(1));
+            assertEquals(0, cache.count());
+        }
+    }
+
+    public void testDisablingInvalidatesEntries() throws Exception {
+        try (CoordinatorRequestCache cache = newCache(enabled())) {
+            CoordinatorRequestCache.CachedRequest request = cachedRequest(cache, cacheableRequest(), clusterState(1), Map.of(), "user");
+            assertNull(request.get(List.of(queryResult(new ShardReaderVersion("allocation", 1, 1))), 1));
+            request.put(response(0));
+            assertEquals(1, cache.count());
+
+            clusterSettings.applySettings(Settings.builder().put(CoordinatorRequestCache.ENABLED_SETTING.getKey(), false).build());
+            assertEquals(0, cache.count());
+            assertFalse(cache.canCache(cacheableRequest()));
+        }
+    }
+
+    private static CoordinatorRequestCache.CachedRequest cachedRequest(
+        CoordinatorRequestCache cache,
+        SearchRequest request,
+        ClusterState state,
+        Map<String, String> headers,
+        String user
+    ) throws Exception {
+        return cache.cachedRequest(request, new String[] { "index" }, Map.of(), state, headers, user);
+    }
+
+    private static boolean isCached(
+        CoordinatorRequestCache cache,
+        SearchRequest request,
+        ClusterState state,
+        Map<String, String> headers,
+        String user
+    ) throws Exception {
+        CoordinatorRequestCache.CachedRequest cachedRequest = cachedRequest(cache, request, state, headers, user);
+        return cachedRequest.get(List.of(queryResult(new ShardReaderVersion("allocation", 1, 1))), 1) != null;
+    }
+
+    private static QuerySearchResult queryResult(ShardReaderVersion readerVersion) {
+        QuerySearchResult queryResult = new QuerySearchResult(
+            new ShardSearchContextId("session", 0),
+            new SearchShardTarget("node", SHARD_ID, null, OriginalIndices.NONE),
+            null
+        );
+        return queryResult.readerVersion(readerVersion);
+    }
+
+    private static SearchRequest cacheableRequest() {
+        SearchRequest request = new SearchRequest("index");
+        request.source(new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.terms("terms").field("field")));
+        request.requestCache(true);
+        return request;
+    }
+
+    private static SearchResponse response(int failedShards) {
+        ShardSearchFailure[] failures = new ShardSearchFailure[failedShards];
+        for (int i = 0; i < failedShards; i++) {
+            failures[i] = new ShardSearchFailure(new IllegalStateException("shard failure"));
+        }
+        return new SearchResponse(
+            InternalSearchResponse.empty(),
+            null,
+            5,
+            5 - failedShards,
+            0,
+            randomIntBetween(0, 1000),
+            failures,
+            SearchResponse.Clusters.EMPTY
+        );
+    }
+
+    private static ClusterState clusterState(long indexMetadataVersion) {
+        IndexMetadata indexMetadata = IndexMetadata.builder("index")
+            .settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, "uuid"))
+            .numberOfShards(5)
+            .numberOfReplicas(0)
+            .version(indexMetadataVersion)
+            .build();
+        return ClusterState.builder(new ClusterName("test")).metadata(Metadata.builder().put(indexMetadata, false)).build();
+    }
+}
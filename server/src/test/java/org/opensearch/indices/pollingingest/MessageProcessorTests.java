@@ -27,7 +27,10 @@ import org.junit.Before;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.IntConsumer;
@@ -227,6 +230,15 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         assertEquals(101, combinedMetric.failedMessageCounter().count());
         assertEquals(101, combinedMetric.failedMessageDroppedCounter().count());
         assertEquals(1, combinedMetric.processorThreadInterruptCounter().count());
+
+        metrics1.batchCounter().inc(2);
+        metrics1.batchSizeHistogram().inc(1);
+        metrics2.batchSizeHistogram().inc(1000);
+        metrics2.processingLagHistogram().inc(1_000_000);
+        combinedMetric = metrics1.combine(metrics2);
+        assertEquals(2, combinedMetric.batchCounter().count());
+        assertEquals(List.of(1L, 0L, 0L, 1L, 0L), combinedMetric.batchSizeHistogram().counts());
+        assertEquals(List.of(0L, 0L, 0L, 0L, 0L, 1L), combinedMetric.processingLagHistogram().counts());
     }
 
     public void testMessageRetrySuccess() throws Exception {
@@ -284,6 +296,112 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         thread.interrupt();
     }
 
+    public void testBatchedMessageProcessing() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(10),
+            processor,
+            new DropIngestionErrorStrategy("ingestion_source"),
+            "test_index",
+            0,
+            4
+        );
+        Message message = mock(Message.class);
+        when(message.getTimestamp()).thenReturn(System.currentTimeMillis() - 5000);
+        for (int i = 0; i < 5; i++) {
+            messageProcessorRunnable.getBlockingQueue()
+                .put(new ShardUpdateMessage(new FakeIngestionSource.FakeIngestionShardPointer(i), message, Collections.emptyMap(), -1));
+        }
+
+        Thread thread = new Thread(messageProcessorRunnable::run);
+        thread.start();
+        MessageProcessorRunnable.MessageProcessorMetrics metrics = messageProcessorRunnable.getMessageProcessorMetrics();
+        assertBusy(() -> {
+            verify(processor, times(5)).process(any(), any());
+            assertEquals(5, metrics.processedCounter().count());
+        }, 1, TimeUnit.MINUTES);
+        messageProcessorRunnable.close();
+        thread.interrupt();
+        thread.join();
+
+        // the five queued messages are taken in a batch of four followed by a batch of one, and processed in order
+        assertEquals(2, metrics.batchCounter().count());
+        assertEquals(List.of(1L, 1L, 0L, 0L, 0L), metrics.batchSizeHistogram().counts());
+        assertEquals(List.of(0L, 0L, 5L, 0L, 0L, 0L), metrics.processingLagHistogram().counts());
+        ArgumentCaptor<ShardUpdateMessage> captor = ArgumentCaptor.forClass(ShardUpdateMessage.class);
+        verify(processor, times(5)).process(captor.capture(), any());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(new FakeIngestionSource.FakeIngestionShardPointer(i), captor.getAllValues().get(i).pointer());
+        }
+        assertEquals(new FakeIngestionSource.FakeIngestionShardPointer(4), messageProcessorRunnable.getCurrentShardPointer());
+    }
+
+    public void testClearQueueWhileWaitingForMessagesKeepsLaterMessages() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(10),
+            processor,
+            new DropIngestionErrorStrategy("ingestion_source"),
+            "test_index",
+            0,
+            4
+        );
+        Thread thread = new Thread(messageProcessorRunnable::run);
+        thread.start();
+        // the processor thread waits for messages in poll()
+        assertBusy(() -> assertEquals(Thread.State.TIMED_WAITING, thread.getState()));
+
+        messageProcessorRunnable.clearQueue();
+        for (int i = 0; i < 5; i++) {
+            messageProcessorRunnable.getBlockingQueue()
+                .put(new ShardUpdateMessage(new FakeIngestionSource.FakeIngestionShardPointer(i), mock(Message.class), Map.of(), -1));
+        }
+        assertBusy(() -> verify(processor, times(5)).process(any(), any()), 1, TimeUnit.MINUTES);
+        messageProcessorRunnable.close();
+        thread.interrupt();
+        thread.join();
+    }
+
+    public void testClearQueueDiscardsDrainedMessages() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch cleared = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processing.countDown();
+            cleared.await();
+            return null;
+        }).when(processor).process(any(), any());
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(10),
+            processor,
+            new DropIngestionErrorStrategy("ingestion_source"),
+            "test_index",
+            0,
+            4
+        );
+        for (int i = 0; i < 4; i++) {
+            messageProcessorRunnable.getBlockingQueue()
+                .put(new ShardUpdateMessage(new FakeIngestionSource.FakeIngestionShardPointer(i), mock(Message.class), Map.of(), -1));
+        }
+        Thread thread = new Thread(messageProcessorRunnable::run);
+        thread.start();
+        // the first message is being processed while the other three wait in the drained batch
+        assertTrue(processing.await(1, TimeUnit.MINUTES));
+        messageProcessorRunnable.clearQueue();
+        messageProcessorRunnable.getBlockingQueue()
+            .put(new ShardUpdateMessage(new FakeIngestionSource.FakeIngestionShardPointer(10), mock(Message.class), Map.of(), -1));
+        cleared.countDown();
+
+        assertBusy(() -> verify(processor, times(2)).process(any(), any()), 1, TimeUnit.MINUTES);
+        messageProcessorRunnable.close();
+        thread.interrupt();
+        thread.join();
+        ArgumentCaptor<ShardUpdateMessage> captor = ArgumentCaptor.forClass(ShardUpdateMessage.class);
+        verify(processor, times(2)).process(captor.capture(), any());
+        assertEquals(new FakeIngestionSource.FakeIngestionShardPointer(0), captor.getAllValues().get(0).pointer());
+        assertEquals(new FakeIngestionSource.FakeIngestionShardPointer(10), captor.getAllValues().get(1).pointer());
+    }
+
     // --- Pipeline execution tests ---
 
     /**
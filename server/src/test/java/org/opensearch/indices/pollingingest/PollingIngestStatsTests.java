@@ -17,6 +17,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.List;
 
 public class PollingIngestStatsTests extends OpenSearchTestCase {
 
@@ -62,7 +63,31 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
             + stats.getPipelineStats().totalFailedCount()
             + ",\"total_dropped_count\":"
             + stats.getPipelineStats().totalDroppedCount()
-            + "}}}";
+            + "},\"processor_batch_stats\":{\"total_batch_count\":"
+            + stats.getProcessorBatchStats().totalBatchCount()
+            + ",\"batch_size_histogram\":{\"le_1\":"
+            + stats.getProcessorBatchStats().batchSizeHistogram().get(0)
+            + ",\"le_10\":"
+            + stats.getProcessorBatchStats().batchSizeHistogram().get(1)
+            + ",\"le_100\":"
+            + stats.getProcessorBatchStats().batchSizeHistogram().get(2)
+            + ",\"le_1000\":"
+            + stats.getProcessorBatchStats().batchSizeHistogram().get(3)
+            + ",\"gt_1000\":"
+            + stats.getProcessorBatchStats().batchSizeHistogram().get(4)
+            + "},\"processing_lag_histogram\":{\"le_100ms\":"
+            + stats.getProcessorBatchStats().processingLagHistogram().get(0)
+            + ",\"le_1s\":"
+            + stats.getProcessorBatchStats().processingLagHistogram().get(1)
+            + ",\"le_10s\":"
+            + stats.getProcessorBatchStats().processingLagHistogram().get(2)
+            + ",\"le_1m\":"
+            + stats.getProcessorBatchStats().processingLagHistogram().get(3)
+            + ",\"le_10m\":"
+            + stats.getProcessorBatchStats().processingLagHistogram().get(4)
+            + ",\"gt_10m\":"
+            + stats.getProcessorBatchStats().processingLagHistogram().get(5)
+            + "}}}}";
 
         assertEquals(expected, builder.toString());
     }
@@ -103,6 +128,11 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
                 assertEquals(0, deserialized.getPipelineStats().totalExecutionTimeInMillis());
                 assertEquals(0, deserialized.getPipelineStats().totalFailedCount());
                 assertEquals(0, deserialized.getPipelineStats().totalDroppedCount());
+
+                // Processor batch stats should be empty (not serialized to older nodes)
+                assertEquals(0, deserialized.getProcessorBatchStats().totalBatchCount());
+                assertEquals(List.of(0L, 0L, 0L, 0L, 0L), deserialized.getProcessorBatchStats().batchSizeHistogram());
+                assertEquals(List.of(0L, 0L, 0L, 0L, 0L, 0L), deserialized.getProcessorBatchStats().processingLagHistogram());
             }
         }
     }
@@ -153,6 +183,11 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
                 randomNonNegativeLong(),
                 randomNonNegativeLong(),
                 randomNonNegativeLong()
+            ),
+            new PollingIngestStats.ProcessorBatchStats(
+                randomNonNegativeLong(),
+                randomList(5, 5, OpenSearchTestCase::randomNonNegativeLong),
+                randomList(6, 6, OpenSearchTestCase::randomNonNegativeLong)
             )
         );
     }
@@ -316,6 +316,11 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
             }
         }
 
+        final long sourceChunkSize = randomLongBetween(1, 512 * 1024);
+        final long sourceBuffersAllocated = randomNonNegativeLong();
+        final long sourceBuffersReused = randomNonNegativeLong();
+        index.setSourceTransferStats(sourceChunkSize, sourceBuffersAllocated, sourceBuffersReused);
+
         if (completeRecovery) {
             assertThat(filesToRecover.size(), equalTo(0));
             index.stop();
@@ -336,6 +341,9 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         assertThat(lastRead.stopTime(), equalTo(index.stopTime()));
         assertThat(lastRead.targetThrottling(), equalTo(index.targetThrottling()));
         assertThat(lastRead.sourceThrottling(), equalTo(index.sourceThrottling()));
+        assertThat(lastRead.sourceChunkSizeInBytes(), equalTo(sourceChunkSize));
+        assertThat(lastRead.sourceBuffersAllocated(), equalTo(sourceBuffersAllocated));
+        assertThat(lastRead.sourceBuffersReused(), equalTo(sourceBuffersReused));
 
         logger.info("testing post recovery");
         assertThat(index.totalBytes(), equalTo(totalFileBytes));
@@ -349,6 +357,11 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         assertThat(index.targetThrottling().nanos(), equalTo(targetThrottling));
         assertThat(index.sourceThrottling().nanos(), equalTo(sourceThrottling));
         assertThat(index.bytesStillToRecover(), equalTo(totalFileBytes - totalReusedBytes - recoveredBytes));
+        if (completeRecovery) {
+            // the time of a stopped recovery no longer changes
+            final long time = index.time();
+            assertThat(index.recoveredBytesPerSecond(), equalTo(time > 0 ? recoveredBytes * 1000 / time : 0L));
+        }
         if (index.totalRecoverFiles() == 0) {
             assertThat((double) index.recoveredFilesPercent(), equalTo(100.0));
             assertThat((double) index.recoveredBytesPercent(), equalTo(100.0));
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class AdaptiveChunkSizeTests extends OpenSearchTestCase {
+
+    public void testGrowsWhileThroughputDoesNotDrop() {
+        final int max = 512 * 1024;
+        final AdaptiveChunkSize chunkSize = new AdaptiveChunkSize(max);
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(AdaptiveChunkSize.MIN_CHUNK_SIZE_IN_BYTES));
+        int expected = AdaptiveChunkSize.MIN_CHUNK_SIZE_IN_BYTES;
+        while (expected < max) {
+            // larger chunks amortize the latency of each request, so the throughput increases
+            chunkSize.onChunkSent(chunkSize.chunkSizeInBytes(), 1_000_000);
+            expected = Math.min(expected * 2, max);
+            assertThat(chunkSize.chunkSizeInBytes(), equalTo(expected));
+        }
+        chunkSize.onChunkSent(max, 1_000_000);
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(max));
+    }
+
+    public void testShrinksWhenThroughputDrops() {
+        final AdaptiveChunkSize chunkSize = new AdaptiveChunkSize(512 * 1024);
+        chunkSize.onChunkSent(64 * 1024, 1_000_000);
+        chunkSize.onChunkSent(128 * 1024, 1_000_000);
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(256 * 1024));
+        // a moderately lower throughput keeps the chunk size
+        chunkSize.onChunkSent(256 * 1024, 3_000_000);
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(256 * 1024));
+        // throughput dropping to less than half shrinks it, but not below the minimum
+        for (int i = 0; i < 10; i++) {
+            chunkSize.onChunkSent(chunkSize.chunkSizeInBytes(), 10_000_000L << (2 * i));
+        }
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(AdaptiveChunkSize.MIN_CHUNK_SIZE_IN_BYTES));
+    }
+
+    public void testIgnoresChunksOfOtherSizes() {
+        final AdaptiveChunkSize chunkSize = new AdaptiveChunkSize(512 * 1024);
+        // the last chunk of a file is shorter
+        chunkSize.onChunkSent(randomIntBetween(1, AdaptiveChunkSize.MIN_CHUNK_SIZE_IN_BYTES - 1), 1);
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(AdaptiveChunkSize.MIN_CHUNK_SIZE_IN_BYTES));
+        chunkSize.onChunkSent(AdaptiveChunkSize.MIN_CHUNK_SIZE_IN_BYTES, 0);
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(AdaptiveChunkSize.MIN_CHUNK_SIZE_IN_BYTES));
+    }
+
+    public void testSmallConfiguredChunkSizeDoesNotAdapt() {
+        final int max = randomIntBetween(1, AdaptiveChunkSize.MIN_CHUNK_SIZE_IN_BYTES);
+        final AdaptiveChunkSize chunkSize = new AdaptiveChunkSize(max);
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(max));
+        chunkSize.onChunkSent(max, 1);
+        chunkSize.onChunkSent(max, Long.MAX_VALUE);
+        assertThat(chunkSize.chunkSizeInBytes(), equalTo(max));
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.ingest;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.metrics.OperationMetrics;
 import org.opensearch.common.metrics.OperationStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
@@ -467,6 +468,29 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         });
     }
 
+    public void testBatchExecute_timeIsSharedByDocuments() {
+        List<IngestDocumentWrapper> wrapperList = Arrays.asList(
+            IngestDocumentPreparer.createIngestDocumentWrapper(1),
+            IngestDocumentPreparer.createIngestDocumentWrapper(2),
+            IngestDocumentPreparer.createIngestDocumentWrapper(3)
+        );
+        TestProcessor processor = new TestProcessor(doc -> {});
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L, TimeUnit.MILLISECONDS.toNanos(30));
+        CompoundProcessor compoundProcessor = new CompoundProcessor(false, singletonList(processor), null, relativeTimeProvider);
+
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        compoundProcessor.batchExecute(wrapperList, results::addAll);
+        assertEquals(3, results.size());
+        // the batch took 30ms for three documents, which is 10ms per document
+        assertStats(compoundProcessor, 3, 0, 30);
+        OperationMetrics metric = compoundProcessor.getProcessorsWithMetrics().get(0).v2();
+        IngestStats ingestStats = new IngestStats.Builder().addTotalMetrics(new OperationMetrics())
+            .addProcessorMetrics("pipeline", "name", "type", metric)
+            .build();
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), ingestStats.getProcessorStats().get("pipeline").get(0).getTimePerDocInNanos());
+    }
+
     public void testBatchExecute_documentToDrop() {
         List<IngestDocumentWrapper> wrapperList = Arrays.asList(
             IngestDocumentPreparer.createIngestDocumentWrapper(1),
@@ -45,6 +45,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.ingest.IngestDocumentMatcher.assertIngestDocument;
 import static org.hamcrest.Matchers.both;
@@ -132,6 +134,68 @@ public class IngestDocumentTests extends OpenSearchTestCase {
         assertThat(ingestDocument.getFieldValue("_source._ingest.timestamp", ZonedDateTime.class), equalTo(BOGUS_TIMESTAMP));
     }
 
+    public void testFieldPathsAreSharedAcrossDocuments() {
+        IngestDocument other = new IngestDocument(ingestDocument);
+        other.setFieldValue("foo", "baz");
+        other.setFieldValue("_ingest.timestamp", BOGUS_TIMESTAMP);
+        assertThat(ingestDocument.getFieldValue("foo", String.class), equalTo("bar"));
+        assertThat(other.getFieldValue("foo", String.class), equalTo("baz"));
+        assertThat(ingestDocument.getFieldValue("_ingest.timestamp", ZonedDateTime.class), not(equalTo(BOGUS_TIMESTAMP)));
+        assertThat(other.getFieldValue("_ingest.timestamp", ZonedDateTime.class), equalTo(BOGUS_TIMESTAMP));
+
+        // paths rendered from templates may differ for every document, they must not grow the cache without bounds
+        for (int i = 0; i < IngestDocument.MAX_CACHED_FIELD_PATHS + 10; i++) {
+            ingestDocument.setFieldValue("field_" + i, i);
+            assertThat(ingestDocument.getFieldValue("field_" + i, Integer.class), equalTo(i));
+        }
+        assertThat(IngestDocument.cachedFieldPaths(), lessThanOrEqualTo(IngestDocument.MAX_CACHED_FIELD_PATHS));
+        // a full cache is cleared to make room for new paths
+        assertTrue(IngestDocument.isFieldPathCached("field_" + (IngestDocument.MAX_CACHED_FIELD_PATHS + 9)));
+        assertFalse(IngestDocument.isFieldPathCached("field_0"));
+        expectThrows(IllegalArgumentException.class, () -> ingestDocument.getFieldValue("_ingest.", Object.class));
+    }
+
+    public void testConcurrentReadsShareCachedFieldPaths() throws Exception {
+        List<String> paths = List.of("foo", "fizz.buzz", "_ingest.timestamp", "_source.int");
+        Map<String, Object> parsedPaths = new HashMap<>();
+        for (String path : paths) {
+            assertThat(ingestDocument.getFieldValue(path, Object.class), notNullValue());
+            parsedPaths.put(path, IngestDocument.cachedFieldPath(path));
+        }
+        int cachedFieldPaths = IngestDocument.cachedFieldPaths();
+
+        Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 0; i < threads.length; i++) {
+            IngestDocument document = new IngestDocument(ingestDocument);
+            threads[i] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < 1000; j++) {
+                        for (String path : paths) {
+                            assertThat(document.getFieldValue(path, Object.class), notNullValue());
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            threads[i].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(failure.get(), nullValue());
+
+        // reads of cached paths neither copy nor reorder entries, they only look them up
+        assertThat(IngestDocument.cachedFieldPaths(), equalTo(cachedFieldPaths));
+        for (String path : paths) {
+            assertThat(IngestDocument.cachedFieldPath(path), sameInstance(parsedPaths.get(path)));
+        }
+    }
+
     public void testGetSourceObject() {
         try {
             ingestDocument.getFieldValue("_source", Object.class);
@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.metrics.OperationStats;
@@ -57,6 +58,35 @@ public class IngestStatsTests extends OpenSearchTestCase {
         assertIngestStats(ingestStats, serializedStats, true, true);
     }
 
+    public void testSerializationToOlderNode() throws IOException {
+        List<IngestStats.PipelineStat> pipelineStats = createPipelineStats();
+        IngestStats.ProcessorStat processorStat = new IngestStats.ProcessorStat(
+            "processor",
+            "type",
+            new OperationStats(2, 3, 0, 0),
+            1234,
+            Map.of("pattern_0_attempts", 1L)
+        );
+        IngestStats ingestStats = new IngestStats(
+            new OperationStats(50, 100, 200, 300),
+            pipelineStats,
+            Collections.singletonMap(pipelineStats.get(0).getPipelineId(), Collections.singletonList(processorStat))
+        );
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_7_0);
+        ingestStats.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_7_0);
+        IngestStats serializedStats = new IngestStats(in);
+        IngestStats.ProcessorStat serializedProcessorStat = serializedStats.getProcessorStats()
+            .get(pipelineStats.get(0).getPipelineId())
+            .get(0);
+        assertStats(processorStat.getStats(), serializedProcessorStat.getStats());
+        // older nodes do not send the time per document, it is derived from the total time in millis instead
+        assertEquals(1_500_000, serializedProcessorStat.getTimePerDocInNanos());
+        assertTrue(serializedProcessorStat.getCounters().isEmpty());
+    }
+
     private List<IngestStats.PipelineStat> createPipelineStats() {
         IngestStats.PipelineStat pipeline1Stats = new IngestStats.PipelineStat("pipeline1", new OperationStats(3, 3, 3, 3));
         IngestStats.PipelineStat pipeline2Stats = new IngestStats.PipelineStat("pipeline2", new OperationStats(47, 97, 197, 297));
@@ -71,7 +101,9 @@ public class IngestStatsTests extends OpenSearchTestCase {
         IngestStats.ProcessorStat processor3Stat = new IngestStats.ProcessorStat(
             "processor3",
             "type",
-            new OperationStats(47, 97, 197, 297)
+            new OperationStats(47, 97, 197, 297),
+            randomNonNegativeLong(),
+            Map.of("pattern_0_attempts", randomNonNegativeLong(), "pattern_0_matches", randomNonNegativeLong())
         );
         // pipeline1 -> processor1,processor2; pipeline2 -> processor3
         return MapBuilder.<String, List<IngestStats.ProcessorStat>>newMapBuilder()
@@ -122,6 +154,8 @@ public class IngestStatsTests extends OpenSearchTestCase {
                             assertEquals("_NOT_AVAILABLE", serializedProcessorStat.getType());
                         }
                         assertStats(ps.getStats(), serializedProcessorStat.getStats());
+                        assertEquals(ps.getTimePerDocInNanos(), serializedProcessorStat.getTimePerDocInNanos());
+                        assertEquals(ps.getCounters(), serializedProcessorStat.getCounters());
                     }
                     assertFalse(it.hasNext());
                 }
@@ -37,6 +37,7 @@ import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.OperationRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -51,6 +52,7 @@ import org.junit.Before;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 
@@ -64,9 +66,12 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
     public void setUp() throws Exception {
         super.setUp();
         threadpool = new TestThreadPool("response_collector_tests");
+        final Settings settings = Settings.builder()
+            .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING.getKey(), true)
+            .build();
         clusterService = ClusterServiceUtils.createClusterService(
-            Settings.EMPTY,
-            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
             threadpool
         );
         collector = new ResponseCollectorService(clusterService);
@@ -87,6 +92,73 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertThat(nodeStats.get("node1").serviceTime, equalTo(10.0));
     }
 
+    public void testIndexStats() throws Exception {
+        collector.addNodeStatistics("node1", "slow", 1, 1000, 10);
+        collector.addNodeStatistics("node1", "fast", 1, 100, 10);
+        assertThat(collector.getNodeStatistics("node1", "slow").get().responseTime, equalTo(1000.0));
+        assertThat(collector.getNodeStatistics("node1", "fast").get().responseTime, equalTo(100.0));
+        // untracked indices fall back to the response time of the node
+        final double nodeResponseTime = collector.getNodeStatistics("node1").get().responseTime;
+        assertThat(collector.getNodeStatistics("node1", "other").get().responseTime, equalTo(nodeResponseTime));
+        assertThat(collector.getNodeStatistics("node1", "slow").get().queueSize, equalTo(1));
+        assertThat(collector.getNodeStatistics("node1", "slow").get().serviceTime, equalTo(10.0));
+        assertFalse(collector.getNodeStatistics("node2", "slow").isPresent());
+        assertThat(collector.getAllIndexResponseTimes().get("node1").keySet(), containsInAnyOrder("slow", "fast"));
+
+        collector.removeIndex("slow");
+        assertThat(collector.getNodeStatistics("node1", "slow").get().responseTime, equalTo(nodeResponseTime));
+        assertThat(collector.getAllIndexResponseTimes().get("node1").keySet(), containsInAnyOrder("fast"));
+    }
+
+    public void testIndexStatsRequirePerIndexSelection() throws Exception {
+        collector.addNodeStatistics("node1", "slow", 1, 1000, 10);
+        collector.addNodeStatistics("node1", "fast", 1, 100, 10);
+        assertThat(collector.getAllIndexResponseTimes().get("node1").keySet(), containsInAnyOrder("slow", "fast"));
+
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        clusterSettings.applySettings(
+            Settings.builder().put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING.getKey(), false).build()
+        );
+        collector.addNodeStatistics("node1", "other", 1, 500, 10);
+        assertTrue(collector.getAllIndexResponseTimes().isEmpty());
+        final double nodeResponseTime = collector.getNodeStatistics("node1").get().responseTime;
+        assertThat(collector.getNodeStatistics("node1", "slow").get().responseTime, equalTo(nodeResponseTime));
+        assertTrue(collector.getAdaptiveStats(Map.of()).getIndexResponseTimes().isEmpty());
+
+        // the response times tracked before the setting was disabled are dropped
+        clusterSettings.applySettings(
+            Settings.builder().put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_PER_INDEX_SETTING.getKey(), true).build()
+        );
+        assertTrue(collector.getAllIndexResponseTimes().isEmpty());
+        collector.addNodeStatistics("node1", "fast", 1, 100, 10);
+        assertThat(collector.getAllIndexResponseTimes().get("node1").keySet(), containsInAnyOrder("fast"));
+    }
+
+    public void testIndexStatsAreBounded() throws Exception {
+        for (int i = 0; i < ResponseCollectorService.MAX_TRACKED_INDICES_PER_NODE + 10; i++) {
+            collector.addNodeStatistics("node1", "index_" + i, 1, 100, 10);
+        }
+        assertThat(
+            collector.getAllIndexResponseTimes().get("node1").size(),
+            equalTo(ResponseCollectorService.MAX_TRACKED_INDICES_PER_NODE)
+        );
+    }
+
+    public void testLeastRecentlyUpdatedIndexIsEvicted() throws Exception {
+        for (int i = 0; i < ResponseCollectorService.MAX_TRACKED_INDICES_PER_NODE; i++) {
+            collector.addNodeStatistics("node1", "index_" + i, 1, 100, 10);
+        }
+        // keep the first index busy so that the second one is the least recently updated
+        collector.addNodeStatistics("node1", "index_0", 1, 100, 10);
+        collector.addNodeStatistics("node1", "new_index", 1, 100, 10);
+
+        final Map<String, Double> responseTimes = collector.getAllIndexResponseTimes().get("node1");
+        assertThat(responseTimes.size(), equalTo(ResponseCollectorService.MAX_TRACKED_INDICES_PER_NODE));
+        assertTrue(responseTimes.containsKey("new_index"));
+        assertTrue(responseTimes.containsKey("index_0"));
+        assertFalse(responseTimes.containsKey("index_1"));
+    }
+
     /*
      * Test that concurrently adding values and removing nodes does not cause exceptions
      */
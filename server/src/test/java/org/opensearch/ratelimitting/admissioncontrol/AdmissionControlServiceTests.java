@@ -53,9 +53,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
     public void testWhenAdmissionControllerRegistered() {
         admissionControlService = new AdmissionControlService(Settings.EMPTY, clusterService, threadPool, null, null);
         if (Constants.LINUX) {
-            assertEquals(admissionControlService.getAdmissionControllers().size(), 3);
+            assertEquals(admissionControlService.getAdmissionControllers().size(), 4);
         } else {
-            assertEquals(admissionControlService.getAdmissionControllers().size(), 1);
+            assertEquals(admissionControlService.getAdmissionControllers().size(), 2);
         }
     }
 
@@ -63,9 +63,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
         String test = "TEST";
         admissionControlService = new AdmissionControlService(Settings.EMPTY, clusterService, threadPool, null, null);
         if (Constants.LINUX) {
-            assertEquals(admissionControlService.getAdmissionControllers().size(), 3);
+            assertEquals(admissionControlService.getAdmissionControllers().size(), 4);
         } else {
-            assertEquals(admissionControlService.getAdmissionControllers().size(), 1);
+            assertEquals(admissionControlService.getAdmissionControllers().size(), 2);
         }
         IllegalArgumentException ex = expectThrows(
             IllegalArgumentException.class,
@@ -79,9 +79,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
         AdmissionControlSettings admissionControlSettings = admissionControlService.admissionControlSettings;
         List<AdmissionController> admissionControllerList = admissionControlService.getAdmissionControllers();
         if (Constants.LINUX) {
-            assertEquals(admissionControllerList.size(), 3);
+            assertEquals(admissionControllerList.size(), 4);
         } else {
-            assertEquals(admissionControllerList.size(), 1);
+            assertEquals(admissionControllerList.size(), 2);
         }
         CpuBasedAdmissionController cpuBasedAdmissionController = (CpuBasedAdmissionController) admissionControlService
             .getAdmissionController(CpuBasedAdmissionController.CPU_BASED_ADMISSION_CONTROLLER);
@@ -149,9 +149,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
         clusterService.getClusterSettings().applySettings(settings);
         List<AdmissionController> admissionControllerList = admissionControlService.getAdmissionControllers();
         if (Constants.LINUX) {
-            assertEquals(admissionControllerList.size(), 3);
+            assertEquals(admissionControllerList.size(), 4);
         } else {
-            assertEquals(admissionControllerList.size(), 1);
+            assertEquals(admissionControllerList.size(), 2);
         }
     }
 
@@ -174,9 +174,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
         clusterService.getClusterSettings().applySettings(settings);
         List<AdmissionController> admissionControllerList2 = admissionControlService.getAdmissionControllers();
         if (Constants.LINUX) {
-            assertEquals(admissionControllerList2.size(), 3);
+            assertEquals(admissionControllerList2.size(), 4);
         } else {
-            assertEquals(admissionControllerList2.size(), 1);
+            assertEquals(admissionControllerList2.size(), 2);
         }
     }
 
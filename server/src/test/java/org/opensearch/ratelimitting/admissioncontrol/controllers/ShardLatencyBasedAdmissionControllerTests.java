@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.controllers;
+
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.replication.ClusterStateCreationUtils;
+import org.opensearch.action.support.replication.TransportReplicationAction.ConcreteShardRequest;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+import org.opensearch.ratelimitting.admissioncontrol.settings.ShardLatencyBasedAdmissionControllerSettings;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ShardLatencyBasedAdmissionControllerTests extends OpenSearchTestCase {
+    private ClusterService clusterService;
+    private ThreadPool threadPool;
+    private final AtomicLong relativeTimeInNanos = new AtomicLong();
+    private final ShardId hotShard = new ShardId("index", "_na_", 0);
+    private final ShardId coldShard = new ShardId("index", "_na_", 1);
+    ShardLatencyBasedAdmissionController admissionController = null;
+    String action = "indices:data/write/bulk[s][p]";
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool("admission_controller_settings_test");
+        clusterService = ClusterServiceUtils.createClusterService(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdownNow();
+    }
+
+    public void testCheckDefaultParameters() {
+        admissionController = new ShardLatencyBasedAdmissionController(
+            ShardLatencyBasedAdmissionController.SHARD_LATENCY_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            Settings.EMPTY
+        );
+        assertEquals(admissionController.getName(), ShardLatencyBasedAdmissionController.SHARD_LATENCY_BASED_ADMISSION_CONTROLLER);
+        assertEquals(admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()), 0);
+        assertEquals(admissionController.settings.getTransportLayerAdmissionControllerMode(), AdmissionControlMode.MONITOR);
+        assertEquals(
+            admissionController.settings.getIndexingLatencyTarget(),
+            ShardLatencyBasedAdmissionControllerSettings.Defaults.INDEXING_LATENCY_TARGET
+        );
+        assertNotNull(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        assertEquals(1, admissionController.getInFlightRequests(hotShard));
+    }
+
+    public void testCheckUpdateSettings() {
+        admissionController = new ShardLatencyBasedAdmissionController(
+            ShardLatencyBasedAdmissionController.SHARD_LATENCY_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            Settings.EMPTY
+        );
+        Settings settings = Settings.builder()
+            .put(
+                ShardLatencyBasedAdmissionControllerSettings.SHARD_LATENCY_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE.getKey(),
+                AdmissionControlMode.ENFORCED.getMode()
+            )
+            .put(ShardLatencyBasedAdmissionControllerSettings.INDEXING_LATENCY_TARGET.getKey(), "100ms")
+            .put(ShardLatencyBasedAdmissionControllerSettings.INDEXING_MIN_QUEUE_DEPTH.getKey(), 4)
+            .build();
+        clusterService.getClusterSettings().applySettings(settings);
+        assertEquals(admissionController.settings.getTransportLayerAdmissionControllerMode(), AdmissionControlMode.ENFORCED);
+        assertEquals(admissionController.settings.getIndexingLatencyTarget(), TimeValue.timeValueMillis(100));
+        assertEquals(admissionController.settings.getIndexingMinQueueDepth(), 4);
+    }
+
+    public void testTracksRequestsUntilReleased() {
+        admissionController = newAdmissionController(AdmissionControlMode.ENFORCED);
+        Releasable first = admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard));
+        Releasable second = admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard));
+        assertEquals(2, admissionController.getInFlightRequests(hotShard));
+        first.close();
+        first.close();
+        assertEquals(1, admissionController.getInFlightRequests(hotShard));
+        second.close();
+        assertEquals(0, admissionController.getInFlightRequests(hotShard));
+
+        assertNull(admissionController.apply(action, AdmissionControlActionType.SEARCH, bulkShardRequest(hotShard)));
+        assertNull(admissionController.apply(action, AdmissionControlActionType.INDEXING, new TransportRequest.Empty()));
+        assertEquals(0, admissionController.getInFlightRequests(hotShard));
+    }
+
+    public void testRejectsRequestsForSlowShard() {
+        admissionController = newAdmissionController(AdmissionControlMode.ENFORCED);
+        List<Releasable> inFlight = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            inFlight.add(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        }
+        relativeTimeInNanos.addAndGet(TimeValue.timeValueMillis(150).nanos());
+        inFlight.remove(0).close();
+        // the queue of the shard is backed up, but its moving average service time is still below the target
+        inFlight.add(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        inFlight.add(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        assertEquals(5, admissionController.getInFlightRequests(hotShard));
+
+        relativeTimeInNanos.addAndGet(TimeValue.timeValueSeconds(1).nanos());
+        inFlight.remove(0).close();
+        assertEquals(4, admissionController.getInFlightRequests(hotShard));
+        OpenSearchRejectedExecutionException e = expectThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard))
+        );
+        assertTrue(e.getMessage().contains(hotShard.toString()));
+        assertEquals(1, admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()));
+        assertEquals(4, admissionController.getInFlightRequests(hotShard));
+
+        // other shards on the node are not affected
+        Releasable cold = admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(coldShard));
+        assertEquals(1, admissionController.getInFlightRequests(coldShard));
+        cold.close();
+
+        // once the queue of the shard drained, requests are admitted again
+        inFlight.remove(0).close();
+        assertEquals(3, admissionController.getInFlightRequests(hotShard));
+        assertNotNull(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        assertEquals(1, admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()));
+    }
+
+    public void testKeepsServiceTimeOfIdleShardUntilShardIsRemoved() {
+        admissionController = newAdmissionController(AdmissionControlMode.ENFORCED);
+        List<Releasable> inFlight = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            inFlight.add(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        }
+        relativeTimeInNanos.addAndGet(TimeValue.timeValueSeconds(10).nanos());
+        inFlight.forEach(Releasable::close);
+        assertEquals(0, admissionController.getInFlightRequests(hotShard));
+        assertTrue(admissionController.isTracked(hotShard));
+
+        // the shard went idle, but it is still slow as soon as its queue backs up again
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        }
+        expectThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard))
+        );
+
+        ClusterServiceUtils.setState(clusterService, ClusterStateCreationUtils.state("index", 1, 2));
+        assertTrue(admissionController.isTracked(hotShard));
+        ClusterServiceUtils.setState(clusterService, ClusterStateCreationUtils.stateWithNoShard());
+        assertFalse(admissionController.isTracked(hotShard));
+        assertEquals(0, admissionController.getInFlightRequests(hotShard));
+    }
+
+    public void testMonitorModeOnlyCountsRejections() {
+        admissionController = newAdmissionController(AdmissionControlMode.MONITOR);
+        List<Releasable> inFlight = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            inFlight.add(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        }
+        relativeTimeInNanos.addAndGet(TimeValue.timeValueSeconds(10).nanos());
+        inFlight.remove(0).close();
+        assertNotNull(admissionController.apply(action, AdmissionControlActionType.INDEXING, bulkShardRequest(hotShard)));
+        assertEquals(1, admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()));
+        assertEquals(5, admissionController.getInFlightRequests(hotShard));
+    }
+
+    private ShardLatencyBasedAdmissionController newAdmissionController(AdmissionControlMode mode) {
+        Settings settings = Settings.builder()
+            .put(
+                ShardLatencyBasedAdmissionControllerSettings.SHARD_LATENCY_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE.getKey(),
+                mode.getMode()
+            )
+            .put(ShardLatencyBasedAdmissionControllerSettings.INDEXING_LATENCY_TARGET.getKey(), "100ms")
+            .put(ShardLatencyBasedAdmissionControllerSettings.INDEXING_MIN_QUEUE_DEPTH.getKey(), 4)
+            .put(ShardLatencyBasedAdmissionControllerSettings.EWMA_ALPHA.getKey(), 0.5)
+            .build();
+        return new ShardLatencyBasedAdmissionController(
+            ShardLatencyBasedAdmissionController.SHARD_LATENCY_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            settings,
+            relativeTimeInNanos::get
+        );
+    }
+
+    private static TransportRequest bulkShardRequest(ShardId shardId) {
+        BulkShardRequest request = new BulkShardRequest(shardId, WriteRequest.RefreshPolicy.NONE, new BulkItemRequest[0]);
+        return new ConcreteShardRequest<>(request, "_na_", 1);
+    }
+}
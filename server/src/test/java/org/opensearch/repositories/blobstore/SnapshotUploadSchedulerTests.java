@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.blobstore;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class SnapshotUploadSchedulerTests extends OpenSearchTestCase {
+
+    public void testStartsUploadsWithinBudget() {
+        final SnapshotUploadScheduler scheduler = new SnapshotUploadScheduler(() -> 100L, Runnable::run);
+        final List<Releasable> started = new ArrayList<>();
+        scheduler.schedule(10L, 60L, ActionListener.wrap(started::add, e -> fail()));
+        scheduler.schedule(10L, 30L, ActionListener.wrap(started::add, e -> fail()));
+        scheduler.schedule(10L, 20L, ActionListener.wrap(started::add, e -> fail()));
+        assertThat(started.size(), equalTo(2));
+        assertThat(scheduler.inFlightBytes(), equalTo(90L));
+        assertThat(scheduler.pendingUploads(), equalTo(1));
+
+        started.get(0).close();
+        assertThat(started.size(), equalTo(3));
+        assertThat(scheduler.inFlightBytes(), equalTo(50L));
+        assertThat(scheduler.pendingUploads(), equalTo(0));
+
+        // releasing twice must not free the budget twice
+        started.get(0).close();
+        assertThat(scheduler.inFlightBytes(), equalTo(50L));
+        started.get(1).close();
+        started.get(2).close();
+        assertThat(scheduler.inFlightBytes(), equalTo(0L));
+    }
+
+    public void testStartsUploadsOfLargerShardsFirst() {
+        final SnapshotUploadScheduler scheduler = new SnapshotUploadScheduler(() -> 100L, Runnable::run);
+        final List<Long> startedShards = new ArrayList<>();
+        final List<Releasable> started = new ArrayList<>();
+        for (long shardSize : new long[] { 10L, 20L, 1000L, 500L, 20L }) {
+            scheduler.schedule(shardSize, 60L, ActionListener.wrap(releasable -> {
+                startedShards.add(shardSize);
+                started.add(releasable);
+            }, e -> fail()));
+        }
+        while (startedShards.size() < 5) {
+            started.get(startedShards.size() - 1).close();
+        }
+        assertThat(startedShards, contains(10L, 1000L, 500L, 20L, 20L));
+        started.get(4).close();
+        assertThat(scheduler.inFlightBytes(), equalTo(0L));
+    }
+
+    public void testStartsUploadLargerThanBudgetIfNoneIsInFlight() {
+        final AtomicLong budget = new AtomicLong(10L);
+        final SnapshotUploadScheduler scheduler = new SnapshotUploadScheduler(budget::get, Runnable::run);
+        final List<Releasable> started = new ArrayList<>();
+        scheduler.schedule(1L, 100L, ActionListener.wrap(started::add, e -> fail()));
+        assertThat(started.size(), equalTo(1));
+        scheduler.schedule(1L, 5L, ActionListener.wrap(started::add, e -> fail()));
+        assertThat(started.size(), equalTo(1));
+
+        budget.set(200L);
+        started.get(0).close();
+        assertThat(started.size(), equalTo(2));
+        started.get(1).close();
+        assertThat(scheduler.inFlightBytes(), equalTo(0L));
+        assertThat(scheduler.pendingUploads(), equalTo(0));
+    }
+
+    public void testReleasesBudgetIfUploadFailsToStart() {
+        final SnapshotUploadScheduler scheduler = new SnapshotUploadScheduler(() -> 100L, Runnable::run);
+        final List<Exception> failures = new ArrayList<>();
+        scheduler.schedule(1L, 50L, new ActionListener<>() {
+            @Override
+            public void onResponse(Releasable releasable) {
+                throw new IllegalStateException("boom");
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                failures.add(e);
+            }
+        });
+        assertThat(failures.size(), equalTo(1));
+        assertThat(failures.get(0).getMessage(), equalTo("boom"));
+        assertThat(scheduler.inFlightBytes(), equalTo(0L));
+        assertThat(scheduler.pendingUploads(), equalTo(0));
+    }
+}
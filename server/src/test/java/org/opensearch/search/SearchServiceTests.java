@@ -62,11 +62,13 @@ import org.opensearch.common.settings.SettingsException;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexModule;
@@ -144,6 +146,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -821,6 +824,36 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         service.freeAllScrollContexts();
     }
 
+    public void testScrollContextRetainedBytes() throws Exception {
+        createIndex("index");
+        client().prepareIndex("index").setId("1").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
+
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexService indexService = indicesService.indexServiceSafe(resolveIndex("index"));
+        final IndexShard indexShard = indexService.getShard(0);
+        final CircuitBreaker breaker = getInstanceFromNode(CircuitBreakerService.class).getBreaker(CircuitBreaker.REQUEST);
+        final long usedBefore = breaker.getUsed();
+
+        final ReaderContext readerContext = service.createAndPutReaderContext(
+            new ShardScrollRequestTest(indexShard.shardId()),
+            indexService,
+            indexShard,
+            indexShard.acquireSearcherSupplier(),
+            randomBoolean()
+        );
+        assertEquals(1, readerContext.getSegmentSizesInBytes().size());
+        assertThat(readerContext.getAccountedBytes(), greaterThan(0L));
+        assertEquals(usedBefore + readerContext.getAccountedBytes(), breaker.getUsed());
+        final long segmentSizeInBytes = readerContext.getSegmentSizesInBytes().values().iterator().next();
+        assertEquals(segmentSizeInBytes, indexShard.searchStats().getTotal().getPinnedSegmentsSizeInBytes());
+
+        assertTrue(service.freeReaderContext(readerContext.id()));
+        assertEquals(0, readerContext.getAccountedBytes());
+        assertEquals(usedBefore, breaker.getUsed());
+        assertEquals(0, indexShard.searchStats().getTotal().getPinnedSegmentsSizeInBytes());
+    }
+
     public void testOpenScrollContextsConcurrently() throws Exception {
         createIndex("index");
         final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
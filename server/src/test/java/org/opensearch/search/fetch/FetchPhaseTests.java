@@ -81,6 +81,28 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
 
+    public void testDenseDocs() {
+        int numDocs = randomIntBetween(FetchPhase.DENSE_DOCS_MIN_COUNT, 100);
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[numDocs + 1];
+        int docId = randomIntBetween(0, Short.MAX_VALUE);
+        for (int i = 0; i < numDocs; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(docId, i);
+            docId += randomIntBetween(1, FetchPhase.DENSE_DOCS_MAX_AVERAGE_GAP);
+        }
+        int segmentEnd = docId;
+        // a doc of the next segment
+        docs[numDocs] = new FetchPhase.DocIdToIndex(segmentEnd + randomIntBetween(0, 1000), numDocs);
+        assertTrue(FetchPhase.hasDenseDocs(docs, 0, segmentEnd));
+        // too few docs left in the segment
+        assertFalse(FetchPhase.hasDenseDocs(docs, numDocs - FetchPhase.DENSE_DOCS_MIN_COUNT + 1, segmentEnd));
+        assertFalse(FetchPhase.hasDenseDocs(docs, numDocs, Integer.MAX_VALUE));
+
+        for (int i = 0; i < numDocs; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(i * (FetchPhase.DENSE_DOCS_MAX_AVERAGE_GAP + 1) * 2, i);
+        }
+        assertFalse(FetchPhase.hasDenseDocs(docs, 0, numDocs * (FetchPhase.DENSE_DOCS_MAX_AVERAGE_GAP + 1) * 2));
+    }
+
     public void testFieldsVisitorsInFetchPhase() {
 
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
@@ -26,8 +26,10 @@ import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.core.common.text.Text;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
@@ -80,6 +82,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
@@ -162,6 +165,8 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
         private boolean enableScriptFields = false;
         private ScriptFieldsContext scriptFieldsContext = null;
 
+        private boolean enableBatchedStoredFields = false;
+
         private boolean enableExplain = false;
         private boolean enableVersion = false;
         private boolean enableSeqNoPrimaryTerm = false;
@@ -202,6 +207,11 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
             return this;
         }
 
+        SearchContextBuilder withBatchedStoredFields() {
+            this.enableBatchedStoredFields = true;
+            return this;
+        }
+
         SearchContextBuilder withExplain() {
             this.enableExplain = true;
             return this;
@@ -262,6 +272,7 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
             when(context.docIdsToLoad()).thenReturn(docIds);
             when(context.docIdsToLoadFrom()).thenReturn(0);
             when(context.isCancelled()).thenReturn(false);
+            when(context.fetchBatchedStoredFieldsEnabled()).thenReturn(enableBatchedStoredFields);
 
             // Script fields configuration
             when(context.hasScriptFields()).thenReturn(enableScriptFields);
@@ -463,6 +474,34 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
         }
     }
 
+    public void testDenseDocsStoredFieldsReaderTiming() throws Exception {
+        try (Directory dir = newDirectory()) {
+            try (RandomIndexWriter w = new RandomIndexWriter(random(), dir, new IndexWriterConfig(new StandardAnalyzer()))) {
+                for (Document doc : new TestDocumentBuilder().addDocuments(40, true).build()) {
+                    w.addDocument(doc);
+                }
+                w.forceMerge(1);
+            }
+            // every other document, so the docs are dense but not sequential
+            int[] docIds = new int[20];
+            for (int i = 0; i < docIds.length; i++) {
+                docIds[i] = i * 2;
+            }
+
+            try (IndexReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(dir), new ShardId("index", "_na_", 0))) {
+                SearchContext context = new SearchContextBuilder(reader, docIds, indexShard).withSourceLoading()
+                    .withStoredFields("_source")
+                    .withBatchedStoredFields()
+                    .build();
+
+                ProfileResult profile = executeFetchPhaseAndGetProfile(context, Collections.emptyList());
+
+                new TimingAssertions(profile.getTimeBreakdown()).assertTimingPresent(FetchTimingType.CREATE_STORED_FIELDS_READER);
+                assertThat(profile.getTimeBreakdown().get(FetchTimingType.CREATE_STORED_FIELDS_READER + "_count"), equalTo(1L));
+            }
+        }
+    }
+
     public void testExplainPhaseProfiling() throws Exception {
         try (Directory dir = newDirectory()) {
             List<Document> docs = new TestDocumentBuilder().addDocuments(1, true).build();
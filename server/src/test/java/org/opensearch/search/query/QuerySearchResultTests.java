@@ -51,6 +51,7 @@ import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.InternalAggregationsTests;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardReaderVersion;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.suggest.SuggestTests;
@@ -99,6 +100,9 @@ public class QuerySearchResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             result.aggregations(InternalAggregationsTests.createTestInstance());
         }
+        if (randomBoolean()) {
+            result.readerVersion(new ShardReaderVersion(UUIDs.randomBase64UUID(), randomNonNegativeLong(), randomNonNegativeLong()));
+        }
         return result;
     }
 
@@ -118,6 +122,16 @@ public class QuerySearchResultTests extends OpenSearchTestCase {
             assertEquals(aggs.asList(), deserializedAggs.asList());
         }
         assertEquals(querySearchResult.terminatedEarly(), deserialized.terminatedEarly());
+        assertEquals(querySearchResult.readerVersion(), deserialized.readerVersion());
+    }
+
+    public void testReaderVersionSerializationBwc() throws Exception {
+        QuerySearchResult querySearchResult = createTestInstance();
+        querySearchResult.readerVersion(new ShardReaderVersion("allocation", 1, 2));
+        QuerySearchResult deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.V_3_7_0);
+        assertNull(deserialized.readerVersion());
+        deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.V_3_8_0);
+        assertEquals(new ShardReaderVersion("allocation", 1, 2), deserialized.readerVersion());
     }
 
     public void testNullResponse() throws Exception {
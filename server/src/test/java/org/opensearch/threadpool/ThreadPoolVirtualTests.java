@@ -8,7 +8,9 @@
 
 package org.opensearch.threadpool;
 
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.settings.SettingsModule;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -16,6 +18,9 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -210,6 +215,36 @@ public class ThreadPoolVirtualTests extends OpenSearchTestCase {
         assertTrue(new VirtualExecutorBuilder(POOL_NAME).getRegisteredSettings().isEmpty());
     }
 
+    public void testRemoteIoVirtualThreadsAcceptReplacedPoolSettings() {
+        Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put(ThreadPool.REMOTE_IO_VIRTUAL_THREADS_SETTING.getKey(), true)
+            .put("thread_pool." + ThreadPool.Names.REMOTE_PURGE + ".max", 4)
+            .put("thread_pool." + ThreadPool.Names.REMOTE_STATE_READ + ".size", 8)
+            .build();
+        ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            final List<Setting<?>> registeredSettings = new ArrayList<>();
+            for (ExecutorBuilder<?> builder : threadPool.builders()) {
+                registeredSettings.addAll(builder.getRegisteredSettings());
+            }
+            // a node with the settings of the replaced pools must still start
+            new SettingsModule(settings, registeredSettings, Collections.emptyList(), Collections.emptySet());
+
+            for (String name : ThreadPool.REMOTE_IO_THREAD_POOLS) {
+                assertThat(threadPool.info(name).getThreadPoolType(), is(ThreadPool.ThreadPoolType.VIRTUAL));
+            }
+            assertWarnings(
+                "[thread_pool.remote_purge.max] has no effect while [thread_pool.remote_io.virtual_threads.enabled] is enabled, "
+                    + "use [thread_pool.remote_purge.max_concurrency] to limit the thread pool instead",
+                "[thread_pool.remote_state_read.size] has no effect while [thread_pool.remote_io.virtual_threads.enabled] is enabled, "
+                    + "use [thread_pool.remote_state_read.max_concurrency] to limit the thread pool instead"
+            );
+        } finally {
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
     public void testVirtualThreadPoolIsNotResizable() {
         ThreadPool threadPool = buildThreadPool();
         try {
@@ -219,4 +254,84 @@ public class ThreadPoolVirtualTests extends OpenSearchTestCase {
             assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
         }
     }
+
+    public void testBoundedVirtualThreadPoolLimitsConcurrency() throws Exception {
+        final int maxConcurrency = randomIntBetween(1, 4);
+        final int extraTasks = randomIntBetween(1, 4);
+        Settings settings = Settings.builder().put("node.name", "testnode").build();
+        ThreadPool threadPool = new ThreadPool(settings, new VirtualExecutorBuilder(POOL_NAME, maxConcurrency));
+        final CountDownLatch block = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(maxConcurrency + extraTasks);
+        try {
+            for (int i = 0; i < maxConcurrency + extraTasks; i++) {
+                threadPool.executor(POOL_NAME).execute(() -> {
+                    try {
+                        block.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            assertBusy(() -> {
+                ThreadPoolStats.Stats stats = statsFor(threadPool);
+                assertEquals("only as many tasks as permits should run", maxConcurrency, stats.getActive());
+                assertEquals("the other tasks should wait for a permit", extraTasks, stats.getQueue());
+            });
+
+            block.countDown();
+            assertTrue("all tasks should have run", done.await(10, TimeUnit.SECONDS));
+            assertBusy(() -> {
+                ThreadPoolStats.Stats stats = statsFor(threadPool);
+                assertEquals(maxConcurrency + extraTasks, stats.getCompleted());
+                assertEquals(0, stats.getActive());
+                assertEquals(0, stats.getQueue());
+                assertEquals(maxConcurrency, stats.getLargest());
+            });
+        } finally {
+            block.countDown();
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testBoundedVirtualThreadPoolMaxConcurrencySetting() {
+        final int maxConcurrency = randomIntBetween(1, 100);
+        VirtualExecutorBuilder builder = new VirtualExecutorBuilder(POOL_NAME, 10);
+        assertEquals(1, builder.getRegisteredSettings().size());
+        Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put("thread_pool." + POOL_NAME + ".max_concurrency", maxConcurrency)
+            .build();
+        ThreadPool threadPool = new ThreadPool(settings, builder);
+        try {
+            ThreadPool.Info info = threadPool.info(POOL_NAME);
+            assertThat(info.getThreadPoolType(), is(ThreadPool.ThreadPoolType.VIRTUAL));
+            assertEquals(maxConcurrency, info.getMax());
+        } finally {
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testRemoteIoThreadPoolsUseVirtualThreads() {
+        final boolean enabled = randomBoolean();
+        Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put(ThreadPool.REMOTE_IO_VIRTUAL_THREADS_SETTING.getKey(), enabled)
+            .build();
+        ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            for (String name : ThreadPool.REMOTE_IO_THREAD_POOLS) {
+                ThreadPool.Info info = threadPool.info(name);
+                if (enabled) {
+                    assertThat(info.getThreadPoolType(), is(ThreadPool.ThreadPoolType.VIRTUAL));
+                    assertTrue("a remote I/O pool on virtual threads should be bounded", info.getMax() > 0);
+                } else {
+                    assertThat(info.getThreadPoolType(), is(ThreadPool.THREAD_POOL_TYPES.get(name)));
+                }
+            }
+        } finally {
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
 }
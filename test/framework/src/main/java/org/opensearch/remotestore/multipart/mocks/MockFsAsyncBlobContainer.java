@@ -47,6 +47,9 @@ public class MockFsAsyncBlobContainer extends FsBlobContainer implements AsyncMu
 
     @Override
     public void asyncBlobUpload(WriteContext writeContext, ActionListener<Void> completionListener) throws IOException {
+        if (blobStore instanceof MockFsBlobStore mockFsBlobStore) {
+            mockFsBlobStore.onAsyncBlobUpload(writeContext.getFileName());
+        }
 
         int nParts = 10;
         long partSize = writeContext.getFileSize() / nParts;
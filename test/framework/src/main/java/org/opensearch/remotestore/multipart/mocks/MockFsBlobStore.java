@@ -15,10 +15,13 @@ import org.opensearch.common.blobstore.fs.FsBlobStore;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MockFsBlobStore extends FsBlobStore {
 
     private final boolean triggerDataIntegrityFailure;
+    private final Set<String> asyncUploadedBlobs = ConcurrentHashMap.newKeySet();
 
     public MockFsBlobStore(int bufferSizeInBytes, Path path, boolean readonly, boolean triggerDataIntegrityFailure) throws IOException {
         super(bufferSizeInBytes, path, readonly);
@@ -33,4 +36,15 @@ public class MockFsBlobStore extends FsBlobStore {
             throw new OpenSearchException("failed to create blob container", ex);
         }
     }
+
+    /**
+     * The names of the blobs that were uploaded through {@link MockFsAsyncBlobContainer#asyncBlobUpload}.
+     */
+    public Set<String> asyncUploadedBlobs() {
+        return Set.copyOf(asyncUploadedBlobs);
+    }
+
+    void onAsyncBlobUpload(String blobName) {
+        asyncUploadedBlobs.add(blobName);
+    }
 }